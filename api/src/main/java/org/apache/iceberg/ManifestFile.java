@@ -64,12 +64,26 @@ public interface ManifestFile {
       "Summary for each partition");
   // next ID to assign: 519
 
+  // column summaries are not part of the spec and are only written when a table enables them, so they use IDs
+  // outside of the range used by spec fields to avoid colliding with fields added to the spec later
+  Types.StructType COLUMN_SUMMARY_TYPE = Types.StructType.of(
+      required(10002, "field_id", Types.IntegerType.get(), "Column field ID"),
+      optional(10003, "value_count", Types.LongType.get(), "Total value count for all files"),
+      optional(10004, "null_value_count", Types.LongType.get(), "Total null value count for all files"),
+      optional(10005, "nan_value_count", Types.LongType.get(), "Total NaN value count for all files"),
+      optional(10006, "lower_bound", Types.BinaryType.get(), "Column lower bound for all files"),
+      optional(10007, "upper_bound", Types.BinaryType.get(), "Column upper bound for all files")
+  );
+  Types.NestedField COLUMN_SUMMARIES = optional(10000, "column_summaries",
+      Types.ListType.ofRequired(10001, COLUMN_SUMMARY_TYPE),
+      "Summary of data column metrics for all files");
+
   Schema SCHEMA = new Schema(
       PATH, LENGTH, SPEC_ID, MANIFEST_CONTENT,
       SEQUENCE_NUMBER, MIN_SEQUENCE_NUMBER, SNAPSHOT_ID,
       ADDED_FILES_COUNT, EXISTING_FILES_COUNT, DELETED_FILES_COUNT,
       ADDED_ROWS_COUNT, EXISTING_ROWS_COUNT, DELETED_ROWS_COUNT,
-      PARTITION_SUMMARIES);
+      PARTITION_SUMMARIES, COLUMN_SUMMARIES);
 
   static Schema schema() {
     return SCHEMA;
@@ -179,6 +193,18 @@ public interface ManifestFile {
    */
   List<PartitionFieldSummary> partitions();
 
+  /**
+   * Returns a list of {@link ColumnFieldSummary column field summaries}, or null if column summaries are not known.
+   * <p>
+   * Each summary aggregates the metrics of one data column across all files in the manifest. Columns without
+   * a summary may have any values.
+   *
+   * @return a list of column field summaries, or null
+   */
+  default List<ColumnFieldSummary> columnSummaries() {
+    return null;
+  }
+
   /**
    * Copies this {@link ManifestFile manifest file}. Readers can reuse manifest file instances; use
    * this method to make defensive copies.
@@ -228,4 +254,53 @@ public interface ManifestFile {
      */
     PartitionFieldSummary copy();
   }
+
+  /**
+   * Summarizes the metrics of one data column across all files stored in a manifest file.
+   * <p>
+   * Counts and bounds are only set when they are known for every file in the manifest.
+   */
+  interface ColumnFieldSummary {
+    static Types.StructType getType() {
+      return COLUMN_SUMMARY_TYPE;
+    }
+
+    /**
+     * Returns the ID of the summarized column.
+     */
+    int fieldId();
+
+    /**
+     * Returns the total number of values in the column, including nulls and NaNs, or null if unknown.
+     */
+    Long valueCount();
+
+    /**
+     * Returns the total number of null values in the column, or null if unknown.
+     */
+    Long nullValueCount();
+
+    /**
+     * Returns the total number of NaN values in the column, or null if unknown.
+     */
+    Long nanValueCount();
+
+    /**
+     * Returns a ByteBuffer that contains a serialized bound lower than all values of the column, or null.
+     */
+    ByteBuffer lowerBound();
+
+    /**
+     * Returns a ByteBuffer that contains a serialized bound higher than all values of the column, or null.
+     */
+    ByteBuffer upperBound();
+
+    /**
+     * Copies this {@link ColumnFieldSummary summary}. Readers can reuse instances; use this
+     * method to make defensive copies.
+     *
+     * @return a copy of this column field summary
+     */
+    ColumnFieldSummary copy();
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.exceptions;
+
+import java.util.List;
+
+/**
+ * Exception raised when some files of a bulk delete could not be deleted.
+ */
+public class BulkDeletionFailureException extends RuntimeException {
+  private final List<String> failedPaths;
+
+  public BulkDeletionFailureException(List<String> failedPaths) {
+    super(String.format("Failed to delete %d files", failedPaths.size()));
+    this.failedPaths = failedPaths;
+  }
+
+  /**
+   * @return the paths of files that could not be deleted
+   */
+  public List<String> failedPaths() {
+    return failedPaths;
+  }
+}
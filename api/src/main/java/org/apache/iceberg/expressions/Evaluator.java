@@ -23,19 +23,21 @@ import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Set;
 import org.apache.iceberg.StructLike;
-import org.apache.iceberg.expressions.ExpressionVisitors.BoundVisitor;
+import org.apache.iceberg.expressions.ExpressionCompiler.CompiledPredicate;
 import org.apache.iceberg.types.Types.StructType;
 import org.apache.iceberg.util.NaNUtil;
 
 /**
  * Evaluates an {@link Expression} for data described by a {@link StructType}.
  * <p>
- * Data rows must implement {@link StructLike} and are passed to {@link #eval(StructLike)}.
+ * Data rows must implement {@link StructLike} and are passed to {@link #eval(StructLike)}. The expression is
+ * compiled into a tree of predicates once, so evaluating a row does not traverse the expression.
  * <p>
  * This class is thread-safe.
  */
 public class Evaluator implements Serializable {
   private final Expression expr;
+  private transient volatile CompiledPredicate<StructLike> compiled = null;
 
   public Evaluator(StructType struct, Expression unbound) {
     this.expr = Binder.bind(struct, unbound, true);
@@ -46,110 +48,74 @@ public class Evaluator implements Serializable {
   }
 
   public boolean eval(StructLike data) {
-    return new EvalVisitor().eval(data);
+    return compiled().test(data);
   }
 
-  private class EvalVisitor extends BoundVisitor<Boolean> {
-    private StructLike struct;
-
-    private boolean eval(StructLike row) {
-      this.struct = row;
-      return ExpressionVisitors.visitEvaluator(expr, this);
-    }
-
-    @Override
-    public Boolean alwaysTrue() {
-      return true;
-    }
-
-    @Override
-    public Boolean alwaysFalse() {
-      return false;
-    }
-
-    @Override
-    public Boolean not(Boolean result) {
-      return !result;
-    }
-
-    @Override
-    public Boolean and(Boolean leftResult, Boolean rightResult) {
-      return leftResult && rightResult;
-    }
-
-    @Override
-    public Boolean or(Boolean leftResult, Boolean rightResult) {
-      return leftResult || rightResult;
-    }
-
-    @Override
-    public <T> Boolean isNull(Bound<T> valueExpr) {
-      return valueExpr.eval(struct) == null;
-    }
-
-    @Override
-    public <T> Boolean notNull(Bound<T> valueExpr) {
-      return valueExpr.eval(struct) != null;
-    }
-
-    @Override
-    public <T> Boolean isNaN(Bound<T> valueExpr) {
-      return NaNUtil.isNaN(valueExpr.eval(struct));
-    }
-
-    @Override
-    public <T> Boolean notNaN(Bound<T> valueExpr) {
-      return !NaNUtil.isNaN(valueExpr.eval(struct));
-    }
-
-    @Override
-    public <T> Boolean lt(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) < 0;
-    }
-
-    @Override
-    public <T> Boolean ltEq(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) <= 0;
+  private CompiledPredicate<StructLike> compiled() {
+    // compiled predicates are not serializable and are compiled again after deserialization
+    if (compiled == null) {
+      this.compiled = ExpressionCompiler.compile(expr, Evaluator::compilePredicate);
     }
 
-    @Override
-    public <T> Boolean gt(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) > 0;
-    }
+    return compiled;
+  }
 
-    @Override
-    public <T> Boolean gtEq(Bound<T> valueExpr, Literal<T> lit) {
-      Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) >= 0;
-    }
+  private static CompiledPredicate<StructLike> compilePredicate(BoundPredicate<?> pred) {
+    return compileTyped(pred);
+  }
 
-    @Override
-    public <T> Boolean eq(Bound<T> valueExpr, Literal<T> lit) {
+  private static <T> CompiledPredicate<StructLike> compileTyped(BoundPredicate<T> pred) {
+    BoundTerm<T> term = pred.term();
+    if (pred.isLiteralPredicate()) {
+      Literal<T> lit = pred.asLiteralPredicate().literal();
       Comparator<T> cmp = lit.comparator();
-      return cmp.compare(valueExpr.eval(struct), lit.value()) == 0;
-    }
-
-    @Override
-    public <T> Boolean notEq(Bound<T> valueExpr, Literal<T> lit) {
-      return !eq(valueExpr, lit);
-    }
-
-    @Override
-    public <T> Boolean in(Bound<T> valueExpr, Set<T> literalSet) {
-      return literalSet.contains(valueExpr.eval(struct));
-    }
-
-    @Override
-    public <T> Boolean notIn(Bound<T> valueExpr, Set<T> literalSet) {
-      return !in(valueExpr, literalSet);
-    }
-
-    @Override
-    public <T> Boolean startsWith(Bound<T> valueExpr, Literal<T> lit) {
-      return ((String) valueExpr.eval(struct)).startsWith((String) lit.value());
-    }
+      T value = lit.value();
+      switch (pred.op()) {
+        case LT:
+          return row -> cmp.compare(term.eval(row), value) < 0;
+        case LT_EQ:
+          return row -> cmp.compare(term.eval(row), value) <= 0;
+        case GT:
+          return row -> cmp.compare(term.eval(row), value) > 0;
+        case GT_EQ:
+          return row -> cmp.compare(term.eval(row), value) >= 0;
+        case EQ:
+          return row -> cmp.compare(term.eval(row), value) == 0;
+        case NOT_EQ:
+          return row -> cmp.compare(term.eval(row), value) != 0;
+        case STARTS_WITH:
+          String prefix = (String) value;
+          return row -> ((String) term.eval(row)).startsWith(prefix);
+        default:
+          throw new IllegalStateException("Invalid operation for BoundLiteralPredicate: " + pred.op());
+      }
+
+    } else if (pred.isUnaryPredicate()) {
+      switch (pred.op()) {
+        case IS_NULL:
+          return row -> term.eval(row) == null;
+        case NOT_NULL:
+          return row -> term.eval(row) != null;
+        case IS_NAN:
+          return row -> NaNUtil.isNaN(term.eval(row));
+        case NOT_NAN:
+          return row -> !NaNUtil.isNaN(term.eval(row));
+        default:
+          throw new IllegalStateException("Invalid operation for BoundUnaryPredicate: " + pred.op());
+      }
+
+    } else if (pred.isSetPredicate()) {
+      Set<T> literalSet = pred.asSetPredicate().literalSet();
+      switch (pred.op()) {
+        case IN:
+          return row -> literalSet.contains(term.eval(row));
+        case NOT_IN:
+          return row -> !literalSet.contains(term.eval(row));
+        default:
+          throw new IllegalStateException("Invalid operation for BoundSetPredicate: " + pred.op());
+      }
+    }
+
+    throw new IllegalStateException("Unsupported bound predicate: " + pred.getClass().getName());
   }
 }
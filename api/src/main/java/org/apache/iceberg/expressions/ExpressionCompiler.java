@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.expressions;
+
+/**
+ * Compiles bound {@link Expression expressions} into trees of reusable predicates.
+ * <p>
+ * Evaluating a compiled predicate does not traverse the expression or dispatch on each predicate's operation. All of
+ * that work is done once when the expression is compiled, and literal values and sets are resolved ahead of time.
+ * And and or nodes short-circuit in the same way as {@link ExpressionVisitors#visitEvaluator(Expression,
+ * ExpressionVisitors.ExpressionVisitor)}.
+ */
+class ExpressionCompiler {
+
+  private ExpressionCompiler() {
+  }
+
+  /**
+   * A compiled expression that is evaluated against a context, like a row or a file's metrics.
+   *
+   * @param <C> the type of the evaluation context
+   */
+  interface CompiledPredicate<C> {
+    boolean test(C context);
+  }
+
+  /**
+   * Compiles a single bound predicate.
+   *
+   * @param <C> the type of the evaluation context
+   */
+  interface PredicateCompiler<C> {
+    CompiledPredicate<C> compile(BoundPredicate<?> pred);
+  }
+
+  /**
+   * Compiles a bound expression using a {@link PredicateCompiler} to produce leaf predicates.
+   *
+   * @param expr a bound expression
+   * @param predicates a compiler for the expression's bound predicates
+   * @param <C> the type of the evaluation context
+   * @return a compiled predicate that is equivalent to the expression
+   */
+  static <C> CompiledPredicate<C> compile(Expression expr, PredicateCompiler<C> predicates) {
+    if (expr instanceof BoundPredicate) {
+      return predicates.compile((BoundPredicate<?>) expr);
+    } else if (expr instanceof UnboundPredicate) {
+      throw new UnsupportedOperationException("Not a bound predicate: " + expr);
+    }
+
+    switch (expr.op()) {
+      case TRUE:
+        return context -> true;
+      case FALSE:
+        return context -> false;
+      case NOT:
+        CompiledPredicate<C> child = compile(((Not) expr).child(), predicates);
+        return context -> !child.test(context);
+      case AND:
+        And and = (And) expr;
+        CompiledPredicate<C> andLeft = compile(and.left(), predicates);
+        CompiledPredicate<C> andRight = compile(and.right(), predicates);
+        return context -> andLeft.test(context) && andRight.test(context);
+      case OR:
+        Or or = (Or) expr;
+        CompiledPredicate<C> orLeft = compile(or.left(), predicates);
+        CompiledPredicate<C> orRight = compile(or.right(), predicates);
+        return context -> orLeft.test(context) || orRight.test(context);
+      default:
+        throw new UnsupportedOperationException("Unknown operation: " + expr.op());
+    }
+  }
+}
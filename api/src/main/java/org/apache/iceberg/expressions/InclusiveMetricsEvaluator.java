@@ -20,17 +20,17 @@
 package org.apache.iceberg.expressions;
 
 import java.nio.ByteBuffer;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.IntPredicate;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.Schema;
-import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.ExpressionCompiler.CompiledPredicate;
 import org.apache.iceberg.types.Comparators;
-import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types.StructType;
 import org.apache.iceberg.util.BinaryUtil;
 import org.apache.iceberg.util.NaNUtil;
@@ -54,7 +54,8 @@ import static org.apache.iceberg.expressions.Expressions.rewriteNot;
 public class InclusiveMetricsEvaluator {
   private static final int IN_PREDICATE_LIMIT = 200;
 
-  private final Expression expr;
+  private final CompiledPredicate<MetricsEvalContext> compiled;
+  private final ThreadLocal<MetricsEvalContext> contexts = ThreadLocal.withInitial(MetricsEvalContext::new);
 
   public InclusiveMetricsEvaluator(Schema schema, Expression unbound) {
     this(schema, unbound, true);
@@ -62,7 +63,8 @@ public class InclusiveMetricsEvaluator {
 
   public InclusiveMetricsEvaluator(Schema schema, Expression unbound, boolean caseSensitive) {
     StructType struct = schema.asStruct();
-    this.expr = Binder.bind(struct, rewriteNot(unbound), caseSensitive);
+    Expression expr = Binder.bind(struct, rewriteNot(unbound), caseSensitive);
+    this.compiled = ExpressionCompiler.compile(expr, InclusiveMetricsEvaluator::compilePredicate);
   }
 
   /**
@@ -73,311 +75,226 @@ public class InclusiveMetricsEvaluator {
    */
   public boolean eval(ContentFile<?> file) {
     // TODO: detect the case where a column is missing from the file using file's max field id.
-    return new MetricsEvalVisitor().eval(file);
-  }
-
-  private static final boolean ROWS_MIGHT_MATCH = true;
-  private static final boolean ROWS_CANNOT_MATCH = false;
-
-  private class MetricsEvalVisitor extends BoundExpressionVisitor<Boolean> {
-    private Map<Integer, Long> valueCounts = null;
-    private Map<Integer, Long> nullCounts = null;
-    private Map<Integer, Long> nanCounts = null;
-    private Map<Integer, ByteBuffer> lowerBounds = null;
-    private Map<Integer, ByteBuffer> upperBounds = null;
-
-    private boolean eval(ContentFile<?> file) {
-      if (file.recordCount() == 0) {
-        return ROWS_CANNOT_MATCH;
-      }
-
-      if (file.recordCount() < 0) {
-        // we haven't implemented parsing record count from avro file and thus set record count -1
-        // when importing avro tables to iceberg tables. This should be updated once we implemented
-        // and set correct record count.
-        return ROWS_MIGHT_MATCH;
-      }
-
-      this.valueCounts = file.valueCounts();
-      this.nullCounts = file.nullValueCounts();
-      this.nanCounts = file.nanValueCounts();
-      this.lowerBounds = file.lowerBounds();
-      this.upperBounds = file.upperBounds();
-
-      return ExpressionVisitors.visitEvaluator(expr, this);
-    }
-
-    @Override
-    public Boolean alwaysTrue() {
-      return ROWS_MIGHT_MATCH; // all rows match
+    if (file.recordCount() == 0) {
+      return ROWS_CANNOT_MATCH;
     }
 
-    @Override
-    public Boolean alwaysFalse() {
-      return ROWS_CANNOT_MATCH; // all rows fail
-    }
-
-    @Override
-    public Boolean not(Boolean result) {
-      return !result;
-    }
-
-    @Override
-    public Boolean and(Boolean leftResult, Boolean rightResult) {
-      return leftResult && rightResult;
-    }
-
-    @Override
-    public Boolean or(Boolean leftResult, Boolean rightResult) {
-      return leftResult || rightResult;
-    }
-
-    @Override
-    public <T> Boolean isNull(BoundReference<T> ref) {
-      // no need to check whether the field is required because binding evaluates that case
-      // if the column has no null values, the expression cannot match
-      Integer id = ref.fieldId();
-
-      if (nullCounts != null && nullCounts.containsKey(id) && nullCounts.get(id) == 0) {
-        return ROWS_CANNOT_MATCH;
-      }
-
+    if (file.recordCount() < 0) {
+      // we haven't implemented parsing record count from avro file and thus set record count -1
+      // when importing avro tables to iceberg tables. This should be updated once we implemented
+      // and set correct record count.
       return ROWS_MIGHT_MATCH;
     }
 
-    @Override
-    public <T> Boolean notNull(BoundReference<T> ref) {
-      // no need to check whether the field is required because binding evaluates that case
-      // if the column has no non-null values, the expression cannot match
-      Integer id = ref.fieldId();
-
-      if (containsNullsOnly(id)) {
-        return ROWS_CANNOT_MATCH;
-      }
+    return eval(file.valueCounts(), file.nullValueCounts(), file.nanValueCounts(),
+        file.lowerBounds(), file.upperBounds());
+  }
 
-      return ROWS_MIGHT_MATCH;
+  /**
+   * Test whether a set of aggregated column metrics may match the expression.
+   * <p>
+   * This is used to evaluate metrics that cover more than one file, where the record count is not known.
+   *
+   * @return false if rows described by the metrics cannot match the expression, true otherwise.
+   */
+  boolean eval(Map<Integer, Long> valueCounts, Map<Integer, Long> nullCounts, Map<Integer, Long> nanCounts,
+               Map<Integer, ByteBuffer> lowerBounds, Map<Integer, ByteBuffer> upperBounds) {
+    MetricsEvalContext context = contexts.get();
+    context.set(valueCounts, nullCounts, nanCounts, lowerBounds, upperBounds);
+    try {
+      return compiled.test(context);
+    } finally {
+      context.clear();
     }
+  }
 
-    @Override
-    public <T> Boolean isNaN(BoundReference<T> ref) {
-      Integer id = ref.fieldId();
-
-      if (nanCounts != null && nanCounts.containsKey(id) && nanCounts.get(id) == 0) {
-        return ROWS_CANNOT_MATCH;
-      }
+  private static final boolean ROWS_MIGHT_MATCH = true;
+  private static final boolean ROWS_CANNOT_MATCH = false;
 
-      // when there's no nanCounts information, but we already know the column only contains null,
-      // it's guaranteed that there's no NaN value
-      if (containsNullsOnly(id)) {
-        return ROWS_CANNOT_MATCH;
-      }
+  private static CompiledPredicate<MetricsEvalContext> compilePredicate(BoundPredicate<?> pred) {
+    return compileTyped(pred);
+  }
 
-      return ROWS_MIGHT_MATCH;
+  private static <T> CompiledPredicate<MetricsEvalContext> compileTyped(BoundPredicate<T> pred) {
+    if (!(pred.term() instanceof BoundReference)) {
+      // fail when evaluated, like the expression visitors do
+      return metrics -> {
+        throw new ValidationException("Cannot evaluate metrics for expression: %s", pred.term());
+      };
     }
 
-    @Override
-    public <T> Boolean notNaN(BoundReference<T> ref) {
-      Integer id = ref.fieldId();
-
-      if (containsNaNsOnly(id)) {
-        return ROWS_CANNOT_MATCH;
+    BoundReference<T> ref = (BoundReference<T>) pred.term();
+    int id = ref.fieldId();
+    Type type = ref.type();
+
+    if (pred.isLiteralPredicate()) {
+      Literal<T> lit = pred.asLiteralPredicate().literal();
+      Comparator<T> cmp = lit.comparator();
+      T value = lit.value();
+      switch (pred.op()) {
+        case LT:
+          return lowerBoundCheck(id, type, cmp, value, result -> result >= 0);
+        case LT_EQ:
+          return lowerBoundCheck(id, type, cmp, value, result -> result > 0);
+        case GT:
+          return upperBoundCheck(id, type, cmp, value, result -> result <= 0);
+        case GT_EQ:
+          return upperBoundCheck(id, type, cmp, value, result -> result < 0);
+        case EQ:
+          return eq(id, type, cmp, value);
+        case NOT_EQ:
+          // because the bounds are not necessarily a min or max value, this cannot be answered using
+          // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
+          return metrics -> ROWS_MIGHT_MATCH;
+        case STARTS_WITH:
+          return startsWith(id, lit.toByteBuffer());
+        default:
+          throw new IllegalStateException("Invalid operation for BoundLiteralPredicate: " + pred.op());
       }
 
-      return ROWS_MIGHT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean lt(BoundReference<T> ref, Literal<T> lit) {
-      Integer id = ref.fieldId();
-
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
-        return ROWS_CANNOT_MATCH;
+    } else if (pred.isUnaryPredicate()) {
+      switch (pred.op()) {
+        case IS_NULL:
+          // no need to check whether the field is required because binding evaluates that case
+          // if the column has no null values, the expression cannot match
+          return metrics -> metrics.hasNoNulls(id) ? ROWS_CANNOT_MATCH : ROWS_MIGHT_MATCH;
+        case NOT_NULL:
+          // no need to check whether the field is required because binding evaluates that case
+          // if the column has no non-null values, the expression cannot match
+          return metrics -> metrics.containsNullsOnly(id) ? ROWS_CANNOT_MATCH : ROWS_MIGHT_MATCH;
+        case IS_NAN:
+          // when there's no nanCounts information, but we already know the column only contains null,
+          // it's guaranteed that there's no NaN value
+          return metrics -> metrics.hasNoNaNs(id) || metrics.containsNullsOnly(id) ?
+              ROWS_CANNOT_MATCH : ROWS_MIGHT_MATCH;
+        case NOT_NAN:
+          return metrics -> metrics.containsNaNsOnly(id) ? ROWS_CANNOT_MATCH : ROWS_MIGHT_MATCH;
+        default:
+          throw new IllegalStateException("Invalid operation for BoundUnaryPredicate: " + pred.op());
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
-        if (NaNUtil.isNaN(lower)) {
-          // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
-          return ROWS_MIGHT_MATCH;
-        }
-
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp >= 0) {
-          return ROWS_CANNOT_MATCH;
-        }
+    } else if (pred.isSetPredicate()) {
+      Set<T> literalSet = pred.asSetPredicate().literalSet();
+      switch (pred.op()) {
+        case IN:
+          return in(id, type, ref.comparator(), literalSet);
+        case NOT_IN:
+          // because the bounds are not necessarily a min or max value, this cannot be answered using
+          // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
+          return metrics -> ROWS_MIGHT_MATCH;
+        default:
+          throw new IllegalStateException("Invalid operation for BoundSetPredicate: " + pred.op());
       }
-
-      return ROWS_MIGHT_MATCH;
     }
 
-    @Override
-    public <T> Boolean ltEq(BoundReference<T> ref, Literal<T> lit) {
-      Integer id = ref.fieldId();
+    throw new IllegalStateException("Unsupported bound predicate: " + pred.getClass().getName());
+  }
 
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> lowerBoundCheck(int id, Type type, Comparator<T> cmp,
+                                                                           T value, IntPredicate cannotMatch) {
+    return metrics -> {
+      if (metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id)) {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
+      T lower = metrics.lowerBound(id, type);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
           return ROWS_MIGHT_MATCH;
         }
 
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp > 0) {
+        if (cannotMatch.test(cmp.compare(lower, value))) {
           return ROWS_CANNOT_MATCH;
         }
       }
 
       return ROWS_MIGHT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean gt(BoundReference<T> ref, Literal<T> lit) {
-      Integer id = ref.fieldId();
+    };
+  }
 
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> upperBoundCheck(int id, Type type, Comparator<T> cmp,
+                                                                           T value, IntPredicate cannotMatch) {
+    return metrics -> {
+      if (metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id)) {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-
-        int cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp <= 0) {
-          return ROWS_CANNOT_MATCH;
-        }
-      }
-
-      return ROWS_MIGHT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean gtEq(BoundReference<T> ref, Literal<T> lit) {
-      Integer id = ref.fieldId();
-
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+      T upper = metrics.upperBound(id, type);
+      if (upper != null && cannotMatch.test(cmp.compare(upper, value))) {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-
-        int cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp < 0) {
-          return ROWS_CANNOT_MATCH;
-        }
-      }
-
       return ROWS_MIGHT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean eq(BoundReference<T> ref, Literal<T> lit) {
-      Integer id = ref.fieldId();
+    };
+  }
 
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> eq(int id, Type type, Comparator<T> cmp, T value) {
+    return metrics -> {
+      if (metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id)) {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
+      T lower = metrics.lowerBound(id, type);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
           return ROWS_MIGHT_MATCH;
         }
 
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp > 0) {
+        if (cmp.compare(lower, value) > 0) {
           return ROWS_CANNOT_MATCH;
         }
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-
-        int cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp < 0) {
-          return ROWS_CANNOT_MATCH;
-        }
+      T upper = metrics.upperBound(id, type);
+      if (upper != null && cmp.compare(upper, value) < 0) {
+        return ROWS_CANNOT_MATCH;
       }
 
       return ROWS_MIGHT_MATCH;
-    }
+    };
+  }
 
-    @Override
-    public <T> Boolean notEq(BoundReference<T> ref, Literal<T> lit) {
-      // because the bounds are not necessarily a min or max value, this cannot be answered using
-      // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
-      return ROWS_MIGHT_MATCH;
+  private static <T> CompiledPredicate<MetricsEvalContext> in(int id, Type type, Comparator<T> cmp,
+                                                              Set<T> literalSet) {
+    if (literalSet.size() > IN_PREDICATE_LIMIT) {
+      // skip evaluating the bounds if the number of values is too big
+      return metrics -> metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id) ?
+          ROWS_CANNOT_MATCH : ROWS_MIGHT_MATCH;
     }
 
-    @Override
-    public <T> Boolean in(BoundReference<T> ref, Set<T> literalSet) {
-      Integer id = ref.fieldId();
-
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+    return metrics -> {
+      if (metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id)) {
         return ROWS_CANNOT_MATCH;
       }
 
-      Collection<T> literals = literalSet;
-
-      if (literals.size() > IN_PREDICATE_LIMIT) {
-        // skip evaluating the predicate if the number of values is too big
+      T lower = metrics.lowerBound(id, type);
+      if (lower != null && NaNUtil.isNaN(lower)) {
+        // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
         return ROWS_MIGHT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
+      T upper = metrics.upperBound(id, type);
 
-        if (NaNUtil.isNaN(lower)) {
-          // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
-          return ROWS_MIGHT_MATCH;
-        }
-
-        literals = literals.stream().filter(v -> ref.comparator().compare(lower, v) <= 0).collect(Collectors.toList());
-        if (literals.isEmpty()) { // if all values are less than lower bound, rows cannot match.
-          return ROWS_CANNOT_MATCH;
-        }
-      }
-
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-        literals = literals.stream().filter(v -> ref.comparator().compare(upper, v) >= 0).collect(Collectors.toList());
-        if (literals.isEmpty()) { // if all remaining values are greater than upper bound, rows cannot match.
-          return ROWS_CANNOT_MATCH;
-        }
+      // if all values are less than the lower bound or greater than the upper bound, rows cannot match.
+      if (!MetricsEvalContext.anyInRange(literalSet, cmp, lower, upper)) {
+        return ROWS_CANNOT_MATCH;
       }
 
       return ROWS_MIGHT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean notIn(BoundReference<T> ref, Set<T> literalSet) {
-      // because the bounds are not necessarily a min or max value, this cannot be answered using
-      // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
-      return ROWS_MIGHT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean startsWith(BoundReference<T> ref, Literal<T> lit) {
-      Integer id = ref.fieldId();
+    };
+  }
 
-      if (containsNullsOnly(id)) {
+  private static CompiledPredicate<MetricsEvalContext> startsWith(int id, ByteBuffer prefixAsBytes) {
+    Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+    return metrics -> {
+      if (metrics.containsNullsOnly(id)) {
         return ROWS_CANNOT_MATCH;
       }
 
-      ByteBuffer prefixAsBytes = lit.toByteBuffer();
-
-      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
-
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        ByteBuffer lower = lowerBounds.get(id);
+      ByteBuffer lower = metrics.lowerBoundBytes(id);
+      if (lower != null) {
         // truncate lower bound so that its length in bytes is not greater than the length of prefix
         int length = Math.min(prefixAsBytes.remaining(), lower.remaining());
         int cmp = comparator.compare(BinaryUtil.truncateBinary(lower, length), prefixAsBytes);
@@ -386,8 +303,8 @@ public class InclusiveMetricsEvaluator {
         }
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        ByteBuffer upper = upperBounds.get(id);
+      ByteBuffer upper = metrics.upperBoundBytes(id);
+      if (upper != null) {
         // truncate upper bound so that its length in bytes is not greater than the length of prefix
         int length = Math.min(prefixAsBytes.remaining(), upper.remaining());
         int cmp = comparator.compare(BinaryUtil.truncateBinary(upper, length), prefixAsBytes);
@@ -397,17 +314,6 @@ public class InclusiveMetricsEvaluator {
       }
 
       return ROWS_MIGHT_MATCH;
-    }
-
-    private boolean containsNullsOnly(Integer id) {
-      return valueCounts != null && valueCounts.containsKey(id) &&
-          nullCounts != null && nullCounts.containsKey(id) &&
-          valueCounts.get(id) - nullCounts.get(id) == 0;
-    }
-
-    private boolean containsNaNsOnly(Integer id) {
-      return nanCounts != null && nanCounts.containsKey(id) &&
-          valueCounts != null && nanCounts.get(id).equals(valueCounts.get(id));
-    }
+    };
   }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.expressions;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * Evaluates an {@link Expression} on a {@link ManifestFile} to test whether the file contains
+ * data files with matching rows, using the column summaries in {@link ManifestFile#columnSummaries()}.
+ * <p>
+ * This evaluation is inclusive: it returns true if a manifest may match and false if it cannot match. Manifests
+ * without column summaries always match.
+ *
+ * @see InclusiveMetricsEvaluator
+ */
+public class ManifestMetricsEvaluator {
+  private final InclusiveMetricsEvaluator metricsEvaluator;
+
+  public static ManifestMetricsEvaluator forRowFilter(Expression rowFilter, Schema schema, boolean caseSensitive) {
+    return new ManifestMetricsEvaluator(schema, rowFilter, caseSensitive);
+  }
+
+  private ManifestMetricsEvaluator(Schema schema, Expression rowFilter, boolean caseSensitive) {
+    this.metricsEvaluator = new InclusiveMetricsEvaluator(schema, rowFilter, caseSensitive);
+  }
+
+  /**
+   * Test whether the manifest may contain data files with rows that match the expression.
+   *
+   * @param manifest a manifest file
+   * @return false if the manifest cannot contain rows that match the expression, true otherwise.
+   */
+  public boolean eval(ManifestFile manifest) {
+    List<ColumnFieldSummary> summaries = manifest.columnSummaries();
+    if (summaries == null) {
+      return true;
+    }
+
+    Map<Integer, Long> valueCounts = Maps.newHashMap();
+    Map<Integer, Long> nullCounts = Maps.newHashMap();
+    Map<Integer, Long> nanCounts = Maps.newHashMap();
+    Map<Integer, ByteBuffer> lowerBounds = Maps.newHashMap();
+    Map<Integer, ByteBuffer> upperBounds = Maps.newHashMap();
+    for (ColumnFieldSummary summary : summaries) {
+      int id = summary.fieldId();
+      putIfNotNull(valueCounts, id, summary.valueCount());
+      putIfNotNull(nullCounts, id, summary.nullValueCount());
+      putIfNotNull(nanCounts, id, summary.nanValueCount());
+      putIfNotNull(lowerBounds, id, summary.lowerBound());
+      putIfNotNull(upperBounds, id, summary.upperBound());
+    }
+
+    return metricsEvaluator.eval(valueCounts, nullCounts, nanCounts, lowerBounds, upperBounds);
+  }
+
+  private static <V> void putIfNotNull(Map<Integer, V> map, int id, V value) {
+    if (value != null) {
+      map.put(id, value);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.expressions;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+
+/**
+ * Column metrics that compiled metrics predicates are evaluated against.
+ * <p>
+ * Bounds are decoded the first time a predicate reads them and are reused by other predicates on the same column.
+ * A context is reused for many files by one thread, so it is not thread-safe.
+ */
+class MetricsEvalContext {
+  private final Map<Integer, Object> decodedLowerBounds = Maps.newHashMap();
+  private final Map<Integer, Object> decodedUpperBounds = Maps.newHashMap();
+  private Map<Integer, Long> valueCounts = null;
+  private Map<Integer, Long> nullCounts = null;
+  private Map<Integer, Long> nanCounts = null;
+  private Map<Integer, ByteBuffer> lowerBounds = null;
+  private Map<Integer, ByteBuffer> upperBounds = null;
+
+  void set(Map<Integer, Long> newValueCounts, Map<Integer, Long> newNullCounts, Map<Integer, Long> newNanCounts,
+           Map<Integer, ByteBuffer> newLowerBounds, Map<Integer, ByteBuffer> newUpperBounds) {
+    this.valueCounts = newValueCounts;
+    this.nullCounts = newNullCounts;
+    this.nanCounts = newNanCounts;
+    this.lowerBounds = newLowerBounds;
+    this.upperBounds = newUpperBounds;
+  }
+
+  /**
+   * Releases the metrics of the last file so that the context does not keep them reachable.
+   */
+  void clear() {
+    set(null, null, null, null, null);
+    decodedLowerBounds.clear();
+    decodedUpperBounds.clear();
+  }
+
+  ByteBuffer lowerBoundBytes(int id) {
+    return lowerBounds != null ? lowerBounds.get(id) : null;
+  }
+
+  ByteBuffer upperBoundBytes(int id) {
+    return upperBounds != null ? upperBounds.get(id) : null;
+  }
+
+  <T> T lowerBound(int id, Type type) {
+    return decode(decodedLowerBounds, lowerBounds, id, type);
+  }
+
+  <T> T upperBound(int id, Type type) {
+    return decode(decodedUpperBounds, upperBounds, id, type);
+  }
+
+  boolean hasNoNulls(int id) {
+    return nullCounts != null && nullCounts.containsKey(id) && nullCounts.get(id) == 0;
+  }
+
+  boolean hasNoNaNs(int id) {
+    return nanCounts != null && nanCounts.containsKey(id) && nanCounts.get(id) == 0;
+  }
+
+  boolean canContainNulls(int id) {
+    return nullCounts == null || (nullCounts.containsKey(id) && nullCounts.get(id) > 0);
+  }
+
+  boolean canContainNaNs(int id) {
+    // nan counts might be null for early version writers when nan counters are not populated.
+    return nanCounts != null && nanCounts.containsKey(id) && nanCounts.get(id) > 0;
+  }
+
+  boolean containsNullsOnly(int id) {
+    return valueCounts != null && valueCounts.containsKey(id) &&
+        nullCounts != null && nullCounts.containsKey(id) &&
+        valueCounts.get(id) - nullCounts.get(id) == 0;
+  }
+
+  boolean containsNaNsOnly(int id) {
+    return nanCounts != null && nanCounts.containsKey(id) &&
+        valueCounts != null && nanCounts.get(id).equals(valueCounts.get(id));
+  }
+
+  /**
+   * Returns whether any of the values is between the lower and upper bounds, inclusive.
+   *
+   * @param values values to check
+   * @param cmp a comparator for the values
+   * @param lower a lower bound, or null if there is no lower bound
+   * @param upper an upper bound, or null if there is no upper bound
+   * @param <T> the Java type of the values
+   * @return true if any value is within the bounds, false otherwise
+   */
+  static <T> boolean anyInRange(Collection<T> values, Comparator<T> cmp, T lower, T upper) {
+    for (T value : values) {
+      boolean aboveLower = lower == null || cmp.compare(lower, value) <= 0;
+      boolean belowUpper = upper == null || cmp.compare(upper, value) >= 0;
+      if (aboveLower && belowUpper) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T decode(Map<Integer, Object> decoded, Map<Integer, ByteBuffer> bounds, int id, Type type) {
+    if (bounds == null) {
+      return null;
+    }
+
+    Object value = decoded.get(id);
+    if (value == null) {
+      ByteBuffer bytes = bounds.get(id);
+      if (bytes == null) {
+        return null;
+      }
+
+      value = Conversions.fromByteBuffer(type, bytes);
+      decoded.put(id, value);
+    }
+
+    return (T) value;
+  }
+}
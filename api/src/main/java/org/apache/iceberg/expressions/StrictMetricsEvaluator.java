@@ -19,18 +19,15 @@
 
 package org.apache.iceberg.expressions;
 
-import java.nio.ByteBuffer;
-import java.util.Collection;
-import java.util.Map;
+import java.util.Comparator;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.IntPredicate;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.Schema;
-import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
-import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
-import org.apache.iceberg.types.Conversions;
-import org.apache.iceberg.types.Types;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.ExpressionCompiler.CompiledPredicate;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types.StructType;
 import org.apache.iceberg.util.NaNUtil;
 
@@ -54,12 +51,14 @@ import static org.apache.iceberg.expressions.Expressions.rewriteNot;
 public class StrictMetricsEvaluator {
   private final Schema schema;
   private final StructType struct;
-  private final Expression expr;
+  private final CompiledPredicate<MetricsEvalContext> compiled;
+  private final ThreadLocal<MetricsEvalContext> contexts = ThreadLocal.withInitial(MetricsEvalContext::new);
 
   public StrictMetricsEvaluator(Schema schema, Expression unbound) {
     this.schema = schema;
     this.struct = schema.asStruct();
-    this.expr = Binder.bind(struct, rewriteNot(unbound), true);
+    Expression expr = Binder.bind(struct, rewriteNot(unbound), true);
+    this.compiled = ExpressionCompiler.compile(expr, this::compilePredicate);
   }
 
   /**
@@ -70,382 +69,253 @@ public class StrictMetricsEvaluator {
    */
   public boolean eval(ContentFile<?> file) {
     // TODO: detect the case where a column is missing from the file using file's max field id.
-    return new MetricsEvalVisitor().eval(file);
-  }
-
-  private static final boolean ROWS_MUST_MATCH = true;
-  private static final boolean ROWS_MIGHT_NOT_MATCH = false;
-
-  private class MetricsEvalVisitor extends BoundExpressionVisitor<Boolean> {
-    private Map<Integer, Long> valueCounts = null;
-    private Map<Integer, Long> nullCounts = null;
-    private Map<Integer, Long> nanCounts = null;
-    private Map<Integer, ByteBuffer> lowerBounds = null;
-    private Map<Integer, ByteBuffer> upperBounds = null;
-
-    private boolean eval(ContentFile<?> file) {
-      if (file.recordCount() <= 0) {
-        return ROWS_MUST_MATCH;
-      }
-
-      this.valueCounts = file.valueCounts();
-      this.nullCounts = file.nullValueCounts();
-      this.nanCounts = file.nanValueCounts();
-      this.lowerBounds = file.lowerBounds();
-      this.upperBounds = file.upperBounds();
-
-      return ExpressionVisitors.visitEvaluator(expr, this);
-    }
-
-    @Override
-    public Boolean alwaysTrue() {
-      return ROWS_MUST_MATCH; // all rows match
-    }
-
-    @Override
-    public Boolean alwaysFalse() {
-      return ROWS_MIGHT_NOT_MATCH; // no rows match
-    }
-
-    @Override
-    public Boolean not(Boolean result) {
-      return !result;
-    }
-
-    @Override
-    public Boolean and(Boolean leftResult, Boolean rightResult) {
-      return leftResult && rightResult;
+    if (file.recordCount() <= 0) {
+      return ROWS_MUST_MATCH;
     }
 
-    @Override
-    public Boolean or(Boolean leftResult, Boolean rightResult) {
-      return leftResult || rightResult;
-    }
-
-    @Override
-    public <T> Boolean isNull(BoundReference<T> ref) {
-      // no need to check whether the field is required because binding evaluates that case
-      // if the column has any non-null values, the expression does not match
-      int id = ref.fieldId();
-      Preconditions.checkNotNull(struct.field(id),
-          "Cannot filter by nested column: %s", schema.findField(id));
-
-      if (containsNullsOnly(id)) {
-        return ROWS_MUST_MATCH;
-      }
-
-      return ROWS_MIGHT_NOT_MATCH;
+    MetricsEvalContext context = contexts.get();
+    context.set(file.valueCounts(), file.nullValueCounts(), file.nanValueCounts(),
+        file.lowerBounds(), file.upperBounds());
+    try {
+      return compiled.test(context);
+    } finally {
+      context.clear();
     }
+  }
 
-    @Override
-    public <T> Boolean notNull(BoundReference<T> ref) {
-      // no need to check whether the field is required because binding evaluates that case
-      // if the column has any null values, the expression does not match
-      int id = ref.fieldId();
-      Preconditions.checkNotNull(struct.field(id),
-          "Cannot filter by nested column: %s", schema.findField(id));
+  private static final boolean ROWS_MUST_MATCH = true;
+  private static final boolean ROWS_MIGHT_NOT_MATCH = false;
 
-      if (nullCounts != null && nullCounts.containsKey(id) && nullCounts.get(id) == 0) {
-        return ROWS_MUST_MATCH;
-      }
+  private CompiledPredicate<MetricsEvalContext> compilePredicate(BoundPredicate<?> pred) {
+    return compileTyped(pred);
+  }
 
-      return ROWS_MIGHT_NOT_MATCH;
+  private <T> CompiledPredicate<MetricsEvalContext> compileTyped(BoundPredicate<T> pred) {
+    if (!(pred.term() instanceof BoundReference)) {
+      // fail when evaluated, like the expression visitors do
+      return metrics -> {
+        throw new ValidationException("Cannot evaluate metrics for expression: %s", pred.term());
+      };
     }
 
-    @Override
-    public <T> Boolean isNaN(BoundReference<T> ref) {
-      int id = ref.fieldId();
-
-      if (containsNaNsOnly(id)) {
-        return ROWS_MUST_MATCH;
-      }
-
-      return ROWS_MIGHT_NOT_MATCH;
+    BoundReference<T> ref = (BoundReference<T>) pred.term();
+    int id = ref.fieldId();
+    Type type = ref.type();
+
+    switch (pred.op()) {
+      case IS_NAN:
+      case NOT_NAN:
+      case STARTS_WITH:
+        break;
+      default:
+        if (struct.field(id) == null) {
+          // fail when evaluated, like the expression visitors do
+          String message = String.format("Cannot filter by nested column: %s", schema.findField(id));
+          return metrics -> {
+            throw new NullPointerException(message);
+          };
+        }
     }
 
-    @Override
-    public <T> Boolean notNaN(BoundReference<T> ref) {
-      int id = ref.fieldId();
-
-      if (nanCounts != null && nanCounts.containsKey(id) && nanCounts.get(id) == 0) {
-        return ROWS_MUST_MATCH;
+    if (pred.isLiteralPredicate()) {
+      Literal<T> lit = pred.asLiteralPredicate().literal();
+      Comparator<T> cmp = lit.comparator();
+      T value = lit.value();
+      switch (pred.op()) {
+        case LT:
+          // Rows must match when: <----------Min----Max---X------->
+          return upperBoundCheck(id, type, cmp, value, result -> result < 0);
+        case LT_EQ:
+          // Rows must match when: <----------Min----Max---X------->
+          return upperBoundCheck(id, type, cmp, value, result -> result <= 0);
+        case GT:
+          // Rows must match when: <-------X---Min----Max---------->
+          return lowerBoundCheck(id, type, cmp, value, result -> result > 0);
+        case GT_EQ:
+          // Rows must match when: <-------X---Min----Max---------->
+          return lowerBoundCheck(id, type, cmp, value, result -> result >= 0);
+        case EQ:
+          return eq(id, type, cmp, value);
+        case NOT_EQ:
+          return notEq(id, type, cmp, value);
+        case STARTS_WITH:
+          return metrics -> ROWS_MIGHT_NOT_MATCH;
+        default:
+          throw new IllegalStateException("Invalid operation for BoundLiteralPredicate: " + pred.op());
       }
 
-      if (containsNullsOnly(id)) {
-        return ROWS_MUST_MATCH;
-      }
-
-      return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean lt(BoundReference<T> ref, Literal<T> lit) {
-      // Rows must match when: <----------Min----Max---X------->
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
-
-      if (canContainNulls(id) || canContainNaNs(id)) {
-        return ROWS_MIGHT_NOT_MATCH;
+    } else if (pred.isUnaryPredicate()) {
+      switch (pred.op()) {
+        case IS_NULL:
+          // no need to check whether the field is required because binding evaluates that case
+          // if the column has any non-null values, the expression does not match
+          return metrics -> metrics.containsNullsOnly(id) ? ROWS_MUST_MATCH : ROWS_MIGHT_NOT_MATCH;
+        case NOT_NULL:
+          // no need to check whether the field is required because binding evaluates that case
+          // if the column has any null values, the expression does not match
+          return metrics -> metrics.hasNoNulls(id) ? ROWS_MUST_MATCH : ROWS_MIGHT_NOT_MATCH;
+        case IS_NAN:
+          return metrics -> metrics.containsNaNsOnly(id) ? ROWS_MUST_MATCH : ROWS_MIGHT_NOT_MATCH;
+        case NOT_NAN:
+          return metrics -> metrics.hasNoNaNs(id) || metrics.containsNullsOnly(id) ?
+              ROWS_MUST_MATCH : ROWS_MIGHT_NOT_MATCH;
+        default:
+          throw new IllegalStateException("Invalid operation for BoundUnaryPredicate: " + pred.op());
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
-
-        int cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp < 0) {
-          return ROWS_MUST_MATCH;
-        }
+    } else if (pred.isSetPredicate()) {
+      Set<T> literalSet = pred.asSetPredicate().literalSet();
+      switch (pred.op()) {
+        case IN:
+          return in(id, type, ref.comparator(), literalSet);
+        case NOT_IN:
+          return notIn(id, type, ref.comparator(), literalSet);
+        default:
+          throw new IllegalStateException("Invalid operation for BoundSetPredicate: " + pred.op());
       }
-
-      return ROWS_MIGHT_NOT_MATCH;
     }
 
-    @Override
-    public <T> Boolean ltEq(BoundReference<T> ref, Literal<T> lit) {
-      // Rows must match when: <----------Min----Max---X------->
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
+    throw new IllegalStateException("Unsupported bound predicate: " + pred.getClass().getName());
+  }
 
-      if (canContainNulls(id) || canContainNaNs(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> upperBoundCheck(int id, Type type, Comparator<T> cmp,
+                                                                           T value, IntPredicate mustMatch) {
+    return metrics -> {
+      if (metrics.canContainNulls(id) || metrics.canContainNaNs(id)) {
         return ROWS_MIGHT_NOT_MATCH;
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
-
-        int cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp <= 0) {
-          return ROWS_MUST_MATCH;
-        }
+      T upper = metrics.upperBound(id, type);
+      if (upper != null && mustMatch.test(cmp.compare(upper, value))) {
+        return ROWS_MUST_MATCH;
       }
 
       return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean gt(BoundReference<T> ref, Literal<T> lit) {
-      // Rows must match when: <-------X---Min----Max---------->
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
+    };
+  }
 
-      if (canContainNulls(id) || canContainNaNs(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> lowerBoundCheck(int id, Type type, Comparator<T> cmp,
+                                                                           T value, IntPredicate mustMatch) {
+    return metrics -> {
+      if (metrics.canContainNulls(id) || metrics.canContainNaNs(id)) {
         return ROWS_MIGHT_NOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(field.type(), lowerBounds.get(id));
-
+      T lower = metrics.lowerBound(id, type);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the StrictMetricsEvaluator docs for more.
           return ROWS_MIGHT_NOT_MATCH;
         }
 
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp > 0) {
+        if (mustMatch.test(cmp.compare(lower, value))) {
           return ROWS_MUST_MATCH;
         }
       }
 
       return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean gtEq(BoundReference<T> ref, Literal<T> lit) {
-      // Rows must match when: <-------X---Min----Max---------->
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
+    };
+  }
 
-      if (canContainNulls(id) || canContainNaNs(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> eq(int id, Type type, Comparator<T> cmp, T value) {
+    // Rows must match when Min == X == Max
+    return metrics -> {
+      if (metrics.canContainNulls(id) || metrics.canContainNaNs(id)) {
         return ROWS_MIGHT_NOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(field.type(), lowerBounds.get(id));
-
-        if (NaNUtil.isNaN(lower)) {
-          // NaN indicates unreliable bounds. See the StrictMetricsEvaluator docs for more.
-          return ROWS_MIGHT_NOT_MATCH;
-        }
-
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp >= 0) {
-          return ROWS_MUST_MATCH;
-        }
-      }
-
-      return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean eq(BoundReference<T> ref, Literal<T> lit) {
-      // Rows must match when Min == X == Max
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
-
-      if (canContainNulls(id) || canContainNaNs(id)) {
+      T lower = metrics.lowerBound(id, type);
+      if (lower == null || cmp.compare(lower, value) != 0) {
         return ROWS_MIGHT_NOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id) &&
-          upperBounds != null && upperBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
-
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp != 0) {
-          return ROWS_MIGHT_NOT_MATCH;
-        }
-
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
-
-        cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp != 0) {
-          return ROWS_MIGHT_NOT_MATCH;
-        }
-
-        return ROWS_MUST_MATCH;
+      T upper = metrics.upperBound(id, type);
+      if (upper == null || cmp.compare(upper, value) != 0) {
+        return ROWS_MIGHT_NOT_MATCH;
       }
 
-      return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean notEq(BoundReference<T> ref, Literal<T> lit) {
-      // Rows must match when X < Min or Max < X because it is not in the range
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
+      return ROWS_MUST_MATCH;
+    };
+  }
 
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> notEq(int id, Type type, Comparator<T> cmp, T value) {
+    // Rows must match when X < Min or Max < X because it is not in the range
+    return metrics -> {
+      if (metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id)) {
         return ROWS_MUST_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
-
+      T lower = metrics.lowerBound(id, type);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the StrictMetricsEvaluator docs for more.
           return ROWS_MIGHT_NOT_MATCH;
         }
 
-        int cmp = lit.comparator().compare(lower, lit.value());
-        if (cmp > 0) {
+        if (cmp.compare(lower, value) > 0) {
           return ROWS_MUST_MATCH;
         }
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
-
-        int cmp = lit.comparator().compare(upper, lit.value());
-        if (cmp < 0) {
-          return ROWS_MUST_MATCH;
-        }
+      T upper = metrics.upperBound(id, type);
+      if (upper != null && cmp.compare(upper, value) < 0) {
+        return ROWS_MUST_MATCH;
       }
 
       return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    @Override
-    public <T> Boolean in(BoundReference<T> ref, Set<T> literalSet) {
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
+    };
+  }
 
-      if (canContainNulls(id) || canContainNaNs(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> in(int id, Type type, Comparator<T> cmp,
+                                                              Set<T> literalSet) {
+    return metrics -> {
+      if (metrics.canContainNulls(id) || metrics.canContainNaNs(id)) {
         return ROWS_MIGHT_NOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id) &&
-          upperBounds != null && upperBounds.containsKey(id)) {
-        // similar to the implementation in eq, first check if the lower bound is in the set
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
-        if (!literalSet.contains(lower)) {
-          return ROWS_MIGHT_NOT_MATCH;
-        }
-
-        // check if the upper bound is in the set
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
-        if (!literalSet.contains(upper)) {
-          return ROWS_MIGHT_NOT_MATCH;
-        }
-
-        // finally check if the lower bound and the upper bound are equal
-        if (ref.comparator().compare(lower, upper) != 0) {
-          return ROWS_MIGHT_NOT_MATCH;
-        }
+      // similar to the implementation in eq, first check if the lower bound is in the set
+      T lower = metrics.lowerBound(id, type);
+      if (lower == null || !literalSet.contains(lower)) {
+        return ROWS_MIGHT_NOT_MATCH;
+      }
 
-        // All values must be in the set if the lower bound and the upper bound are in the set and are equal.
-        return ROWS_MUST_MATCH;
+      // check if the upper bound is in the set
+      T upper = metrics.upperBound(id, type);
+      if (upper == null || !literalSet.contains(upper)) {
+        return ROWS_MIGHT_NOT_MATCH;
       }
 
-      return ROWS_MIGHT_NOT_MATCH;
-    }
+      // finally check if the lower bound and the upper bound are equal
+      if (cmp.compare(lower, upper) != 0) {
+        return ROWS_MIGHT_NOT_MATCH;
+      }
 
-    @Override
-    public <T> Boolean notIn(BoundReference<T> ref, Set<T> literalSet) {
-      Integer id = ref.fieldId();
-      Types.NestedField field = struct.field(id);
-      Preconditions.checkNotNull(field, "Cannot filter by nested column: %s", schema.findField(id));
+      // All values must be in the set if the lower bound and the upper bound are in the set and are equal.
+      return ROWS_MUST_MATCH;
+    };
+  }
 
-      if (containsNullsOnly(id) || containsNaNsOnly(id)) {
+  private static <T> CompiledPredicate<MetricsEvalContext> notIn(int id, Type type, Comparator<T> cmp,
+                                                                 Set<T> literalSet) {
+    return metrics -> {
+      if (metrics.containsNullsOnly(id) || metrics.containsNaNsOnly(id)) {
         return ROWS_MUST_MATCH;
       }
 
-      Collection<T> literals = literalSet;
-
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(struct.field(id).type(), lowerBounds.get(id));
-
-        if (NaNUtil.isNaN(lower)) {
-          // NaN indicates unreliable bounds. See the StrictMetricsEvaluator docs for more.
-          return ROWS_MIGHT_NOT_MATCH;
-        }
-
-        literals = literals.stream().filter(v -> ref.comparator().compare(lower, v) <= 0).collect(Collectors.toList());
-        if (literals.isEmpty()) {  // if all values are less than lower bound, rows must match (notIn).
-          return ROWS_MUST_MATCH;
-        }
+      T lower = metrics.lowerBound(id, type);
+      if (lower != null && NaNUtil.isNaN(lower)) {
+        // NaN indicates unreliable bounds. See the StrictMetricsEvaluator docs for more.
+        return ROWS_MIGHT_NOT_MATCH;
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(field.type(), upperBounds.get(id));
-        literals = literals.stream().filter(v -> ref.comparator().compare(upper, v) >= 0).collect(Collectors.toList());
-        if (literals.isEmpty()) { // if all remaining values are greater than upper bound, rows must match (notIn).
-          return ROWS_MUST_MATCH;
-        }
-      }
+      T upper = metrics.upperBound(id, type);
 
-      return ROWS_MIGHT_NOT_MATCH;
-    }
+      // if all values are less than the lower bound or greater than the upper bound, rows must match (notIn).
+      if (!MetricsEvalContext.anyInRange(literalSet, cmp, lower, upper)) {
+        return ROWS_MUST_MATCH;
+      }
 
-    @Override
-    public <T> Boolean startsWith(BoundReference<T> ref, Literal<T> lit) {
       return ROWS_MIGHT_NOT_MATCH;
-    }
-
-    private boolean canContainNulls(Integer id) {
-      return nullCounts == null || (nullCounts.containsKey(id) && nullCounts.get(id) > 0);
-    }
-
-    private boolean canContainNaNs(Integer id) {
-      // nan counts might be null for early version writers when nan counters are not populated.
-      return nanCounts != null && nanCounts.containsKey(id) && nanCounts.get(id) > 0;
-    }
-
-    private boolean containsNullsOnly(Integer id) {
-      return valueCounts != null && valueCounts.containsKey(id) &&
-          nullCounts != null && nullCounts.containsKey(id) &&
-          valueCounts.get(id) - nullCounts.get(id) == 0;
-    }
-
-    private boolean containsNaNsOnly(Integer id) {
-      return nanCounts != null && nanCounts.containsKey(id) &&
-          valueCounts != null && nanCounts.get(id).equals(valueCounts.get(id));
-    }
+    };
   }
 }
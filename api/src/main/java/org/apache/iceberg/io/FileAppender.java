@@ -47,6 +47,16 @@ public interface FileAppender<D> extends Closeable {
    */
   long length();
 
+  /**
+   * Returns an estimate of the number of bytes this appender holds in memory before they are written to the file.
+   * <p>
+   * Writers that keep many appenders open use this to bound their memory use. Appenders that do not track their
+   * buffers return 0.
+   */
+  default long bufferedBytes() {
+    return 0L;
+  }
+
   /**
    * Returns a list of recommended split locations, if applicable, null otherwise.
    * <p>
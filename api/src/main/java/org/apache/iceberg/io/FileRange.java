@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A range of bytes in a file, used to request vectored reads from a {@link SeekableInputStream}.
+ */
+public class FileRange {
+  private final long offset;
+  private final int length;
+
+  public FileRange(long offset, int length) {
+    Preconditions.checkArgument(offset >= 0, "Invalid range offset (negative): %s", offset);
+    Preconditions.checkArgument(length >= 0, "Invalid range length (negative): %s", length);
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @return the position of the first byte of the range
+   */
+  public long offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of bytes in the range
+   */
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("offset", offset)
+        .add("length", length)
+        .toString();
+  }
+}
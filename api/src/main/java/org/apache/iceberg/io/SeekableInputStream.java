@@ -19,8 +19,12 @@
 
 package org.apache.iceberg.io;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
 /**
  * {@code SeekableInputStream} is an interface with the methods needed to read data from a file or
@@ -44,4 +48,43 @@ public abstract class SeekableInputStream extends InputStream {
    * @throws IOException If the underlying stream throws IOException
    */
   public abstract void seek(long newPos) throws IOException;
+
+  /**
+   * Read a list of byte ranges from the stream.
+   * <p>
+   * Implementations may coalesce nearby ranges and fetch them in parallel, which is much faster than reading the
+   * ranges one at a time from object stores. The default implementation seeks to and reads each range in order.
+   * <p>
+   * This does not change the position of the stream.
+   *
+   * @param ranges a list of {@link FileRange byte ranges} to read
+   * @return a list of buffers with the content of each range, in the same order as the requested ranges
+   * @throws EOFException If a range extends past the end of the stream
+   * @throws IOException If the underlying stream throws IOException
+   */
+  public List<ByteBuffer> readRanges(List<FileRange> ranges) throws IOException {
+    long pos = getPos();
+    List<ByteBuffer> buffers = Lists.newArrayListWithExpectedSize(ranges.size());
+    for (FileRange range : ranges) {
+      byte[] bytes = new byte[range.length()];
+      seek(range.offset());
+
+      int bytesRead = 0;
+      while (bytesRead < bytes.length) {
+        int readLength = read(bytes, bytesRead, bytes.length - bytesRead);
+        if (readLength < 0) {
+          throw new EOFException(String.format(
+              "Reached the end of stream with %d bytes left to read", bytes.length - bytesRead));
+        }
+
+        bytesRead += readLength;
+      }
+
+      buffers.add(ByteBuffer.wrap(bytes));
+    }
+
+    seek(pos);
+
+    return buffers;
+  }
 }
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+
+/**
+ * A {@link FileIO} mix-in for implementations that can operate on many files with fewer requests.
+ * <p>
+ * Callers that delete many files, like snapshot expiration, use these methods when the table's FileIO implements
+ * this interface instead of calling {@link FileIO#deleteFile(String)} once per file.
+ */
+public interface SupportsBulkOperations {
+  /**
+   * Delete the files at the given paths.
+   * <p>
+   * All paths are attempted, even if some deletes fail. Paths of files that do not exist are ignored.
+   *
+   * @param pathsToDelete the paths of files to delete
+   * @throws BulkDeletionFailureException If one or more files could not be deleted
+   */
+  void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException;
+}
@@ -598,4 +598,16 @@ public class TestEvaluator {
         "Invalid value for conversion to type int",
         () -> new Evaluator(STRUCT, predicate(Expression.Operation.NOT_IN, "x", 5.1)));
   }
+
+  @Test
+  public void testEvaluatorAfterSerialization() throws Exception {
+    Evaluator evaluator = new Evaluator(STRUCT, and(greaterThan("x", 3), or(isNull("z"), in("z", 1, 2))));
+    Assert.assertTrue("Should match before serialization", evaluator.eval(TestHelpers.Row.of(4, 8, 2, null)));
+
+    Evaluator copy = TestHelpers.roundTripSerialize(evaluator);
+    Assert.assertTrue("4 > 3 and z in (1, 2) => true", copy.eval(TestHelpers.Row.of(4, 8, 2, null)));
+    Assert.assertTrue("4 > 3 and z is null => true", copy.eval(TestHelpers.Row.of(4, 8, null, null)));
+    Assert.assertFalse("4 > 3 and z not in (1, 2) => false", copy.eval(TestHelpers.Row.of(4, 8, 5, null)));
+    Assert.assertFalse("3 > 3 => false", copy.eval(TestHelpers.Row.of(3, 8, 2, null)));
+  }
 }
@@ -20,6 +20,7 @@
 package org.apache.iceberg.expressions;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import org.apache.iceberg.AssertHelpers;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.Schema;
@@ -155,6 +156,23 @@ public class TestInclusiveMetricsEvaluator {
       // upper bounds
       ImmutableMap.of(3, toByteBuffer(StringType.get(), "イロハニホヘト")));
 
+  @Test
+  public void testReuseAcrossFiles() {
+    InclusiveMetricsEvaluator evaluator = new InclusiveMetricsEvaluator(SCHEMA,
+        and(greaterThanOrEqual("required", "a"), lessThan("required", "b")));
+
+    // bounds decoded for one file must not be used for the next file
+    Assert.assertTrue("Should read: bounds overlap the range", evaluator.eval(FILE_2));
+    Assert.assertFalse("Should skip: bounds are below the range", evaluator.eval(FILE_3));
+    Assert.assertTrue("Should read: bounds overlap the range", evaluator.eval(FILE_2));
+
+    // each thread evaluates files with its own metrics context
+    long numRead = IntStream.range(0, 1000).parallel()
+        .filter(i -> evaluator.eval(i % 2 == 0 ? FILE_2 : FILE_3))
+        .count();
+    Assert.assertEquals("Should read only files with overlapping bounds", 500, numRead);
+  }
+
   @Test
   public void testAllNulls() {
     boolean shouldRead = new InclusiveMetricsEvaluator(SCHEMA, notNull("all_nulls")).eval(FILE);
@@ -126,8 +126,8 @@ public class ArrowSchemaUtil {
         final MapType mapType = field.type().asMapType();
         arrowType = new ArrowType.Map(false);
         List<Field> entryFields = Lists.transform(mapType.fields(), ArrowSchemaUtil::convert);
-        Field entry = new Field("",
-            new FieldType(field.isOptional(), arrowType, null), entryFields);
+        Field entry = new Field("entries",
+            new FieldType(false, ArrowType.Struct.INSTANCE, null), entryFields);
         children.add(entry);
         break;
       default:
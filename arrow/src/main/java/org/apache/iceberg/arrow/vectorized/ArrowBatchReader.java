@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+
+/**
+ * {@link VectorizedReader} that returns a {@link VectorSchemaRoot} with a vector for each expected column.
+ * <p>
+ * Columns that are not read from the file, such as partition constants and missing columns, are materialized as
+ * vectors so that the batch can be used without any Iceberg classes.
+ */
+class ArrowBatchReader implements VectorizedReader<VectorSchemaRoot> {
+  private final VectorizedArrowReader[] readers;
+  private final VectorHolder[] vectorHolders;
+  private final List<Types.NestedField> fields;
+  private final BufferAllocator allocator;
+  private final FieldVector[] constantVectors;
+  private final int[] constantRows;
+
+  ArrowBatchReader(List<VectorizedReader<?>> readers, Schema expectedSchema) {
+    Preconditions.checkArgument(readers.size() == expectedSchema.columns().size(),
+        "Cannot create batch reader: %s readers for %s columns", readers.size(), expectedSchema.columns().size());
+    this.readers = readers.stream()
+        .map(VectorizedArrowReader.class::cast)
+        .toArray(VectorizedArrowReader[]::new);
+    this.vectorHolders = new VectorHolder[readers.size()];
+    this.fields = expectedSchema.columns();
+    this.allocator = ArrowAllocation.rootAllocator().newChildAllocator("ArrowBatchReader", 0, Long.MAX_VALUE);
+    this.constantVectors = new FieldVector[readers.size()];
+    this.constantRows = new int[readers.size()];
+  }
+
+  @Override
+  public final void setRowGroupInfo(PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData,
+                                    long rowPosition) {
+    for (VectorizedArrowReader reader : readers) {
+      reader.setRowGroupInfo(pageStore, metaData, rowPosition);
+    }
+  }
+
+  @Override
+  public final VectorSchemaRoot read(VectorSchemaRoot reuse, int numRowsToRead) {
+    Preconditions.checkArgument(numRowsToRead > 0, "Invalid number of rows to read: %s", numRowsToRead);
+
+    if (reuse == null) {
+      closeVectors();
+    }
+
+    List<Field> arrowFields = Lists.newArrayListWithExpectedSize(readers.length);
+    List<FieldVector> vectors = Lists.newArrayListWithExpectedSize(readers.length);
+    for (int i = 0; i < readers.length; i += 1) {
+      vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
+      int numRowsInVector = vectorHolders[i].numValues();
+      Preconditions.checkState(
+          numRowsInVector == numRowsToRead,
+          "Number of rows in the vector %s didn't match expected %s ", numRowsInVector,
+          numRowsToRead);
+
+      FieldVector vector;
+      if (vectorHolders[i].isDummy()) {
+        Object constant = ((VectorHolder.ConstantVectorHolder<?>) vectorHolders[i]).getConstant();
+        vector = constantVector(i, constant, numRowsToRead);
+      } else {
+        vector = vectorHolders[i].vector();
+      }
+
+      arrowFields.add(vector.getField());
+      vectors.add(vector);
+    }
+
+    return new VectorSchemaRoot(arrowFields, vectors, numRowsToRead);
+  }
+
+  private FieldVector constantVector(int pos, Object constant, int numRows) {
+    FieldVector vector = constantVectors[pos];
+    if (vector == null) {
+      vector = ArrowSchemaUtil.convert(fields.get(pos)).createVector(allocator);
+      vector.allocateNew();
+      this.constantVectors[pos] = vector;
+      this.constantRows[pos] = 0;
+    }
+
+    // the value is the same for every batch, so only rows that were not set by a previous batch are set. null
+    // constants are not set because validity buffers are zeroed when they are allocated
+    if (constant != null) {
+      for (int row = constantRows[pos]; row < numRows; row += 1) {
+        setConstant(vector, row, constant);
+      }
+    }
+
+    this.constantRows[pos] = Math.max(constantRows[pos], numRows);
+    vector.setValueCount(numRows);
+
+    return vector;
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static void setConstant(FieldVector vector, int index, Object value) {
+    if (vector instanceof BitVector) {
+      ((BitVector) vector).setSafe(index, (Boolean) value ? 1 : 0);
+    } else if (vector instanceof IntVector) {
+      ((IntVector) vector).setSafe(index, (Integer) value);
+    } else if (vector instanceof DateDayVector) {
+      ((DateDayVector) vector).setSafe(index, (Integer) value);
+    } else if (vector instanceof BigIntVector) {
+      ((BigIntVector) vector).setSafe(index, (Long) value);
+    } else if (vector instanceof TimeStampVector) {
+      ((TimeStampVector) vector).setSafe(index, (Long) value);
+    } else if (vector instanceof TimeMicroVector) {
+      ((TimeMicroVector) vector).setSafe(index, (Long) value);
+    } else if (vector instanceof Float4Vector) {
+      ((Float4Vector) vector).setSafe(index, (Float) value);
+    } else if (vector instanceof Float8Vector) {
+      ((Float8Vector) vector).setSafe(index, (Double) value);
+    } else if (vector instanceof DecimalVector) {
+      ((DecimalVector) vector).setSafe(index, (BigDecimal) value);
+    } else if (vector instanceof VarCharVector) {
+      ((VarCharVector) vector).setSafe(index, value.toString().getBytes(StandardCharsets.UTF_8));
+    } else if (vector instanceof VarBinaryVector) {
+      byte[] bytes = value instanceof ByteBuffer ? ByteBuffers.toByteArray((ByteBuffer) value) : (byte[]) value;
+      ((VarBinaryVector) vector).setSafe(index, bytes);
+    } else {
+      throw new UnsupportedOperationException(
+          String.format("Cannot set constant %s in vector: %s", value, vector.getClass().getSimpleName()));
+    }
+  }
+
+  private void closeVectors() {
+    for (int i = 0; i < vectorHolders.length; i += 1) {
+      if (vectorHolders[i] != null) {
+        // Release any resources used by the vector
+        if (vectorHolders[i].vector() != null) {
+          vectorHolders[i].vector().close();
+        }
+        vectorHolders[i] = null;
+      }
+
+      if (constantVectors[i] != null) {
+        constantVectors[i].close();
+        constantVectors[i] = null;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    for (VectorizedReader<?> reader : readers) {
+      reader.close();
+    }
+
+    closeVectors();
+    allocator.close();
+  }
+
+  @Override
+  public void setBatchSize(int batchSize) {
+    for (VectorizedArrowReader reader : readers) {
+      reader.setBatchSize(batchSize);
+    }
+  }
+}
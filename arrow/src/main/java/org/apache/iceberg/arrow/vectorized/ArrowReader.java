@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.Map;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.encryption.EncryptedFiles;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableGroup;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.parquet.VectorizedReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.util.PartitionUtil;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * Reads the data files of a {@link TableScan} into Arrow {@link VectorSchemaRoot} batches, without depending on a
+ * processing engine.
+ * <p>
+ * Each batch has a vector for every column of the scan's projection. Identity partition columns are filled with the
+ * file's partition values and rows that do not match the scan's residual filter are removed.
+ * <p>
+ * Batches and their vectors are reused, so a batch is only valid until the iterator's next batch is requested.
+ * Callers that hand batches to other code must finish with them or copy them before requesting the next batch.
+ * <p>
+ * Only Parquet data files without row-level deletes are supported.
+ */
+public class ArrowReader {
+  private final TableScan scan;
+  private final Schema schema;
+  private final FileIO io;
+  private final EncryptionManager encryption;
+  private final String nameMapping;
+  private final boolean caseSensitive;
+  private final int batchSize;
+
+  /**
+   * @param scan a table scan
+   * @param batchSize the maximum number of rows in a batch
+   */
+  public ArrowReader(TableScan scan, int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "Invalid batch size: %s", batchSize);
+    this.scan = scan;
+    this.schema = scan.schema();
+    this.io = scan.table().io();
+    this.encryption = scan.table().encryption();
+    this.nameMapping = scan.table().properties().get(TableProperties.DEFAULT_NAME_MAPPING);
+    this.caseSensitive = scan.isCaseSensitive();
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Plans the scan's tasks and returns batches for all of them.
+   *
+   * @return an iterable of batches
+   */
+  public CloseableIterable<VectorSchemaRoot> open() {
+    return open(scan.planTasks());
+  }
+
+  /**
+   * Returns batches for a group of tasks from the scan. The tasks are closed when the returned iterable is closed.
+   *
+   * @param tasks tasks planned by the scan
+   * @return an iterable of batches
+   */
+  public CloseableIterable<VectorSchemaRoot> open(CloseableIterable<CombinedScanTask> tasks) {
+    return new TaskIterable(Iterables.concat(Iterables.transform(tasks, CombinedScanTask::files)), tasks);
+  }
+
+  /**
+   * Returns batches for a combined task from the scan.
+   *
+   * @param task a task planned by the scan
+   * @return an iterable of batches
+   */
+  public CloseableIterable<VectorSchemaRoot> open(CombinedScanTask task) {
+    return new TaskIterable(task.files(), null);
+  }
+
+  private CloseableIterable<VectorSchemaRoot> openFile(FileScanTask task) {
+    if (!task.deletes().isEmpty()) {
+      throw new UnsupportedOperationException("Cannot read file with row-level deletes: " + task.file().path());
+    }
+
+    if (task.file().format() != FileFormat.PARQUET) {
+      throw new UnsupportedOperationException(
+          "Format: " + task.file().format() + " not supported for Arrow reads: " + task.file().path());
+    }
+
+    InputFile input = encryption.decrypt(EncryptedFiles.encryptedInput(
+        io.newInputFile(task.file().path().toString()), task.file().keyMetadata()));
+    Map<Integer, ?> idToConstant = PartitionUtil.constantsMap(task);
+
+    Parquet.ReadBuilder builder = Parquet.read(input)
+        .project(schema)
+        .split(task.start(), task.length())
+        .createBatchedReaderFunc(fileSchema -> buildReader(fileSchema, idToConstant))
+        .recordsPerBatch(batchSize)
+        .filter(task.residual())
+        // rows are removed before the other columns are decoded when the residual's columns can be read first
+        .filterRows(true)
+        .caseSensitive(caseSensitive)
+        // vectors are reused, so each batch is only valid until the next batch is read
+        .reuseContainers();
+
+    if (nameMapping != null) {
+      builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+    }
+
+    CloseableIterable<VectorSchemaRoot> batches = builder.build();
+
+    Expression residual = task.residual();
+    if (residual == null || residual == Expressions.alwaysTrue()) {
+      return batches;
+    }
+
+    // rows are not removed by the file reader when the residual references nested columns
+    ResidualBatchFilter residualFilter = new ResidualBatchFilter(schema, residual, caseSensitive);
+    CloseableIterable<VectorSchemaRoot> filtered = CloseableIterable.filter(
+        CloseableIterable.transform(batches, residualFilter::filter),
+        batch -> batch.getRowCount() > 0);
+
+    return CloseableIterable.combine(filtered, () -> {
+      try {
+        filtered.close();
+      } finally {
+        residualFilter.close();
+      }
+    });
+  }
+
+  private VectorizedReader<?> buildReader(MessageType fileSchema, Map<Integer, ?> idToConstant) {
+    // the Arrow validity buffers are the only null information passed to callers, so they are always set, and
+    // dictionary ids are always decoded
+    return TypeWithSchemaVisitor.visit(schema.asStruct(), fileSchema,
+        new VectorizedReaderBuilder(schema, fileSchema, /* setArrowValidityVector */ true,
+            /* readDictionaryIds */ false, idToConstant, readers -> new ArrowBatchReader(readers, schema)));
+  }
+
+  private class TaskIterable extends CloseableGroup implements CloseableIterable<VectorSchemaRoot> {
+    private final Iterable<FileScanTask> tasks;
+
+    private TaskIterable(Iterable<FileScanTask> tasks, CloseableIterable<CombinedScanTask> closeable) {
+      this.tasks = tasks;
+      if (closeable != null) {
+        addCloseable(closeable);
+      }
+    }
+
+    @Override
+    public CloseableIterator<VectorSchemaRoot> iterator() {
+      CloseableIterator<VectorSchemaRoot> iter = CloseableIterable.concat(
+          Iterables.transform(tasks, ArrowReader.this::openFile)).iterator();
+      addCloseable(iter);
+      return iter;
+    }
+  }
+}
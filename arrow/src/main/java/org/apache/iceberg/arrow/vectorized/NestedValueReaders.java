@@ -0,0 +1,505 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.parquet.ColumnIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.Type;
+
+/**
+ * Readers that assemble nested Arrow vectors from the definition and repetition levels of Parquet columns.
+ * <p>
+ * These follow the same level logic as {@link org.apache.iceberg.parquet.ParquetValueReaders}, but instead of
+ * returning a value, each reader sets the value at an index of an Arrow vector. Nulls are left unset in the vector's
+ * validity buffer.
+ */
+class NestedValueReaders {
+
+  private NestedValueReaders() {
+  }
+
+  static NestedValueReader option(Type type, int definitionLevel, NestedValueReader reader) {
+    if (type.isRepetition(Type.Repetition.OPTIONAL) && reader != null) {
+      return new OptionReader(definitionLevel, reader);
+    }
+
+    return reader;
+  }
+
+  abstract static class NestedValueReader {
+    /**
+     * @return the first column of this reader, used to check the current definition and repetition levels
+     */
+    abstract ColumnIterator<?> column();
+
+    /**
+     * @return all columns read by this reader, used to skip nulls
+     */
+    abstract List<ColumnIterator<?>> columns();
+
+    abstract void setPageSource(PageReadStore pageStore);
+
+    abstract void read(FieldVector vector, int index);
+  }
+
+  private static class OptionReader extends NestedValueReader {
+    private final int definitionLevel;
+    private final NestedValueReader reader;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    private OptionReader(int definitionLevel, NestedValueReader reader) {
+      this.definitionLevel = definitionLevel;
+      this.reader = reader;
+      this.column = reader.column();
+      this.children = reader.columns();
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      reader.setPageSource(pageStore);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      if (column.currentDefinitionLevel() > definitionLevel) {
+        reader.read(vector, index);
+      } else {
+        for (ColumnIterator<?> child : children) {
+          child.nextNull();
+        }
+      }
+    }
+  }
+
+  static class StructReader extends NestedValueReader {
+    private final NestedValueReader[] readers;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    /**
+     * @param readers a reader for each field of the struct, in Arrow child order, or null for fields that are missing
+     *                from the file
+     */
+    StructReader(List<NestedValueReader> readers) {
+      this.readers = readers.toArray(new NestedValueReader[0]);
+
+      ImmutableList.Builder<ColumnIterator<?>> columnsBuilder = ImmutableList.builder();
+      for (NestedValueReader reader : readers) {
+        if (reader != null) {
+          columnsBuilder.addAll(reader.columns());
+        }
+      }
+
+      this.children = columnsBuilder.build();
+      Preconditions.checkArgument(!children.isEmpty(), "Cannot read a struct without any columns");
+      this.column = children.get(0);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      for (NestedValueReader reader : readers) {
+        if (reader != null) {
+          reader.setPageSource(pageStore);
+        }
+      }
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      StructVector struct = (StructVector) vector;
+      struct.setIndexDefined(index);
+      for (int i = 0; i < readers.length; i += 1) {
+        if (readers[i] != null) {
+          readers[i].read((FieldVector) struct.getChildByOrdinal(i), index);
+        }
+      }
+    }
+  }
+
+  static class ListReader extends NestedValueReader {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final NestedValueReader reader;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    ListReader(int definitionLevel, int repetitionLevel, NestedValueReader reader) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.reader = reader;
+      this.column = reader.column();
+      this.children = reader.columns();
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      reader.setPageSource(pageStore);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ListVector list = (ListVector) vector;
+      FieldVector elements = list.getDataVector();
+      int offset = list.startNewValue(index);
+      int size = 0;
+
+      do {
+        if (column.currentDefinitionLevel() > definitionLevel) {
+          reader.read(elements, offset + size);
+          size += 1;
+        } else {
+          for (ColumnIterator<?> child : children) {
+            child.nextNull();
+          }
+
+          break;
+        }
+      } while (column.currentRepetitionLevel() > repetitionLevel);
+
+      list.endValue(index, size);
+    }
+  }
+
+  static class MapReader extends NestedValueReader {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final NestedValueReader keyReader;
+    private final NestedValueReader valueReader;
+    private final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    MapReader(int definitionLevel, int repetitionLevel, NestedValueReader keyReader, NestedValueReader valueReader) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.keyReader = keyReader;
+      this.valueReader = valueReader;
+      this.column = keyReader.column();
+      this.children = ImmutableList.<ColumnIterator<?>>builder()
+          .addAll(keyReader.columns())
+          .addAll(valueReader.columns())
+          .build();
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      keyReader.setPageSource(pageStore);
+      valueReader.setPageSource(pageStore);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      MapVector map = (MapVector) vector;
+      StructVector entries = (StructVector) map.getDataVector();
+      FieldVector keys = (FieldVector) entries.getChildByOrdinal(0);
+      FieldVector values = (FieldVector) entries.getChildByOrdinal(1);
+      int offset = map.startNewValue(index);
+      int size = 0;
+
+      do {
+        if (column.currentDefinitionLevel() > definitionLevel) {
+          entries.setIndexDefined(offset + size);
+          keyReader.read(keys, offset + size);
+          valueReader.read(values, offset + size);
+          size += 1;
+        } else {
+          for (ColumnIterator<?> child : children) {
+            child.nextNull();
+          }
+
+          break;
+        }
+      } while (column.currentRepetitionLevel() > repetitionLevel);
+
+      map.endValue(index, size);
+    }
+  }
+
+  abstract static class PrimitiveReader extends NestedValueReader {
+    private final ColumnDescriptor desc;
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    protected final ColumnIterator<?> column;
+    private final List<ColumnIterator<?>> children;
+
+    PrimitiveReader(ColumnDescriptor desc) {
+      this.desc = desc;
+      this.column = ColumnIterator.newIterator(desc, "");
+      this.children = ImmutableList.of(column);
+    }
+
+    @Override
+    ColumnIterator<?> column() {
+      return column;
+    }
+
+    @Override
+    List<ColumnIterator<?>> columns() {
+      return children;
+    }
+
+    @Override
+    void setPageSource(PageReadStore pageStore) {
+      column.setPageSource(pageStore.getPageReader(desc), pageStore.getRowIndexes().orElse(null));
+    }
+  }
+
+  static class BooleanReader extends PrimitiveReader {
+    BooleanReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((BitVector) vector).setSafe(index, column.nextBoolean() ? 1 : 0);
+    }
+  }
+
+  static class IntReader extends PrimitiveReader {
+    IntReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((IntVector) vector).setSafe(index, column.nextInteger());
+    }
+  }
+
+  static class DateReader extends PrimitiveReader {
+    DateReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((DateDayVector) vector).setSafe(index, column.nextInteger());
+    }
+  }
+
+  static class IntAsLongReader extends PrimitiveReader {
+    IntAsLongReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((BigIntVector) vector).setSafe(index, column.nextInteger());
+    }
+  }
+
+  static class LongReader extends PrimitiveReader {
+    LongReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((BigIntVector) vector).setSafe(index, column.nextLong());
+    }
+  }
+
+  static class TimeReader extends PrimitiveReader {
+    TimeReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((TimeMicroVector) vector).setSafe(index, column.nextLong());
+    }
+  }
+
+  static class TimestampReader extends PrimitiveReader {
+    TimestampReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((TimeStampVector) vector).setSafe(index, column.nextLong());
+    }
+  }
+
+  static class TimestampMillisReader extends PrimitiveReader {
+    TimestampMillisReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((TimeStampVector) vector).setSafe(index, column.nextLong() * 1000);
+    }
+  }
+
+  static class FloatReader extends PrimitiveReader {
+    FloatReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((Float4Vector) vector).setSafe(index, column.nextFloat());
+    }
+  }
+
+  static class FloatAsDoubleReader extends PrimitiveReader {
+    FloatAsDoubleReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((Float8Vector) vector).setSafe(index, column.nextFloat());
+    }
+  }
+
+  static class DoubleReader extends PrimitiveReader {
+    DoubleReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((Float8Vector) vector).setSafe(index, column.nextDouble());
+    }
+  }
+
+  static class IntDecimalReader extends PrimitiveReader {
+    private final int scale;
+
+    IntDecimalReader(ColumnDescriptor desc, int scale) {
+      super(desc);
+      this.scale = scale;
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((DecimalVector) vector).setSafe(index, BigDecimal.valueOf(column.nextInteger(), scale));
+    }
+  }
+
+  static class LongDecimalReader extends PrimitiveReader {
+    private final int scale;
+
+    LongDecimalReader(ColumnDescriptor desc, int scale) {
+      super(desc);
+      this.scale = scale;
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      ((DecimalVector) vector).setSafe(index, BigDecimal.valueOf(column.nextLong(), scale));
+    }
+  }
+
+  static class BinaryDecimalReader extends PrimitiveReader {
+    private final int scale;
+
+    BinaryDecimalReader(ColumnDescriptor desc, int scale) {
+      super(desc);
+      this.scale = scale;
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      byte[] bytes = column.nextBinary().getBytesUnsafe();
+      ((DecimalVector) vector).setSafe(index, new BigDecimal(new BigInteger(bytes), scale));
+    }
+  }
+
+  /**
+   * Reads strings, binary, and fixed values into a {@link org.apache.arrow.vector.VarCharVector} or a
+   * {@link org.apache.arrow.vector.VarBinaryVector}.
+   */
+  static class VarWidthReader extends PrimitiveReader {
+    VarWidthReader(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    void read(FieldVector vector, int index) {
+      Binary binary = column.nextBinary();
+      ByteBuffer buffer = binary.toByteBuffer();
+      ((BaseVariableWidthVector) vector).setSafe(index, buffer, buffer.position(), buffer.remaining());
+    }
+  }
+}
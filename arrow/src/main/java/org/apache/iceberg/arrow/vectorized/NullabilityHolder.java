@@ -77,4 +77,12 @@ public class NullabilityHolder {
   public void reset() {
     numNulls = 0;
   }
+
+  /**
+   * Resets the number of nulls to an earlier count, dropping nulls that were counted for values that were read and
+   * then discarded so that their positions can be overwritten.
+   */
+  public void resetNumNulls(int count) {
+    numNulls = count;
+  }
 }
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.util.TransferPair;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Removes the rows of a batch that do not match a residual filter.
+ * <p>
+ * Rows are evaluated in place. When every row matches, the batch is returned as-is; otherwise the matching rows are
+ * copied into vectors owned by this filter, which are reused for the next batch.
+ */
+class ResidualBatchFilter implements Closeable {
+  private final Evaluator evaluator;
+  private final ArrowRow row;
+  private final BufferAllocator allocator;
+  private List<FieldVector> filtered = null;
+
+  ResidualBatchFilter(Schema schema, Expression residual, boolean caseSensitive) {
+    this.evaluator = new Evaluator(schema.asStruct(), residual, caseSensitive);
+    this.row = new ArrowRow(schema.asStruct());
+    this.allocator = ArrowAllocation.rootAllocator().newChildAllocator("ResidualBatchFilter", 0, Long.MAX_VALUE);
+  }
+
+  VectorSchemaRoot filter(VectorSchemaRoot batch) {
+    int numRows = batch.getRowCount();
+    List<FieldVector> vectors = batch.getFieldVectors();
+    row.wrap(vectors);
+
+    int[] selected = new int[numRows];
+    int numSelected = 0;
+    for (int pos = 0; pos < numRows; pos += 1) {
+      row.setPosition(pos);
+      if (evaluator.eval(row)) {
+        selected[numSelected] = pos;
+        numSelected += 1;
+      }
+    }
+
+    if (numSelected == numRows) {
+      return batch;
+    }
+
+    List<FieldVector> outputs = outputVectors(vectors);
+    List<Field> fields = Lists.newArrayListWithExpectedSize(vectors.size());
+    for (int i = 0; i < vectors.size(); i += 1) {
+      FieldVector output = outputs.get(i);
+      TransferPair copier = vectors.get(i).makeTransferPair(output);
+      for (int pos = 0; pos < numSelected; pos += 1) {
+        copier.copyValueSafe(selected[pos], pos);
+      }
+
+      output.setValueCount(numSelected);
+      fields.add(output.getField());
+    }
+
+    return new VectorSchemaRoot(fields, outputs, numSelected);
+  }
+
+  private List<FieldVector> outputVectors(List<FieldVector> vectors) {
+    if (filtered != null && sameTypes(filtered, vectors)) {
+      filtered.forEach(ValueVector::reset);
+      return filtered;
+    }
+
+    closeVectors();
+    this.filtered = Lists.newArrayListWithExpectedSize(vectors.size());
+    for (FieldVector vector : vectors) {
+      FieldVector output = vector.getField().createVector(allocator);
+      output.allocateNew();
+      filtered.add(output);
+    }
+
+    return filtered;
+  }
+
+  private static boolean sameTypes(List<FieldVector> left, List<FieldVector> right) {
+    for (int i = 0; i < left.size(); i += 1) {
+      if (!left.get(i).getField().equals(right.get(i).getField())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void closeVectors() {
+    if (filtered != null) {
+      filtered.forEach(ValueVector::close);
+      this.filtered = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    closeVectors();
+    allocator.close();
+  }
+
+  /**
+   * A {@link StructLike} view of one row of a list of Arrow vectors that returns Iceberg's internal representations.
+   */
+  private static class ArrowRow implements StructLike {
+    private final Types.StructType struct;
+    private final ArrowRow[] nested;
+    private List<? extends ValueVector> vectors = null;
+    private int position = 0;
+
+    private ArrowRow(Types.StructType struct) {
+      this.struct = struct;
+      this.nested = new ArrowRow[struct.fields().size()];
+      for (int i = 0; i < nested.length; i += 1) {
+        Types.NestedField field = struct.fields().get(i);
+        if (field.type().isStructType()) {
+          nested[i] = new ArrowRow(field.type().asStructType());
+        }
+      }
+    }
+
+    private void wrap(List<? extends ValueVector> newVectors) {
+      this.vectors = newVectors;
+    }
+
+    private void setPosition(int newPosition) {
+      this.position = newPosition;
+    }
+
+    @Override
+    public int size() {
+      return nested.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      ValueVector vector = vectors.get(pos);
+      if (vector.isNull(position)) {
+        return null;
+      }
+
+      return javaClass.cast(internalValue(pos, vector));
+    }
+
+    private Object internalValue(int pos, ValueVector vector) {
+      Object value = vector.getObject(position);
+      switch (struct.fields().get(pos).type().typeId()) {
+        case INTEGER:
+        case DATE:
+          return ((Number) value).intValue();
+        case LONG:
+          // ints promoted to longs are read into int vectors
+          return ((Number) value).longValue();
+        case DOUBLE:
+          // floats promoted to doubles are read into float vectors
+          return ((Number) value).doubleValue();
+        case TIME:
+        case TIMESTAMP:
+          return value instanceof Number ? ((Number) value).longValue() : ((TimeStampVector) vector).get(position);
+        case STRING:
+          return value.toString();
+        case BINARY:
+        case FIXED:
+          return ByteBuffer.wrap((byte[]) value);
+        case STRUCT:
+          StructVector structVector = (StructVector) vector;
+          List<ValueVector> children = Lists.newArrayListWithExpectedSize(structVector.size());
+          for (int i = 0; i < structVector.size(); i += 1) {
+            children.add(structVector.getChildByOrdinal(i));
+          }
+
+          ArrowRow nestedRow = nested[pos];
+          nestedRow.wrap(children);
+          nestedRow.setPosition(position);
+          return nestedRow;
+        default:
+          return value;
+      }
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Cannot modify a row of Arrow vectors");
+    }
+  }
+}
@@ -146,4 +146,27 @@ public class VectorHolder {
     }
   }
 
+  /**
+   * A holder for a vector of structs, lists, or maps, or for a child vector of one of them. Nulls are read from the
+   * vector's validity buffer.
+   */
+  public static class NestedVectorHolder extends VectorHolder {
+    public NestedVectorHolder(FieldVector vector, Type type) {
+      super(vector, type, nullsOf(vector));
+    }
+  }
+
+  private static NullabilityHolder nullsOf(FieldVector vector) {
+    int numValues = vector.getValueCount();
+    NullabilityHolder nulls = new NullabilityHolder(Math.max(numValues, 1));
+    for (int i = 0; i < numValues; i += 1) {
+      if (vector.isNull(i)) {
+        nulls.setNull(i);
+      } else {
+        nulls.setNotNull(i);
+      }
+    }
+
+    return nulls;
+  }
 }
@@ -20,6 +20,7 @@
 package org.apache.iceberg.arrow.vectorized;
 
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.BigIntVector;
 import org.apache.arrow.vector.BitVector;
@@ -63,6 +64,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   private final VectorizedColumnIterator vectorizedColumnIterator;
   private final Types.NestedField icebergField;
   private final BufferAllocator rootAlloc;
+  private final boolean readDictionaryIds;
 
   private int batchSize;
   private FieldVector vec;
@@ -80,17 +82,32 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       Types.NestedField icebergField,
       BufferAllocator ra,
       boolean setArrowValidityVector) {
+    this(desc, icebergField, ra, setArrowValidityVector, true);
+  }
+
+  /**
+   * @param readDictionaryIds whether to return dictionary ids for column chunks that are entirely dictionary encoded;
+   *                          if false, values are always decoded into the vector
+   */
+  public VectorizedArrowReader(
+      ColumnDescriptor desc,
+      Types.NestedField icebergField,
+      BufferAllocator ra,
+      boolean setArrowValidityVector,
+      boolean readDictionaryIds) {
     this.icebergField = icebergField;
     this.columnDescriptor = desc;
     this.rootAlloc = ra;
+    this.readDictionaryIds = readDictionaryIds;
     this.vectorizedColumnIterator = new VectorizedColumnIterator(desc, "", setArrowValidityVector);
   }
 
-  private VectorizedArrowReader() {
+  protected VectorizedArrowReader() {
     this.icebergField = null;
     this.batchSize = DEFAULT_BATCH_SIZE;
     this.columnDescriptor = null;
     this.rootAlloc = null;
+    this.readDictionaryIds = false;
     this.vectorizedColumnIterator = null;
   }
 
@@ -329,7 +346,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     ColumnChunkMetaData chunkMetaData = metadata.get(ColumnPath.get(columnDescriptor.getPath()));
     this.dictionary = vectorizedColumnIterator.setRowGroupInfo(
         source.getPageReader(columnDescriptor),
-        !ParquetUtil.hasNonDictionaryPages(chunkMetaData));
+        readDictionaryIds && !ParquetUtil.hasNonDictionaryPages(chunkMetaData),
+        source.getRowIndexes().orElse(null));
   }
 
   @Override
@@ -376,6 +394,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
   private static final class PositionVectorReader extends VectorizedArrowReader {
     private long rowStart;
+    private PrimitiveIterator.OfLong rowIndexes;
     private NullabilityHolder nulls;
 
     @Override
@@ -389,7 +408,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       } else {
         ((BigIntVector) vec).allocateNew(numValsToRead);
         for (int i = 0; i < numValsToRead; i += 1) {
-          vec.getDataBuffer().setLong(i * Long.BYTES, rowStart + i);
+          // rows are not contiguous if the row group was filtered using page indexes
+          long pos = rowIndexes != null ? rowStart + rowIndexes.nextLong() : rowStart + i;
+          vec.getDataBuffer().setLong(i * Long.BYTES, pos);
         }
         for (int i = 0; i < numValsToRead; i += 1) {
           BitVectorHelper.setValidityBitToOne(vec.getValidityBuffer(), i);
@@ -397,7 +418,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         nulls = new NullabilityHolder(numValsToRead);
       }
 
-      rowStart += numValsToRead;
+      if (rowIndexes == null) {
+        rowStart += numValsToRead;
+      }
+
       vec.setValueCount(numValsToRead);
       nulls.setNotNulls(0, numValsToRead);
 
@@ -407,6 +431,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     @Override
     public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
       this.rowStart = rowPosition;
+      this.rowIndexes = source.getRowIndexes().orElse(null);
     }
 
     @Override
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.arrow.vectorized.NestedValueReaders.NestedValueReader;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * A {@link VectorizedArrowReader} for a top-level struct, list, or map column that reads a batch of rows into a
+ * nested Arrow vector.
+ * <p>
+ * The definition and repetition levels of each leaf column are read one row at a time to assemble structs, lists, and
+ * maps. Leaf values are set directly in the child vectors, so the batch is not materialized as rows.
+ */
+public class VectorizedNestedReader extends VectorizedArrowReader {
+  private final Types.NestedField icebergField;
+  private final NestedValueReader reader;
+  private final BufferAllocator rootAlloc;
+
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private FieldVector vec = null;
+
+  private VectorizedNestedReader(Types.NestedField icebergField, NestedValueReader reader, BufferAllocator ra) {
+    this.icebergField = icebergField;
+    this.reader = reader;
+    this.rootAlloc = ra;
+  }
+
+  /**
+   * Builds a reader for a top-level nested column.
+   *
+   * @param icebergField the expected Iceberg field
+   * @param fileSchema the Parquet file schema
+   * @param fileField the field's type in the Parquet file schema
+   * @param allocator an allocator for the Arrow vectors
+   * @return a reader that produces vectors for the expected field
+   */
+  public static VectorizedNestedReader build(Types.NestedField icebergField, MessageType fileSchema, Type fileField,
+                                             BufferAllocator allocator) {
+    Preconditions.checkArgument(icebergField.type().isNestedType(),
+        "Cannot read primitive field with a nested reader: %s", icebergField);
+    ReadBuilder builder = new ReadBuilder(fileSchema, fileField.getName());
+    NestedValueReader valueReader = TypeWithSchemaVisitor.visit(icebergField.type(), fileField, builder);
+    int definitionLevel = fileSchema.getMaxDefinitionLevel(fileField.getName()) - 1;
+    return new VectorizedNestedReader(
+        icebergField, NestedValueReaders.option(fileField, definitionLevel, valueReader), allocator);
+  }
+
+  @Override
+  public void setBatchSize(int batchSize) {
+    this.batchSize = (batchSize == 0) ? DEFAULT_BATCH_SIZE : batchSize;
+  }
+
+  @Override
+  public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+    if (reuse == null || vec == null) {
+      this.vec = ArrowSchemaUtil.convert(icebergField).createVector(rootAlloc);
+      vec.setInitialCapacity(batchSize);
+      vec.allocateNew();
+    } else {
+      vec.reset();
+    }
+
+    for (int i = 0; i < numValsToRead; i += 1) {
+      reader.read(vec, i);
+    }
+
+    vec.setValueCount(numValsToRead);
+    return new VectorHolder.NestedVectorHolder(vec, icebergField.type());
+  }
+
+  @Override
+  public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+    reader.setPageSource(source);
+  }
+
+  @Override
+  public void close() {
+    if (vec != null) {
+      vec.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "NestedReader(" + icebergField + ")";
+  }
+
+  private static class ReadBuilder extends TypeWithSchemaVisitor<NestedValueReader> {
+    private final MessageType fileSchema;
+
+    private ReadBuilder(MessageType fileSchema, String topLevelName) {
+      this.fileSchema = fileSchema;
+      // the visitor starts at the top-level field, so its name is the first part of every path
+      fieldNames.push(topLevelName);
+    }
+
+    @Override
+    public NestedValueReader struct(Types.StructType expected, GroupType struct,
+                                    List<NestedValueReader> fieldReaders) {
+      Map<Integer, NestedValueReader> readersById = Maps.newHashMap();
+      List<Type> fields = struct.getFields();
+      for (int i = 0; i < fields.size(); i += 1) {
+        Type fieldType = fields.get(i);
+        if (fieldType.getId() != null && fieldReaders.get(i) != null) {
+          int fieldD = fileSchema.getMaxDefinitionLevel(path(fieldType.getName())) - 1;
+          readersById.put(fieldType.getId().intValue(),
+              NestedValueReaders.option(fieldType, fieldD, fieldReaders.get(i)));
+        }
+      }
+
+      // match the expected struct's order, which is the order of the Arrow child vectors
+      List<NestedValueReader> reorderedFields = Lists.newArrayList();
+      for (Types.NestedField field : expected.fields()) {
+        reorderedFields.add(readersById.get(field.fieldId()));
+      }
+
+      return new NestedValueReaders.StructReader(reorderedFields);
+    }
+
+    @Override
+    public NestedValueReader list(Types.ListType expectedList, GroupType array, NestedValueReader elementReader) {
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = fileSchema.getMaxDefinitionLevel(repeatedPath) - 1;
+      int repeatedR = fileSchema.getMaxRepetitionLevel(repeatedPath) - 1;
+
+      Type elementType = array.getFields().get(0).asGroupType().getType(0);
+      int elementD = fileSchema.getMaxDefinitionLevel(path(elementType.getName())) - 1;
+
+      return new NestedValueReaders.ListReader(repeatedD, repeatedR,
+          NestedValueReaders.option(elementType, elementD, elementReader));
+    }
+
+    @Override
+    public NestedValueReader map(Types.MapType expectedMap, GroupType map,
+                                 NestedValueReader keyReader, NestedValueReader valueReader) {
+      Preconditions.checkArgument(keyReader != null && valueReader != null,
+          "Cannot read map without both keys and values: %s", map);
+      GroupType repeatedKeyValue = map.getFields().get(0).asGroupType();
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = fileSchema.getMaxDefinitionLevel(repeatedPath) - 1;
+      int repeatedR = fileSchema.getMaxRepetitionLevel(repeatedPath) - 1;
+
+      Type keyType = repeatedKeyValue.getType(0);
+      int keyD = fileSchema.getMaxDefinitionLevel(path(keyType.getName())) - 1;
+      Type valueType = repeatedKeyValue.getType(1);
+      int valueD = fileSchema.getMaxDefinitionLevel(path(valueType.getName())) - 1;
+
+      return new NestedValueReaders.MapReader(repeatedD, repeatedR,
+          NestedValueReaders.option(keyType, keyD, keyReader),
+          NestedValueReaders.option(valueType, valueD, valueReader));
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    public NestedValueReader primitive(org.apache.iceberg.types.Type.PrimitiveType expected,
+                                       PrimitiveType primitive) {
+      if (expected == null) {
+        // the column is not projected
+        return null;
+      }
+
+      ColumnDescriptor desc = fileSchema.getColumnDescription(currentPath());
+      switch (expected.typeId()) {
+        case BOOLEAN:
+          return new NestedValueReaders.BooleanReader(desc);
+        case INTEGER:
+          return new NestedValueReaders.IntReader(desc);
+        case DATE:
+          return new NestedValueReaders.DateReader(desc);
+        case LONG:
+          if (primitive.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT32) {
+            return new NestedValueReaders.IntAsLongReader(desc);
+          }
+          return new NestedValueReaders.LongReader(desc);
+        case TIME:
+          return new NestedValueReaders.TimeReader(desc);
+        case TIMESTAMP:
+          if (primitive.getOriginalType() == OriginalType.TIMESTAMP_MILLIS) {
+            return new NestedValueReaders.TimestampMillisReader(desc);
+          }
+          return new NestedValueReaders.TimestampReader(desc);
+        case FLOAT:
+          return new NestedValueReaders.FloatReader(desc);
+        case DOUBLE:
+          if (primitive.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.FLOAT) {
+            return new NestedValueReaders.FloatAsDoubleReader(desc);
+          }
+          return new NestedValueReaders.DoubleReader(desc);
+        case DECIMAL:
+          int scale = ((Types.DecimalType) expected).scale();
+          switch (primitive.getPrimitiveTypeName()) {
+            case INT32:
+              return new NestedValueReaders.IntDecimalReader(desc, scale);
+            case INT64:
+              return new NestedValueReaders.LongDecimalReader(desc, scale);
+            case BINARY:
+            case FIXED_LEN_BYTE_ARRAY:
+              return new NestedValueReaders.BinaryDecimalReader(desc, scale);
+            default:
+              throw new UnsupportedOperationException(
+                  "Unsupported base type for decimal: " + primitive.getPrimitiveTypeName());
+          }
+        case STRING:
+        case BINARY:
+        case FIXED:
+          return new NestedValueReaders.VarWidthReader(desc);
+        default:
+          throw new UnsupportedOperationException("Unsupported type for nested vectorized reads: " + expected);
+      }
+    }
+  }
+}
@@ -19,6 +19,7 @@
 
 package org.apache.iceberg.arrow.vectorized.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.IntVector;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
@@ -37,6 +38,7 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
 
   private final VectorizedPageIterator vectorizedPageIterator;
   private int batchSize;
+  private boolean hasSelectedRows = true;
 
   public VectorizedColumnIterator(ColumnDescriptor desc, String writerVersion, boolean setArrowValidityVector) {
     super(desc);
@@ -50,165 +52,144 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
   }
 
   public Dictionary setRowGroupInfo(PageReader store, boolean allPagesDictEncoded) {
+    return setRowGroupInfo(store, allPagesDictEncoded, null);
+  }
+
+  /**
+   * Sets the pages of a row group to read.
+   *
+   * @param store a page reader for the column chunk
+   * @param allPagesDictEncoded whether all data pages in the column chunk are dictionary encoded
+   * @param selectedRows selected row indexes when the row group was filtered using page indexes, or null
+   * @return the column chunk's dictionary, or null if it is not dictionary encoded
+   */
+  public Dictionary setRowGroupInfo(PageReader store, boolean allPagesDictEncoded,
+                                    PrimitiveIterator.OfLong selectedRows) {
     // setPageSource can result in a data page read. If that happens, we need
     // to know in advance whether all the pages in the row group are dictionary encoded or not
     this.vectorizedPageIterator.setAllPagesDictEncoded(allPagesDictEncoded);
-    super.setPageSource(store);
+    this.hasSelectedRows = true;
+    super.setPageSource(store, selectedRows);
     return dictionary;
   }
 
+  @Override
+  public boolean hasNext() {
+    return hasSelectedRows && super.hasNext();
+  }
+
   public void nextBatchIntegers(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchIntegers(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, typeWidth, holder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, holder, (numValsToRead, numValsInVector) -> vectorizedPageIterator.nextBatchIntegers(
+        fieldVector, numValsToRead, numValsInVector, typeWidth, holder));
   }
 
   public void nextBatchDictionaryIds(IntVector vector, NullabilityHolder holder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchDictionaryIds(vector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, holder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      vector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(vector, holder, (numValsToRead, numValsInVector) -> vectorizedPageIterator.nextBatchDictionaryIds(
+        vector, numValsToRead, numValsInVector, holder));
   }
 
   public void nextBatchLongs(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchLongs(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, typeWidth, holder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, holder, (numValsToRead, numValsInVector) -> vectorizedPageIterator.nextBatchLongs(
+        fieldVector, numValsToRead, numValsInVector, typeWidth, holder));
   }
 
   public void nextBatchTimestampMillis(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchTimestampMillis(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, typeWidth, holder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, holder, (numValsToRead, numValsInVector) -> vectorizedPageIterator.nextBatchTimestampMillis(
+        fieldVector, numValsToRead, numValsInVector, typeWidth, holder));
   }
 
   public void nextBatchFloats(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchFloats(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, typeWidth, holder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, holder, (numValsToRead, numValsInVector) -> vectorizedPageIterator.nextBatchFloats(
+        fieldVector, numValsToRead, numValsInVector, typeWidth, holder));
   }
 
   public void nextBatchDoubles(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchDoubles(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, typeWidth, holder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, holder, (numValsToRead, numValsInVector) -> vectorizedPageIterator.nextBatchDoubles(
+        fieldVector, numValsToRead, numValsInVector, typeWidth, holder));
   }
 
   public void nextBatchIntBackedDecimal(
       FieldVector fieldVector,
       NullabilityHolder nullabilityHolder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch =
-          vectorizedPageIterator.nextBatchIntBackedDecimal(fieldVector, batchSize - rowsReadSoFar,
-              rowsReadSoFar, nullabilityHolder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, nullabilityHolder, (numValsToRead, numValsInVector) ->
+        vectorizedPageIterator.nextBatchIntBackedDecimal(fieldVector, numValsToRead, numValsInVector,
+            nullabilityHolder));
   }
 
   public void nextBatchLongBackedDecimal(
           FieldVector fieldVector,
           NullabilityHolder nullabilityHolder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch =
-              vectorizedPageIterator.nextBatchLongBackedDecimal(fieldVector, batchSize - rowsReadSoFar,
-                      rowsReadSoFar, nullabilityHolder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, nullabilityHolder, (numValsToRead, numValsInVector) ->
+        vectorizedPageIterator.nextBatchLongBackedDecimal(fieldVector, numValsToRead, numValsInVector,
+            nullabilityHolder));
   }
 
   public void nextBatchFixedLengthDecimal(
       FieldVector fieldVector,
       int typeWidth,
       NullabilityHolder nullabilityHolder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch =
-          vectorizedPageIterator.nextBatchFixedLengthDecimal(fieldVector, batchSize - rowsReadSoFar,
-              rowsReadSoFar, typeWidth, nullabilityHolder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, nullabilityHolder, (numValsToRead, numValsInVector) ->
+        vectorizedPageIterator.nextBatchFixedLengthDecimal(fieldVector, numValsToRead, numValsInVector, typeWidth,
+            nullabilityHolder));
   }
 
   public void nextBatchVarWidthType(FieldVector fieldVector, NullabilityHolder nullabilityHolder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchVarWidthType(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, nullabilityHolder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, nullabilityHolder, (numValsToRead, numValsInVector) ->
+        vectorizedPageIterator.nextBatchVarWidthType(fieldVector, numValsToRead, numValsInVector, nullabilityHolder));
   }
 
   public void nextBatchFixedWidthBinary(FieldVector fieldVector, int typeWidth, NullabilityHolder nullabilityHolder) {
-    int rowsReadSoFar = 0;
-    while (rowsReadSoFar < batchSize && hasNext()) {
-      advance();
-      int rowsInThisBatch =
-          vectorizedPageIterator.nextBatchFixedWidthBinary(fieldVector, batchSize - rowsReadSoFar,
-              rowsReadSoFar, typeWidth, nullabilityHolder);
-      rowsReadSoFar += rowsInThisBatch;
-      this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
-    }
+    nextBatch(fieldVector, nullabilityHolder, (numValsToRead, numValsInVector) ->
+        vectorizedPageIterator.nextBatchFixedWidthBinary(fieldVector, numValsToRead, numValsInVector, typeWidth,
+            nullabilityHolder));
   }
 
   public void nextBatchBoolean(FieldVector fieldVector, NullabilityHolder nullabilityHolder) {
+    nextBatch(fieldVector, nullabilityHolder, (numValsToRead, numValsInVector) ->
+        vectorizedPageIterator.nextBatchBoolean(fieldVector, numValsToRead, numValsInVector, nullabilityHolder));
+  }
+
+  private interface PageBatchReader {
+    /**
+     * Reads values from the current page into a vector.
+     *
+     * @param numValsToRead the maximum number of values to read
+     * @param numValsInVector the offset in the vector where values are stored
+     * @return the number of values read
+     */
+    int read(int numValsToRead, int numValsInVector);
+  }
+
+  private void nextBatch(FieldVector vector, NullabilityHolder holder, PageBatchReader reader) {
     int rowsReadSoFar = 0;
     while (rowsReadSoFar < batchSize && hasNext()) {
       advance();
-      int rowsInThisBatch = vectorizedPageIterator.nextBatchBoolean(fieldVector, batchSize - rowsReadSoFar,
-          rowsReadSoFar, nullabilityHolder);
+      int numValsToRead = batchSize - rowsReadSoFar;
+      if (isFiltered()) {
+        long currentRow = vectorizedPageIterator.currentRowIndex();
+        long nextRow = nextSelectedRow(currentRow);
+        if (nextRow < 0) {
+          // the remaining rows in the row group were not selected
+          this.hasSelectedRows = false;
+          break;
+        }
+
+        if (nextRow > currentRow) {
+          // decode the rows that were not selected into the unused part of the vector so they are overwritten
+          int numNulls = holder.numNulls();
+          int rowsSkipped = reader.read((int) Math.min(nextRow - currentRow, numValsToRead), rowsReadSoFar);
+          holder.resetNumNulls(numNulls);
+          this.triplesRead += rowsSkipped;
+          continue;
+        }
+
+        numValsToRead = (int) Math.min(numValsToRead, selectedRowCount(currentRow));
+      }
+
+      int rowsInThisBatch = reader.read(numValsToRead, rowsReadSoFar);
       rowsReadSoFar += rowsInThisBatch;
       this.triplesRead += rowsInThisBatch;
-      fieldVector.setValueCount(rowsReadSoFar);
+      vector.setValueCount(rowsReadSoFar);
     }
   }
 
@@ -64,6 +64,14 @@ public class VectorizedPageIterator extends BasePageIterator {
     this.allPagesDictEncoded = allDictEncoded;
   }
 
+  /**
+   * @return the index in the row group of the next row that will be read from the current page, or -1 if not known
+   */
+  public long currentRowIndex() {
+    long firstRowIndex = firstRowIndex();
+    return firstRowIndex >= 0 ? firstRowIndex + triplesRead : -1L;
+  }
+
   @Override
   protected void reset() {
     super.reset();
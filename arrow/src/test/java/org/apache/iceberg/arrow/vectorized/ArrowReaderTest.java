@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class ArrowReaderTest {
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      optional(2, "data", Types.StringType.get()),
+      required(3, "category", Types.StringType.get()));
+
+  private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).identity("category").build();
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Table table = null;
+
+  @Before
+  public void createTable() throws IOException {
+    File location = temp.newFolder();
+    this.table = new HadoopTables(new Configuration()).create(SCHEMA, SPEC, location.toString());
+
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    for (String category : new String[] { "a", "b" }) {
+      List<Record> records = Lists.newArrayList();
+      for (long id = 0; id < 1000; id += 1) {
+        String data = id % 10 == 0 ? null : "data-" + id;
+        records.add(record.copy("id", id, "data", data, "category", category));
+      }
+
+      table.newAppend()
+          .appendFile(FileHelpers.writeDataFile(table, Files.localOutput(temp.newFile()), Row.of(category), records))
+          .commit();
+    }
+  }
+
+  @Test
+  public void testReadAll() throws IOException {
+    List<Long> ids = Lists.newArrayList();
+    int numNulls = 0;
+    int numBatches = 0;
+    try (CloseableIterable<VectorSchemaRoot> batches = new ArrowReader(table.newScan(), 300).open()) {
+      for (VectorSchemaRoot batch : batches) {
+        numBatches += 1;
+        Assert.assertTrue("Batch should not exceed batch size", batch.getRowCount() <= 300);
+        Assert.assertEquals("Should have a vector for each column", 3, batch.getFieldVectors().size());
+
+        BigIntVector idVector = (BigIntVector) batch.getVector("id");
+        VarCharVector dataVector = (VarCharVector) batch.getVector("data");
+        VarCharVector categoryVector = (VarCharVector) batch.getVector("category");
+        for (int i = 0; i < batch.getRowCount(); i += 1) {
+          long id = idVector.get(i);
+          ids.add(id);
+          if (dataVector.isNull(i)) {
+            numNulls += 1;
+          } else {
+            Assert.assertEquals("Data should match id", "data-" + id, dataVector.getObject(i).toString());
+          }
+
+          Assert.assertFalse("Partition column should not be null", categoryVector.isNull(i));
+        }
+      }
+    }
+
+    Assert.assertEquals("Should read all rows", 2000, ids.size());
+    Assert.assertEquals("Should read null values", 200, numNulls);
+    Assert.assertEquals("Should read files in batches", 8, numBatches);
+  }
+
+  @Test
+  public void testPartitionConstants() throws IOException {
+    TableScan scan = table.newScan().filter(Expressions.equal("category", "b"));
+    int numRows = 0;
+    try (CloseableIterable<VectorSchemaRoot> batches = new ArrowReader(scan, 1000).open()) {
+      for (VectorSchemaRoot batch : batches) {
+        VarCharVector categoryVector = (VarCharVector) batch.getVector("category");
+        for (int i = 0; i < batch.getRowCount(); i += 1) {
+          Assert.assertEquals("Should fill partition value", "b", categoryVector.getObject(i).toString());
+          numRows += 1;
+        }
+      }
+    }
+
+    Assert.assertEquals("Should read one partition", 1000, numRows);
+  }
+
+  @Test
+  public void testResidualFilter() throws IOException {
+    TableScan scan = table.newScan()
+        .filter(Expressions.and(
+            Expressions.greaterThanOrEqual("id", 250),
+            Expressions.notNull("data")));
+
+    List<Long> ids = Lists.newArrayList();
+    try (CloseableIterable<VectorSchemaRoot> batches = new ArrowReader(scan, 100).open()) {
+      for (VectorSchemaRoot batch : batches) {
+        Assert.assertTrue("Should not return empty batches", batch.getRowCount() > 0);
+        BigIntVector idVector = (BigIntVector) batch.getVector("id");
+        VarCharVector dataVector = (VarCharVector) batch.getVector("data");
+        for (int i = 0; i < batch.getRowCount(); i += 1) {
+          Assert.assertFalse("Should remove rows with null data", dataVector.isNull(i));
+          ids.add(idVector.get(i));
+        }
+      }
+    }
+
+    // ids 250 to 999 in both files, without multiples of 10
+    Assert.assertEquals("Should remove rows that do not match the residual", 2 * 675, ids.size());
+    Assert.assertTrue("Should only return matching ids", ids.stream().allMatch(id -> id >= 250 && id % 10 != 0));
+  }
+
+  @Test
+  public void testProjection() throws IOException {
+    TableScan scan = table.newScan().select("data");
+    int numRows = 0;
+    try (CloseableIterable<VectorSchemaRoot> batches = new ArrowReader(scan, 1000).open()) {
+      for (VectorSchemaRoot batch : batches) {
+        Assert.assertEquals("Should only return projected columns", 1, batch.getFieldVectors().size());
+        Assert.assertNotNull("Should return data column", batch.getVector("data"));
+        numRows += batch.getRowCount();
+      }
+    }
+
+    Assert.assertEquals("Should read all rows", 2000, numRows);
+  }
+}
@@ -20,13 +20,16 @@
 package org.apache.iceberg.aws;
 
 import java.util.Map;
+import org.apache.iceberg.aws.s3.S3RequestLimiter;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.util.PropertyUtil;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.kms.KmsClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
 public class AwsClientFactories {
 
@@ -44,7 +47,9 @@ public class AwsClientFactories {
     if (properties.containsKey(AwsProperties.CLIENT_FACTORY)) {
       return loadClientFactory(properties.get(AwsProperties.CLIENT_FACTORY), properties);
     } else {
-      return defaultFactory();
+      DefaultAwsClientFactory factory = new DefaultAwsClientFactory();
+      factory.initialize(properties);
+      return factory;
     }
   }
 
@@ -70,13 +75,20 @@ public class AwsClientFactories {
   }
 
   static class DefaultAwsClientFactory implements AwsClientFactory {
+    private boolean s3LimiterEnabled = AwsProperties.S3FILEIO_LIMITER_ENABLED_DEFAULT;
 
     DefaultAwsClientFactory() {
     }
 
     @Override
     public S3Client s3() {
-      return S3Client.builder().httpClient(HTTP_CLIENT_DEFAULT).build();
+      S3ClientBuilder builder = S3Client.builder().httpClient(HTTP_CLIENT_DEFAULT);
+      if (s3LimiterEnabled) {
+        // the request limiters retry throttled requests, retrying them in the SDK as well would multiply attempts
+        builder.overrideConfiguration(config -> config.retryPolicy(S3RequestLimiter.sdkRetryPolicy()));
+      }
+
+      return builder.build();
     }
 
     @Override
@@ -96,6 +108,8 @@ public class AwsClientFactories {
 
     @Override
     public void initialize(Map<String, String> properties) {
+      this.s3LimiterEnabled = PropertyUtil.propertyAsBoolean(properties, AwsProperties.S3FILEIO_LIMITER_ENABLED,
+          AwsProperties.S3FILEIO_LIMITER_ENABLED_DEFAULT);
     }
   }
 }
@@ -120,6 +120,146 @@ public class AwsProperties implements Serializable {
    */
   public static final String S3FILEIO_STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * Type of staging for parts of objects written to S3. Supported values are:
+   * <ul>
+   *   <li>file: parts are staged in files in {@link #S3FILEIO_STAGING_DIRECTORY} (default)</li>
+   *   <li>memory: parts are staged in direct buffers from a bounded pool and are uploaded from memory. When all
+   *   buffers are in use, parts are staged in files instead, so writers never wait for a buffer.</li>
+   * </ul>
+   */
+  public static final String S3FILEIO_STAGING_TYPE = "s3.staging-type";
+  public static final String S3FILEIO_STAGING_TYPE_FILE = "file";
+  public static final String S3FILEIO_STAGING_TYPE_MEMORY = "memory";
+
+  /**
+   * Maximum number of buffers in the pool used by memory staging (default: 8). Each buffer holds one part of
+   * {@link #S3FILEIO_MULTIPART_SIZE} bytes, so this bounds the direct memory used for staging.
+   * <p>
+   * Pools are process-wide: all output streams with the same part size and number of buffers share one pool, and
+   * streams configured with different values use separate pools.
+   */
+  public static final String S3FILEIO_STAGING_MEMORY_BUFFERS = "s3.staging-memory.num-buffers";
+  public static final int S3FILEIO_STAGING_MEMORY_BUFFERS_DEFAULT = 8;
+
+  /**
+   * Number of threads to use for vectored range reads from S3 (shared pool across all input streams),
+   * default to {@link Runtime#availableProcessors()}
+   */
+  public static final String S3FILEIO_READ_THREADS = "s3.read.num-threads";
+
+  /**
+   * Maximum gap in bytes between two ranges of a vectored read for them to be fetched by a single GET request
+   * (default: 1MB). Reading through a small gap is cheaper than the latency of an additional request.
+   */
+  public static final String S3FILEIO_READ_RANGE_MERGE_GAP = "s3.read.range-merge-gap-bytes";
+  public static final int S3FILEIO_READ_RANGE_MERGE_GAP_DEFAULT = 1024 * 1024;
+
+  /**
+   * Maximum size in bytes of a single GET request made by merging ranges of a vectored read (default: 8MB).
+   * Larger merged ranges are split across requests so that they can be fetched in parallel.
+   */
+  public static final String S3FILEIO_READ_RANGE_MAX_SIZE = "s3.read.range-max-size-bytes";
+  public static final int S3FILEIO_READ_RANGE_MAX_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * Initial size in bytes of the read-ahead buffer that is used once an input stream detects random access
+   * (default: 64KB). The read-ahead doubles while reads continue sequentially.
+   */
+  public static final String S3FILEIO_READ_AHEAD_MIN_SIZE = "s3.read.read-ahead.min-bytes";
+  public static final int S3FILEIO_READ_AHEAD_MIN_SIZE_DEFAULT = 64 * 1024;
+
+  /**
+   * Maximum size in bytes of the read-ahead buffer (default: 8MB). When sequential reads reach this size, the
+   * input stream switches back to reading from a single open-ended request.
+   */
+  public static final String S3FILEIO_READ_AHEAD_MAX_SIZE = "s3.read.read-ahead.max-bytes";
+  public static final int S3FILEIO_READ_AHEAD_MAX_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * Number of keys to delete with a single DeleteObjects request in bulk deletes (default: 1000).
+   * Based on S3 limits, the batch size must be between 1 and 1000.
+   */
+  public static final String S3FILEIO_DELETE_BATCH_SIZE = "s3.delete.batch-size";
+  public static final int S3FILEIO_DELETE_BATCH_SIZE_DEFAULT = 1000;
+  public static final int S3FILEIO_DELETE_BATCH_SIZE_MAX = 1000;
+
+  /**
+   * Number of threads to use for concurrent DeleteObjects requests in bulk deletes, default to
+   * {@link Runtime#availableProcessors()}. The pool is shared by all S3FileIO instances in the JVM that use the same
+   * number of threads.
+   */
+  public static final String S3FILEIO_DELETE_THREADS = "s3.delete.num-threads";
+
+  /**
+   * Whether to limit concurrent requests to each S3 bucket prefix and retry throttled requests (default: true).
+   * The concurrency limit adapts to throttling: it grows while requests succeed and halves when S3 responds with
+   * 503 Slow Down. Limits are shared by all S3FileIO instances in the JVM.
+   */
+  public static final String S3FILEIO_LIMITER_ENABLED = "s3.limiter.enabled";
+  public static final boolean S3FILEIO_LIMITER_ENABLED_DEFAULT = true;
+
+  /**
+   * Initial number of concurrent requests to a bucket prefix (default: 128).
+   */
+  public static final String S3FILEIO_LIMITER_INITIAL_CONCURRENCY = "s3.limiter.initial-concurrency";
+  public static final int S3FILEIO_LIMITER_INITIAL_CONCURRENCY_DEFAULT = 128;
+
+  /**
+   * Maximum number of concurrent requests to a bucket prefix (default: 1024).
+   */
+  public static final String S3FILEIO_LIMITER_MAX_CONCURRENCY = "s3.limiter.max-concurrency";
+  public static final int S3FILEIO_LIMITER_MAX_CONCURRENCY_DEFAULT = 1024;
+
+  /**
+   * Number of leading key path components, after the bucket, that identify the prefix limited by a limiter
+   * (default: 1). S3 scales request rates by key prefix, so requests to different prefixes are limited separately.
+   */
+  public static final String S3FILEIO_LIMITER_PREFIX_DEPTH = "s3.limiter.prefix-depth";
+  public static final int S3FILEIO_LIMITER_PREFIX_DEPTH_DEFAULT = 1;
+
+  /**
+   * Maximum number of retries of a throttled request (default: 5).
+   * <p>
+   * S3 clients created by the default client factory do not retry throttled requests in the AWS SDK when limiting
+   * is enabled, so these are the only retries of throttled requests. Clients created by a custom
+   * {@link #CLIENT_FACTORY} or supplied to S3FileIO should use
+   * {@link org.apache.iceberg.aws.s3.S3RequestLimiter#sdkRetryPolicy()}; otherwise each limiter retry can be
+   * retried again by the SDK.
+   */
+  public static final String S3FILEIO_RETRY_NUM_RETRIES = "s3.retry.num-retries";
+  public static final int S3FILEIO_RETRY_NUM_RETRIES_DEFAULT = 5;
+
+  /**
+   * Base wait before retrying a throttled request, in milliseconds (default: 100). The wait doubles with every
+   * attempt and is randomized between 0 and the exponential wait.
+   */
+  public static final String S3FILEIO_RETRY_MIN_WAIT_MS = "s3.retry.min-wait-ms";
+  public static final long S3FILEIO_RETRY_MIN_WAIT_MS_DEFAULT = 100;
+
+  /**
+   * Maximum wait before retrying a throttled request, in milliseconds (default: 20s).
+   */
+  public static final String S3FILEIO_RETRY_MAX_WAIT_MS = "s3.retry.max-wait-ms";
+  public static final long S3FILEIO_RETRY_MAX_WAIT_MS_DEFAULT = 20_000;
+
+  /**
+   * Maximum number of retries that can be made in a burst for a bucket prefix (default: 100). Every retry uses one
+   * token of the budget, and every successful request adds back a tenth of a token.
+   */
+  public static final String S3FILEIO_RETRY_BUDGET = "s3.retry.budget";
+  public static final int S3FILEIO_RETRY_BUDGET_DEFAULT = 100;
+
+  /**
+   * Whether S3FileIO instances initialized with the same catalog properties share an S3 client (default: true).
+   * <p>
+   * Shared clients are cached in the JVM, so that instances deserialized by tasks reuse the HTTP connection pool of
+   * a client created by an earlier task. Closing an S3FileIO does not close its shared client. A shared client is
+   * closed after no S3FileIO has used it for 10 minutes and the S3 streams opened with it are closed.
+   */
+  public static final String S3FILEIO_SHARED_CLIENT_ENABLED = "s3.shared-client.enabled";
+  public static final boolean S3FILEIO_SHARED_CLIENT_ENABLED_DEFAULT = true;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write.
    * If not set, ACL will not be set for requests.
@@ -175,7 +315,25 @@ public class AwsProperties implements Serializable {
   private int s3FileIoMultiPartSize;
   private double s3FileIoMultipartThresholdFactor;
   private String s3fileIoStagingDirectory;
+  private String s3FileIoStagingType;
+  private int s3FileIoStagingMemoryBuffers;
   private ObjectCannedACL s3FileIoAcl;
+  private int s3FileIoReadThreads;
+  private int s3FileIoReadRangeMergeGap;
+  private int s3FileIoReadRangeMaxSize;
+  private int s3FileIoReadAheadMinSize;
+  private int s3FileIoReadAheadMaxSize;
+  private int s3FileIoDeleteBatchSize;
+  private int s3FileIoDeleteThreads;
+  private boolean s3FileIoLimiterEnabled;
+  private int s3FileIoLimiterInitialConcurrency;
+  private int s3FileIoLimiterMaxConcurrency;
+  private int s3FileIoLimiterPrefixDepth;
+  private int s3FileIoRetryNumRetries;
+  private long s3FileIoRetryMinWaitMs;
+  private long s3FileIoRetryMaxWaitMs;
+  private int s3FileIoRetryBudget;
+  private boolean s3FileIoSharedClientEnabled;
 
   private String glueCatalogId;
   private boolean glueCatalogSkipArchive;
@@ -190,6 +348,28 @@ public class AwsProperties implements Serializable {
     this.s3FileIoMultiPartSize = S3FILEIO_MULTIPART_SIZE_DEFAULT;
     this.s3FileIoMultipartThresholdFactor = S3FILEIO_MULTIPART_THRESHOLD_FACTOR_DEFAULT;
     this.s3fileIoStagingDirectory = System.getProperty("java.io.tmpdir");
+    this.s3FileIoStagingType = S3FILEIO_STAGING_TYPE_FILE;
+    this.s3FileIoStagingMemoryBuffers = S3FILEIO_STAGING_MEMORY_BUFFERS_DEFAULT;
+
+    this.s3FileIoReadThreads = Runtime.getRuntime().availableProcessors();
+    this.s3FileIoReadRangeMergeGap = S3FILEIO_READ_RANGE_MERGE_GAP_DEFAULT;
+    this.s3FileIoReadRangeMaxSize = S3FILEIO_READ_RANGE_MAX_SIZE_DEFAULT;
+    this.s3FileIoReadAheadMinSize = S3FILEIO_READ_AHEAD_MIN_SIZE_DEFAULT;
+    this.s3FileIoReadAheadMaxSize = S3FILEIO_READ_AHEAD_MAX_SIZE_DEFAULT;
+
+    this.s3FileIoDeleteBatchSize = S3FILEIO_DELETE_BATCH_SIZE_DEFAULT;
+    this.s3FileIoDeleteThreads = Runtime.getRuntime().availableProcessors();
+
+    this.s3FileIoLimiterEnabled = S3FILEIO_LIMITER_ENABLED_DEFAULT;
+    this.s3FileIoLimiterInitialConcurrency = S3FILEIO_LIMITER_INITIAL_CONCURRENCY_DEFAULT;
+    this.s3FileIoLimiterMaxConcurrency = S3FILEIO_LIMITER_MAX_CONCURRENCY_DEFAULT;
+    this.s3FileIoLimiterPrefixDepth = S3FILEIO_LIMITER_PREFIX_DEPTH_DEFAULT;
+    this.s3FileIoRetryNumRetries = S3FILEIO_RETRY_NUM_RETRIES_DEFAULT;
+    this.s3FileIoRetryMinWaitMs = S3FILEIO_RETRY_MIN_WAIT_MS_DEFAULT;
+    this.s3FileIoRetryMaxWaitMs = S3FILEIO_RETRY_MAX_WAIT_MS_DEFAULT;
+    this.s3FileIoRetryBudget = S3FILEIO_RETRY_BUDGET_DEFAULT;
+
+    this.s3FileIoSharedClientEnabled = S3FILEIO_SHARED_CLIENT_ENABLED_DEFAULT;
 
     this.glueCatalogId = null;
     this.glueCatalogSkipArchive = GLUE_CATALOG_SKIP_ARCHIVE_DEFAULT;
@@ -232,10 +412,78 @@ public class AwsProperties implements Serializable {
     this.s3fileIoStagingDirectory = PropertyUtil.propertyAsString(properties, S3FILEIO_STAGING_DIRECTORY,
         System.getProperty("java.io.tmpdir"));
 
+    this.s3FileIoStagingType = properties.getOrDefault(S3FILEIO_STAGING_TYPE, S3FILEIO_STAGING_TYPE_FILE);
+    Preconditions.checkArgument(S3FILEIO_STAGING_TYPE_FILE.equals(s3FileIoStagingType) ||
+        S3FILEIO_STAGING_TYPE_MEMORY.equals(s3FileIoStagingType),
+        "Invalid staging type (not file or memory): %s", s3FileIoStagingType);
+
+    this.s3FileIoStagingMemoryBuffers = PropertyUtil.propertyAsInt(properties, S3FILEIO_STAGING_MEMORY_BUFFERS,
+        S3FILEIO_STAGING_MEMORY_BUFFERS_DEFAULT);
+    Preconditions.checkArgument(s3FileIoStagingMemoryBuffers > 0,
+        "Invalid number of staging buffers (not positive): %s", s3FileIoStagingMemoryBuffers);
+
     String aclType = properties.get(S3FILEIO_ACL);
     this.s3FileIoAcl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(s3FileIoAcl == null || !s3FileIoAcl.equals(ObjectCannedACL.UNKNOWN_TO_SDK_VERSION),
         "Cannot support S3 CannedACL " + aclType);
+
+    this.s3FileIoReadThreads = PropertyUtil.propertyAsInt(properties, S3FILEIO_READ_THREADS,
+        Runtime.getRuntime().availableProcessors());
+    this.s3FileIoReadRangeMergeGap = PropertyUtil.propertyAsInt(properties, S3FILEIO_READ_RANGE_MERGE_GAP,
+        S3FILEIO_READ_RANGE_MERGE_GAP_DEFAULT);
+    this.s3FileIoReadRangeMaxSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_READ_RANGE_MAX_SIZE,
+        S3FILEIO_READ_RANGE_MAX_SIZE_DEFAULT);
+    this.s3FileIoReadAheadMinSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_READ_AHEAD_MIN_SIZE,
+        S3FILEIO_READ_AHEAD_MIN_SIZE_DEFAULT);
+    this.s3FileIoReadAheadMaxSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_READ_AHEAD_MAX_SIZE,
+        S3FILEIO_READ_AHEAD_MAX_SIZE_DEFAULT);
+
+    Preconditions.checkArgument(s3FileIoReadRangeMergeGap >= 0,
+        "Invalid range merge gap (negative): %s", s3FileIoReadRangeMergeGap);
+    Preconditions.checkArgument(s3FileIoReadAheadMinSize > 0,
+        "Invalid minimum read-ahead size (not positive): %s", s3FileIoReadAheadMinSize);
+    Preconditions.checkArgument(s3FileIoReadAheadMaxSize >= s3FileIoReadAheadMinSize,
+        "Invalid maximum read-ahead size (less than minimum %s): %s",
+        s3FileIoReadAheadMinSize, s3FileIoReadAheadMaxSize);
+
+    this.s3FileIoDeleteBatchSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_DELETE_BATCH_SIZE,
+        S3FILEIO_DELETE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        s3FileIoDeleteBatchSize > 0 && s3FileIoDeleteBatchSize <= S3FILEIO_DELETE_BATCH_SIZE_MAX,
+        "Invalid delete batch size (not between 1 and %s): %s", S3FILEIO_DELETE_BATCH_SIZE_MAX,
+        s3FileIoDeleteBatchSize);
+
+    this.s3FileIoDeleteThreads = PropertyUtil.propertyAsInt(properties, S3FILEIO_DELETE_THREADS,
+        Runtime.getRuntime().availableProcessors());
+
+    this.s3FileIoLimiterEnabled = PropertyUtil.propertyAsBoolean(properties, S3FILEIO_LIMITER_ENABLED,
+        S3FILEIO_LIMITER_ENABLED_DEFAULT);
+    this.s3FileIoLimiterInitialConcurrency = PropertyUtil.propertyAsInt(properties,
+        S3FILEIO_LIMITER_INITIAL_CONCURRENCY, S3FILEIO_LIMITER_INITIAL_CONCURRENCY_DEFAULT);
+    this.s3FileIoLimiterMaxConcurrency = PropertyUtil.propertyAsInt(properties,
+        S3FILEIO_LIMITER_MAX_CONCURRENCY, S3FILEIO_LIMITER_MAX_CONCURRENCY_DEFAULT);
+    this.s3FileIoLimiterPrefixDepth = PropertyUtil.propertyAsInt(properties,
+        S3FILEIO_LIMITER_PREFIX_DEPTH, S3FILEIO_LIMITER_PREFIX_DEPTH_DEFAULT);
+    this.s3FileIoRetryNumRetries = PropertyUtil.propertyAsInt(properties,
+        S3FILEIO_RETRY_NUM_RETRIES, S3FILEIO_RETRY_NUM_RETRIES_DEFAULT);
+    this.s3FileIoRetryMinWaitMs = PropertyUtil.propertyAsLong(properties,
+        S3FILEIO_RETRY_MIN_WAIT_MS, S3FILEIO_RETRY_MIN_WAIT_MS_DEFAULT);
+    this.s3FileIoRetryMaxWaitMs = PropertyUtil.propertyAsLong(properties,
+        S3FILEIO_RETRY_MAX_WAIT_MS, S3FILEIO_RETRY_MAX_WAIT_MS_DEFAULT);
+    this.s3FileIoRetryBudget = PropertyUtil.propertyAsInt(properties,
+        S3FILEIO_RETRY_BUDGET, S3FILEIO_RETRY_BUDGET_DEFAULT);
+
+    this.s3FileIoSharedClientEnabled = PropertyUtil.propertyAsBoolean(properties,
+        S3FILEIO_SHARED_CLIENT_ENABLED, S3FILEIO_SHARED_CLIENT_ENABLED_DEFAULT);
+
+    Preconditions.checkArgument(s3FileIoLimiterInitialConcurrency > 0,
+        "Invalid initial concurrency (not positive): %s", s3FileIoLimiterInitialConcurrency);
+    Preconditions.checkArgument(s3FileIoLimiterMaxConcurrency >= s3FileIoLimiterInitialConcurrency,
+        "Invalid max concurrency (less than initial concurrency %s): %s",
+        s3FileIoLimiterInitialConcurrency, s3FileIoLimiterMaxConcurrency);
+    Preconditions.checkArgument(s3FileIoRetryMinWaitMs > 0 && s3FileIoRetryMaxWaitMs >= s3FileIoRetryMinWaitMs,
+        "Invalid retry wait (min must be positive and not greater than max): min=%s, max=%s",
+        s3FileIoRetryMinWaitMs, s3FileIoRetryMaxWaitMs);
   }
 
   public String s3FileIoSseType() {
@@ -310,6 +558,22 @@ public class AwsProperties implements Serializable {
     this.s3fileIoStagingDirectory = directory;
   }
 
+  public String s3FileIoStagingType() {
+    return s3FileIoStagingType;
+  }
+
+  public void setS3FileIoStagingType(String stagingType) {
+    this.s3FileIoStagingType = stagingType;
+  }
+
+  public int s3FileIoStagingMemoryBuffers() {
+    return s3FileIoStagingMemoryBuffers;
+  }
+
+  public void setS3FileIoStagingMemoryBuffers(int buffers) {
+    this.s3FileIoStagingMemoryBuffers = buffers;
+  }
+
   public ObjectCannedACL s3FileIoAcl() {
     return this.s3FileIoAcl;
   }
@@ -317,4 +581,132 @@ public class AwsProperties implements Serializable {
   public void setS3FileIoAcl(ObjectCannedACL acl) {
     this.s3FileIoAcl = acl;
   }
+
+  public int s3FileIoReadThreads() {
+    return s3FileIoReadThreads;
+  }
+
+  public void setS3FileIoReadThreads(int threads) {
+    this.s3FileIoReadThreads = threads;
+  }
+
+  public int s3FileIoReadRangeMergeGap() {
+    return s3FileIoReadRangeMergeGap;
+  }
+
+  public void setS3FileIoReadRangeMergeGap(int gap) {
+    this.s3FileIoReadRangeMergeGap = gap;
+  }
+
+  public int s3FileIoReadRangeMaxSize() {
+    return s3FileIoReadRangeMaxSize;
+  }
+
+  public void setS3FileIoReadRangeMaxSize(int size) {
+    this.s3FileIoReadRangeMaxSize = size;
+  }
+
+  public int s3FileIoReadAheadMinSize() {
+    return s3FileIoReadAheadMinSize;
+  }
+
+  public void setS3FileIoReadAheadMinSize(int size) {
+    this.s3FileIoReadAheadMinSize = size;
+  }
+
+  public int s3FileIoReadAheadMaxSize() {
+    return s3FileIoReadAheadMaxSize;
+  }
+
+  public void setS3FileIoReadAheadMaxSize(int size) {
+    this.s3FileIoReadAheadMaxSize = size;
+  }
+
+  public int s3FileIoDeleteBatchSize() {
+    return s3FileIoDeleteBatchSize;
+  }
+
+  public void setS3FileIoDeleteBatchSize(int batchSize) {
+    this.s3FileIoDeleteBatchSize = batchSize;
+  }
+
+  public int s3FileIoDeleteThreads() {
+    return s3FileIoDeleteThreads;
+  }
+
+  public void setS3FileIoDeleteThreads(int threads) {
+    this.s3FileIoDeleteThreads = threads;
+  }
+
+  public boolean s3FileIoLimiterEnabled() {
+    return s3FileIoLimiterEnabled;
+  }
+
+  public void setS3FileIoLimiterEnabled(boolean enabled) {
+    this.s3FileIoLimiterEnabled = enabled;
+  }
+
+  public int s3FileIoLimiterInitialConcurrency() {
+    return s3FileIoLimiterInitialConcurrency;
+  }
+
+  public void setS3FileIoLimiterInitialConcurrency(int concurrency) {
+    this.s3FileIoLimiterInitialConcurrency = concurrency;
+  }
+
+  public int s3FileIoLimiterMaxConcurrency() {
+    return s3FileIoLimiterMaxConcurrency;
+  }
+
+  public void setS3FileIoLimiterMaxConcurrency(int concurrency) {
+    this.s3FileIoLimiterMaxConcurrency = concurrency;
+  }
+
+  public int s3FileIoLimiterPrefixDepth() {
+    return s3FileIoLimiterPrefixDepth;
+  }
+
+  public void setS3FileIoLimiterPrefixDepth(int depth) {
+    this.s3FileIoLimiterPrefixDepth = depth;
+  }
+
+  public int s3FileIoRetryNumRetries() {
+    return s3FileIoRetryNumRetries;
+  }
+
+  public void setS3FileIoRetryNumRetries(int retries) {
+    this.s3FileIoRetryNumRetries = retries;
+  }
+
+  public long s3FileIoRetryMinWaitMs() {
+    return s3FileIoRetryMinWaitMs;
+  }
+
+  public void setS3FileIoRetryMinWaitMs(long waitMs) {
+    this.s3FileIoRetryMinWaitMs = waitMs;
+  }
+
+  public long s3FileIoRetryMaxWaitMs() {
+    return s3FileIoRetryMaxWaitMs;
+  }
+
+  public void setS3FileIoRetryMaxWaitMs(long waitMs) {
+    this.s3FileIoRetryMaxWaitMs = waitMs;
+  }
+
+  public int s3FileIoRetryBudget() {
+    return s3FileIoRetryBudget;
+  }
+
+  public void setS3FileIoRetryBudget(int budget) {
+    this.s3FileIoRetryBudget = budget;
+  }
+
+  public boolean s3FileIoSharedClientEnabled() {
+    return s3FileIoSharedClientEnabled;
+  }
+
+  public void setS3FileIoSharedClientEnabled(boolean enabled) {
+    this.s3FileIoSharedClientEnabled = enabled;
+  }
 }
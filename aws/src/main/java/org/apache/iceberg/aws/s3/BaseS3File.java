@@ -81,7 +81,7 @@ abstract class BaseS3File {
           .bucket(uri().bucket())
           .key(uri().key());
       S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
-      metadata = client().headObject(requestBuilder.build());
+      metadata = S3RequestLimiter.execute(uri(), awsProperties, () -> client().headObject(requestBuilder.build()));
     }
 
     return metadata;
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A bounded pool of reusable direct buffers of the same size.
+ * <p>
+ * Buffers are allocated lazily up to the maximum number of buffers. Acquiring a buffer never blocks, so a caller that
+ * already holds buffers cannot wait on itself; when all buffers are in use, callers must stage data elsewhere.
+ */
+class ByteBufferPool {
+  private final int bufferSize;
+  private final Semaphore available;
+  private final Queue<ByteBuffer> released = new ConcurrentLinkedQueue<>();
+
+  ByteBufferPool(int bufferSize, int maxBuffers) {
+    Preconditions.checkArgument(bufferSize > 0, "Invalid buffer size (not positive): %s", bufferSize);
+    Preconditions.checkArgument(maxBuffers > 0, "Invalid number of buffers (not positive): %s", maxBuffers);
+    this.bufferSize = bufferSize;
+    this.available = new Semaphore(maxBuffers);
+  }
+
+  int bufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * @return the number of buffers that can be acquired
+   */
+  int availableBuffers() {
+    return available.availablePermits();
+  }
+
+  /**
+   * Returns an empty buffer if one is available without waiting.
+   *
+   * @return an empty buffer, or null if all buffers are in use
+   */
+  ByteBuffer tryAcquire() {
+    if (available.tryAcquire()) {
+      return nextBuffer();
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns a buffer to the pool. The buffer must not be used after it is released.
+   *
+   * @param buffer a buffer returned by this pool
+   */
+  void release(ByteBuffer buffer) {
+    released.offer(buffer);
+    available.release();
+  }
+
+  private ByteBuffer nextBuffer() {
+    ByteBuffer buffer = released.poll();
+    if (buffer == null) {
+      return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    buffer.clear();
+    return buffer;
+  }
+}
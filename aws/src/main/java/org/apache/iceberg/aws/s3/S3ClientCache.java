@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * JVM-wide cache of S3 clients that are shared by S3FileIO instances initialized with the same properties.
+ * <p>
+ * Engines deserialize a new S3FileIO for each task, so without sharing every task would create a client with a new
+ * HTTP connection pool. S3FileIO instances do not own shared clients and do not close them. Instead, a client expires
+ * when no S3FileIO has used it for 10 minutes, so clients for properties that are no longer used do not stay open.
+ * An expired client is closed when the last S3 input or output stream that uses it is closed.
+ */
+class S3ClientCache {
+  private static final Logger LOG = LoggerFactory.getLogger(S3ClientCache.class);
+  private static final long EXPIRATION_MINUTES = 10;
+
+  private static final Cache<Map<String, String>, SharedClient> CLIENTS = Caffeine.newBuilder()
+      .expireAfterAccess(EXPIRATION_MINUTES, TimeUnit.MINUTES)
+      .executor(Runnable::run)
+      .removalListener((Map<String, String> properties, SharedClient shared, RemovalCause cause) -> expire(shared))
+      .build();
+
+  // open shared clients, including expired clients that are still used by streams; guarded by S3ClientCache.class
+  private static final Map<S3Client, SharedClient> OPEN_CLIENTS = Maps.newIdentityHashMap();
+  private static long createdCount = 0L;
+  private static long reusedCount = 0L;
+
+  private S3ClientCache() {
+  }
+
+  /**
+   * Returns the cached client for the given properties, creating it with the factory if there is none.
+   * <p>
+   * The returned client must not be closed by the caller.
+   *
+   * @param properties catalog properties that identify the client
+   * @param factory creates the client if none is cached
+   * @param firstLookup whether this is the first lookup by an S3FileIO, which counts as a reuse if the client exists
+   */
+  static S3Client get(Map<String, String> properties, Supplier<S3Client> factory, boolean firstLookup) {
+    SharedClient shared = CLIENTS.getIfPresent(properties);
+    if (shared != null) {
+      if (firstLookup) {
+        synchronized (S3ClientCache.class) {
+          reusedCount += 1;
+        }
+      }
+
+      return shared.client;
+    }
+
+    return CLIENTS.get(ImmutableMap.copyOf(properties), key -> {
+      SharedClient created = new SharedClient(factory.get());
+      synchronized (S3ClientCache.class) {
+        OPEN_CLIENTS.put(created.client, created);
+        createdCount += 1;
+      }
+
+      return created;
+    }).client;
+  }
+
+  /**
+   * Records that a stream uses the given client, so that it is not closed when it expires. Clients that are not
+   * shared are ignored.
+   */
+  static synchronized void retain(S3Client client) {
+    SharedClient shared = OPEN_CLIENTS.get(client);
+    if (shared != null) {
+      shared.openStreams += 1;
+    }
+  }
+
+  /**
+   * Records that a stream no longer uses the given client, closing it if it has expired and is no longer used.
+   * Clients that are not shared are ignored.
+   */
+  static void release(S3Client client) {
+    S3Client unused = null;
+    synchronized (S3ClientCache.class) {
+      SharedClient shared = OPEN_CLIENTS.get(client);
+      if (shared != null) {
+        shared.openStreams -= 1;
+        if (shared.expired && shared.openStreams <= 0) {
+          OPEN_CLIENTS.remove(client);
+          unused = client;
+        }
+      }
+    }
+
+    closeClient(unused);
+  }
+
+  private static void expire(SharedClient shared) {
+    S3Client unused = null;
+    synchronized (S3ClientCache.class) {
+      shared.expired = true;
+      if (shared.openStreams <= 0) {
+        OPEN_CLIENTS.remove(shared.client);
+        unused = shared.client;
+      }
+    }
+
+    closeClient(unused);
+  }
+
+  private static void closeClient(S3Client client) {
+    if (client != null) {
+      try {
+        client.close();
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to close expired S3 client", e);
+      }
+    }
+  }
+
+  /**
+   * Expires all cached clients, as if no S3FileIO had used them within the expiration interval.
+   */
+  @VisibleForTesting
+  static void expireAll() {
+    CLIENTS.invalidateAll();
+  }
+
+  static synchronized int liveClients() {
+    return OPEN_CLIENTS.size();
+  }
+
+  static synchronized long createdCount() {
+    return createdCount;
+  }
+
+  static synchronized long reusedCount() {
+    return reusedCount;
+  }
+
+  private static class SharedClient {
+    private final S3Client client;
+    // guarded by S3ClientCache.class
+    private int openStreams = 0;
+    private boolean expired = false;
+
+    private SharedClient(S3Client client) {
+      this.client = client;
+    }
+  }
+}
@@ -19,16 +19,34 @@
 
 package org.apache.iceberg.aws.s3;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
 import org.apache.iceberg.aws.AwsClientFactories;
 import org.apache.iceberg.aws.AwsClientFactory;
 import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 
 /**
  * FileIO implementation backed by S3.
@@ -37,11 +55,18 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
  * URIs with schemes s3a, s3n, https are also treated as s3 file paths.
  * Using this FileIO with other schemes will result in {@link org.apache.iceberg.exceptions.ValidationException}.
  */
-public class S3FileIO implements FileIO {
+public class S3FileIO implements FileIO, SupportsBulkOperations {
+  private static final Logger LOG = LoggerFactory.getLogger(S3FileIO.class);
+
+  // delete pools by number of threads, shared by the S3FileIO instances that use the same number of threads
+  private static final Map<Integer, ExecutorService> DELETE_EXECUTORS = Maps.newConcurrentMap();
+
   private SerializableSupplier<S3Client> s3;
   private AwsProperties awsProperties;
   private AwsClientFactory awsClientFactory;
-  private transient S3Client client;
+  private Map<String, String> properties = null;
+  private transient volatile S3Client client;
+  private transient volatile boolean sharedClientUsed = false;
 
   /**
    * No-arg constructor to load the FileIO dynamically.
@@ -89,12 +114,145 @@ public class S3FileIO implements FileIO {
     DeleteObjectRequest deleteRequest =
         DeleteObjectRequest.builder().bucket(location.bucket()).key(location.key()).build();
 
-    client().deleteObject(deleteRequest);
+    S3Client s3Client = client();
+    S3RequestLimiter.execute(location, awsProperties, () -> s3Client.deleteObject(deleteRequest));
+  }
+
+  /**
+   * Deletes the given paths with DeleteObjects requests.
+   * <p>
+   * Paths are grouped by bucket into batches of up to {@link AwsProperties#S3FILEIO_DELETE_BATCH_SIZE} keys, and
+   * batches are deleted concurrently.
+   *
+   * @param pathsToDelete the paths of files to delete
+   * @throws BulkDeletionFailureException If one or more files could not be deleted
+   */
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    S3Client s3Client = client();
+    ExecutorService executor = executorService(awsProperties);
+    int batchSize = awsProperties.s3FileIoDeleteBatchSize();
+
+    Map<String, List<S3URI>> batchByBucket = Maps.newHashMap();
+    List<CompletableFuture<List<String>>> futures = Lists.newArrayList();
+    for (String path : pathsToDelete) {
+      S3URI location = new S3URI(path);
+      List<S3URI> batch = batchByBucket.computeIfAbsent(location.bucket(), bucket -> Lists.newArrayList());
+      batch.add(location);
+      if (batch.size() >= batchSize) {
+        futures.add(CompletableFuture.supplyAsync(() -> deleteBatch(s3Client, awsProperties, batch), executor));
+        batchByBucket.remove(location.bucket());
+      }
+    }
+
+    batchByBucket.values().forEach(batch ->
+        futures.add(CompletableFuture.supplyAsync(() -> deleteBatch(s3Client, awsProperties, batch), executor)));
+
+    List<String> failedPaths = futures.stream()
+        .map(CompletableFuture::join)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+
+    if (!failedPaths.isEmpty()) {
+      throw new BulkDeletionFailureException(failedPaths);
+    }
+  }
+
+  /**
+   * Deletes a batch of objects in the same bucket and returns the paths that could not be deleted.
+   */
+  private static List<String> deleteBatch(S3Client s3Client, AwsProperties awsProperties, List<S3URI> batch) {
+    String bucket = batch.get(0).bucket();
+    Map<String, String> pathsByKey = Maps.newHashMap();
+    batch.forEach(location -> pathsByKey.put(location.key(), location.location()));
+
+    List<ObjectIdentifier> objects = pathsByKey.keySet().stream()
+        .map(key -> ObjectIdentifier.builder().key(key).build())
+        .collect(Collectors.toList());
+
+    DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+        .bucket(bucket)
+        .delete(Delete.builder().objects(objects).quiet(true).build())
+        .build();
+
+    try {
+      DeleteObjectsResponse response = S3RequestLimiter.execute(batch.get(0), awsProperties,
+          () -> s3Client.deleteObjects(deleteRequest));
+      if (response.hasErrors() && !response.errors().isEmpty()) {
+        LOG.warn("Failed to delete {} of {} objects in bucket {}, first error: {} ({})",
+            response.errors().size(), objects.size(), bucket,
+            response.errors().get(0).code(), response.errors().get(0).message());
+        return response.errors().stream()
+            .map(error -> pathsByKey.getOrDefault(error.key(), error.key()))
+            .collect(Collectors.toList());
+      }
+
+      return Lists.newArrayList();
+
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to delete {} objects in bucket {}", objects.size(), bucket, e);
+      return Lists.newArrayList(pathsByKey.values());
+    }
+  }
+
+  private static ExecutorService executorService(AwsProperties properties) {
+    return DELETE_EXECUTORS.computeIfAbsent(properties.s3FileIoDeleteThreads(), numThreads ->
+        MoreExecutors.getExitingExecutorService(
+            (ThreadPoolExecutor) Executors.newFixedThreadPool(
+                numThreads,
+                new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("iceberg-s3fileio-delete-" + numThreads + "-%d")
+                    .build())));
+  }
+
+  /**
+   * Returns the number of multipart upload requests from all S3 output streams in this JVM that are queued or
+   * running, which can be reported as a metric of the upload queue depth.
+   */
+  public static int uploadQueueDepth() {
+    return S3OutputStream.pendingUploads();
+  }
+
+  /**
+   * Returns the request limiters of S3 bucket prefixes that have been accessed in this JVM, by bucket and key
+   * prefix, which report concurrency limits and throttling metrics.
+   */
+  public static Map<String, S3RequestLimiter> requestLimiters() {
+    return S3RequestLimiter.limiters();
+  }
+
+  /**
+   * Returns the number of open S3 clients in this JVM that are shared by S3FileIO instances, including expired
+   * clients that are still used by open streams.
+   */
+  public static int sharedClientCount() {
+    return S3ClientCache.liveClients();
+  }
+
+  /**
+   * Returns the number of S3FileIO instances in this JVM that reused a shared S3 client and its HTTP connection pool
+   * instead of creating a new client. Each instance is counted once, no matter how many files it opens.
+   */
+  public static long sharedClientReuseCount() {
+    return S3ClientCache.reusedCount();
   }
 
   private S3Client client() {
+    // only clients created from catalog properties can be shared, a supplied client may be configured differently
+    if (properties != null && awsProperties.s3FileIoSharedClientEnabled()) {
+      // look up the shared client for each use so that it does not expire while this FileIO uses it
+      S3Client shared = S3ClientCache.get(properties, s3, !sharedClientUsed);
+      this.sharedClientUsed = true;
+      return shared;
+    }
+
     if (client == null) {
-      client = s3.get();
+      synchronized (this) {
+        if (client == null) {
+          this.client = s3.get();
+        }
+      }
     }
     return client;
   }
@@ -104,5 +262,21 @@ public class S3FileIO implements FileIO {
     this.awsProperties = new AwsProperties(properties);
     this.awsClientFactory = AwsClientFactories.from(properties);
     this.s3 = awsClientFactory::s3;
+    this.properties = Maps.newHashMap(properties);
+  }
+
+  /**
+   * Closes the S3 client that this FileIO created from catalog properties.
+   * <p>
+   * Clients from a supplier passed to the constructor belong to the caller and are not closed. Clients shared with
+   * other instances are not closed either; they are closed after they expire and their open streams are closed.
+   */
+  @Override
+  public synchronized void close() {
+    if (client != null && properties != null) {
+      client.close();
+    }
+
+    this.client = null;
   }
 }
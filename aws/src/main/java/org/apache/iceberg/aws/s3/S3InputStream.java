@@ -19,23 +19,54 @@
 
 package org.apache.iceberg.aws.s3;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 
+/**
+ * An input stream for S3 objects.
+ * <p>
+ * Sequential reads are served from a single open-ended GET request. After a backward seek, the stream switches to
+ * bounded GET requests that fill a read-ahead buffer. The read-ahead starts small, doubles while reads continue
+ * sequentially and resets on every random seek. Once it reaches its maximum size, the stream switches back to an
+ * open-ended request.
+ * <p>
+ * {@link #readRanges(List)} merges nearby ranges and fetches them with parallel GET requests.
+ */
 class S3InputStream extends SeekableInputStream {
   private static final Logger LOG = LoggerFactory.getLogger(S3InputStream.class);
 
+  private static volatile ExecutorService executorService;
+
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
@@ -45,6 +76,14 @@ class S3InputStream extends SeekableInputStream {
   private long pos = 0;
   private long next = 0;
   private boolean closed = false;
+  private long contentLength = -1;
+
+  // read-ahead buffer, used for random access
+  private boolean randomAccess = false;
+  private byte[] buffer = null;
+  private long bufferStart = 0;
+  private int bufferLength = 0;
+  private int readAheadSize;
 
   private int skipSize = 1024 * 1024;
 
@@ -58,6 +97,8 @@ class S3InputStream extends SeekableInputStream {
     this.awsProperties = awsProperties;
 
     createStack = Thread.currentThread().getStackTrace();
+
+    S3ClientCache.retain(s3);
   }
 
   @Override
@@ -77,7 +118,17 @@ class S3InputStream extends SeekableInputStream {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
-    positionStream();
+    positionStream(1);
+
+    if (randomAccess) {
+      if (bufferLength == 0) {
+        return -1;
+      }
+
+      int value = buffer[(int) (next - bufferStart)] & 0xFF;
+      next += 1;
+      return value;
+    }
 
     pos += 1;
     next += 1;
@@ -88,7 +139,19 @@ class S3InputStream extends SeekableInputStream {
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
-    positionStream();
+    positionStream(len);
+
+    if (randomAccess) {
+      if (bufferLength == 0) {
+        return -1;
+      }
+
+      int bufferOffset = (int) (next - bufferStart);
+      int bytesRead = Math.min(len, bufferLength - bufferOffset);
+      System.arraycopy(buffer, bufferOffset, b, off, bytesRead);
+      next += bytesRead;
+      return bytesRead;
+    }
 
     int bytesRead = stream.read(b, off, len);
     pos += bytesRead;
@@ -97,14 +160,93 @@ class S3InputStream extends SeekableInputStream {
     return bytesRead;
   }
 
+  @Override
+  public List<ByteBuffer> readRanges(List<FileRange> ranges) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+
+    List<Integer> order = IntStream.range(0, ranges.size()).boxed()
+        .sorted(Comparator.comparingLong(index -> ranges.get(index).offset()))
+        .collect(Collectors.toList());
+
+    ExecutorService executor = executorService(awsProperties);
+    ByteBuffer[] buffers = new ByteBuffer[ranges.size()];
+    List<CompletableFuture<Void>> futures = Lists.newArrayList();
+
+    int groupStart = 0;
+    while (groupStart < order.size()) {
+      // merge the following ranges while the gap and the request size are small enough
+      FileRange first = ranges.get(order.get(groupStart));
+      long start = first.offset();
+      long end = first.offset() + first.length();
+      int groupEnd = groupStart + 1;
+      while (groupEnd < order.size()) {
+        FileRange range = ranges.get(order.get(groupEnd));
+        long rangeEnd = Math.max(end, range.offset() + range.length());
+        if (range.offset() - end > awsProperties.s3FileIoReadRangeMergeGap() ||
+            rangeEnd - start > awsProperties.s3FileIoReadRangeMaxSize()) {
+          break;
+        }
+
+        end = rangeEnd;
+        groupEnd += 1;
+      }
+
+      List<Integer> group = order.subList(groupStart, groupEnd);
+      long requestStart = start;
+      int requestLength = (int) (end - start);
+      futures.add(CompletableFuture.runAsync(() -> {
+        byte[] bytes = readFully(requestStart, requestLength);
+        for (int index : group) {
+          FileRange range = ranges.get(index);
+          buffers[index] = ByteBuffer.wrap(bytes, (int) (range.offset() - requestStart), range.length()).slice();
+        }
+      }, executor));
+
+      groupStart = groupEnd;
+    }
+
+    LOG.debug("Reading {} ranges from {} with {} requests", ranges.size(), location, futures.size());
+
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+
+      throw e;
+    }
+
+    return Arrays.asList(buffers);
+  }
+
   @Override
   public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
     super.close();
     closed = true;
-    closeStream();
+
+    try {
+      closeStream();
+    } finally {
+      S3ClientCache.release(s3);
+    }
   }
 
-  private void positionStream() throws IOException {
+  private void positionStream(int readLength) throws IOException {
+    if (randomAccess) {
+      positionBuffer(readLength);
+      if (randomAccess) {
+        return;
+      }
+    }
+
     if ((stream != null) && (next == pos)) {
       // already at specified position
       return;
@@ -126,12 +268,67 @@ class S3InputStream extends SeekableInputStream {
       }
     }
 
+    if ((stream != null) && (next < pos)) {
+      // seeking backwards, the stream is not read sequentially
+      LOG.debug("Switching to random access reads for {} at offset {}", location, next);
+      closeStream();
+      this.stream = null;
+      this.randomAccess = true;
+      this.readAheadSize = awsProperties.s3FileIoReadAheadMinSize();
+      fillBuffer(readLength);
+      return;
+    }
+
     // close the stream and open at desired position
     LOG.debug("Seek with new stream for {} to offset {}", location, next);
     pos = next;
     openStream();
   }
 
+  private void positionBuffer(int readLength) throws IOException {
+    long bufferEnd = bufferStart + bufferLength;
+    if (next >= bufferStart && next < bufferEnd) {
+      return;
+    }
+
+    if (next >= contentLength()) {
+      // at or past the end of the object, reads will return -1
+      this.bufferStart = next;
+      this.bufferLength = 0;
+      return;
+    }
+
+    if (next == bufferEnd) {
+      // reads continue sequentially
+      if (readAheadSize >= awsProperties.s3FileIoReadAheadMaxSize()) {
+        LOG.debug("Switching to sequential reads for {} at offset {}", location, next);
+        this.randomAccess = false;
+        this.buffer = null;
+        this.bufferLength = 0;
+        return;
+      }
+
+      this.readAheadSize = Math.min(readAheadSize * 2, awsProperties.s3FileIoReadAheadMaxSize());
+    } else {
+      this.readAheadSize = awsProperties.s3FileIoReadAheadMinSize();
+    }
+
+    fillBuffer(readLength);
+  }
+
+  private void fillBuffer(int readLength) throws IOException {
+    int length = (int) Math.min(
+        Math.max(readAheadSize, Math.min(readLength, awsProperties.s3FileIoReadAheadMaxSize())),
+        Math.max(contentLength() - next, 0));
+
+    if (buffer == null || buffer.length < length) {
+      this.buffer = new byte[length];
+    }
+
+    this.bufferStart = next;
+    this.bufferLength = length > 0 ? readRange(next, buffer, 0, length) : 0;
+  }
+
   private void openStream() throws IOException {
     GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
         .bucket(location.bucket())
@@ -141,7 +338,63 @@ class S3InputStream extends SeekableInputStream {
     S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
 
     closeStream();
-    stream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+    // the limiter permit is released when the response headers arrive, reading the content is not limited
+    ResponseInputStream<GetObjectResponse> responseStream = S3RequestLimiter.execute(location, awsProperties,
+        () -> s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream()));
+    setContentLength(responseStream.response().contentRange());
+    stream = responseStream;
+  }
+
+  private byte[] readFully(long start, int length) {
+    byte[] bytes = new byte[length];
+    try {
+      int bytesRead = length > 0 ? readRange(start, bytes, 0, length) : 0;
+      if (bytesRead < length) {
+        throw new EOFException(String.format(
+            "Reached the end of %s with %d bytes left to read", location, length - bytesRead));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes;
+  }
+
+  private int readRange(long start, byte[] bytes, int off, int length) throws IOException {
+    GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+        .bucket(location.bucket())
+        .key(location.key())
+        .range(String.format("bytes=%s-%s", start, start + length - 1));
+
+    S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
+
+    try (InputStream rangeStream = S3RequestLimiter.execute(location, awsProperties,
+        () -> s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream()))) {
+      return ByteStreams.read(rangeStream, bytes, off, length);
+    }
+  }
+
+  private long contentLength() {
+    if (contentLength < 0) {
+      HeadObjectRequest.Builder requestBuilder = HeadObjectRequest.builder()
+          .bucket(location.bucket())
+          .key(location.key());
+
+      S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
+
+      this.contentLength = S3RequestLimiter.execute(location, awsProperties,
+          () -> s3.headObject(requestBuilder.build())).contentLength();
+    }
+
+    return contentLength;
+  }
+
+  private void setContentLength(String contentRange) {
+    // the content range has the form "bytes start-end/length"
+    int lengthStart = contentRange != null ? contentRange.lastIndexOf('/') + 1 : 0;
+    if (lengthStart > 0 && lengthStart < contentRange.length() && contentRange.charAt(lengthStart) != '*') {
+      this.contentLength = Long.parseLong(contentRange.substring(lengthStart));
+    }
   }
 
   private void closeStream() throws IOException {
@@ -154,6 +407,24 @@ class S3InputStream extends SeekableInputStream {
     this.skipSize = skipSize;
   }
 
+  private static ExecutorService executorService(AwsProperties properties) {
+    if (executorService == null) {
+      synchronized (S3InputStream.class) {
+        if (executorService == null) {
+          executorService = MoreExecutors.getExitingExecutorService(
+              (ThreadPoolExecutor) Executors.newFixedThreadPool(
+                  properties.s3FileIoReadThreads(),
+                  new ThreadFactoryBuilder()
+                      .setDaemon(true)
+                      .setNameFormat("iceberg-s3fileio-read-%d")
+                      .build()));
+        }
+      }
+    }
+
+    return executorService;
+  }
+
   @SuppressWarnings("checkstyle:NoFinalizer")
   @Override
   protected void finalize() throws Throwable {
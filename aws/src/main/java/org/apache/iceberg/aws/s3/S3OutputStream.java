@@ -27,8 +27,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -38,6 +40,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.io.PositionOutputStream;
@@ -49,6 +53,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.CountingOutputStream;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,17 +73,24 @@ class S3OutputStream extends PositionOutputStream {
 
   private static volatile ExecutorService executorService;
 
+  // staging buffer pools shared by all streams, by buffer size and number of buffers
+  private static final Map<Pair<Integer, Integer>, ByteBufferPool> BUFFER_POOLS = Maps.newConcurrentMap();
+
+  // number of part uploads that are queued or running
+  private static final AtomicInteger PENDING_UPLOADS = new AtomicInteger(0);
+
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
   private final AwsProperties awsProperties;
 
   private CountingOutputStream stream;
-  private final List<File> stagingFiles = Lists.newArrayList();
+  private final List<StagingPart> stagingParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private final ByteBufferPool bufferPool;
+  private StagingPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagingPart, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
 
@@ -110,8 +122,22 @@ class S3OutputStream extends PositionOutputStream {
     multiPartSize = awsProperties.s3FileIoMultiPartSize();
     multiPartThresholdSize =  (int) (multiPartSize * awsProperties.s3FileIOMultipartThresholdFactor());
     stagingDirectory = new File(awsProperties.s3fileIoStagingDirectory());
+    if (AwsProperties.S3FILEIO_STAGING_TYPE_MEMORY.equals(awsProperties.s3FileIoStagingType())) {
+      bufferPool = BUFFER_POOLS.computeIfAbsent(
+          Pair.of(multiPartSize, awsProperties.s3FileIoStagingMemoryBuffers()),
+          config -> new ByteBufferPool(config.first(), config.second()));
+    } else {
+      bufferPool = null;
+    }
 
-    newStream();
+    S3ClientCache.retain(s3);
+    try {
+      newStream();
+    } catch (IOException | RuntimeException e) {
+      closed = true;
+      S3ClientCache.release(s3);
+      throw e;
+    }
   }
 
   @Override
@@ -175,11 +201,23 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
     }
 
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
-    stagingFiles.add(currentStagingFile);
+    currentPart = null;
+    StagingPart part = bufferPool != null ? newBufferPart() : new FilePart(stagingDirectory);
+    stagingParts.add(part);
+    currentPart = part;
+
+    stream = new CountingOutputStream(part.outputStream());
+  }
+
+  private StagingPart newBufferPart() throws IOException {
+    // never wait for a buffer: this thread may hold the buffers of other open streams that cannot be released
+    ByteBuffer buffer = bufferPool.tryAcquire();
+    if (buffer == null) {
+      LOG.debug("No staging buffer available for {}, staging part in a file", location);
+      return new FilePart(stagingDirectory);
+    }
 
-    stream = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(currentStagingFile)));
+    return new BufferPart(bufferPool, buffer);
   }
 
   @Override
@@ -196,7 +234,11 @@ class S3OutputStream extends PositionOutputStream {
 
       completeUploads();
     } finally {
-      cleanUpStagingFiles();
+      try {
+        cleanUpStagingFiles();
+      } finally {
+        S3ClientCache.release(s3);
+      }
     }
   }
 
@@ -206,7 +248,8 @@ class S3OutputStream extends PositionOutputStream {
     S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
     S3RequestUtil.configurePermission(awsProperties, requestBuilder);
 
-    multipartUploadId = s3.createMultipartUpload(requestBuilder.build()).uploadId();
+    multipartUploadId = S3RequestLimiter.execute(location, awsProperties,
+        () -> s3.createMultipartUpload(requestBuilder.build())).uploadId();
   }
 
   private void uploadParts() {
@@ -215,35 +258,34 @@ class S3OutputStream extends PositionOutputStream {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.equals(currentStagingFile))
-        // do not upload any files that have already been processed
+    stagingParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentPart)
+        // do not upload any parts that have already been processed
         .filter(Predicates.not(multiPartMap::containsKey))
-        .forEach(f -> {
+        .forEach(part -> {
           UploadPartRequest.Builder requestBuilder = UploadPartRequest.builder()
               .bucket(location.bucket())
               .key(location.key())
               .uploadId(multipartUploadId)
-              .partNumber(stagingFiles.indexOf(f) + 1)
-              .contentLength(f.length());
+              .partNumber(stagingParts.indexOf(part) + 1)
+              .contentLength(part.length());
 
           S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
 
           UploadPartRequest uploadRequest = requestBuilder.build();
 
+          PENDING_UPLOADS.incrementAndGet();
           CompletableFuture<CompletedPart> future = CompletableFuture.supplyAsync(
               () -> {
-                UploadPartResponse response = s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                UploadPartResponse response = S3RequestLimiter.execute(location, awsProperties,
+                    () -> s3.uploadPart(uploadRequest, part.requestBody()));
                 return CompletedPart.builder().eTag(response.eTag()).partNumber(uploadRequest.partNumber()).build();
               },
               executorService
           ).whenComplete((result, thrown) -> {
-            try {
-              Files.deleteIfExists(f.toPath());
-            } catch (IOException e) {
-              LOG.warn("Failed to delete staging file: {}", f, e);
-            }
+            PENDING_UPLOADS.decrementAndGet();
+            part.release();
 
             if (thrown != null) {
               LOG.error("Failed to upload part: {}", uploadRequest, thrown);
@@ -251,7 +293,7 @@ class S3OutputStream extends PositionOutputStream {
             }
           });
 
-          multiPartMap.put(f, future);
+          multiPartMap.put(part, future);
         });
   }
 
@@ -277,14 +319,15 @@ class S3OutputStream extends PositionOutputStream {
           abortUpload();
         })
         .throwFailureWhenFinished()
-        .run(s3::completeMultipartUpload);
+        .run(r -> S3RequestLimiter.execute(location, awsProperties, () -> s3.completeMultipartUpload(r)));
   }
 
   private void abortUpload() {
     if (multipartUploadId != null) {
       try {
-        s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
-            .bucket(location.bucket()).key(location.key()).uploadId(multipartUploadId).build());
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+            .bucket(location.bucket()).key(location.key()).uploadId(multipartUploadId).build();
+        S3RequestLimiter.execute(location, awsProperties, () -> s3.abortMultipartUpload(request));
       } finally {
         cleanUpStagingFiles();
       }
@@ -292,19 +335,21 @@ class S3OutputStream extends PositionOutputStream {
   }
 
   private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles)
+    // parts that are being uploaded are released when the upload completes
+    Tasks.foreach(stagingParts)
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to release staging part: {}", part, thrown))
+        .run(part -> {
+          CompletableFuture<CompletedPart> future = multiPartMap.get(part);
+          if (future == null || future.isDone()) {
+            part.release();
+          }
+        });
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength = stagingFiles.stream().mapToLong(File::length).sum();
-      InputStream contentStream = new BufferedInputStream(stagingFiles.stream()
-          .map(S3OutputStream::uncheckedInputStream)
-          .reduce(SequenceInputStream::new)
-          .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
+      long contentLength = stagingParts.stream().mapToLong(StagingPart::length).sum();
 
       PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
           .bucket(location.bucket())
@@ -313,19 +358,25 @@ class S3OutputStream extends PositionOutputStream {
       S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
       S3RequestUtil.configurePermission(awsProperties, requestBuilder);
 
-      s3.putObject(requestBuilder.build(), RequestBody.fromInputStream(contentStream, contentLength));
+      // open the staged content for each attempt so that a retried request sends all of it
+      S3RequestLimiter.execute(location, awsProperties, () -> {
+        InputStream contentStream = new BufferedInputStream(stagingParts.stream()
+            .map(StagingPart::inputStream)
+            .reduce(SequenceInputStream::new)
+            .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
+        return s3.putObject(requestBuilder.build(), RequestBody.fromInputStream(contentStream, contentLength));
+      });
     } else {
       uploadParts();
       completeMultiPartUpload();
     }
   }
 
-  private static InputStream uncheckedInputStream(File file) {
-    try {
-      return new FileInputStream(file);
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
-    }
+  /**
+   * Returns the number of part uploads from all streams that are queued or running.
+   */
+  static int pendingUploads() {
+    return PENDING_UPLOADS.get();
   }
 
   @SuppressWarnings("checkstyle:NoFinalizer")
@@ -339,4 +390,180 @@ class S3OutputStream extends PositionOutputStream {
       LOG.warn("Unclosed output stream created by:\n\t{}", trace);
     }
   }
+
+  /**
+   * A part of the object that is staged locally until it is uploaded.
+   */
+  private abstract static class StagingPart {
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    abstract OutputStream outputStream() throws IOException;
+
+    abstract long length();
+
+    abstract InputStream inputStream();
+
+    abstract RequestBody requestBody();
+
+    abstract void doRelease();
+
+    /**
+     * Releases the staged data. This is called when an upload completes and when the stream is closed, so only the
+     * first call has an effect.
+     */
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        doRelease();
+      }
+    }
+  }
+
+  private static class FilePart extends StagingPart {
+    private final File file;
+
+    private FilePart(File stagingDirectory) throws IOException {
+      this.file = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+      file.deleteOnExit();
+    }
+
+    @Override
+    OutputStream outputStream() throws IOException {
+      return new BufferedOutputStream(new FileOutputStream(file));
+    }
+
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    InputStream inputStream() {
+      try {
+        return new FileInputStream(file);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
+    void doRelease() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  private static class BufferPart extends StagingPart {
+    private final ByteBufferPool pool;
+    private final ByteBuffer buffer;
+
+    private BufferPart(ByteBufferPool pool, ByteBuffer buffer) {
+      this.pool = pool;
+      this.buffer = buffer;
+    }
+
+    @Override
+    OutputStream outputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) {
+          buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+          buffer.put(b, off, len);
+        }
+      };
+    }
+
+    @Override
+    long length() {
+      return buffer.position();
+    }
+
+    @Override
+    InputStream inputStream() {
+      ByteBuffer content = buffer.duplicate();
+      content.flip();
+      return new BufferInputStream(content);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      // the stream supports reset to any mark, so the part is uploaded from the buffer even when requests are retried
+      return RequestBody.fromInputStream(inputStream(), length());
+    }
+
+    @Override
+    void doRelease() {
+      pool.release(buffer);
+    }
+
+    @Override
+    public String toString() {
+      return "staging buffer (" + buffer.position() + " bytes)";
+    }
+  }
+
+  private static class BufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private BufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+      buffer.mark();
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+
+      int bytesRead = Math.min(len, buffer.remaining());
+      buffer.get(b, off, bytesRead);
+      return bytesRead;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+      return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+      buffer.mark();
+    }
+
+    @Override
+    public synchronized void reset() {
+      buffer.reset();
+    }
+  }
 }
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.HttpStatusCode;
+
+/**
+ * Limits concurrent requests to an S3 bucket prefix and retries requests that are throttled.
+ * <p>
+ * The concurrency limit adapts with additive increase and multiplicative decrease (AIMD). Each successful request
+ * raises the limit by 1 / limit, so the limit grows by about one for every limit requests. A throttled request
+ * halves the limit. Only a request that started after the last decrease can lower the limit again, so a burst of
+ * throttled responses from the same window of requests halves the limit once.
+ * <p>
+ * Throttled requests are retried with exponential backoff and full jitter. Each retry takes a token from a retry
+ * budget that successful requests refill, so retries cannot multiply the load on a prefix that is already
+ * overloaded.
+ * <p>
+ * Limiters are shared by all S3 input streams, output streams and deletes in the JVM, with one limiter for each
+ * bucket and key prefix. The properties of the first request to a prefix configure its limiter.
+ * <p>
+ * A request holds a permit only until its response is returned. For a GetObject request, this is when the response
+ * headers arrive; reading the object content from the returned stream is not limited. Holding the permit until the
+ * stream is closed would let open but idle input streams use up the limit and block all other requests.
+ * <p>
+ * Throttled requests should not also be retried by the AWS SDK, or each retry made here can turn into several
+ * requests. S3 clients used with limiters should be configured with {@link #sdkRetryPolicy()}.
+ */
+public class S3RequestLimiter {
+  private static final Logger LOG = LoggerFactory.getLogger(S3RequestLimiter.class);
+
+  private static final Map<String, S3RequestLimiter> LIMITERS = Maps.newConcurrentMap();
+  private static final double DECREASE_FACTOR = 0.5;
+  private static final double RETRY_BUDGET_REFILL = 0.1;
+
+  private final String name;
+  private final int maxConcurrency;
+  private final int maxRetries;
+  private final long minWaitMs;
+  private final long maxWaitMs;
+  private final double maxRetryTokens;
+
+  // guarded by this
+  private double limit;
+  private int inFlight = 0;
+  private long started = 0L;
+  private long startedAtLastDecrease = 0L;
+  private double retryTokens;
+
+  private final AtomicLong requestCount = new AtomicLong(0L);
+  private final AtomicLong throttledCount = new AtomicLong(0L);
+  private final AtomicLong retryCount = new AtomicLong(0L);
+
+  @VisibleForTesting
+  S3RequestLimiter(String name, AwsProperties properties) {
+    this.name = name;
+    this.maxConcurrency = properties.s3FileIoLimiterMaxConcurrency();
+    this.maxRetries = properties.s3FileIoRetryNumRetries();
+    this.minWaitMs = properties.s3FileIoRetryMinWaitMs();
+    this.maxWaitMs = properties.s3FileIoRetryMaxWaitMs();
+    this.maxRetryTokens = properties.s3FileIoRetryBudget();
+    this.limit = Math.min(properties.s3FileIoLimiterInitialConcurrency(), maxConcurrency);
+    this.retryTokens = maxRetryTokens;
+  }
+
+  /**
+   * Returns the limiter for requests to the given location, or null if limiting is disabled.
+   */
+  static S3RequestLimiter forLocation(S3URI location, AwsProperties properties) {
+    if (!properties.s3FileIoLimiterEnabled()) {
+      return null;
+    }
+
+    String prefix = prefix(location, properties.s3FileIoLimiterPrefixDepth());
+    return LIMITERS.computeIfAbsent(prefix, name -> new S3RequestLimiter(name, properties));
+  }
+
+  /**
+   * Runs a request to the given location, limiting concurrency and retrying if the request is throttled.
+   */
+  static <T> T execute(S3URI location, AwsProperties properties, Supplier<T> request) {
+    S3RequestLimiter limiter = forLocation(location, properties);
+    return limiter != null ? limiter.execute(request) : request.get();
+  }
+
+  /**
+   * Returns an AWS SDK retry policy for S3 clients that are used with limiters.
+   * <p>
+   * The policy retries the same failures as the SDK default policy, except throttled requests, which are retried by
+   * the limiters.
+   */
+  public static RetryPolicy sdkRetryPolicy() {
+    return RetryPolicy.defaultRetryPolicy().toBuilder()
+        .retryCondition(AndRetryCondition.create(
+            RetryCondition.defaultRetryCondition(),
+            context -> !isThrottled(context.exception())))
+        .build();
+  }
+
+  /**
+   * Returns the limiters that have been created in this JVM, by bucket and key prefix.
+   */
+  public static Map<String, S3RequestLimiter> limiters() {
+    return Collections.unmodifiableMap(LIMITERS);
+  }
+
+  @VisibleForTesting
+  static String prefix(S3URI location, int depth) {
+    StringBuilder prefix = new StringBuilder(location.bucket());
+    String[] parts = location.key().split("/");
+    // the last part is the object name
+    for (int i = 0; i < Math.min(depth, parts.length - 1); i += 1) {
+      prefix.append('/').append(parts[i]);
+    }
+
+    return prefix.toString();
+  }
+
+  <T> T execute(Supplier<T> request) {
+    int attempt = 0;
+    while (true) {
+      long requestId = acquire();
+      try {
+        T result = request.get();
+        onSuccess();
+        return result;
+
+      } catch (AwsServiceException e) {
+        if (!isThrottled(e)) {
+          throw e;
+        }
+
+        throttledCount.incrementAndGet();
+        onThrottled(requestId);
+
+        if (attempt >= maxRetries || !tryRetry()) {
+          LOG.warn("Request to {} was throttled, not retrying after {} attempts", name, attempt + 1);
+          throw e;
+        }
+
+      } finally {
+        release();
+      }
+
+      attempt += 1;
+      retryCount.incrementAndGet();
+      long waitMs = waitMs(attempt);
+      LOG.debug("Request to {} was throttled, retrying in {} ms (concurrency limit {})", name, waitMs, limit());
+
+      try {
+        Thread.sleep(waitMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * @return the current concurrency limit
+   */
+  public synchronized int limit() {
+    return (int) limit;
+  }
+
+  /**
+   * @return the number of requests that are running
+   */
+  public synchronized int inFlight() {
+    return inFlight;
+  }
+
+  /**
+   * @return the number of requests that were started, including retries
+   */
+  public long requestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * @return the number of responses that were throttled
+   */
+  public long throttledCount() {
+    return throttledCount.get();
+  }
+
+  /**
+   * @return the number of retries of throttled requests
+   */
+  public long retryCount() {
+    return retryCount.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("S3RequestLimiter(%s, limit=%d, inFlight=%d)", name, limit(), inFlight());
+  }
+
+  private synchronized long acquire() {
+    while (inFlight >= (int) limit) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+
+    inFlight += 1;
+    started += 1;
+    requestCount.incrementAndGet();
+
+    return started;
+  }
+
+  private synchronized void release() {
+    inFlight -= 1;
+    notifyAll();
+  }
+
+  private synchronized void onSuccess() {
+    this.limit = Math.min(limit + 1.0 / limit, maxConcurrency);
+    this.retryTokens = Math.min(retryTokens + RETRY_BUDGET_REFILL, maxRetryTokens);
+  }
+
+  private synchronized void onThrottled(long requestId) {
+    if (requestId > startedAtLastDecrease) {
+      this.limit = Math.max(limit * DECREASE_FACTOR, 1.0);
+      this.startedAtLastDecrease = started;
+    }
+  }
+
+  private synchronized boolean tryRetry() {
+    if (retryTokens >= 1.0) {
+      this.retryTokens -= 1.0;
+      return true;
+    }
+
+    return false;
+  }
+
+  private long waitMs(int attempt) {
+    long maxWait = Math.min(maxWaitMs, minWaitMs * (1L << Math.min(attempt - 1, 30)));
+    return ThreadLocalRandom.current().nextLong(maxWait + 1);
+  }
+
+  private static boolean isThrottled(SdkException e) {
+    if (e instanceof SdkServiceException) {
+      SdkServiceException serviceException = (SdkServiceException) e;
+      return serviceException.isThrottlingException() ||
+          serviceException.statusCode() == HttpStatusCode.SERVICE_UNAVAILABLE;
+    }
+
+    return false;
+  }
+}
@@ -97,4 +97,14 @@ public class AwsPropertiesTest {
         () -> new AwsProperties(map));
   }
 
+  @Test
+  public void testS3DeleteBatchSizeTooLarge() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(AwsProperties.S3FILEIO_DELETE_BATCH_SIZE, "1001");
+    AssertHelpers.assertThrows("should not accept batch size larger than S3 limit",
+        IllegalArgumentException.class,
+        "Invalid delete batch size (not between 1 and 1000): 1001",
+        () -> new AwsProperties(map));
+  }
+
 }
@@ -23,24 +23,39 @@ import com.adobe.testing.s3mock.junit4.S3MockRule;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.iceberg.aws.AwsClientFactory;
+import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.SerializableSupplier;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.kms.KmsClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class S3FileIOTest {
   @ClassRule
@@ -84,6 +99,31 @@ public class S3FileIOTest {
     assertFalse(s3FileIO.newInputFile(location).exists());
   }
 
+  @Test
+  public void testDeleteFiles() throws IOException {
+    AwsProperties awsProperties = new AwsProperties();
+    awsProperties.setS3FileIoDeleteBatchSize(2);
+    S3FileIO bulkFileIO = new S3FileIO(s3, awsProperties);
+
+    List<String> paths = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      String location = "s3://bucket/path/to/delete-" + i + ".txt";
+      try (OutputStream os = s3FileIO.newOutputFile(location).createOrOverwrite()) {
+        IOUtils.write(new byte[] {(byte) i}, os);
+      }
+      paths.add(location);
+    }
+
+    // deleting a missing object is not a failure
+    paths.add("s3://bucket/path/to/missing.txt");
+
+    bulkFileIO.deleteFiles(paths);
+
+    for (String path : paths) {
+      assertFalse("Should delete " + path, s3FileIO.newInputFile(path).exists());
+    }
+  }
+
   @Test
   public void serializeClient() {
     SerializableSupplier<S3Client> pre =
@@ -94,4 +134,150 @@ public class S3FileIOTest {
 
     assertEquals("s3", post.get().serviceName());
   }
+
+  @Test
+  public void testSharedClient() {
+    // a unique property keeps clients from other tests out of the shared client counts
+    Map<String, String> properties = ImmutableMap.of(
+        AwsProperties.CLIENT_FACTORY, S3MockClientFactory.class.getName(),
+        "test.id", UUID.randomUUID().toString());
+
+    S3FileIO first = new S3FileIO();
+    first.initialize(properties);
+    S3FileIO second = SerializationUtils.deserialize(SerializationUtils.serialize(first));
+
+    // expire clients from other tests so that they are not closed during this test
+    S3ClientCache.expireAll();
+    int liveClients = S3FileIO.sharedClientCount();
+    long reuseCount = S3FileIO.sharedClientReuseCount();
+    int createdClients = S3MockClientFactory.CREATED.get();
+
+    first.newInputFile("s3://bucket/path/to/file.txt");
+    first.newInputFile("s3://bucket/path/to/other.txt");
+    second.newInputFile("s3://bucket/path/to/file.txt");
+    second.newInputFile("s3://bucket/path/to/other.txt");
+
+    assertEquals("Should create one client", createdClients + 1, S3MockClientFactory.CREATED.get());
+    assertEquals("Should share the client", liveClients + 1, S3FileIO.sharedClientCount());
+    assertEquals("Should count the reuse once for the second FileIO",
+        reuseCount + 1, S3FileIO.sharedClientReuseCount());
+
+    first.close();
+    second.close();
+    assertEquals("Should not close the shared client when FileIOs are closed",
+        liveClients + 1, S3FileIO.sharedClientCount());
+
+    S3ClientCache.expireAll();
+    assertEquals("Should close the expired client", liveClients, S3FileIO.sharedClientCount());
+  }
+
+  @Test
+  public void testExpiredSharedClientInUse() throws IOException {
+    Map<String, String> properties = ImmutableMap.of(
+        AwsProperties.CLIENT_FACTORY, S3MockClientFactory.class.getName(),
+        "test.id", UUID.randomUUID().toString());
+
+    S3FileIO fileIO = new S3FileIO();
+    fileIO.initialize(properties);
+
+    // expire clients from other tests so that they are not closed during this test
+    S3ClientCache.expireAll();
+
+    String location = "s3://bucket/path/to/expired-client.txt";
+    try (OutputStream os = fileIO.newOutputFile(location).createOrOverwrite()) {
+      IOUtils.write(new byte[] {1, 2, 3}, os);
+    }
+
+    int liveClients = S3FileIO.sharedClientCount();
+
+    byte[] actual;
+    try (InputStream is = fileIO.newInputFile(location).newStream()) {
+      S3ClientCache.expireAll();
+      assertEquals("Should not close an expired client used by a stream", liveClients, S3FileIO.sharedClientCount());
+
+      actual = IOUtils.readFully(is, 3);
+    }
+
+    assertArrayEquals(new byte[] {1, 2, 3}, actual);
+    assertEquals("Should close the expired client when its stream is closed",
+        liveClients - 1, S3FileIO.sharedClientCount());
+  }
+
+  @Test
+  public void testCloseDoesNotCloseSuppliedClient() {
+    S3Client client = mock(S3Client.class);
+    S3FileIO fileIO = new S3FileIO(() -> client);
+
+    fileIO.newInputFile("s3://bucket/path/to/file.txt");
+    fileIO.close();
+
+    verify(client, never()).close();
+  }
+
+  @Test
+  public void testCloseClosesClientThatIsNotShared() {
+    Map<String, String> properties = ImmutableMap.of(
+        AwsProperties.CLIENT_FACTORY, MockClientFactory.class.getName(),
+        AwsProperties.S3FILEIO_SHARED_CLIENT_ENABLED, "false");
+
+    S3FileIO fileIO = new S3FileIO();
+    fileIO.initialize(properties);
+    int liveClients = S3FileIO.sharedClientCount();
+
+    fileIO.newInputFile("s3://bucket/path/to/file.txt");
+    fileIO.newInputFile("s3://bucket/path/to/other.txt");
+    assertEquals("Should not share the client", liveClients, S3FileIO.sharedClientCount());
+
+    S3Client client = MockClientFactory.lastCreated;
+    verify(client, never()).close();
+
+    fileIO.close();
+    verify(client).close();
+
+    fileIO.newInputFile("s3://bucket/path/to/file.txt");
+    assertNotSame("Should create a new client after close", client, MockClientFactory.lastCreated);
+  }
+
+  public static class MockClientFactory extends S3MockClientFactory {
+    private static volatile S3Client lastCreated = null;
+
+    @Override
+    public S3Client s3() {
+      S3Client client = mock(S3Client.class);
+      lastCreated = client;
+      return client;
+    }
+  }
+
+  public static class S3MockClientFactory implements AwsClientFactory {
+    private static final AtomicInteger CREATED = new AtomicInteger(0);
+
+    public S3MockClientFactory() {
+    }
+
+    @Override
+    public S3Client s3() {
+      CREATED.incrementAndGet();
+      return S3_MOCK_RULE.createS3ClientV2();
+    }
+
+    @Override
+    public GlueClient glue() {
+      throw new UnsupportedOperationException("Not supported in tests");
+    }
+
+    @Override
+    public KmsClient kms() {
+      throw new UnsupportedOperationException("Not supported in tests");
+    }
+
+    @Override
+    public DynamoDbClient dynamo() {
+      throw new UnsupportedOperationException("Not supported in tests");
+    }
+
+    @Override
+    public void initialize(Map<String, String> properties) {
+    }
+  }
 }
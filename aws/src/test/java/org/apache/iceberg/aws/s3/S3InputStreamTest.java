@@ -20,11 +20,17 @@
 package org.apache.iceberg.aws.s3;
 
 import com.adobe.testing.s3mock.junit4.S3MockRule;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import org.apache.commons.io.IOUtils;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -105,6 +111,79 @@ public class S3InputStreamTest {
     assertArrayEquals(Arrays.copyOfRange(original, (int) rangeStart, (int) rangeEnd), actual);
   }
 
+  @Test
+  public void testRandomAccessReads() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/random.dat");
+    int dataSize = 1024 * 1024;
+    byte[] data = randomData(dataSize);
+
+    writeS3Data(uri, data);
+
+    AwsProperties awsProperties = new AwsProperties();
+    awsProperties.setS3FileIoReadAheadMinSize(1024);
+    awsProperties.setS3FileIoReadAheadMaxSize(16 * 1024);
+
+    try (SeekableInputStream in = new S3InputStream(s3, uri, awsProperties)) {
+      readAndCheck(in, dataSize / 2, 1024, data, true);
+
+      // Backseek switches to reads with a read-ahead buffer
+      readAndCheck(in, 1024, 100, data, false);
+      readAndCheck(in, in.getPos(), 100, data, true);
+      readAndCheck(in, in.getPos() + 10, 4096, data, true);
+
+      // Sequential reads grow the read-ahead until switching back to a single stream
+      for (int i = 0; i < 16; i += 1) {
+        readAndCheck(in, in.getPos(), 3000, data, true);
+      }
+
+      // Read the end of the object and backseek within the buffered range
+      readAndCheck(in, 2000, 100, data, true);
+      readAndCheck(in, dataSize - 100, 100, data, true);
+      readAndCheck(in, dataSize - 50, 50, data, false);
+      assertEquals(-1, in.read());
+    }
+  }
+
+  @Test
+  public void testReadRanges() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/ranges.dat");
+    int dataSize = 1024 * 1024;
+    byte[] data = randomData(dataSize);
+
+    writeS3Data(uri, data);
+
+    AwsProperties awsProperties = new AwsProperties();
+    awsProperties.setS3FileIoReadRangeMergeGap(1024);
+    awsProperties.setS3FileIoReadRangeMaxSize(64 * 1024);
+
+    List<FileRange> ranges = ImmutableList.of(
+        new FileRange(500_000, 1000), // merged with the next range
+        new FileRange(501_500, 2000),
+        new FileRange(10, 0),
+        new FileRange(0, 100_000), // larger than the maximum request size
+        new FileRange(90_000, 20_000), // overlaps the previous range
+        new FileRange(dataSize - 10, 10));
+
+    try (SeekableInputStream in = new S3InputStream(s3, uri, awsProperties)) {
+      in.seek(1234);
+
+      List<ByteBuffer> buffers = in.readRanges(ranges);
+      assertEquals(ranges.size(), buffers.size());
+      for (int i = 0; i < ranges.size(); i += 1) {
+        FileRange range = ranges.get(i);
+        ByteBuffer buffer = buffers.get(i);
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertArrayEquals(
+            Arrays.copyOfRange(data, (int) range.offset(), (int) range.offset() + range.length()), actual);
+      }
+
+      assertEquals(1234, in.getPos());
+
+      assertThrows(EOFException.class, () -> in.readRanges(ImmutableList.of(new FileRange(dataSize - 10, 20))));
+    }
+  }
+
   @Test
   public void testClose() throws Exception {
     S3URI uri = new S3URI("s3://bucket/path/to/closed.dat");
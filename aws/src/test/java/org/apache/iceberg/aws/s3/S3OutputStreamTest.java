@@ -24,11 +24,13 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -111,6 +113,63 @@ public class S3OutputStreamTest {
     });
   }
 
+  @Test
+  public void testWriteWithMemoryStaging() {
+    AwsProperties memoryProperties = new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_MULTIPART_SIZE, Integer.toString(5 * 1024 * 1024),
+        AwsProperties.S3FILEIO_STAGING_DIRECTORY, tmpDir.toString(),
+        AwsProperties.S3FILEIO_STAGING_TYPE, AwsProperties.S3FILEIO_STAGING_TYPE_MEMORY,
+        AwsProperties.S3FILEIO_STAGING_MEMORY_BUFFERS, "2"));
+
+    Stream.of(true, false).forEach(arrayWrite -> {
+      // Test file larger than part size but less than multipart threshold
+      writeAndVerify(s3mock, randomURI(), randomData(6 * 1024 * 1024), arrayWrite, memoryProperties);
+      verify(s3mock, times(1)).putObject((PutObjectRequest) any(), (RequestBody) any());
+      reset(s3mock);
+
+      // Test uploading more parts than there are staging buffers
+      writeAndVerify(s3mock, randomURI(), randomData(22 * 1024 * 1024), arrayWrite, memoryProperties);
+      verify(s3mock, times(5)).uploadPart((UploadPartRequest) any(), (RequestBody) any());
+      reset(s3mock);
+
+      assertEquals("Should not have pending uploads", 0, S3FileIO.uploadQueueDepth());
+    });
+  }
+
+  @Test
+  public void testMoreOpenStreamsThanStagingBuffers() throws IOException {
+    AwsProperties memoryProperties = new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_MULTIPART_SIZE, Integer.toString(5 * 1024 * 1024),
+        AwsProperties.S3FILEIO_STAGING_DIRECTORY, tmpDir.toString(),
+        AwsProperties.S3FILEIO_STAGING_TYPE, AwsProperties.S3FILEIO_STAGING_TYPE_MEMORY,
+        AwsProperties.S3FILEIO_STAGING_MEMORY_BUFFERS, "1"));
+
+    // each stream holds a staging buffer until it is closed, so streams past the first must not wait for one
+    List<S3URI> uris = Lists.newArrayList();
+    List<byte[]> contents = Lists.newArrayList();
+    List<S3OutputStream> streams = Lists.newArrayList();
+    for (int i = 0; i < 3; i += 1) {
+      S3URI uri = randomURI();
+      byte[] data = randomData(1024);
+      S3OutputStream stream = new S3OutputStream(s3, uri, memoryProperties);
+      stream.write(data);
+
+      uris.add(uri);
+      contents.add(data);
+      streams.add(stream);
+    }
+
+    for (S3OutputStream stream : streams) {
+      stream.close();
+    }
+
+    for (int i = 0; i < uris.size(); i += 1) {
+      assertArrayEquals(contents.get(i), readS3Data(uris.get(i)));
+    }
+
+    assertEquals("Should clean up staging files", 0, Files.list(tmpDir).count());
+  }
+
   @Test
   public void testAbortAfterFailedPartUpload() {
     doThrow(new RuntimeException()).when(s3mock).uploadPart((UploadPartRequest) any(), (RequestBody) any());
@@ -141,7 +200,12 @@ public class S3OutputStreamTest {
   }
 
   private void writeAndVerify(S3Client client, S3URI uri, byte [] data, boolean arrayWrite) {
-    try (S3OutputStream stream = new S3OutputStream(client, uri, properties)) {
+    writeAndVerify(client, uri, data, arrayWrite, properties);
+  }
+
+  private void writeAndVerify(S3Client client, S3URI uri, byte [] data, boolean arrayWrite,
+                              AwsProperties awsProperties) {
+    try (S3OutputStream stream = new S3OutputStream(client, uri, awsProperties)) {
       if (arrayWrite) {
         stream.write(data);
         assertEquals(data.length, stream.getPos());
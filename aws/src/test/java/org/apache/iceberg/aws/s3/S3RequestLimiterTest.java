@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import com.adobe.testing.s3mock.junit4.S3MockRule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.IOUtils;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class S3RequestLimiterTest {
+  private static final String BUCKET = "limiter-bucket";
+
+  @ClassRule
+  public static final S3MockRule S3_MOCK_RULE = S3MockRule.builder().silent().build();
+
+  private final S3Client s3 = S3_MOCK_RULE.createS3ClientV2();
+  private final S3Client s3mock = mock(S3Client.class, delegatesTo(s3));
+  private final Random random = new Random(1);
+
+  private final AwsProperties properties = new AwsProperties(ImmutableMap.of(
+      AwsProperties.S3FILEIO_LIMITER_INITIAL_CONCURRENCY, "16",
+      AwsProperties.S3FILEIO_LIMITER_MAX_CONCURRENCY, "32",
+      AwsProperties.S3FILEIO_RETRY_NUM_RETRIES, "3",
+      AwsProperties.S3FILEIO_RETRY_MIN_WAIT_MS, "1",
+      AwsProperties.S3FILEIO_RETRY_MAX_WAIT_MS, "5"));
+
+  @Before
+  public void before() {
+    s3.createBucket(CreateBucketRequest.builder().bucket(BUCKET).build());
+  }
+
+  @Test
+  public void testRetryThrottledRequest() {
+    S3RequestLimiter limiter = new S3RequestLimiter("test", properties);
+    AtomicInteger attempts = new AtomicInteger(0);
+
+    String result = limiter.execute(() -> {
+      if (attempts.incrementAndGet() <= 2) {
+        throw slowDown();
+      }
+      return "result";
+    });
+
+    Assert.assertEquals("Should return the result of the successful attempt", "result", result);
+    Assert.assertEquals("Should make 3 attempts", 3, attempts.get());
+    Assert.assertEquals("Should count all attempts", 3, limiter.requestCount());
+    Assert.assertEquals("Should count throttled responses", 2, limiter.throttledCount());
+    Assert.assertEquals("Should count retries", 2, limiter.retryCount());
+    Assert.assertEquals("Should not have requests in flight", 0, limiter.inFlight());
+  }
+
+  @Test
+  public void testThrottlingDecreasesLimit() {
+    S3RequestLimiter limiter = new S3RequestLimiter("test", properties);
+    Assert.assertEquals("Should start at the initial concurrency", 16, limiter.limit());
+
+    AtomicInteger attempts = new AtomicInteger(0);
+    limiter.execute(() -> {
+      if (attempts.incrementAndGet() <= 1) {
+        throw slowDown();
+      }
+      return null;
+    });
+
+    Assert.assertEquals("Should halve the limit when throttled", 8, limiter.limit());
+
+    for (int i = 0; i < 8; i += 1) {
+      limiter.execute(() -> null);
+    }
+
+    Assert.assertEquals("Should increase the limit by one after a limit of successful requests",
+        9, limiter.limit());
+
+    for (int i = 0; i < 1000; i += 1) {
+      limiter.execute(() -> null);
+    }
+
+    Assert.assertEquals("Should not increase the limit past the max concurrency", 32, limiter.limit());
+  }
+
+  @Test
+  public void testRetriesExhausted() {
+    S3RequestLimiter limiter = new S3RequestLimiter("test", properties);
+    AtomicInteger attempts = new AtomicInteger(0);
+
+    AssertHelpers.assertThrows("Should throw the throttling exception when retries are exhausted",
+        S3Exception.class, "reduce your request rate",
+        () -> limiter.execute(() -> {
+          attempts.incrementAndGet();
+          throw slowDown();
+        }));
+
+    Assert.assertEquals("Should make 1 attempt and 3 retries", 4, attempts.get());
+    Assert.assertEquals("Should count retries", 3, limiter.retryCount());
+    Assert.assertEquals("Should not have requests in flight", 0, limiter.inFlight());
+  }
+
+  @Test
+  public void testRetryBudget() {
+    AwsProperties budgetProperties = new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_RETRY_BUDGET, "1",
+        AwsProperties.S3FILEIO_RETRY_MIN_WAIT_MS, "1",
+        AwsProperties.S3FILEIO_RETRY_MAX_WAIT_MS, "5"));
+    S3RequestLimiter limiter = new S3RequestLimiter("test", budgetProperties);
+    AtomicInteger attempts = new AtomicInteger(0);
+
+    AssertHelpers.assertThrows("Should stop retrying when the retry budget is used",
+        S3Exception.class, "reduce your request rate",
+        () -> limiter.execute(() -> {
+          attempts.incrementAndGet();
+          throw slowDown();
+        }));
+
+    Assert.assertEquals("Should make 1 attempt and 1 retry", 2, attempts.get());
+  }
+
+  @Test
+  public void testOtherErrorsNotRetried() {
+    S3RequestLimiter limiter = new S3RequestLimiter("test", properties);
+    AtomicInteger attempts = new AtomicInteger(0);
+
+    AssertHelpers.assertThrows("Should not retry errors that are not throttling",
+        S3Exception.class, "key does not exist",
+        () -> limiter.execute(() -> {
+          attempts.incrementAndGet();
+          throw S3Exception.builder().statusCode(404)
+              .awsErrorDetails(AwsErrorDetails.builder()
+                  .errorCode("NoSuchKey").errorMessage("The specified key does not exist.").build())
+              .build();
+        }));
+
+    Assert.assertEquals("Should make 1 attempt", 1, attempts.get());
+    Assert.assertEquals("Should not change the limit", 16, limiter.limit());
+  }
+
+  @Test
+  public void testPrefix() {
+    S3URI location = new S3URI("s3://bucket/path/to/file.parquet");
+    Assert.assertEquals("bucket", S3RequestLimiter.prefix(location, 0));
+    Assert.assertEquals("bucket/path", S3RequestLimiter.prefix(location, 1));
+    Assert.assertEquals("bucket/path/to", S3RequestLimiter.prefix(location, 3));
+    Assert.assertEquals("bucket", S3RequestLimiter.prefix(new S3URI("s3://bucket/file.parquet"), 1));
+  }
+
+  @Test
+  public void testThrottledWriteAndRead() throws IOException {
+    S3URI location = new S3URI(String.format("s3://%s/%s/data/file", BUCKET, UUID.randomUUID()));
+    byte[] expected = new byte[1024];
+    random.nextBytes(expected);
+
+    doThrow(slowDown()).doAnswer(delegatesTo(s3))
+        .when(s3mock).putObject((PutObjectRequest) any(), (RequestBody) any());
+    doThrow(slowDown()).doAnswer(delegatesTo(s3))
+        .when(s3mock).getObject((GetObjectRequest) any(), (ResponseTransformer) any());
+
+    try (OutputStream out = new S3OutputStream(s3mock, location, properties)) {
+      out.write(expected);
+    }
+
+    byte[] actual;
+    try (InputStream in = new S3InputStream(s3mock, location, properties)) {
+      actual = IOUtils.readFully(in, expected.length);
+    }
+
+    Assert.assertArrayEquals("Should read the data written with throttled requests", expected, actual);
+    verify(s3mock, times(2)).putObject((PutObjectRequest) any(), (RequestBody) any());
+
+    S3RequestLimiter limiter = S3FileIO.requestLimiters().get(S3RequestLimiter.prefix(location, 1));
+    Assert.assertNotNull("Should create a limiter for the prefix", limiter);
+    Assert.assertEquals("Should count throttled responses", 2, limiter.throttledCount());
+    Assert.assertEquals("Should count retries", 2, limiter.retryCount());
+  }
+
+  @Test
+  public void testSdkRetryPolicyDoesNotRetryThrottledRequests() {
+    RetryCondition condition = S3RequestLimiter.sdkRetryPolicy().retryCondition();
+
+    RetryPolicyContext throttled = RetryPolicyContext.builder()
+        .exception(slowDown())
+        .httpStatusCode(503)
+        .retriesAttempted(0)
+        .build();
+    Assert.assertFalse("Should not retry throttled requests in the SDK", condition.shouldRetry(throttled));
+
+    S3Exception internalError = (S3Exception) S3Exception.builder()
+        .statusCode(500)
+        .awsErrorDetails(AwsErrorDetails.builder()
+            .errorCode("InternalError").errorMessage("We encountered an internal error.").build())
+        .build();
+    RetryPolicyContext failed = RetryPolicyContext.builder()
+        .exception(internalError)
+        .httpStatusCode(500)
+        .retriesAttempted(0)
+        .build();
+    Assert.assertTrue("Should retry other failures in the SDK", condition.shouldRetry(failed));
+  }
+
+  private static S3Exception slowDown() {
+    return (S3Exception) S3Exception.builder()
+        .statusCode(503)
+        .awsErrorDetails(AwsErrorDetails.builder()
+            .errorCode("SlowDown").errorMessage("Please reduce your request rate.").build())
+        .build();
+  }
+}
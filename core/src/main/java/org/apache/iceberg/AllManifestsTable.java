@@ -186,6 +186,8 @@ public class AllManifestsTable extends BaseMetadataTable {
           .rename("manifest_file", GenericManifestFile.class.getName())
           .rename("partitions", GenericPartitionFieldSummary.class.getName())
           .rename("r508", GenericPartitionFieldSummary.class.getName())
+          .rename("column_summaries", GenericColumnFieldSummary.class.getName())
+          .rename("r10001", GenericColumnFieldSummary.class.getName())
           .project(ManifestFile.schema())
           .classLoader(GenericManifestFile.class.getClassLoader())
           .reuseContainers(false)
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.NaNUtil;
+
+/**
+ * Aggregates column metrics from the files in a manifest into per-column summaries.
+ * <p>
+ * A count or bound is only reported for a column when it is known for every file in the manifest. Files in which a
+ * column is entirely null do not need bounds for that column.
+ */
+class ColumnSummary {
+  private final Schema schema;
+  private final Set<Integer> fieldIds;
+  private final Map<Integer, ColumnStats<?>> stats = Maps.newTreeMap();
+  private int fileCount = 0;
+
+  ColumnSummary(Schema schema, Set<Integer> fieldIds) {
+    this.schema = schema;
+    this.fieldIds = fieldIds;
+  }
+
+  List<ColumnFieldSummary> summaries() {
+    List<ColumnFieldSummary> summaries = Lists.newArrayListWithExpectedSize(stats.size());
+    for (ColumnStats<?> columnStats : stats.values()) {
+      ColumnFieldSummary summary = columnStats.toSummary(fileCount);
+      if (summary != null) {
+        summaries.add(summary);
+      }
+    }
+
+    return summaries;
+  }
+
+  void update(ContentFile<?> file) {
+    this.fileCount += 1;
+
+    Map<Integer, Long> valueCounts = file.valueCounts();
+    Map<Integer, Long> nullCounts = file.nullValueCounts();
+    Map<Integer, Long> nanCounts = file.nanValueCounts();
+    Map<Integer, ByteBuffer> lowerBounds = file.lowerBounds();
+    Map<Integer, ByteBuffer> upperBounds = file.upperBounds();
+
+    if (valueCounts != null) {
+      for (Map.Entry<Integer, Long> entry : valueCounts.entrySet()) {
+        ColumnStats<?> columnStats = statsFor(entry.getKey());
+        if (columnStats != null && entry.getValue() != null) {
+          columnStats.valueCountFiles += 1;
+          columnStats.valueCount += entry.getValue();
+
+          Long nullCount = nullCounts != null ? nullCounts.get(entry.getKey()) : null;
+          if (entry.getValue().equals(nullCount)) {
+            // all values are null so the file cannot contribute bounds
+            columnStats.allNullFiles += 1;
+          }
+        }
+      }
+    }
+
+    if (nullCounts != null) {
+      for (Map.Entry<Integer, Long> entry : nullCounts.entrySet()) {
+        ColumnStats<?> columnStats = statsFor(entry.getKey());
+        if (columnStats != null && entry.getValue() != null) {
+          columnStats.nullCountFiles += 1;
+          columnStats.nullCount += entry.getValue();
+        }
+      }
+    }
+
+    if (nanCounts != null) {
+      for (Map.Entry<Integer, Long> entry : nanCounts.entrySet()) {
+        ColumnStats<?> columnStats = statsFor(entry.getKey());
+        if (columnStats != null && entry.getValue() != null) {
+          columnStats.nanCountFiles += 1;
+          columnStats.nanCount += entry.getValue();
+        }
+      }
+    }
+
+    if (lowerBounds != null) {
+      for (Map.Entry<Integer, ByteBuffer> entry : lowerBounds.entrySet()) {
+        ColumnStats<?> columnStats = statsFor(entry.getKey());
+        if (columnStats != null && entry.getValue() != null) {
+          columnStats.updateLower(entry.getValue());
+        }
+      }
+    }
+
+    if (upperBounds != null) {
+      for (Map.Entry<Integer, ByteBuffer> entry : upperBounds.entrySet()) {
+        ColumnStats<?> columnStats = statsFor(entry.getKey());
+        if (columnStats != null && entry.getValue() != null) {
+          columnStats.updateUpper(entry.getValue());
+        }
+      }
+    }
+  }
+
+  private ColumnStats<?> statsFor(int fieldId) {
+    if (!fieldIds.contains(fieldId)) {
+      return null;
+    }
+
+    ColumnStats<?> columnStats = stats.get(fieldId);
+    if (columnStats == null) {
+      Type type = schema.findType(fieldId);
+      if (type == null || !type.isPrimitiveType()) {
+        return null;
+      }
+
+      columnStats = new ColumnStats<>(fieldId, type.asPrimitiveType());
+      stats.put(fieldId, columnStats);
+    }
+
+    return columnStats;
+  }
+
+  private static class ColumnStats<T> {
+    private final int fieldId;
+    private final Type.PrimitiveType type;
+    private final Comparator<T> comparator;
+
+    private int valueCountFiles = 0;
+    private long valueCount = 0L;
+    private int nullCountFiles = 0;
+    private long nullCount = 0L;
+    private int nanCountFiles = 0;
+    private long nanCount = 0L;
+    private int allNullFiles = 0;
+    private int lowerBoundFiles = 0;
+    private int upperBoundFiles = 0;
+    private boolean lowerIsNaN = false;
+    private T min = null;
+    private ByteBuffer lowerBound = null;
+    private T max = null;
+    private ByteBuffer upperBound = null;
+
+    private ColumnStats(int fieldId, Type.PrimitiveType type) {
+      this.fieldId = fieldId;
+      this.type = type;
+      this.comparator = Comparators.forType(type);
+    }
+
+    private void updateLower(ByteBuffer buffer) {
+      this.lowerBoundFiles += 1;
+      if (lowerIsNaN) {
+        return;
+      }
+
+      T value = Conversions.fromByteBuffer(type, buffer);
+      if (NaNUtil.isNaN(value)) {
+        // a NaN lower bound is unreliable so the aggregated lower bound must be as well
+        this.lowerIsNaN = true;
+        this.lowerBound = ByteBuffers.copy(buffer);
+        this.min = value;
+      } else if (min == null || comparator.compare(value, min) < 0) {
+        // copy the buffer because the file's bounds may be reused
+        this.lowerBound = ByteBuffers.copy(buffer);
+        this.min = Conversions.fromByteBuffer(type, lowerBound);
+      }
+    }
+
+    private void updateUpper(ByteBuffer buffer) {
+      this.upperBoundFiles += 1;
+      T value = Conversions.fromByteBuffer(type, buffer);
+      if (max == null || comparator.compare(value, max) > 0) {
+        this.upperBound = ByteBuffers.copy(buffer);
+        this.max = Conversions.fromByteBuffer(type, upperBound);
+      }
+    }
+
+    private ColumnFieldSummary toSummary(int fileCount) {
+      Long values = valueCountFiles == fileCount ? valueCount : null;
+      Long nulls = nullCountFiles == fileCount ? nullCount : null;
+      Long nans = nanCountFiles == fileCount ? nanCount : null;
+      // a file either has a bound for the column or contains only nulls; bounds from both are never counted twice
+      ByteBuffer lower = lowerBoundFiles + allNullFiles >= fileCount ? lowerBound : null;
+      ByteBuffer upper = upperBoundFiles + allNullFiles >= fileCount ? upperBound : null;
+
+      if (values == null && nulls == null && nans == null && lower == null && upper == null) {
+        return null;
+      }
+
+      return new GenericColumnFieldSummary(fieldId, values, nulls, nans, lower, upper);
+    }
+  }
+}
@@ -76,6 +76,8 @@ public class DataTableScan extends BaseTableScan {
         .select(colStats ? SCAN_WITH_STATS_COLUMNS : SCAN_COLUMNS)
         .filterData(rowFilter)
         .specsById(ops.current().specsById())
+        .cacheManifests(ops.current().propertyAsBoolean(
+            TableProperties.MANIFEST_CACHE_ENABLED, TableProperties.MANIFEST_CACHE_ENABLED_DEFAULT))
         .ignoreDeleted();
 
     if (ignoreResiduals) {
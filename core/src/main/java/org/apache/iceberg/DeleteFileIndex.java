@@ -24,6 +24,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -68,7 +69,9 @@ class DeleteFileIndex {
   private final Map<Integer, ThreadLocal<StructLikeWrapper>> wrapperById;
   private final long[] globalSeqs;
   private final DeleteFile[] globalDeletes;
+  private final EqualityDeleteRanges globalRanges;
   private final Map<Pair<Integer, StructLikeWrapper>, Pair<long[], DeleteFile[]>> sortedDeletesByPartition;
+  private final Map<Pair<Integer, StructLikeWrapper>, EqualityDeleteRanges> rangesByPartition;
 
   DeleteFileIndex(Map<Integer, PartitionSpec> specsById, long[] globalSeqs, DeleteFile[] globalDeletes,
                   Map<Pair<Integer, StructLikeWrapper>, Pair<long[], DeleteFile[]>> sortedDeletesByPartition) {
@@ -79,7 +82,15 @@ class DeleteFileIndex {
     this.wrapperById = Maps.newConcurrentMap();
     this.globalSeqs = globalSeqs;
     this.globalDeletes = globalDeletes;
+    this.globalRanges = EqualityDeleteRanges.build(specsById, globalDeletes);
     this.sortedDeletesByPartition = sortedDeletesByPartition;
+    this.rangesByPartition = Maps.newHashMap();
+    sortedDeletesByPartition.forEach((partition, deletes) -> {
+      EqualityDeleteRanges ranges = EqualityDeleteRanges.build(specsById, deletes.second());
+      if (ranges != null) {
+        rangesByPartition.put(partition, ranges);
+      }
+    });
   }
 
   public boolean isEmpty() {
@@ -106,13 +117,15 @@ class DeleteFileIndex {
 
     Stream<DeleteFile> matchingDeletes;
     if (partitionDeletes == null) {
-      matchingDeletes = limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes);
+      matchingDeletes = limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes, globalRanges, file);
     } else if (globalDeletes == null) {
-      matchingDeletes = limitBySequenceNumber(sequenceNumber, partitionDeletes.first(), partitionDeletes.second());
+      matchingDeletes = limitBySequenceNumber(sequenceNumber, partitionDeletes.first(), partitionDeletes.second(),
+          rangesByPartition.get(partition), file);
     } else {
       matchingDeletes = Stream.concat(
-          limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes),
-          limitBySequenceNumber(sequenceNumber, partitionDeletes.first(), partitionDeletes.second()));
+          limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes, globalRanges, file),
+          limitBySequenceNumber(sequenceNumber, partitionDeletes.first(), partitionDeletes.second(),
+              rangesByPartition.get(partition), file));
     }
 
     return matchingDeletes
@@ -283,7 +296,8 @@ class DeleteFileIndex {
     return nullValueCount > 0;
   }
 
-  private static Stream<DeleteFile> limitBySequenceNumber(long sequenceNumber, long[] seqs, DeleteFile[] files) {
+  private static Stream<DeleteFile> limitBySequenceNumber(long sequenceNumber, long[] seqs, DeleteFile[] files,
+                                                          EqualityDeleteRanges ranges, DataFile dataFile) {
     if (files == null) {
       return Stream.empty();
     }
@@ -302,9 +316,222 @@ class DeleteFileIndex {
       }
     }
 
+    if (ranges != null) {
+      int[] candidates = ranges.candidates(start, dataFile);
+      if (candidates != null) {
+        return Arrays.stream(candidates).mapToObj(pos -> files[pos]);
+      }
+    }
+
     return Arrays.stream(files, start, files.length);
   }
 
+  /**
+   * An index of the delete files in a group by the range of values that each equality delete file removes for one
+   * equality field.
+   * <p>
+   * The field is chosen as the equality field that can be used to skip the most delete files. Equality delete files
+   * are indexed by the field if they have lower and upper bounds for it and do not delete null values. A delete
+   * file that is not indexed is always returned as a candidate.
+   * <p>
+   * Indexed ranges are sorted by lower bound and stored in an implicit binary tree that tracks the largest upper
+   * bound in each subtree, so finding the ranges that overlap a data file's range takes logarithmic time plus the
+   * number of matches. Candidates are still checked using the delete file's metrics, and that check skips every
+   * file that the index skips.
+   */
+  private static class EqualityDeleteRanges {
+    private static final int MIN_INDEXED_FILES = 16;
+
+    private final Types.NestedField field;
+    private final Comparator<Object> comparator;
+    private final int[] unindexedPositions;
+    private final int[] positions;
+    private final Object[] lowers;
+    private final Object[] uppers;
+    private final Object[] maxUppers;
+
+    static EqualityDeleteRanges build(Map<Integer, PartitionSpec> specsById, DeleteFile[] files) {
+      if (files == null || files.length < MIN_INDEXED_FILES) {
+        return null;
+      }
+
+      // count the files that can be indexed by each equality field and use the field that covers the most files
+      Map<Integer, Integer> indexableCounts = Maps.newHashMap();
+      for (DeleteFile file : files) {
+        Schema schema = schemaFor(specsById, file);
+        if (schema != null && file.content() == FileContent.EQUALITY_DELETES && file.equalityFieldIds() != null) {
+          for (int id : file.equalityFieldIds()) {
+            if (canIndex(schema.findField(id), file)) {
+              indexableCounts.merge(id, 1, Integer::sum);
+            }
+          }
+        }
+      }
+
+      Map.Entry<Integer, Integer> best = null;
+      for (Map.Entry<Integer, Integer> entry : indexableCounts.entrySet()) {
+        if (best == null || entry.getValue() > best.getValue()) {
+          best = entry;
+        }
+      }
+
+      if (best == null || best.getValue() < MIN_INDEXED_FILES) {
+        return null;
+      }
+
+      Types.NestedField field = schemaFor(specsById, files[0]).findField(best.getKey());
+      if (field == null || !field.type().isPrimitiveType()) {
+        return null;
+      }
+
+      return new EqualityDeleteRanges(specsById, field, files);
+    }
+
+    private static Schema schemaFor(Map<Integer, PartitionSpec> specsById, DeleteFile file) {
+      PartitionSpec spec = specsById.get(file.specId());
+      return spec != null ? spec.schema() : null;
+    }
+
+    private static boolean canIndex(Types.NestedField field, DeleteFile file) {
+      if (field == null || !field.type().isPrimitiveType()) {
+        return false;
+      }
+
+      if (file.content() != FileContent.EQUALITY_DELETES || file.equalityFieldIds() == null ||
+          !file.equalityFieldIds().contains(field.fieldId())) {
+        return false;
+      }
+
+      Map<Integer, ByteBuffer> lowerBounds = file.lowerBounds();
+      Map<Integer, ByteBuffer> upperBounds = file.upperBounds();
+      if (lowerBounds == null || upperBounds == null ||
+          lowerBounds.get(field.fieldId()) == null || upperBounds.get(field.fieldId()) == null) {
+        return false;
+      }
+
+      // deletes for null values must be applied to data files with nulls, regardless of bounds
+      return allNonNull(file.nullValueCounts(), field);
+    }
+
+    private EqualityDeleteRanges(Map<Integer, PartitionSpec> specsById, Types.NestedField field,
+                                 DeleteFile[] files) {
+      this.field = field;
+      this.comparator = Comparators.forType(field.type().asPrimitiveType());
+
+      List<Integer> indexed = Lists.newArrayList();
+      List<Integer> unindexed = Lists.newArrayList();
+      Object[] decodedLowers = new Object[files.length];
+      Object[] decodedUppers = new Object[files.length];
+      for (int pos = 0; pos < files.length; pos += 1) {
+        DeleteFile file = files[pos];
+        Schema schema = schemaFor(specsById, file);
+        Types.NestedField fileField = schema != null ? schema.findField(field.fieldId()) : null;
+        if (fileField != null && fileField.type().equals(field.type()) && canIndex(fileField, file)) {
+          decodedLowers[pos] = Conversions.fromByteBuffer(field.type(), file.lowerBounds().get(field.fieldId()));
+          decodedUppers[pos] = Conversions.fromByteBuffer(field.type(), file.upperBounds().get(field.fieldId()));
+          indexed.add(pos);
+        } else {
+          unindexed.add(pos);
+        }
+      }
+
+      indexed.sort((left, right) -> comparator.compare(decodedLowers[left], decodedLowers[right]));
+
+      this.unindexedPositions = unindexed.stream().mapToInt(Integer::intValue).toArray();
+      this.positions = indexed.stream().mapToInt(Integer::intValue).toArray();
+      this.lowers = new Object[positions.length];
+      this.uppers = new Object[positions.length];
+      for (int i = 0; i < positions.length; i += 1) {
+        lowers[i] = decodedLowers[positions[i]];
+        uppers[i] = decodedUppers[positions[i]];
+      }
+
+      this.maxUppers = new Object[positions.length];
+      buildMaxUppers(0, positions.length);
+    }
+
+    private Object buildMaxUppers(int low, int high) {
+      if (low >= high) {
+        return null;
+      }
+
+      int mid = (low + high) >>> 1;
+      Object max = uppers[mid];
+      Object leftMax = buildMaxUppers(low, mid);
+      if (leftMax != null && comparator.compare(leftMax, max) > 0) {
+        max = leftMax;
+      }
+
+      Object rightMax = buildMaxUppers(mid + 1, high);
+      if (rightMax != null && comparator.compare(rightMax, max) > 0) {
+        max = rightMax;
+      }
+
+      maxUppers[mid] = max;
+      return max;
+    }
+
+    /**
+     * Returns the sorted positions of delete files at or after start that may apply to a data file.
+     *
+     * @param start the first position of delete files with a sequence number that applies to the data file
+     * @param dataFile a data file
+     * @return sorted positions of candidate delete files, or null if the data file has no bounds for the field
+     */
+    int[] candidates(int start, DataFile dataFile) {
+      Map<Integer, ByteBuffer> dataLowers = dataFile.lowerBounds();
+      Map<Integer, ByteBuffer> dataUppers = dataFile.upperBounds();
+      if (dataLowers == null || dataUppers == null) {
+        return null;
+      }
+
+      ByteBuffer dataLowerBuf = dataLowers.get(field.fieldId());
+      ByteBuffer dataUpperBuf = dataUppers.get(field.fieldId());
+      if (dataLowerBuf == null || dataUpperBuf == null) {
+        return null;
+      }
+
+      Object dataLower = Conversions.fromByteBuffer(field.type(), dataLowerBuf);
+      Object dataUpper = Conversions.fromByteBuffer(field.type(), dataUpperBuf);
+
+      BitSet matches = new BitSet();
+      for (int pos : unindexedPositions) {
+        if (pos >= start) {
+          matches.set(pos);
+        }
+      }
+
+      findOverlapping(0, positions.length, start, dataLower, dataUpper, matches);
+
+      return matches.stream().toArray();
+    }
+
+    private void findOverlapping(int low, int high, int start, Object dataLower, Object dataUpper, BitSet matches) {
+      if (low >= high) {
+        return;
+      }
+
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(maxUppers[mid], dataLower) < 0) {
+        // no range in this subtree reaches the data file's lower bound
+        return;
+      }
+
+      findOverlapping(low, mid, start, dataLower, dataUpper, matches);
+
+      if (comparator.compare(lowers[mid], dataUpper) > 0) {
+        // this range and all ranges after it start after the data file's upper bound
+        return;
+      }
+
+      if (comparator.compare(uppers[mid], dataLower) >= 0 && positions[mid] >= start) {
+        matches.set(positions[mid]);
+      }
+
+      findOverlapping(mid + 1, high, start, dataLower, dataUpper, matches);
+    }
+  }
+
   static Builder builderFor(FileIO io, Iterable<ManifestFile> deleteManifests) {
     return new Builder(io, Sets.newHashSet(deleteManifests));
   }
@@ -317,6 +544,7 @@ class DeleteFileIndex {
     private Expression partitionFilter = Expressions.alwaysTrue();
     private boolean caseSensitive = true;
     private ExecutorService executorService = null;
+    private boolean cacheManifests = false;
 
     Builder(FileIO io, Set<ManifestFile> deleteManifests) {
       this.io = io;
@@ -348,6 +576,11 @@ class DeleteFileIndex {
       return this;
     }
 
+    Builder cacheManifests(boolean newCacheManifests) {
+      this.cacheManifests = newCacheManifests;
+      return this;
+    }
+
     DeleteFileIndex build() {
       // read all of the matching delete manifests in parallel and accumulate the matching files in a queue
       Queue<ManifestEntry<DeleteFile>> deleteEntries = new ConcurrentLinkedQueue<>();
@@ -445,7 +678,7 @@ class DeleteFileIndex {
       return Iterables.transform(
           matchingManifests,
           manifest ->
-              ManifestFiles.readDeleteManifest(manifest, io, specsById)
+              ManifestFiles.readDeleteManifest(manifest, io, specsById, cacheManifests)
                   .filterRows(dataFilter)
                   .filterPartitions(partitionFilter)
                   .caseSensitive(caseSensitive)
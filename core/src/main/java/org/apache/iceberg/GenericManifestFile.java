@@ -57,6 +57,7 @@ public class GenericManifestFile
   private Long existingRowsCount = null;
   private Long deletedRowsCount = null;
   private List<PartitionFieldSummary> partitions = null;
+  private List<ColumnFieldSummary> columnSummaries = null;
 
   /**
    * Used by Avro reflection to instantiate this class when reading manifest files.
@@ -99,6 +100,7 @@ public class GenericManifestFile
     this.deletedFilesCount = null;
     this.deletedRowsCount = null;
     this.partitions = null;
+    this.columnSummaries = null;
     this.fromProjectionPos = null;
   }
 
@@ -107,6 +109,16 @@ public class GenericManifestFile
                              int addedFilesCount, long addedRowsCount, int existingFilesCount,
                              long existingRowsCount, int deletedFilesCount, long deletedRowsCount,
                              List<PartitionFieldSummary> partitions) {
+    this(path, length, specId, content, sequenceNumber, minSequenceNumber, snapshotId,
+        addedFilesCount, addedRowsCount, existingFilesCount, existingRowsCount, deletedFilesCount, deletedRowsCount,
+        partitions, null);
+  }
+
+  public GenericManifestFile(String path, long length, int specId, ManifestContent content,
+                             long sequenceNumber, long minSequenceNumber, Long snapshotId,
+                             int addedFilesCount, long addedRowsCount, int existingFilesCount,
+                             long existingRowsCount, int deletedFilesCount, long deletedRowsCount,
+                             List<PartitionFieldSummary> partitions, List<ColumnFieldSummary> columnSummaries) {
     this.avroSchema = AVRO_SCHEMA;
     this.manifestPath = path;
     this.length = length;
@@ -122,6 +134,7 @@ public class GenericManifestFile
     this.deletedFilesCount = deletedFilesCount;
     this.deletedRowsCount = deletedRowsCount;
     this.partitions = partitions;
+    this.columnSummaries = columnSummaries;
     this.fromProjectionPos = null;
   }
 
@@ -146,6 +159,7 @@ public class GenericManifestFile
     this.deletedFilesCount = toCopy.deletedFilesCount;
     this.deletedRowsCount = toCopy.deletedRowsCount;
     this.partitions = copyList(toCopy.partitions, PartitionFieldSummary::copy);
+    this.columnSummaries = copyList(toCopy.columnSummaries, ColumnFieldSummary::copy);
     this.fromProjectionPos = toCopy.fromProjectionPos;
   }
 
@@ -238,6 +252,11 @@ public class GenericManifestFile
     return partitions;
   }
 
+  @Override
+  public List<ColumnFieldSummary> columnSummaries() {
+    return columnSummaries;
+  }
+
   @Override
   public int size() {
     return ManifestFile.schema().columns().size();
@@ -284,6 +303,8 @@ public class GenericManifestFile
         return deletedRowsCount;
       case 13:
         return partitions;
+      case 14:
+        return columnSummaries;
       default:
         throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
     }
@@ -341,6 +362,9 @@ public class GenericManifestFile
       case 13:
         this.partitions = (List<PartitionFieldSummary>) value;
         return;
+      case 14:
+        this.columnSummaries = (List<ColumnFieldSummary>) value;
+        return;
       default:
         // ignore the object, it must be from a newer version of the format
     }
@@ -391,6 +415,7 @@ public class GenericManifestFile
         .add("deleted_data_files_count", deletedFilesCount)
         .add("deleted_rows_count", deletedRowsCount)
         .add("partitions", partitions)
+        .add("column_summaries", columnSummaries)
         .toString();
   }
 
@@ -410,7 +435,8 @@ public class GenericManifestFile
             toCopy.sequenceNumber(), toCopy.minSequenceNumber(), toCopy.snapshotId(),
             toCopy.addedFilesCount(), toCopy.addedRowsCount(), toCopy.existingFilesCount(),
             toCopy.existingRowsCount(), toCopy.deletedFilesCount(), toCopy.deletedRowsCount(),
-            copyList(toCopy.partitions(), PartitionFieldSummary::copy));
+            copyList(toCopy.partitions(), PartitionFieldSummary::copy),
+            copyList(toCopy.columnSummaries(), ColumnFieldSummary::copy));
       }
     }
 
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+
+/**
+ * A process-wide cache of decoded manifest entries.
+ * <p>
+ * Manifest files are immutable once written, so entries are cached by manifest path and length. Cached entries are
+ * stored before inheritable metadata is applied and are never handed out directly; readers copy each entry before
+ * applying inherited snapshot IDs and sequence numbers, and drop column stats that were not projected.
+ * <p>
+ * The cache is bounded by the estimated heap size of the decoded entries, set using the
+ * {@link SystemProperties#MANIFEST_CACHE_MAX_TOTAL_BYTES} system property. Decoded entries with column stats are
+ * many times larger than the compressed manifest, so the estimate is based on the content of each entry.
+ */
+class ManifestCache {
+  private static final long MAX_TOTAL_BYTES_DEFAULT = 100 * 1024 * 1024; // 100 MB
+
+  // approximate heap sizes of JVM objects, used to estimate the size of decoded entries
+  private static final int ENTRY_SIZE = 64;
+  private static final int FILE_SIZE = 200;
+  private static final int PARTITION_VALUE_SIZE = 24;
+  private static final int COUNT_SIZE = 64;
+  private static final int BOUND_SIZE = 112;
+  private static final int LIST_ELEMENT_SIZE = 24;
+
+  private static volatile ManifestCache instance = null;
+
+  static ManifestCache get() {
+    if (instance == null) {
+      synchronized (ManifestCache.class) {
+        if (instance == null) {
+          instance = new ManifestCache(SystemProperties.getLong(
+              SystemProperties.MANIFEST_CACHE_MAX_TOTAL_BYTES, MAX_TOTAL_BYTES_DEFAULT));
+        }
+      }
+    }
+
+    return instance;
+  }
+
+  private final Cache<Key, CachedManifest<?>> entries;
+
+  ManifestCache(long maxTotalBytes) {
+    this.entries = Caffeine.newBuilder()
+        .maximumWeight(maxTotalBytes)
+        .weigher((Key key, CachedManifest<?> value) -> (int) Math.min(value.estimatedSize(), Integer.MAX_VALUE))
+        .recordStats()
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  <F extends ContentFile<F>> CachedManifest<F> get(String path, long length, Supplier<CachedManifest<F>> loader) {
+    return (CachedManifest<F>) entries.get(new Key(path, length), key -> loader.get());
+  }
+
+  ManifestCacheStats stats() {
+    CacheStats stats = entries.stats();
+    long estimatedSize = entries.policy().eviction()
+        .map(Policy.Eviction::weightedSize)
+        .map(size -> size.orElse(0L))
+        .orElse(0L);
+    return new ManifestCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), estimatedSize);
+  }
+
+  void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  static class CachedManifest<F extends ContentFile<F>> {
+    private final Map<String, String> metadata;
+    private final List<ManifestEntry<F>> entries;
+    private final long estimatedSize;
+
+    CachedManifest(Map<String, String> metadata, List<ManifestEntry<F>> entries) {
+      this.metadata = ImmutableMap.copyOf(metadata);
+      this.entries = ImmutableList.copyOf(entries);
+      this.estimatedSize = entries.stream().mapToLong(entry -> estimateSize(entry.file())).sum();
+    }
+
+    long estimatedSize() {
+      return estimatedSize;
+    }
+
+    Map<String, String> metadata() {
+      return metadata;
+    }
+
+    List<ManifestEntry<F>> entries() {
+      return entries;
+    }
+  }
+
+  static long estimateSize(ContentFile<?> file) {
+    long size = ENTRY_SIZE + FILE_SIZE;
+    size += 2L * file.path().length();
+    size += file.partition() != null ? (long) PARTITION_VALUE_SIZE * file.partition().size() : 0L;
+    size += countsSize(file.columnSizes());
+    size += countsSize(file.valueCounts());
+    size += countsSize(file.nullValueCounts());
+    size += countsSize(file.nanValueCounts());
+    size += boundsSize(file.lowerBounds());
+    size += boundsSize(file.upperBounds());
+    size += file.keyMetadata() != null ? BOUND_SIZE + file.keyMetadata().remaining() : 0L;
+    size += file.splitOffsets() != null ? (long) LIST_ELEMENT_SIZE * file.splitOffsets().size() : 0L;
+    size += file.equalityFieldIds() != null ? (long) LIST_ELEMENT_SIZE * file.equalityFieldIds().size() : 0L;
+    return size;
+  }
+
+  private static long countsSize(Map<Integer, Long> counts) {
+    return counts != null ? (long) COUNT_SIZE * counts.size() : 0L;
+  }
+
+  private static long boundsSize(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0L;
+    }
+
+    long size = 0L;
+    for (ByteBuffer bound : bounds.values()) {
+      size += BOUND_SIZE + (bound != null ? bound.remaining() : 0);
+    }
+
+    return size;
+  }
+
+  private static class Key {
+    private final String path;
+    private final long length;
+
+    private Key(String path, long length) {
+      this.path = path;
+      this.length = length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return length == that.length && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, length);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("path", path)
+          .add("length", length)
+          .toString();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+
+/**
+ * Statistics for the process-wide manifest cache.
+ * <p>
+ * Counts are cumulative since the cache was created. Use {@link #minus(ManifestCacheStats)} to get the counts for an
+ * interval.
+ */
+public class ManifestCacheStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long estimatedSizeBytes;
+
+  ManifestCacheStats(long hitCount, long missCount, long evictionCount, long estimatedSizeBytes) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.estimatedSizeBytes = estimatedSizeBytes;
+  }
+
+  /**
+   * @return the number of manifest reads that used cached entries
+   */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of manifest reads that loaded entries into the cache
+   */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the number of manifests that were evicted from the cache
+   */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * @return the estimated heap size, in bytes, of the decoded entries in the cache
+   */
+  public long estimatedSizeBytes() {
+    return estimatedSizeBytes;
+  }
+
+  /**
+   * Returns the difference between these stats and earlier stats.
+   * <p>
+   * Counts are subtracted and the estimated size is the current size.
+   *
+   * @param other earlier stats
+   * @return stats for the interval between other and these stats
+   */
+  public ManifestCacheStats minus(ManifestCacheStats other) {
+    return new ManifestCacheStats(
+        Math.max(0L, hitCount - other.hitCount),
+        Math.max(0L, missCount - other.missCount),
+        Math.max(0L, evictionCount - other.evictionCount),
+        estimatedSizeBytes);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("hitCount", hitCount)
+        .add("missCount", missCount)
+        .add("evictionCount", evictionCount)
+        .add("estimatedSizeBytes", estimatedSizeBytes)
+        .toString();
+  }
+}
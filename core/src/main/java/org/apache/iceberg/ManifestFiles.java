@@ -40,7 +40,8 @@ public class ManifestFiles {
   private static final org.apache.avro.Schema MANIFEST_AVRO_SCHEMA = AvroSchemaUtil.convert(ManifestFile.schema(),
       ImmutableMap.of(
           ManifestFile.schema().asStruct(), GenericManifestFile.class.getName(),
-          ManifestFile.PARTITION_SUMMARY_TYPE, GenericPartitionFieldSummary.class.getName()
+          ManifestFile.PARTITION_SUMMARY_TYPE, GenericPartitionFieldSummary.class.getName(),
+          ManifestFile.COLUMN_SUMMARY_TYPE, GenericColumnFieldSummary.class.getName()
       ));
 
   /**
@@ -80,11 +81,17 @@ public class ManifestFiles {
    * @return a {@link ManifestReader}
    */
   public static ManifestReader<DataFile> read(ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+    return read(manifest, io, specsById, false);
+  }
+
+  static ManifestReader<DataFile> read(ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById,
+                                       boolean useCache) {
     Preconditions.checkArgument(manifest.content() == ManifestContent.DATA,
         "Cannot read a delete manifest with a ManifestReader: %s", manifest);
     InputFile file = io.newInputFile(manifest.path());
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.fromManifest(manifest);
-    return new ManifestReader<>(file, specsById, inheritableMetadata, FileType.DATA_FILES);
+    return new ManifestReader<>(file, specsById, inheritableMetadata, FileType.DATA_FILES,
+        cacheFor(useCache, specsById), manifest.length());
   }
 
   /**
@@ -131,11 +138,40 @@ public class ManifestFiles {
    */
   public static ManifestReader<DeleteFile> readDeleteManifest(ManifestFile manifest, FileIO io,
                                                               Map<Integer, PartitionSpec> specsById) {
+    return readDeleteManifest(manifest, io, specsById, false);
+  }
+
+  static ManifestReader<DeleteFile> readDeleteManifest(ManifestFile manifest, FileIO io,
+                                                       Map<Integer, PartitionSpec> specsById, boolean useCache) {
     Preconditions.checkArgument(manifest.content() == ManifestContent.DELETES,
         "Cannot read a data manifest with a DeleteManifestReader: %s", manifest);
     InputFile file = io.newInputFile(manifest.path());
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.fromManifest(manifest);
-    return new ManifestReader<>(file, specsById, inheritableMetadata, FileType.DELETE_FILES);
+    return new ManifestReader<>(file, specsById, inheritableMetadata, FileType.DELETE_FILES,
+        cacheFor(useCache, specsById), manifest.length());
+  }
+
+  /**
+   * Returns hit, miss, and eviction statistics for the process-wide manifest cache.
+   * <p>
+   * The cache is used when planning scans for tables with {@link TableProperties#MANIFEST_CACHE_ENABLED} set.
+   *
+   * @return {@link ManifestCacheStats} for the manifest cache
+   */
+  public static ManifestCacheStats cacheStats() {
+    return ManifestCache.get().stats();
+  }
+
+  /**
+   * Removes all entries from the process-wide manifest cache.
+   */
+  public static void dropCache() {
+    ManifestCache.get().invalidateAll();
+  }
+
+  private static ManifestCache cacheFor(boolean useCache, Map<Integer, PartitionSpec> specsById) {
+    // entries are decoded using the partition type of the spec, so only cache when specs come from table metadata
+    return useCache && specsById != null ? ManifestCache.get() : null;
   }
 
   /**
@@ -31,6 +31,7 @@ import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.ManifestEvaluator;
+import org.apache.iceberg.expressions.ManifestMetricsEvaluator;
 import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
@@ -43,6 +44,8 @@ import org.apache.iceberg.util.ParallelIterable;
 
 class ManifestGroup {
   private static final Types.StructType EMPTY_STRUCT = Types.StructType.of();
+  private static final int PLAN_MAX_QUEUE_SIZE =
+      SystemProperties.getInt(SystemProperties.SCAN_MAX_QUEUE_SIZE, 10000);
 
   private final FileIO io;
   private final Set<ManifestFile> dataManifests;
@@ -59,6 +62,7 @@ class ManifestGroup {
   private List<String> columns;
   private boolean caseSensitive;
   private ExecutorService executorService;
+  private boolean cacheManifests;
 
   ManifestGroup(FileIO io, Iterable<ManifestFile> manifests) {
     this(io,
@@ -78,6 +82,7 @@ class ManifestGroup {
     this.ignoreResiduals = false;
     this.columns = ManifestReader.ALL_COLUMNS;
     this.caseSensitive = true;
+    this.cacheManifests = false;
     this.manifestPredicate = m -> true;
     this.manifestEntryPredicate = e -> true;
   }
@@ -147,6 +152,12 @@ class ManifestGroup {
     return this;
   }
 
+  ManifestGroup cacheManifests(boolean newCacheManifests) {
+    this.cacheManifests = newCacheManifests;
+    deleteIndexBuilder.cacheManifests(newCacheManifests);
+    return this;
+  }
+
   /**
    * Returns a iterable of scan tasks. It is safe to add entries of this iterable
    * to a collection as {@link DataFile} in each {@link FileScanTask} is defensively
@@ -183,7 +194,7 @@ class ManifestGroup {
     });
 
     if (executorService != null) {
-      return new ParallelIterable<>(tasks, executorService);
+      return new ParallelIterable<>(tasks, executorService, PLAN_MAX_QUEUE_SIZE);
     } else {
       return CloseableIterable.concat(tasks);
     }
@@ -221,6 +232,17 @@ class ManifestGroup {
     Iterable<ManifestFile> matchingManifests = evalCache == null ? dataManifests :
         Iterables.filter(dataManifests, manifest -> evalCache.get(manifest.partitionSpecId()).eval(manifest));
 
+    if (specsById != null && dataFilter != Expressions.alwaysTrue()) {
+      // skip manifests using column bounds aggregated from the data files they track
+      LoadingCache<Integer, ManifestMetricsEvaluator> metricsEvalCache = Caffeine.newBuilder().build(specId -> {
+        PartitionSpec spec = specsById.get(specId);
+        return ManifestMetricsEvaluator.forRowFilter(dataFilter, spec.schema(), caseSensitive);
+      });
+
+      matchingManifests = Iterables.filter(matchingManifests,
+          manifest -> metricsEvalCache.get(manifest.partitionSpecId()).eval(manifest));
+    }
+
     if (ignoreDeleted) {
       // only scan manifests that have entries other than deletes
       // remove any manifests that don't have any existing or added files. if either the added or
@@ -242,7 +264,7 @@ class ManifestGroup {
     return Iterables.transform(
         matchingManifests,
         manifest -> {
-          ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io, specsById)
+          ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io, specsById, cacheManifests)
               .filterRows(dataFilter)
               .filterPartitions(partitionFilter)
               .caseSensitive(caseSensitive)
@@ -32,13 +32,14 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 abstract class ManifestListWriter implements FileAppender<ManifestFile> {
   private final FileAppender<ManifestFile> writer;
 
-  private ManifestListWriter(OutputFile file, Map<String, String> meta) {
-    this.writer = newAppender(file, meta);
+  private ManifestListWriter(OutputFile file, Map<String, String> meta, boolean writeColumnSummaries) {
+    this.writer = newAppender(file, meta, writeColumnSummaries);
   }
 
   protected abstract ManifestFile prepare(ManifestFile manifest);
 
-  protected abstract FileAppender<ManifestFile> newAppender(OutputFile file, Map<String, String> meta);
+  protected abstract FileAppender<ManifestFile> newAppender(OutputFile file, Map<String, String> meta,
+                                                            boolean writeColumnSummaries);
 
   @Override
   public void add(ManifestFile manifest) {
@@ -73,12 +74,13 @@ abstract class ManifestListWriter implements FileAppender<ManifestFile> {
   static class V2Writer extends ManifestListWriter {
     private final V2Metadata.IndexedManifestFile wrapper;
 
-    V2Writer(OutputFile snapshotFile, long snapshotId, Long parentSnapshotId, long sequenceNumber) {
+    V2Writer(OutputFile snapshotFile, long snapshotId, Long parentSnapshotId, long sequenceNumber,
+             boolean writeColumnSummaries) {
       super(snapshotFile, ImmutableMap.of(
           "snapshot-id", String.valueOf(snapshotId),
           "parent-snapshot-id", String.valueOf(parentSnapshotId),
           "sequence-number", String.valueOf(sequenceNumber),
-          "format-version", "2"));
+          "format-version", "2"), writeColumnSummaries);
       this.wrapper = new V2Metadata.IndexedManifestFile(snapshotId, sequenceNumber);
     }
 
@@ -88,10 +90,12 @@ abstract class ManifestListWriter implements FileAppender<ManifestFile> {
     }
 
     @Override
-    protected FileAppender<ManifestFile> newAppender(OutputFile file, Map<String, String> meta) {
+    protected FileAppender<ManifestFile> newAppender(OutputFile file, Map<String, String> meta,
+                                                     boolean writeColumnSummaries) {
       try {
         return Avro.write(file)
-            .schema(V2Metadata.MANIFEST_LIST_SCHEMA)
+            .schema(writeColumnSummaries ?
+                V2Metadata.MANIFEST_LIST_SCHEMA_WITH_COLUMN_SUMMARIES : V2Metadata.MANIFEST_LIST_SCHEMA)
             .named("manifest_file")
             .meta(meta)
             .overwrite()
@@ -106,11 +110,11 @@ abstract class ManifestListWriter implements FileAppender<ManifestFile> {
   static class V1Writer extends ManifestListWriter {
     private final V1Metadata.IndexedManifestFile wrapper = new V1Metadata.IndexedManifestFile();
 
-    V1Writer(OutputFile snapshotFile, long snapshotId, Long parentSnapshotId) {
+    V1Writer(OutputFile snapshotFile, long snapshotId, Long parentSnapshotId, boolean writeColumnSummaries) {
       super(snapshotFile, ImmutableMap.of(
           "snapshot-id", String.valueOf(snapshotId),
           "parent-snapshot-id", String.valueOf(parentSnapshotId),
-          "format-version", "1"));
+          "format-version", "1"), writeColumnSummaries);
     }
 
     @Override
@@ -121,10 +125,12 @@ abstract class ManifestListWriter implements FileAppender<ManifestFile> {
     }
 
     @Override
-    protected FileAppender<ManifestFile> newAppender(OutputFile file, Map<String, String> meta) {
+    protected FileAppender<ManifestFile> newAppender(OutputFile file, Map<String, String> meta,
+                                                     boolean writeColumnSummaries) {
       try {
         return Avro.write(file)
-            .schema(V1Metadata.MANIFEST_LIST_SCHEMA)
+            .schema(writeColumnSummaries ?
+                V1Metadata.MANIFEST_LIST_SCHEMA_WITH_COLUMN_SUMMARIES : V1Metadata.MANIFEST_LIST_SCHEMA)
             .named("manifest_file")
             .meta(meta)
             .overwrite()
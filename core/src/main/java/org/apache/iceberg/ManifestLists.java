@@ -38,6 +38,8 @@ class ManifestLists {
         .rename("manifest_file", GenericManifestFile.class.getName())
         .rename("partitions", GenericPartitionFieldSummary.class.getName())
         .rename("r508", GenericPartitionFieldSummary.class.getName())
+        .rename("column_summaries", GenericColumnFieldSummary.class.getName())
+        .rename("r10001", GenericColumnFieldSummary.class.getName())
         .classLoader(GenericManifestFile.class.getClassLoader())
         .project(ManifestFile.schema())
         .reuseContainers(false)
@@ -52,13 +54,20 @@ class ManifestLists {
 
   static ManifestListWriter write(int formatVersion, OutputFile manifestListFile,
                                   long snapshotId, Long parentSnapshotId, long sequenceNumber) {
+    return write(formatVersion, manifestListFile, snapshotId, parentSnapshotId, sequenceNumber, false);
+  }
+
+  static ManifestListWriter write(int formatVersion, OutputFile manifestListFile,
+                                  long snapshotId, Long parentSnapshotId, long sequenceNumber,
+                                  boolean writeColumnSummaries) {
     switch (formatVersion) {
       case 1:
         Preconditions.checkArgument(sequenceNumber == TableMetadata.INITIAL_SEQUENCE_NUMBER,
             "Invalid sequence number for v1 manifest list: %s", sequenceNumber);
-        return new ManifestListWriter.V1Writer(manifestListFile, snapshotId, parentSnapshotId);
+        return new ManifestListWriter.V1Writer(manifestListFile, snapshotId, parentSnapshotId, writeColumnSummaries);
       case 2:
-        return new ManifestListWriter.V2Writer(manifestListFile, snapshotId, parentSnapshotId, sequenceNumber);
+        return new ManifestListWriter.V2Writer(manifestListFile, snapshotId, parentSnapshotId, sequenceNumber,
+            writeColumnSummaries);
     }
     throw new UnsupportedOperationException("Cannot write manifest list for table version: " + formatVersion);
   }
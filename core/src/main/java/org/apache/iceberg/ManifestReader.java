@@ -57,6 +57,11 @@ public class ManifestReader<F extends ContentFile<F>>
   private static final Set<String> STATS_COLUMNS = ImmutableSet.of(
       "value_counts", "null_value_counts", "nan_value_counts", "lower_bounds", "upper_bounds", "record_count");
 
+  // stats fields that are dropped from cached entries when they are not projected
+  private static final Set<Integer> STATS_FIELD_IDS = ImmutableSet.of(
+      DataFile.COLUMN_SIZES.fieldId(), DataFile.VALUE_COUNTS.fieldId(), DataFile.NULL_VALUE_COUNTS.fieldId(),
+      DataFile.NAN_VALUE_COUNTS.fieldId(), DataFile.LOWER_BOUNDS.fieldId(), DataFile.UPPER_BOUNDS.fieldId());
+
   protected enum FileType {
     DATA_FILES(GenericDataFile.class.getName()),
     DELETE_FILES(GenericDeleteFile.class.getName());
@@ -78,6 +83,7 @@ public class ManifestReader<F extends ContentFile<F>>
   private final Map<String, String> metadata;
   private final PartitionSpec spec;
   private final Schema fileSchema;
+  private final ManifestCache.CachedManifest<F> cached;
 
   // updated by configuration methods
   private Expression partFilter = alwaysTrue();
@@ -92,20 +98,41 @@ public class ManifestReader<F extends ContentFile<F>>
 
   protected ManifestReader(InputFile file, Map<Integer, PartitionSpec> specsById,
                            InheritableMetadata inheritableMetadata, FileType content) {
+    this(file, specsById, inheritableMetadata, content, null, 0L);
+  }
+
+  ManifestReader(InputFile file, Map<Integer, PartitionSpec> specsById,
+                 InheritableMetadata inheritableMetadata, FileType content,
+                 ManifestCache cache, long length) {
     this.file = file;
     this.inheritableMetadata = inheritableMetadata;
     this.content = content;
 
+    if (cache != null) {
+      this.cached = cache.get(file.location(), length, () -> load(file, specsById, content));
+      this.metadata = cached.metadata();
+    } else {
+      this.cached = null;
+      this.metadata = readMetadata(file);
+    }
+
+    this.spec = specFor(metadata, specsById);
+    this.fileSchema = new Schema(DataFile.getType(spec.partitionType()).fields());
+  }
+
+  private static Map<String, String> readMetadata(InputFile file) {
     try {
-      try (AvroIterable<ManifestEntry<F>> headerReader = Avro.read(file)
+      try (AvroIterable<ManifestEntry<?>> headerReader = Avro.read(file)
           .project(ManifestEntry.getSchema(Types.StructType.of()).select("status"))
           .build()) {
-        this.metadata = headerReader.getMetadata();
+        return headerReader.getMetadata();
       }
     } catch (IOException e) {
       throw new RuntimeIOException(e);
     }
+  }
 
+  private static PartitionSpec specFor(Map<String, String> metadata, Map<Integer, PartitionSpec> specsById) {
     int specId = TableMetadata.INITIAL_SPEC_ID;
     String specProperty = metadata.get("partition-spec-id");
     if (specProperty != null) {
@@ -113,13 +140,28 @@ public class ManifestReader<F extends ContentFile<F>>
     }
 
     if (specsById != null) {
-      this.spec = specsById.get(specId);
+      return specsById.get(specId);
     } else {
       Schema schema = SchemaParser.fromJson(metadata.get("schema"));
-      this.spec = PartitionSpecParser.fromJsonFields(schema, specId, metadata.get("partition-spec"));
+      return PartitionSpecParser.fromJsonFields(schema, specId, metadata.get("partition-spec"));
     }
+  }
 
-    this.fileSchema = new Schema(DataFile.getType(spec.partitionType()).fields());
+  private static <F extends ContentFile<F>> ManifestCache.CachedManifest<F> load(
+      InputFile file, Map<Integer, PartitionSpec> specsById, FileType content) {
+    // cache all columns of every entry, before inheritable metadata is applied
+    List<ManifestEntry<F>> entries = Lists.newArrayList();
+    try (ManifestReader<F> reader =
+             new ManifestReader<>(file, specsById, InheritableMetadataFactory.empty(), content)) {
+      for (ManifestEntry<F> entry : reader.openRaw(reader.fileSchema)) {
+        entries.add(entry.copy());
+      }
+
+      return new ManifestCache.CachedManifest<>(reader.metadata, entries);
+
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to close manifest: %s", file.location());
+    }
   }
 
   public boolean isDeleteManifestReader() {
@@ -188,6 +230,18 @@ public class ManifestReader<F extends ContentFile<F>>
   }
 
   private CloseableIterable<ManifestEntry<F>> open(Schema projection) {
+    if (cached != null) {
+      // cached entries contain all columns, so drop the stats if the projection does not include them
+      boolean projectsStats = STATS_FIELD_IDS.stream().anyMatch(id -> projection.findField(id) != null);
+      return CloseableIterable.transform(
+          CloseableIterable.withNoopClose(cached.entries()),
+          entry -> inheritableMetadata.apply(projectsStats ? entry.copy() : entry.copyWithoutStats()));
+    }
+
+    return CloseableIterable.transform(openRaw(projection), inheritableMetadata::apply);
+  }
+
+  private CloseableIterable<ManifestEntry<F>> openRaw(Schema projection) {
     FileFormat format = FileFormat.fromFileName(file.location());
     Preconditions.checkArgument(format != null, "Unable to determine format of manifest: %s", file);
 
@@ -210,7 +264,7 @@ public class ManifestReader<F extends ContentFile<F>>
 
         addCloseable(reader);
 
-        return CloseableIterable.transform(reader, inheritableMetadata::apply);
+        return reader;
 
       default:
         throw new UnsupportedOperationException("Invalid format for manifest file: " + format);
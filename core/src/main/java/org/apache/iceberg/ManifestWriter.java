@@ -20,6 +20,9 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.FileAppender;
@@ -42,6 +45,8 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
   private final Long snapshotId;
   private final GenericManifestEntry<F> reused;
   private final PartitionSummary stats;
+  private final Schema schema;
+  private ColumnSummary columnStats = null;
 
   private boolean closed = false;
   private int addedFiles = 0;
@@ -59,6 +64,23 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     this.snapshotId = snapshotId;
     this.reused = new GenericManifestEntry<>(spec.partitionType());
     this.stats = new PartitionSummary(spec);
+    this.schema = spec.schema();
+  }
+
+  /**
+   * Summarizes the metrics of the given data columns across all files written to this manifest.
+   * <p>
+   * Summaries are only stored in manifest lists of tables that set
+   * {@link TableProperties#MANIFEST_COLUMN_SUMMARIES}, and are used to skip data manifests when planning scans.
+   *
+   * @param fieldIds IDs of the columns to summarize
+   * @return this for method chaining
+   */
+  ManifestWriter<F> summarizeColumns(Set<Integer> fieldIds) {
+    Preconditions.checkState(addedFiles + existingFiles + deletedFiles == 0,
+        "Cannot summarize columns after files have been written");
+    this.columnStats = fieldIds.isEmpty() ? null : new ColumnSummary(schema, fieldIds);
+    return this;
   }
 
   protected abstract ManifestEntry<F> prepare(ManifestEntry<F> entry);
@@ -85,6 +107,9 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
         break;
     }
     stats.update(entry.file().partition());
+    if (columnStats != null && content() == ManifestContent.DATA) {
+      columnStats.update(entry.file());
+    }
     if (entry.sequenceNumber() != null && (minSequenceNumber == null || entry.sequenceNumber() < minSequenceNumber)) {
       this.minSequenceNumber = entry.sequenceNumber();
     }
@@ -154,9 +179,13 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     // if the minSequenceNumber is null, then no manifests with a sequence number have been written, so the min
     // sequence number is the one that will be assigned when this is committed. pass UNASSIGNED_SEQ to inherit it.
     long minSeqNumber = minSequenceNumber != null ? minSequenceNumber : UNASSIGNED_SEQ;
+    // column summaries are only used to filter data manifests
+    List<ColumnFieldSummary> columnSummaries =
+        columnStats != null && content() == ManifestContent.DATA ? columnStats.summaries() : null;
     return new GenericManifestFile(file.location(), writer.length(), specId, content(),
         UNASSIGNED_SEQ, minSeqNumber, snapshotId,
-        addedFiles, addedRows, existingFiles, existingRows, deletedFiles, deletedRows, stats.summaries());
+        addedFiles, addedRows, existingFiles, existingRows, deletedFiles, deletedRows, stats.summaries(),
+        columnSummaries);
   }
 
   @Override
@@ -32,11 +32,13 @@ import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.util.BulkDeletionUtil;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.iceberg.util.Tasks;
@@ -367,27 +369,29 @@ class RemoveSnapshots implements ExpireSnapshots {
     LOG.warn("Manifests to delete: {}", Joiner.on(", ").join(manifestsToDelete));
     LOG.warn("Manifests Lists to delete: {}", Joiner.on(", ").join(manifestListsToDelete));
 
-    Tasks.foreach(manifestsToDelete)
-        .executeWith(deleteExecutorService)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((manifest, exc) -> LOG.warn("Delete failed for manifest: {}", manifest, exc))
-        .run(deleteFunc::accept);
-
-    Tasks.foreach(manifestListsToDelete)
-        .executeWith(deleteExecutorService)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((list, exc) -> LOG.warn("Delete failed for manifest list: {}", list, exc))
-        .run(deleteFunc::accept);
+    deleteFiles(manifestsToDelete, "manifest");
+    deleteFiles(manifestListsToDelete, "manifest list");
   }
 
   private void deleteDataFiles(Set<ManifestFile> manifestsToScan, Set<ManifestFile> manifestsToRevert,
                                Set<Long> validIds) {
     Set<String> filesToDelete = findFilesToDelete(manifestsToScan, manifestsToRevert, validIds);
-    Tasks.foreach(filesToDelete)
-        .executeWith(deleteExecutorService)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((file, exc) -> LOG.warn("Delete failed for data file: {}", file, exc))
-        .run(file -> deleteFunc.accept(file));
+    deleteFiles(filesToDelete, "data file");
+  }
+
+  private void deleteFiles(Set<String> pathsToDelete, String fileType) {
+    if (deleteFunc == defaultDelete && ops.io() instanceof SupportsBulkOperations) {
+      // the FileIO deletes in batches with its own parallelism, so the delete executor service is not used
+      BulkDeletionUtil.deleteFiles((SupportsBulkOperations) ops.io(), pathsToDelete, 3,
+          (file, exc) -> LOG.warn("Delete failed for {}: {}", fileType, file, exc));
+
+    } else {
+      Tasks.foreach(pathsToDelete)
+          .executeWith(deleteExecutorService)
+          .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
+          .onFailure((file, exc) -> LOG.warn("Delete failed for {}: {}", fileType, file, exc))
+          .run(deleteFunc::accept);
+    }
   }
 
   private Set<String> findFilesToDelete(Set<ManifestFile> manifestsToScan, Set<ManifestFile> manifestsToRevert,
@@ -38,6 +38,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Exceptions;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -52,6 +53,7 @@ import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES;
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.MANIFEST_COLUMN_SUMMARIES;
 import static org.apache.iceberg.TableProperties.MANIFEST_LISTS_ENABLED;
 import static org.apache.iceberg.TableProperties.MANIFEST_LISTS_ENABLED_DEFAULT;
 
@@ -165,8 +167,10 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     if (base.formatVersion() > 1 || base.propertyAsBoolean(MANIFEST_LISTS_ENABLED, MANIFEST_LISTS_ENABLED_DEFAULT)) {
       OutputFile manifestList = manifestListPath();
 
+      boolean writeColumnSummaries = !columnSummaryFieldIds(base).isEmpty();
       try (ManifestListWriter writer = ManifestLists.write(
-          ops.current().formatVersion(), manifestList, snapshotId(), parentSnapshotId, sequenceNumber)) {
+          ops.current().formatVersion(), manifestList, snapshotId(), parentSnapshotId, sequenceNumber,
+          writeColumnSummaries)) {
 
         // keep track of the manifest lists created
         manifestLists.add(manifestList.location());
@@ -364,7 +368,21 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   }
 
   protected ManifestWriter<DataFile> newManifestWriter(PartitionSpec spec) {
-    return ManifestFiles.write(ops.current().formatVersion(), spec, newManifestOutput(), snapshotId());
+    return ManifestFiles.write(ops.current().formatVersion(), spec, newManifestOutput(), snapshotId())
+        .summarizeColumns(columnSummaryFieldIds(ops.current()));
+  }
+
+  private static Set<Integer> columnSummaryFieldIds(TableMetadata metadata) {
+    Set<Integer> fieldIds = Sets.newHashSet();
+    for (String name : metadata.property(MANIFEST_COLUMN_SUMMARIES, "").split(",")) {
+      // ignore columns that no longer exist
+      Types.NestedField field = name.trim().isEmpty() ? null : metadata.schema().findField(name.trim());
+      if (field != null) {
+        fieldIds.add(field.fieldId());
+      }
+    }
+
+    return fieldIds;
   }
 
   protected ManifestWriter<DeleteFile> newDeleteManifestWriter(PartitionSpec spec) {
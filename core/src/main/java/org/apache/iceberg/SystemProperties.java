@@ -39,11 +39,107 @@ public class SystemProperties {
    */
   public static final String SCAN_THREAD_POOL_ENABLED = "iceberg.scan.plan-in-worker-pool";
 
-  static boolean getBoolean(String systemProperty, boolean defaultValue) {
+  /**
+   * Sets the maximum number of planned tasks that are queued while a scan is planned using the worker pool. Workers
+   * reading manifests are paused when the queue is full, so that planning uses bounded memory.
+   */
+  public static final String SCAN_MAX_QUEUE_SIZE = "iceberg.scan.plan-max-queue-size";
+
+  /**
+   * Sets the maximum estimated heap size, in bytes, of the decoded entries held by the process-wide manifest cache.
+   * The cache is only used for tables that enable {@link TableProperties#MANIFEST_CACHE_ENABLED}.
+   */
+  public static final String MANIFEST_CACHE_MAX_TOTAL_BYTES = "iceberg.manifest.cache.max-total-bytes";
+
+  /**
+   * Sets the number of bytes of direct memory shared by all large equality delete sets in the JVM when reading deletes.
+   * Keys that do not fit are spilled to files in {@link #DELETE_SPILL_DIR}.
+   */
+  public static final String DELETE_SET_MAX_MEMORY_BYTES = "iceberg.deletes.equality-set.max-memory-bytes";
+
+  /**
+   * Sets the local directory used to spill large equality delete sets. Defaults to java.io.tmpdir.
+   */
+  public static final String DELETE_SPILL_DIR = "iceberg.deletes.spill-dir";
+
+  /**
+   * Whether to cache loaded delete files so that they can be reused by tasks in the same JVM. Defaults to false.
+   */
+  public static final String DELETE_CACHE_ENABLED = "iceberg.deletes.cache.enabled";
+
+  /**
+   * Sets the maximum estimated heap size, in bytes, of delete files held by the JVM-wide delete cache.
+   */
+  public static final String DELETE_CACHE_MAX_TOTAL_BYTES = "iceberg.deletes.cache.max-total-bytes";
+
+  /**
+   * Whether delta writers spill sorted position deletes to {@link #DELETE_SPILL_DIR} and merge them into large delete
+   * files when the writer is closed, instead of writing a delete file each time the delete buffer is full.
+   */
+  public static final String POS_DELETE_WRITER_SPILL_ENABLED = "iceberg.deletes.position-writer.spill-enabled";
+
+  /**
+   * Sets the number of finished files that each task writer may close in the background while it writes the next
+   * file. Closing a file writes its footer and finishes the upload. Defaults to 0, which closes files on the writing
+   * thread.
+   */
+  public static final String WRITER_MAX_PENDING_CLOSES = "iceberg.write.async-close.max-pending-files";
+
+  /**
+   * Sets the size of the JVM-wide pool used by task writers to close files in the background.
+   */
+  public static final String FILE_CLOSE_THREAD_POOL_SIZE_PROP = "iceberg.write.close-pool.num-threads";
+
+  /**
+   * Sets the number of upcoming files in a combined scan task that readers fetch in the background while the current
+   * file is read. Defaults to 0, which opens each file when it is read.
+   */
+  public static final String READ_PREFETCH_NUM_FILES = "iceberg.read.prefetch.num-files";
+
+  /**
+   * Sets the maximum number of bytes that each task reader holds for prefetched files. Defaults to 64 MB.
+   */
+  public static final String READ_PREFETCH_MAX_BYTES = "iceberg.read.prefetch.max-bytes";
+  public static final long READ_PREFETCH_MAX_BYTES_DEFAULT = 64 * 1024 * 1024; // 64 MB
+
+  /**
+   * Sets the size of the JVM-wide pool used by task readers to prefetch files.
+   */
+  public static final String PREFETCH_THREAD_POOL_SIZE_PROP = "iceberg.read.prefetch-pool.num-threads";
+
+  public static boolean getBoolean(String systemProperty, boolean defaultValue) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
       return Boolean.parseBoolean(value);
     }
     return defaultValue;
   }
+
+  public static int getInt(String systemProperty, int defaultValue) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      try {
+        return Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultValue;
+  }
+
+  public static String getString(String systemProperty, String defaultValue) {
+    return System.getProperty(systemProperty, defaultValue);
+  }
+
+  public static long getLong(String systemProperty, long defaultValue) {
+    String value = System.getProperty(systemProperty);
+    if (value != null) {
+      try {
+        return Long.parseLong(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultValue;
+  }
 }
@@ -63,6 +63,14 @@ public class TableProperties {
   public static final String PARQUET_COMPRESSION_LEVEL = "write.parquet.compression-level";
   public static final String PARQUET_COMPRESSION_LEVEL_DEFAULT = null;
 
+  public static final String PARQUET_COMPRESSION_PARALLELISM = "write.parquet.compression-parallelism";
+  public static final String PARQUET_COMPRESSION_PARALLELISM_DEFAULT = "1";
+
+  public static final String PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX = "write.parquet.bloom-filter-enabled.column.";
+
+  public static final String PARQUET_BLOOM_FILTER_MAX_BYTES = "write.parquet.bloom-filter-max-bytes";
+  public static final String PARQUET_BLOOM_FILTER_MAX_BYTES_DEFAULT = "1048576"; // 1 MB
+
   public static final String AVRO_COMPRESSION = "write.avro.compression-codec";
   public static final String AVRO_COMPRESSION_DEFAULT = "gzip";
 
@@ -84,6 +92,15 @@ public class TableProperties {
   public static final String PARQUET_BATCH_SIZE = "read.parquet.vectorization.batch-size";
   public static final int PARQUET_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String PARQUET_PREFETCH_ROW_GROUPS_ENABLED = "read.parquet.prefetch-row-groups.enabled";
+  public static final boolean PARQUET_PREFETCH_ROW_GROUPS_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_PAGE_INDEX_FILTER_ENABLED = "read.parquet.page-index-filter.enabled";
+  public static final boolean PARQUET_PAGE_INDEX_FILTER_ENABLED_DEFAULT = false;
+
+  public static final String MANIFEST_CACHE_ENABLED = "read.manifest.cache.enabled";
+  public static final boolean MANIFEST_CACHE_ENABLED_DEFAULT = false;
+
   public static final String ORC_VECTORIZATION_ENABLED = "read.orc.vectorization.enabled";
   public static final boolean ORC_VECTORIZATION_ENABLED_DEFAULT = false;
 
@@ -110,6 +127,13 @@ public class TableProperties {
   public static final String MANIFEST_LISTS_ENABLED = "write.manifest-lists.enabled";
   public static final boolean MANIFEST_LISTS_ENABLED_DEFAULT = true;
 
+  /**
+   * Comma-separated names of data columns to summarize in manifest lists. Summaries aggregate the metrics of all
+   * data files in a manifest and are used to skip manifests when planning scans. No columns are summarized by
+   * default.
+   */
+  public static final String MANIFEST_COLUMN_SUMMARIES = "write.manifest-lists.column-summaries";
+
   public static final String METADATA_COMPRESSION = "write.metadata.compression-codec";
   public static final String METADATA_COMPRESSION_DEFAULT = "none";
 
@@ -135,6 +159,9 @@ public class TableProperties {
   public static final String SPARK_WRITE_PARTITIONED_FANOUT_ENABLED = "write.spark.fanout.enabled";
   public static final boolean SPARK_WRITE_PARTITIONED_FANOUT_ENABLED_DEFAULT = false;
 
+  public static final String WRITE_FANOUT_MAX_BUFFERED_BYTES = "write.fanout.max-buffered-bytes";
+  public static final long WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT = Long.MAX_VALUE;
+
   public static final String SNAPSHOT_ID_INHERITANCE_ENABLED = "compatibility.snapshot-id-inheritance.enabled";
   public static final boolean SNAPSHOT_ID_INHERITANCE_ENABLED_DEFAULT = false;
 
@@ -176,4 +203,10 @@ public class TableProperties {
 
   public static final String MERGE_CARDINALITY_CHECK_ENABLED = "write.merge.cardinality-check.enabled";
   public static final boolean MERGE_CARDINALITY_CHECK_ENABLED_DEFAULT = true;
+
+  public static final String DELTA_KEY_INDEX_OFF_HEAP_ENABLED = "write.delta.key-index.off-heap.enabled";
+  public static final boolean DELTA_KEY_INDEX_OFF_HEAP_ENABLED_DEFAULT = false;
+
+  public static final String DELTA_KEY_INDEX_MAX_MEMORY_BYTES = "write.delta.key-index.max-memory-bytes";
+  public static final long DELTA_KEY_INDEX_MAX_MEMORY_BYTES_DEFAULT = 64 * 1024 * 1024; // 64 MB
 }
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 
 import static org.apache.iceberg.types.Types.NestedField.required;
@@ -38,6 +39,10 @@ class V1Metadata {
       ManifestFile.PARTITION_SUMMARIES,
       ManifestFile.ADDED_ROWS_COUNT, ManifestFile.EXISTING_ROWS_COUNT, ManifestFile.DELETED_ROWS_COUNT);
 
+  // column summaries are only written for tables that enable them, after all other fields
+  static final Schema MANIFEST_LIST_SCHEMA_WITH_COLUMN_SUMMARIES = TypeUtil.join(
+      MANIFEST_LIST_SCHEMA, new Schema(ManifestFile.COLUMN_SUMMARIES));
+
   /**
    * A wrapper class to write any ManifestFile implementation to Avro using the v1 schema.
    *
@@ -90,6 +95,8 @@ class V1Metadata {
           return existingRowsCount();
         case 10:
           return deletedRowsCount();
+        case 11:
+          return columnSummaries();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -180,6 +187,11 @@ class V1Metadata {
       return wrapped.partitions();
     }
 
+    @Override
+    public List<ColumnFieldSummary> columnSummaries() {
+      return wrapped.columnSummaries();
+    }
+
     @Override
     public ManifestFile copy() {
       return wrapped.copy();
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.iceberg.avro.AvroSchemaUtil;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 
 import static org.apache.iceberg.types.Types.NestedField.required;
@@ -50,6 +51,10 @@ class V2Metadata {
       ManifestFile.PARTITION_SUMMARIES
   );
 
+  // column summaries are only written for tables that enable them, after all other fields
+  static final Schema MANIFEST_LIST_SCHEMA_WITH_COLUMN_SUMMARIES = TypeUtil.join(
+      MANIFEST_LIST_SCHEMA, new Schema(ManifestFile.COLUMN_SUMMARIES));
+
   /**
    * A wrapper class to write any ManifestFile implementation to Avro using the v2 write schema.
    *
@@ -132,6 +137,8 @@ class V2Metadata {
           return wrapped.deletedRowsCount();
         case 13:
           return wrapped.partitions();
+        case 14:
+          return wrapped.columnSummaries();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -222,6 +229,11 @@ class V2Metadata {
       return wrapped.partitions();
     }
 
+    @Override
+    public List<ColumnFieldSummary> columnSummaries() {
+      return wrapped.columnSummaries();
+    }
+
     @Override
     public ManifestFile copy() {
       return wrapped.copy();
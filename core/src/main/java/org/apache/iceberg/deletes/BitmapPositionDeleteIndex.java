@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A {@link PositionDeleteIndex} that stores positions in compressed bitmaps, using the same layout as roaring bitmaps.
+ * <p>
+ * Positions are split into a high key and a 16-bit low value. Each key has a container that holds low values in a
+ * sorted array when the container is sparse and in a 65536-bit bitmap when it is dense, so each deleted position
+ * costs at most 2 bytes and dense ranges cost 1 bit per row. Containers are kept in a sorted array and the last
+ * container that was used is remembered, so checking positions in order does not search for each position.
+ * <p>
+ * Adding positions is not thread-safe. Once all positions are added, the index can be checked by concurrent threads.
+ */
+class BitmapPositionDeleteIndex implements PositionDeleteIndex {
+  private static final int CONTAINER_BITS = 16;
+  private static final int CONTAINER_SIZE = 1 << CONTAINER_BITS;
+  private static final int LOW_MASK = CONTAINER_SIZE - 1;
+
+  private long[] keys = new long[4];
+  private Container[] containers = new Container[4];
+  private int numContainers = 0;
+  private int lastIndex = -1;
+
+  @Override
+  public void delete(long position) {
+    Preconditions.checkArgument(position >= 0, "Invalid position: %s", position);
+    containerFor(position >>> CONTAINER_BITS).add((int) (position & LOW_MASK));
+  }
+
+  @Override
+  public void delete(long posStart, long posEnd) {
+    Preconditions.checkArgument(posStart >= 0, "Invalid position: %s", posStart);
+    long pos = posStart;
+    while (pos < posEnd) {
+      int low = (int) (pos & LOW_MASK);
+      int count = (int) Math.min(posEnd - pos, CONTAINER_SIZE - low);
+      containerFor(pos >>> CONTAINER_BITS).addRange(low, low + count);
+      pos += count;
+    }
+  }
+
+  @Override
+  public boolean isDeleted(long position) {
+    if (position < 0) {
+      return false;
+    }
+
+    Container container = find(position >>> CONTAINER_BITS);
+    return container != null && container.contains((int) (position & LOW_MASK));
+  }
+
+  @Override
+  public int isDeleted(long startPosition, boolean[] isDeleted, int numRows) {
+    Preconditions.checkArgument(startPosition >= 0, "Invalid position: %s", startPosition);
+    Preconditions.checkArgument(isDeleted.length >= numRows,
+        "Cannot fill %s rows into an array of length %s", numRows, isDeleted.length);
+
+    int deleted = 0;
+    int offset = 0;
+    while (offset < numRows) {
+      long pos = startPosition + offset;
+      int low = (int) (pos & LOW_MASK);
+      int count = Math.min(numRows - offset, CONTAINER_SIZE - low);
+
+      Container container = find(pos >>> CONTAINER_BITS);
+      if (container == null) {
+        Arrays.fill(isDeleted, offset, offset + count, false);
+      } else {
+        deleted += container.fill(low, isDeleted, offset, count);
+      }
+
+      offset += count;
+    }
+
+    return deleted;
+  }
+
+  @Override
+  public void forEach(LongConsumer consumer) {
+    for (int i = 0; i < numContainers; i += 1) {
+      containers[i].forEach(keys[i] << CONTAINER_BITS, consumer);
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return cardinality() == 0;
+  }
+
+  @Override
+  public long cardinality() {
+    long cardinality = 0;
+    for (int i = 0; i < numContainers; i += 1) {
+      cardinality += containers[i].cardinality;
+    }
+
+    return cardinality;
+  }
+
+  @Override
+  public long sizeInBytes() {
+    // object headers and fields, the key array and the container reference array
+    long size = 64L + 8L * keys.length + 8L * containers.length;
+    for (int i = 0; i < numContainers; i += 1) {
+      size += containers[i].sizeInBytes();
+    }
+
+    return size;
+  }
+
+  private Container find(long key) {
+    int index = indexOf(key);
+    return index >= 0 ? containers[index] : null;
+  }
+
+  private Container containerFor(long key) {
+    int index = indexOf(key);
+    if (index >= 0) {
+      return containers[index];
+    }
+
+    int insertAt = -(index + 1);
+    if (numContainers == keys.length) {
+      this.keys = Arrays.copyOf(keys, keys.length * 2);
+      this.containers = Arrays.copyOf(containers, containers.length * 2);
+    }
+
+    System.arraycopy(keys, insertAt, keys, insertAt + 1, numContainers - insertAt);
+    System.arraycopy(containers, insertAt, containers, insertAt + 1, numContainers - insertAt);
+
+    Container container = new Container();
+    keys[insertAt] = key;
+    containers[insertAt] = container;
+    this.numContainers += 1;
+    this.lastIndex = insertAt;
+
+    return container;
+  }
+
+  private int indexOf(long key) {
+    // positions are usually accessed in order, so check the last container first. the field is read once because
+    // concurrent readers may update it
+    int last = lastIndex;
+    if (last >= 0 && last < numContainers && keys[last] == key) {
+      return last;
+    }
+
+    int index = Arrays.binarySearch(keys, 0, numContainers, key);
+    if (index >= 0) {
+      this.lastIndex = index;
+    }
+
+    return index;
+  }
+
+  private static class Container {
+    // the largest number of values stored in an array, which uses the same memory as a bitmap (8 KB)
+    private static final int MAX_ARRAY_SIZE = 4096;
+
+    private char[] values = new char[4];
+    private long[] bitmap = null;
+    private int cardinality = 0;
+
+    private void add(int low) {
+      if (bitmap != null) {
+        setBit(low);
+        return;
+      }
+
+      int pos;
+      if (cardinality == 0 || values[cardinality - 1] < low) {
+        // positions are usually added in order
+        pos = cardinality;
+      } else {
+        pos = Arrays.binarySearch(values, 0, cardinality, (char) low);
+        if (pos >= 0) {
+          return;
+        }
+
+        pos = -(pos + 1);
+      }
+
+      if (cardinality == MAX_ARRAY_SIZE) {
+        toBitmap();
+        setBit(low);
+        return;
+      }
+
+      if (cardinality == values.length) {
+        this.values = Arrays.copyOf(values, Math.min(values.length * 2, MAX_ARRAY_SIZE));
+      }
+
+      System.arraycopy(values, pos, values, pos + 1, cardinality - pos);
+      values[pos] = (char) low;
+      this.cardinality += 1;
+    }
+
+    private void addRange(int start, int end) {
+      if (bitmap == null && cardinality + (end - start) > MAX_ARRAY_SIZE) {
+        toBitmap();
+      }
+
+      for (int low = start; low < end; low += 1) {
+        add(low);
+      }
+    }
+
+    private long sizeInBytes() {
+      // object header and fields, plus an array header and its contents
+      return 32L + 16L + (bitmap != null ? 8L * bitmap.length : 2L * values.length);
+    }
+
+    private boolean contains(int low) {
+      if (bitmap != null) {
+        return (bitmap[low >>> 6] & (1L << low)) != 0;
+      }
+
+      return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+    }
+
+    private int fill(int low, boolean[] isDeleted, int offset, int count) {
+      int deleted = 0;
+      if (bitmap != null) {
+        for (int i = 0; i < count; i += 1) {
+          int value = low + i;
+          boolean isSet = (bitmap[value >>> 6] & (1L << value)) != 0;
+          isDeleted[offset + i] = isSet;
+          if (isSet) {
+            deleted += 1;
+          }
+        }
+
+      } else {
+        Arrays.fill(isDeleted, offset, offset + count, false);
+        int index = Arrays.binarySearch(values, 0, cardinality, (char) low);
+        if (index < 0) {
+          index = -(index + 1);
+        }
+
+        int end = low + count;
+        while (index < cardinality && values[index] < end) {
+          isDeleted[offset + values[index] - low] = true;
+          deleted += 1;
+          index += 1;
+        }
+      }
+
+      return deleted;
+    }
+
+    private void forEach(long base, LongConsumer consumer) {
+      if (bitmap != null) {
+        for (int word = 0; word < bitmap.length; word += 1) {
+          long bits = bitmap[word];
+          while (bits != 0) {
+            consumer.accept(base + (word << 6) + Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+          }
+        }
+
+      } else {
+        for (int i = 0; i < cardinality; i += 1) {
+          consumer.accept(base + values[i]);
+        }
+      }
+    }
+
+    private void setBit(int low) {
+      long mask = 1L << low;
+      int word = low >>> 6;
+      if ((bitmap[word] & mask) == 0) {
+        bitmap[word] |= mask;
+        this.cardinality += 1;
+      }
+    }
+
+    private void toBitmap() {
+      this.bitmap = new long[CONTAINER_SIZE / 64];
+      for (int i = 0; i < cardinality; i += 1) {
+        int value = values[i];
+        bitmap[value >>> 6] |= 1L << value;
+      }
+
+      this.values = null;
+    }
+  }
+}
@@ -19,10 +19,12 @@
 
 package org.apache.iceberg.deletes;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.Accessor;
@@ -36,6 +38,7 @@ import org.apache.iceberg.io.FilterIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.Types;
@@ -77,6 +80,16 @@ public class Deletes {
     return filter.filter(rows);
   }
 
+  public static <T> CloseableIterable<T> filter(CloseableIterable<T> rows, Function<T, Long> rowToPosition,
+                                                PositionDeleteIndex deleteIndex) {
+    if (deleteIndex.isEmpty()) {
+      return rows;
+    }
+
+    PositionIndexDeleteFilter<T> filter = new PositionIndexDeleteFilter<>(rowToPosition, deleteIndex);
+    return filter.filter(rows);
+  }
+
   public static StructLikeSet toEqualitySet(CloseableIterable<StructLike> eqDeletes, Types.StructType eqType) {
     try (CloseableIterable<StructLike> deletes = eqDeletes) {
       StructLikeSet deleteSet = StructLikeSet.create(eqType);
@@ -87,10 +100,124 @@ public class Deletes {
     }
   }
 
+  /**
+   * Builds a {@link SpillableEqualityDeleteSet} from equality delete rows.
+   * <p>
+   * Rows are encoded as they are read, so the delete rows do not need to be copied.
+   *
+   * @param eqDeletes equality delete rows, using Iceberg's internal representations
+   * @param eqType the struct type of the equality delete rows
+   * @param expectedSize the expected number of delete rows, used to size the set
+   * @param memoryBudget a budget for the direct memory used by the set, which may be shared with other sets
+   * @param spillDirectory a local directory for spill files
+   * @return a set of the equality delete keys, which must be closed by the caller
+   */
+  public static SpillableEqualityDeleteSet toSpillableEqualitySet(CloseableIterable<StructLike> eqDeletes,
+                                                                  Types.StructType eqType, long expectedSize,
+                                                                  DirectMemoryBudget memoryBudget,
+                                                                  File spillDirectory) {
+    SpillableEqualityDeleteSet deleteSet = SpillableEqualityDeleteSet.create(
+        eqType, expectedSize, memoryBudget, spillDirectory);
+    try (CloseableIterable<StructLike> deletes = eqDeletes) {
+      deletes.forEach(deleteSet::add);
+      return deleteSet;
+    } catch (IOException e) {
+      deleteSet.close();
+      throw new UncheckedIOException("Failed to close equality delete source", e);
+    } catch (RuntimeException e) {
+      deleteSet.close();
+      throw e;
+    }
+  }
+
+  public static PositionDeleteIndex toPositionIndex(CharSequence dataLocation,
+                                                   CloseableIterable<? extends StructLike> deleteFile) {
+    return toPositionIndex(dataLocation, ImmutableList.of(deleteFile));
+  }
+
+  public static <T extends StructLike> PositionDeleteIndex toPositionIndex(CharSequence dataLocation,
+                                                                           List<CloseableIterable<T>> deleteFiles) {
+    DataFileFilter<T> locationFilter = new DataFileFilter<>(dataLocation);
+    List<CloseableIterable<Long>> positions = Lists.transform(deleteFiles, deletes ->
+        CloseableIterable.transform(locationFilter.filter(deletes), row -> (Long) POSITION_ACCESSOR.get(row)));
+    return toPositionIndex(CloseableIterable.concat(positions));
+  }
+
+  /**
+   * Builds a position delete index for each data file that has deletes in a position delete file.
+   * <p>
+   * This reads a delete file once for all of the data files that it applies to.
+   *
+   * @param deleteFile rows of a position delete file
+   * @return a map from data file location to a {@link PositionDeleteIndex} of the file's deleted positions
+   */
+  public static Map<String, PositionDeleteIndex> toPositionIndexes(CloseableIterable<? extends StructLike> deleteFile) {
+    Comparator<CharSequence> comparator = Comparators.charSequences();
+    Map<String, PositionDeleteIndex> indexes = Maps.newHashMap();
+    try (CloseableIterable<? extends StructLike> deletes = deleteFile) {
+      // deletes are sorted by data file location, so the index only changes when the location changes
+      String currentLocation = null;
+      PositionDeleteIndex currentIndex = null;
+      for (StructLike delete : deletes) {
+        CharSequence location = (CharSequence) FILENAME_ACCESSOR.get(delete);
+        if (currentLocation == null || comparator.compare(currentLocation, location) != 0) {
+          currentLocation = location.toString();
+          currentIndex = indexes.computeIfAbsent(currentLocation, ignored -> new BitmapPositionDeleteIndex());
+        }
+
+        currentIndex.delete((Long) POSITION_ACCESSOR.get(delete));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close position delete source", e);
+    }
+
+    return indexes;
+  }
+
+  public static PositionDeleteIndex toPositionIndex(CloseableIterable<Long> posDeletes) {
+    try (CloseableIterable<Long> deletes = posDeletes) {
+      PositionDeleteIndex positionDeleteIndex = new BitmapPositionDeleteIndex();
+      deletes.forEach(positionDeleteIndex::delete);
+      return positionDeleteIndex;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close position delete source", e);
+    }
+  }
+
+  /**
+   * Combines position delete indexes for the same data file.
+   * <p>
+   * If there is only one index, it is returned. Otherwise, a new index is created, so the indexes passed to this
+   * method are never modified.
+   *
+   * @param indexes position delete indexes for a data file
+   * @return a {@link PositionDeleteIndex} with the positions deleted in any of the indexes
+   */
+  public static PositionDeleteIndex mergePositionIndexes(List<PositionDeleteIndex> indexes) {
+    if (indexes.size() == 1) {
+      return indexes.get(0);
+    }
+
+    PositionDeleteIndex merged = new BitmapPositionDeleteIndex();
+    for (PositionDeleteIndex index : indexes) {
+      index.forEach(merged::delete);
+    }
+
+    return merged;
+  }
+
+  /**
+   * @deprecated use {@link #toPositionIndex(CharSequence, CloseableIterable)}, which does not box positions
+   */
+  @Deprecated
   public static Set<Long> toPositionSet(CharSequence dataLocation, CloseableIterable<? extends StructLike> deleteFile) {
     return toPositionSet(dataLocation, ImmutableList.of(deleteFile));
   }
 
+  /**
+   * @deprecated use {@link #toPositionIndex(CharSequence, List)}, which does not box positions
+   */
+  @Deprecated
   public static <T extends StructLike> Set<Long> toPositionSet(CharSequence dataLocation,
                                                                List<CloseableIterable<T>> deleteFiles) {
     DataFileFilter<T> locationFilter = new DataFileFilter<>(dataLocation);
@@ -99,6 +226,10 @@ public class Deletes {
     return toPositionSet(CloseableIterable.concat(positions));
   }
 
+  /**
+   * @deprecated use {@link #toPositionIndex(CloseableIterable)}, which does not box positions
+   */
+  @Deprecated
   public static Set<Long> toPositionSet(CloseableIterable<Long> posDeletes) {
     try (CloseableIterable<Long> deletes = posDeletes) {
       return Sets.newHashSet(deletes);
@@ -158,6 +289,21 @@ public class Deletes {
     }
   }
 
+  private static class PositionIndexDeleteFilter<T> extends Filter<T> {
+    private final Function<T, Long> rowToPosition;
+    private final PositionDeleteIndex deleteIndex;
+
+    private PositionIndexDeleteFilter(Function<T, Long> rowToPosition, PositionDeleteIndex deleteIndex) {
+      this.rowToPosition = rowToPosition;
+      this.deleteIndex = deleteIndex;
+    }
+
+    @Override
+    protected boolean shouldKeep(T row) {
+      return !deleteIndex.isDeleted(rowToPosition.apply(row));
+    }
+  }
+
   private static class PositionStreamDeleteFilter<T> extends CloseableGroup implements CloseableIterable<T> {
     private final CloseableIterable<T> rows;
     private final Function<T, Long> extractPos;
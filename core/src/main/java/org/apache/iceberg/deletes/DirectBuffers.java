@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.apache.iceberg.common.DynFields;
+import org.apache.iceberg.common.DynMethods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Frees direct and mapped buffers without waiting for them to be garbage collected.
+ */
+class DirectBuffers {
+  private static final Logger LOG = LoggerFactory.getLogger(DirectBuffers.class);
+  private static final Consumer<ByteBuffer> FREE = loadFree();
+
+  private DirectBuffers() {
+  }
+
+  /**
+   * Releases the memory or mapping of a buffer that was returned by {@link ByteBuffer#allocateDirect(int)} or
+   * {@link java.nio.channels.FileChannel#map}. The buffer and any views of it must not be used afterward.
+   */
+  static void free(ByteBuffer buffer) {
+    if (buffer != null && buffer.isDirect()) {
+      FREE.accept(buffer);
+    }
+  }
+
+  private static Consumer<ByteBuffer> loadFree() {
+    try {
+      // Java 9 and later
+      Object unsafe = DynFields.builder()
+          .hiddenImpl("sun.misc.Unsafe", "theUnsafe")
+          .buildStaticChecked()
+          .get();
+      DynMethods.BoundMethod invokeCleaner = DynMethods.builder("invokeCleaner")
+          .impl("sun.misc.Unsafe", ByteBuffer.class)
+          .buildChecked(unsafe);
+      return invokeCleaner::invoke;
+
+    } catch (NoSuchFieldException | NoSuchMethodException e) {
+      // fall back to the Java 8 cleaner
+    }
+
+    try {
+      DynMethods.UnboundMethod cleaner = DynMethods.builder("cleaner")
+          .impl("sun.nio.ch.DirectBuffer")
+          .buildChecked();
+      DynMethods.UnboundMethod clean = DynMethods.builder("clean")
+          .impl("sun.misc.Cleaner")
+          .buildChecked();
+      return buffer -> {
+        Object bufferCleaner = cleaner.invoke(buffer);
+        if (bufferCleaner != null) {
+          clean.invoke(bufferCleaner);
+        }
+      };
+
+    } catch (NoSuchMethodException e) {
+      LOG.warn("Cannot free direct buffers, memory will be released when buffers are garbage collected", e);
+      return buffer -> { };
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A limit on the direct memory used by off-heap delete structures.
+ * <p>
+ * A budget is shared by every structure that is created with it, so that a single budget can bound the direct memory
+ * used by all concurrent tasks in a JVM. Pages that do not fit in the budget are spilled to local disk instead.
+ * Memory is returned to the budget when the structure that reserved it is closed.
+ */
+public class DirectMemoryBudget {
+  private final long maxBytes;
+  private final AtomicLong reservedBytes = new AtomicLong(0L);
+
+  public DirectMemoryBudget(long maxBytes) {
+    Preconditions.checkArgument(maxBytes >= 0, "Invalid memory budget: %s", maxBytes);
+    this.maxBytes = maxBytes;
+  }
+
+  public long maxBytes() {
+    return maxBytes;
+  }
+
+  public long reservedBytes() {
+    return reservedBytes.get();
+  }
+
+  boolean tryReserve(long bytes) {
+    while (true) {
+      long current = reservedBytes.get();
+      if (current + bytes > maxBytes) {
+        return false;
+      }
+
+      if (reservedBytes.compareAndSet(current, current + bytes)) {
+        return true;
+      }
+    }
+  }
+
+  void release(long bytes) {
+    reservedBytes.addAndGet(-bytes);
+  }
+}
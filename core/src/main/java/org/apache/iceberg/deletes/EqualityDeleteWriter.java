@@ -65,6 +65,10 @@ public class EqualityDeleteWriter<T> implements Closeable {
     return appender.length();
   }
 
+  public long bufferedBytes() {
+    return appender.bufferedBytes();
+  }
+
   @Override
   public void close() throws IOException {
     if (deleteFile == null) {
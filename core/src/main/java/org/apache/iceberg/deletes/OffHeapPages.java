@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * Pages of variable-length entries that are stored outside of the JVM heap.
+ * <p>
+ * Pages are allocated as direct buffers while they fit in the shared {@link DirectMemoryBudget}, and then further
+ * pages are mapped from temporary files in the spill directory so that the OS can page them out to local disk. Spill
+ * files are deleted as soon as they are mapped. Closing the pages frees the direct memory, returns it to the budget,
+ * and unmaps the spill files, so pages must be closed once they are no longer read.
+ * <p>
+ * Entries are identified by an address that fits in the upper 48 bits of a long, so that callers can store a 16-bit
+ * fingerprint in the lower bits. An address is never 0.
+ * <p>
+ * Allocating entries is not thread-safe. Entries can be read by concurrent threads.
+ */
+class OffHeapPages implements Closeable {
+  private static final int PAGE_SIZE = 1 << 20; // 1 MB
+  private static final int SPILL_SEGMENT_SIZE = 64 << 20; // 64 MB
+
+  // addresses are (page + 1) << 40 | offset << 16
+  private static final int PAGE_SHIFT = 40;
+  private static final int OFFSET_SHIFT = 16;
+  private static final long OFFSET_MASK = (1L << 24) - 1;
+  private static final int MAX_PAGES = (1 << 23) - 1;
+
+  private final DirectMemoryBudget memoryBudget;
+  private final File spillDirectory;
+  private final String spillPrefix;
+  private final List<ByteBuffer> pages = Lists.newArrayList();
+  private final List<ByteBuffer> directPages = Lists.newArrayList();
+  private final List<ByteBuffer> spillSegments = Lists.newArrayList();
+  private ByteBuffer currentPage = null;
+  private int currentPageIndex = -1;
+  private long offHeapBytes = 0L;
+  private long spilledBytes = 0L;
+  private ByteBuffer spillSegment = null;
+  private boolean closed = false;
+
+  OffHeapPages(DirectMemoryBudget memoryBudget, File spillDirectory, String spillPrefix) {
+    Preconditions.checkNotNull(memoryBudget, "Invalid memory budget: null");
+    this.memoryBudget = memoryBudget;
+    this.spillDirectory = spillDirectory;
+    this.spillPrefix = spillPrefix;
+  }
+
+  /**
+   * Allocates space for an entry.
+   *
+   * @param entrySize the number of bytes in the entry
+   * @return the address of the entry
+   */
+  long allocate(int entrySize) {
+    ByteBuffer page;
+    int pageIndex;
+    if (entrySize > PAGE_SIZE) {
+      // large entries get their own page and the current page is still used for other entries
+      page = allocatePage(entrySize);
+      pageIndex = pages.size() - 1;
+    } else {
+      if (currentPage == null || currentPage.remaining() < entrySize) {
+        this.currentPage = allocatePage(PAGE_SIZE);
+        this.currentPageIndex = pages.size() - 1;
+      }
+
+      page = currentPage;
+      pageIndex = currentPageIndex;
+    }
+
+    int offset = page.position();
+    page.position(offset + entrySize);
+
+    return ((long) (pageIndex + 1) << PAGE_SHIFT) | ((long) offset << OFFSET_SHIFT);
+  }
+
+  /**
+   * Returns the page that holds an entry. Entry bytes must be accessed with absolute methods starting at
+   * {@link #offset(long)}.
+   */
+  ByteBuffer page(long address) {
+    return pages.get((int) (address >>> PAGE_SHIFT) - 1);
+  }
+
+  int offset(long address) {
+    return (int) ((address >>> OFFSET_SHIFT) & OFFSET_MASK);
+  }
+
+  void put(long address, int entryOffset, byte[] bytes, int length) {
+    ByteBuffer target = page(address).duplicate();
+    target.position(offset(address) + entryOffset);
+    target.put(bytes, 0, length);
+  }
+
+  boolean matches(long address, int entryOffset, byte[] bytes, int length) {
+    ByteBuffer page = page(address);
+    int start = offset(address) + entryOffset;
+    for (int i = 0; i < length; i += 1) {
+      if (page.get(start + i) != bytes[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  long offHeapBytes() {
+    return offHeapBytes;
+  }
+
+  long spilledBytes() {
+    return spilledBytes;
+  }
+
+  /**
+   * Frees the direct memory and spill files used by the pages. Entries must not be read after the pages are closed.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    this.closed = true;
+    directPages.forEach(DirectBuffers::free);
+    spillSegments.forEach(DirectBuffers::free);
+    memoryBudget.release(offHeapBytes);
+
+    pages.clear();
+    directPages.clear();
+    spillSegments.clear();
+    this.currentPage = null;
+    this.spillSegment = null;
+  }
+
+  private ByteBuffer allocatePage(int pageSize) {
+    Preconditions.checkState(!closed, "Cannot allocate entries: pages are closed");
+    Preconditions.checkState(pages.size() < MAX_PAGES, "Cannot allocate more than %s pages", MAX_PAGES);
+
+    ByteBuffer page;
+    if (memoryBudget.tryReserve(pageSize)) {
+      page = ByteBuffer.allocateDirect(pageSize);
+      directPages.add(page);
+      this.offHeapBytes += pageSize;
+    } else {
+      page = spillPage(pageSize);
+    }
+
+    pages.add(page);
+    return page;
+  }
+
+  private ByteBuffer spillPage(int pageSize) {
+    if (spillSegment == null || spillSegment.remaining() < pageSize) {
+      this.spillSegment = mapSpillSegment(Math.max(SPILL_SEGMENT_SIZE, pageSize));
+    }
+
+    ByteBuffer page = spillSegment.slice();
+    page.limit(pageSize);
+    spillSegment.position(spillSegment.position() + pageSize);
+    this.spilledBytes += pageSize;
+
+    return page;
+  }
+
+  private ByteBuffer mapSpillSegment(int segmentSize) {
+    File spillFile = null;
+    try {
+      spillFile = File.createTempFile(spillPrefix, ".bin", spillDirectory);
+      try (RandomAccessFile file = new RandomAccessFile(spillFile, "rw")) {
+        // the mapping is still valid after the file is closed
+        ByteBuffer segment = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        spillSegments.add(segment);
+        return segment;
+      }
+
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill pages to " + spillDirectory, e);
+
+    } finally {
+      // the space is freed when the mapping is released by close
+      if (spillFile != null && !spillFile.delete()) {
+        spillFile.deleteOnExit();
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.function.LongConsumer;
+
+/**
+ * An index of the deleted row positions in a data file.
+ */
+public interface PositionDeleteIndex {
+  /**
+   * Marks a row position as deleted.
+   *
+   * @param position a row position
+   */
+  void delete(long position);
+
+  /**
+   * Marks a range of row positions as deleted.
+   *
+   * @param posStart the first deleted position, inclusive
+   * @param posEnd the end of the range of deleted positions, exclusive
+   */
+  void delete(long posStart, long posEnd);
+
+  /**
+   * Checks whether a row position is deleted.
+   *
+   * @param position a row position
+   * @return true if the position is deleted, false otherwise
+   */
+  boolean isDeleted(long position);
+
+  /**
+   * Checks whether each row in a batch of consecutive row positions is deleted.
+   * <p>
+   * This is intended for vectorized readers that build a selection mask for each batch.
+   *
+   * @param startPosition the position of the first row in the batch
+   * @param isDeleted an array that is set to true for each deleted row and false for all other rows
+   * @param numRows the number of rows in the batch
+   * @return the number of deleted rows in the batch
+   */
+  int isDeleted(long startPosition, boolean[] isDeleted, int numRows);
+
+  /**
+   * Passes each deleted position to a consumer, in increasing order.
+   *
+   * @param consumer a consumer of deleted positions
+   */
+  void forEach(LongConsumer consumer);
+
+  /**
+   * @return true if no positions are deleted, false otherwise
+   */
+  boolean isEmpty();
+
+  /**
+   * @return the number of deleted positions
+   */
+  long cardinality();
+
+  /**
+   * @return the estimated heap size of this index, in bytes
+   */
+  long sizeInBytes();
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.ByteBuffer;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.hash.HashFunction;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A set of equality delete keys that is stored outside of the JVM heap.
+ * <p>
+ * Each key is encoded into a compact binary form and appended to {@link OffHeapPages}, which are allocated as direct
+ * buffers until the memory budget is used and then mapped from temporary files in the spill directory. The heap only
+ * holds an open-addressing table of 8-byte page addresses and a Bloom filter of the keys. The Bloom filter is checked
+ * first, so most rows that are not deleted are rejected without reading any pages.
+ * <p>
+ * Rows passed to {@link #add(StructLike)} and {@link #contains(StructLike)} must use Iceberg's internal
+ * representations, for example dates are ints and timestamps are longs. Rows are encoded immediately, so callers may
+ * reuse row containers.
+ * <p>
+ * Adding keys is not thread-safe. Once all keys are added, the set can be checked by concurrent threads.
+ * <p>
+ * Direct memory is reserved from a {@link DirectMemoryBudget} that is usually shared by all sets in the JVM. The set
+ * must be closed when it is no longer used to free its direct memory and spill space. Closing the set while other
+ * threads are checking keys is not safe.
+ */
+public class SpillableEqualityDeleteSet implements Closeable {
+  private static final HashFunction HASH = Hashing.murmur3_128();
+  private static final int HEADER_SIZE = 12; // key hash and length
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final double BLOOM_FPP = 0.01;
+
+  // table slots are a page address and a 16-bit fingerprint; 0 is an empty slot
+  private static final int FINGERPRINT_BITS = 16;
+  private static final long FINGERPRINT_MASK = (1L << FINGERPRINT_BITS) - 1;
+
+  public static SpillableEqualityDeleteSet create(Types.StructType type, long expectedSize,
+                                                  DirectMemoryBudget memoryBudget, File spillDirectory) {
+    return new SpillableEqualityDeleteSet(type, expectedSize, memoryBudget, spillDirectory);
+  }
+
+  private final OffHeapPages pages;
+  private final StructLikeEncoder addEncoder;
+  private final ThreadLocal<StructLikeEncoder> encoders;
+  private long[] slots;
+  private int mask;
+  private long size = 0L;
+  private long[] bloom;
+  private long bloomBits;
+  private int bloomHashes;
+
+  private SpillableEqualityDeleteSet(Types.StructType type, long expectedSize, DirectMemoryBudget memoryBudget,
+                                     File spillDirectory) {
+    this.pages = new OffHeapPages(memoryBudget, spillDirectory, "iceberg-equality-deletes-");
+    this.addEncoder = new StructLikeEncoder(type);
+    this.encoders = ThreadLocal.withInitial(() -> new StructLikeEncoder(type));
+
+    int capacity = MIN_CAPACITY;
+    while (capacity < MAX_CAPACITY && capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+
+    this.slots = new long[capacity];
+    this.mask = capacity - 1;
+    initBloom(capacity / 2);
+  }
+
+  /**
+   * Adds the key of an equality delete row.
+   *
+   * @param row a row with the equality delete fields
+   * @return true if the key was not already in the set, false otherwise
+   */
+  public boolean add(StructLike row) {
+    int length = addEncoder.encode(row);
+    byte[] key = addEncoder.buffer();
+    long hash = hash(key, length);
+
+    int index = probe(hash, key, length);
+    if (index >= 0) {
+      return false;
+    }
+
+    slots[-(index + 1)] = append(hash, key, length) | fingerprint(hash);
+    addToBloom(hash);
+    this.size += 1;
+
+    if (size * 2 > slots.length) {
+      resize();
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether a row matches an equality delete key.
+   *
+   * @param row a row with the equality delete fields
+   * @return true if the row's key is in the set, false otherwise
+   */
+  public boolean contains(StructLike row) {
+    StructLikeEncoder encoder = encoders.get();
+    int length = encoder.encode(row);
+    byte[] key = encoder.buffer();
+    long hash = hash(key, length);
+
+    return mightContain(hash) && probe(hash, key, length) >= 0;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return the number of bytes of direct memory used to store keys
+   */
+  public long offHeapBytes() {
+    return pages.offHeapBytes();
+  }
+
+  /**
+   * @return the number of bytes of keys that were stored in the spill file
+   */
+  public long spilledBytes() {
+    return pages.spilledBytes();
+  }
+
+  /**
+   * Frees the direct memory and spill space used by the set. The set must not be used after it is closed.
+   */
+  @Override
+  public void close() {
+    pages.close();
+  }
+
+  private int probe(long hash, byte[] key, int length) {
+    long fingerprint = fingerprint(hash);
+    int index = (int) (hash >>> FINGERPRINT_BITS) & mask;
+    while (true) {
+      long slot = slots[index];
+      if (slot == 0) {
+        return -(index + 1);
+      }
+
+      if ((slot & FINGERPRINT_MASK) == fingerprint && matches(slot, hash, key, length)) {
+        return index;
+      }
+
+      index = (index + 1) & mask;
+    }
+  }
+
+  private boolean matches(long slot, long hash, byte[] key, int length) {
+    ByteBuffer page = pages.page(slot);
+    int offset = pages.offset(slot);
+    return page.getLong(offset) == hash && page.getInt(offset + 8) == length &&
+        pages.matches(slot, HEADER_SIZE, key, length);
+  }
+
+  private long append(long hash, byte[] key, int length) {
+    long address = pages.allocate(HEADER_SIZE + length);
+    ByteBuffer page = pages.page(address);
+    int offset = pages.offset(address);
+    page.putLong(offset, hash);
+    page.putInt(offset + 8, length);
+    pages.put(address, HEADER_SIZE, key, length);
+
+    return address;
+  }
+
+  private void resize() {
+    Preconditions.checkState(slots.length < MAX_CAPACITY,
+        "Cannot store more than %s equality deletes", MAX_CAPACITY / 2);
+
+    long[] oldSlots = slots;
+    int capacity = oldSlots.length * 2;
+    this.slots = new long[capacity];
+    this.mask = capacity - 1;
+    initBloom(capacity / 2);
+
+    for (long slot : oldSlots) {
+      if (slot != 0) {
+        long hash = pages.page(slot).getLong(pages.offset(slot));
+        int index = (int) (hash >>> FINGERPRINT_BITS) & mask;
+        while (slots[index] != 0) {
+          index = (index + 1) & mask;
+        }
+
+        slots[index] = slot;
+        addToBloom(hash);
+      }
+    }
+  }
+
+  private void initBloom(long expectedInsertions) {
+    long numBits = (long) (-expectedInsertions * Math.log(BLOOM_FPP) / (Math.log(2) * Math.log(2)));
+    int numWords = (int) Math.max(1, (numBits + 63) / 64);
+    this.bloom = new long[numWords];
+    this.bloomBits = numWords * 64L;
+    this.bloomHashes = (int) Math.max(1, Math.round((double) bloomBits / expectedInsertions * Math.log(2)));
+  }
+
+  private void addToBloom(long hash) {
+    long hash1 = hash >>> 32;
+    long hash2 = hash & 0xFFFFFFFFL;
+    for (int i = 1; i <= bloomHashes; i += 1) {
+      long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bloomBits;
+      bloom[(int) (bit >>> 6)] |= 1L << bit;
+    }
+  }
+
+  private boolean mightContain(long hash) {
+    long hash1 = hash >>> 32;
+    long hash2 = hash & 0xFFFFFFFFL;
+    for (int i = 1; i <= bloomHashes; i += 1) {
+      long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bloomBits;
+      if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static long hash(byte[] key, int length) {
+    return HASH.hashBytes(key, 0, length).asLong();
+  }
+
+  private static long fingerprint(long hash) {
+    return hash & FINGERPRINT_MASK;
+  }
+}
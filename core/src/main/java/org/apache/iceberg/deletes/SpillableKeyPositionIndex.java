@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.hash.HashFunction;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.apache.iceberg.types.Types;
+
+/**
+ * An index from row keys to the data file position where each key was written, stored outside of the JVM heap.
+ * <p>
+ * Delta writers use this to replace rows that were written earlier in the same task with position deletes. Each key
+ * is encoded into a compact binary form and stored in {@link OffHeapPages} with the ID of its data file path and its
+ * position, so the heap only holds an open-addressing table of 8-byte page addresses and the distinct data file
+ * paths. Updating the position of an existing key does not use more memory. The space of removed keys is not reused,
+ * so the index should be closed when the writer is closed.
+ * <p>
+ * Direct memory is reserved from a {@link DirectMemoryBudget} that can be shared by several indexes, for example the
+ * indexes for each partition of a task. Closing the index frees its direct memory and spill space.
+ * <p>
+ * Keys must use Iceberg's internal representations, for example dates are ints and timestamps are longs. Keys are
+ * encoded immediately, so callers may reuse key containers. This class is not thread-safe.
+ */
+public class SpillableKeyPositionIndex implements Closeable {
+  private static final HashFunction HASH = Hashing.murmur3_128();
+  private static final int HASH_OFFSET = 0;
+  private static final int LENGTH_OFFSET = 8;
+  private static final int PATH_ID_OFFSET = 12;
+  private static final int POS_OFFSET = 16;
+  private static final int HEADER_SIZE = 24;
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  // table slots are a page address and a 16-bit fingerprint; addresses are never 0 and have no fingerprint bits
+  private static final long EMPTY = 0L;
+  private static final long REMOVED = 1L;
+  private static final int FINGERPRINT_BITS = 16;
+  private static final long FINGERPRINT_MASK = (1L << FINGERPRINT_BITS) - 1;
+
+  public static SpillableKeyPositionIndex create(Types.StructType keyType, DirectMemoryBudget memoryBudget,
+                                                 File spillDirectory) {
+    return new SpillableKeyPositionIndex(keyType, memoryBudget, spillDirectory);
+  }
+
+  private final OffHeapPages pages;
+  private final StructLikeEncoder encoder;
+  private final List<String> paths = Lists.newArrayList();
+  private final Map<String, Integer> pathIds = Maps.newHashMap();
+  private CharSequence lastPath = null;
+  private int lastPathId = -1;
+  private long[] slots = new long[MIN_CAPACITY];
+  private int mask = MIN_CAPACITY - 1;
+  private long size = 0L;
+  private long removed = 0L;
+
+  private SpillableKeyPositionIndex(Types.StructType keyType, DirectMemoryBudget memoryBudget, File spillDirectory) {
+    this.pages = new OffHeapPages(memoryBudget, spillDirectory, "iceberg-key-index-");
+    this.encoder = new StructLikeEncoder(keyType);
+  }
+
+  /**
+   * Sets the position of a key.
+   *
+   * @param key a row key
+   * @param path the location of the data file where the row was written
+   * @param pos the position of the row in the data file
+   * @return the previous position of the key, or null if the key was not in the index
+   */
+  public Position put(StructLike key, CharSequence path, long pos) {
+    int length = encoder.encode(key);
+    byte[] keyBytes = encoder.buffer();
+    long hash = hash(keyBytes, length);
+    int pathId = pathId(path);
+
+    int index = probe(hash, keyBytes, length);
+    if (index >= 0) {
+      long slot = slots[index];
+      Position previous = position(slot);
+      ByteBuffer page = pages.page(slot);
+      int offset = pages.offset(slot);
+      page.putInt(offset + PATH_ID_OFFSET, pathId);
+      page.putLong(offset + POS_OFFSET, pos);
+      return previous;
+    }
+
+    long address = pages.allocate(HEADER_SIZE + length);
+    ByteBuffer page = pages.page(address);
+    int offset = pages.offset(address);
+    page.putLong(offset + HASH_OFFSET, hash);
+    page.putInt(offset + LENGTH_OFFSET, length);
+    page.putInt(offset + PATH_ID_OFFSET, pathId);
+    page.putLong(offset + POS_OFFSET, pos);
+    pages.put(address, HEADER_SIZE, keyBytes, length);
+
+    int insertAt = -(index + 1);
+    if (slots[insertAt] == REMOVED) {
+      this.removed -= 1;
+    }
+
+    slots[insertAt] = address | fingerprint(hash);
+    this.size += 1;
+
+    if ((size + removed) * 2 > slots.length) {
+      rehash();
+    }
+
+    return null;
+  }
+
+  /**
+   * Removes a key.
+   *
+   * @param key a row key
+   * @return the position of the key, or null if the key was not in the index
+   */
+  public Position remove(StructLike key) {
+    int length = encoder.encode(key);
+    byte[] keyBytes = encoder.buffer();
+    long hash = hash(keyBytes, length);
+
+    int index = probe(hash, keyBytes, length);
+    if (index < 0) {
+      return null;
+    }
+
+    Position previous = position(slots[index]);
+    slots[index] = REMOVED;
+    this.size -= 1;
+    this.removed += 1;
+
+    return previous;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return the number of bytes of direct memory used to store keys
+   */
+  public long offHeapBytes() {
+    return pages.offHeapBytes();
+  }
+
+  /**
+   * @return the number of bytes of keys that were stored in spill files
+   */
+  public long spilledBytes() {
+    return pages.spilledBytes();
+  }
+
+  /**
+   * Frees the direct memory and spill space used by the index. The index must not be used after it is closed.
+   */
+  @Override
+  public void close() {
+    pages.close();
+    this.slots = new long[MIN_CAPACITY];
+    this.mask = MIN_CAPACITY - 1;
+    this.size = 0L;
+    this.removed = 0L;
+    paths.clear();
+    pathIds.clear();
+    this.lastPath = null;
+    this.lastPathId = -1;
+  }
+
+  /**
+   * Returns the index of the key's slot if it is present, or -(index + 1) of the slot where it should be inserted.
+   */
+  private int probe(long hash, byte[] key, int length) {
+    long fingerprint = fingerprint(hash);
+    int firstRemoved = -1;
+    int index = (int) (hash >>> FINGERPRINT_BITS) & mask;
+    while (true) {
+      long slot = slots[index];
+      if (slot == EMPTY) {
+        return -((firstRemoved >= 0 ? firstRemoved : index) + 1);
+      }
+
+      if (slot == REMOVED) {
+        if (firstRemoved < 0) {
+          firstRemoved = index;
+        }
+
+      } else if ((slot & FINGERPRINT_MASK) == fingerprint && matches(slot, hash, key, length)) {
+        return index;
+      }
+
+      index = (index + 1) & mask;
+    }
+  }
+
+  private boolean matches(long slot, long hash, byte[] key, int length) {
+    ByteBuffer page = pages.page(slot);
+    int offset = pages.offset(slot);
+    return page.getLong(offset + HASH_OFFSET) == hash && page.getInt(offset + LENGTH_OFFSET) == length &&
+        pages.matches(slot, HEADER_SIZE, key, length);
+  }
+
+  private Position position(long slot) {
+    ByteBuffer page = pages.page(slot);
+    int offset = pages.offset(slot);
+    return new Position(paths.get(page.getInt(offset + PATH_ID_OFFSET)), page.getLong(offset + POS_OFFSET));
+  }
+
+  private int pathId(CharSequence path) {
+    // rows are usually written to the same file, so avoid converting and looking up the path
+    if (path == lastPath) {
+      return lastPathId;
+    }
+
+    String location = path.toString();
+    Integer id = pathIds.get(location);
+    if (id == null) {
+      id = paths.size();
+      paths.add(location);
+      pathIds.put(location, id);
+    }
+
+    this.lastPath = path;
+    this.lastPathId = id;
+
+    return id;
+  }
+
+  private void rehash() {
+    // grow the table if it is more than a quarter full, otherwise only drop removed slots
+    int capacity = slots.length;
+    if (size * 4 > capacity) {
+      Preconditions.checkState(capacity < MAX_CAPACITY, "Cannot index more than %s keys", MAX_CAPACITY / 2);
+      capacity *= 2;
+    }
+
+    long[] oldSlots = slots;
+    this.slots = new long[capacity];
+    this.mask = capacity - 1;
+    this.removed = 0L;
+
+    for (long slot : oldSlots) {
+      if (slot != EMPTY && slot != REMOVED) {
+        long hash = pages.page(slot).getLong(pages.offset(slot) + HASH_OFFSET);
+        int index = (int) (hash >>> FINGERPRINT_BITS) & mask;
+        while (slots[index] != EMPTY) {
+          index = (index + 1) & mask;
+        }
+
+        slots[index] = slot;
+      }
+    }
+  }
+
+  private static long hash(byte[] key, int length) {
+    return HASH.hashBytes(key, 0, length).asLong();
+  }
+
+  private static long fingerprint(long hash) {
+    return hash & FINGERPRINT_MASK;
+  }
+
+  /**
+   * The data file position of a key.
+   */
+  public static class Position {
+    private final String path;
+    private final long pos;
+
+    private Position(String path, long pos) {
+      this.path = path;
+      this.pos = pos;
+    }
+
+    public String path() {
+      return path;
+    }
+
+    public long pos() {
+      return pos;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("path", path)
+          .add("pos", pos)
+          .toString();
+    }
+  }
+}
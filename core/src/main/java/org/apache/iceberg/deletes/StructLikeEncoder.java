@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Encodes {@link StructLike} values into a compact binary key.
+ * <p>
+ * Two structs have the same encoding if and only if they are equal according to
+ * {@link org.apache.iceberg.util.StructLikeWrapper}. Values must use Iceberg's internal representations, for example
+ * dates are ints and timestamps are longs.
+ * <p>
+ * The encoder reuses its buffer, so the encoded bytes are only valid until the next call to
+ * {@link #encode(StructLike)}. This class is not thread-safe.
+ */
+class StructLikeEncoder {
+  private static final byte NULL = 0;
+  private static final byte NOT_NULL = 1;
+
+  private final Types.StructType type;
+  private byte[] buffer = new byte[64];
+  private int length = 0;
+
+  StructLikeEncoder(Types.StructType type) {
+    validate(type);
+    this.type = type;
+  }
+
+  /**
+   * Encodes a struct into this encoder's buffer.
+   *
+   * @param struct a struct of this encoder's type
+   * @return the length of the encoded key
+   */
+  int encode(StructLike struct) {
+    this.length = 0;
+    writeStruct(type, struct);
+    return length;
+  }
+
+  /**
+   * @return the buffer that holds the last encoded key, starting at offset 0
+   */
+  byte[] buffer() {
+    return buffer;
+  }
+
+  int length() {
+    return length;
+  }
+
+  private void writeStruct(Types.StructType struct, StructLike value) {
+    List<Types.NestedField> fields = struct.fields();
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      Type fieldType = fields.get(pos).type();
+      Object fieldValue = fieldType.isStructType() ?
+          value.get(pos, StructLike.class) :
+          value.get(pos, fieldType.typeId().javaClass());
+
+      if (fieldValue == null) {
+        writeByte(NULL);
+      } else {
+        writeByte(NOT_NULL);
+        writeValue(fieldType, fieldValue);
+      }
+    }
+  }
+
+  private void writeValue(Type valueType, Object value) {
+    switch (valueType.typeId()) {
+      case BOOLEAN:
+        writeByte((Boolean) value ? (byte) 1 : (byte) 0);
+        break;
+      case INTEGER:
+      case DATE:
+        writeInt((Integer) value);
+        break;
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        writeLong((Long) value);
+        break;
+      case FLOAT:
+        // use canonical NaN bits because all NaN values are equal
+        writeInt(Float.floatToIntBits((Float) value));
+        break;
+      case DOUBLE:
+        writeLong(Double.doubleToLongBits((Double) value));
+        break;
+      case STRING:
+        writeString((CharSequence) value);
+        break;
+      case UUID:
+        UUID uuid = (UUID) value;
+        writeLong(uuid.getMostSignificantBits());
+        writeLong(uuid.getLeastSignificantBits());
+        break;
+      case FIXED:
+      case BINARY:
+        writeBytes(value);
+        break;
+      case DECIMAL:
+        // the scale is fixed by the type so only the unscaled value is needed
+        byte[] unscaled = ((BigDecimal) value).unscaledValue().toByteArray();
+        writeInt(unscaled.length);
+        ensureCapacity(unscaled.length);
+        System.arraycopy(unscaled, 0, buffer, length, unscaled.length);
+        this.length += unscaled.length;
+        break;
+      case STRUCT:
+        writeStruct(valueType.asStructType(), (StructLike) value);
+        break;
+      default:
+        throw new UnsupportedOperationException("Cannot encode value of type: " + valueType);
+    }
+  }
+
+  private void writeBytes(Object value) {
+    if (value instanceof byte[]) {
+      byte[] bytes = (byte[]) value;
+      writeInt(bytes.length);
+      ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, buffer, length, bytes.length);
+      this.length += bytes.length;
+
+    } else {
+      ByteBuffer bytes = ((ByteBuffer) value).duplicate();
+      int size = bytes.remaining();
+      writeInt(size);
+      ensureCapacity(size);
+      bytes.get(buffer, length, size);
+      this.length += size;
+    }
+  }
+
+  private void writeString(CharSequence value) {
+    // reserve space for the length and write it after the UTF-8 bytes
+    int lengthPos = length;
+    writeInt(0);
+
+    int numChars = value.length();
+    for (int i = 0; i < numChars; i += 1) {
+      char ch = value.charAt(i);
+      if (ch < 0x80) {
+        writeByte((byte) ch);
+      } else if (ch < 0x800) {
+        writeByte((byte) (0xC0 | (ch >> 6)));
+        writeByte((byte) (0x80 | (ch & 0x3F)));
+      } else if (Character.isHighSurrogate(ch) && i + 1 < numChars && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(ch, value.charAt(i + 1));
+        writeByte((byte) (0xF0 | (codePoint >> 18)));
+        writeByte((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        writeByte((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        writeByte((byte) (0x80 | (codePoint & 0x3F)));
+        i += 1;
+      } else {
+        // unpaired surrogates are encoded like other chars so that distinct strings have distinct keys
+        writeByte((byte) (0xE0 | (ch >> 12)));
+        writeByte((byte) (0x80 | ((ch >> 6) & 0x3F)));
+        writeByte((byte) (0x80 | (ch & 0x3F)));
+      }
+    }
+
+    int numBytes = length - lengthPos - 4;
+    buffer[lengthPos] = (byte) (numBytes >>> 24);
+    buffer[lengthPos + 1] = (byte) (numBytes >>> 16);
+    buffer[lengthPos + 2] = (byte) (numBytes >>> 8);
+    buffer[lengthPos + 3] = (byte) numBytes;
+  }
+
+  private void writeByte(byte value) {
+    ensureCapacity(1);
+    buffer[length] = value;
+    this.length += 1;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    buffer[length] = (byte) (value >>> 24);
+    buffer[length + 1] = (byte) (value >>> 16);
+    buffer[length + 2] = (byte) (value >>> 8);
+    buffer[length + 3] = (byte) value;
+    this.length += 4;
+  }
+
+  private void writeLong(long value) {
+    writeInt((int) (value >>> 32));
+    writeInt((int) value);
+  }
+
+  private void ensureCapacity(int bytes) {
+    if (length + bytes > buffer.length) {
+      this.buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes));
+    }
+  }
+
+  private static void validate(Type type) {
+    switch (type.typeId()) {
+      case STRUCT:
+        for (Types.NestedField field : type.asStructType().fields()) {
+          validate(field.type());
+        }
+        break;
+      case LIST:
+      case MAP:
+        throw new UnsupportedOperationException("Cannot encode value of type: " + type);
+      default:
+    }
+  }
+}
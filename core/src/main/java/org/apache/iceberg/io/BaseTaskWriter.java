@@ -20,31 +20,47 @@
 package org.apache.iceberg.io;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemProperties;
 import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.SpillableKeyPositionIndex;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.apache.iceberg.util.StructLikeMap;
 import org.apache.iceberg.util.StructProjection;
 import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseTaskWriter.class);
+
   private final List<DataFile> completedDataFiles = Lists.newArrayList();
   private final List<DeleteFile> completedDeleteFiles = Lists.newArrayList();
   private final Set<CharSequence> referencedDataFiles = CharSequenceSet.empty();
+  private final Deque<PendingClose> pendingCloses = Queues.newArrayDeque();
+  // files that were written but are not part of the result, deleted when the writer is aborted
+  private final List<String> failedCloseLocations = Lists.newArrayList();
 
   private final PartitionSpec spec;
   private final FileFormat format;
@@ -52,6 +68,8 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
   private final OutputFileFactory fileFactory;
   private final FileIO io;
   private final long targetFileSize;
+  private final int maxPendingCloses;
+  private boolean aborting = false;
 
   protected BaseTaskWriter(PartitionSpec spec, FileFormat format, FileAppenderFactory<T> appenderFactory,
                            OutputFileFactory fileFactory, FileIO io, long targetFileSize) {
@@ -61,6 +79,7 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     this.fileFactory = fileFactory;
     this.io = io;
     this.targetFileSize = targetFileSize;
+    this.maxPendingCloses = SystemProperties.getInt(SystemProperties.WRITER_MAX_PENDING_CLOSES, 0);
   }
 
   protected PartitionSpec spec() {
@@ -69,18 +88,29 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
   @Override
   public void abort() throws IOException {
+    this.aborting = true;
     close();
 
+    try {
+      finishPendingCloses();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to close files while aborting", e);
+    }
+
     // clean up files created by this writer
-    Tasks.foreach(Iterables.concat(completedDataFiles, completedDeleteFiles))
+    Tasks.foreach(Iterables.concat(
+        Iterables.transform(completedDataFiles, file -> file.path().toString()),
+        Iterables.transform(completedDeleteFiles, file -> file.path().toString()),
+        failedCloseLocations))
         .throwFailureWhenFinished()
         .noRetry()
-        .run(file -> io.deleteFile(file.path().toString()));
+        .run(io::deleteFile);
   }
 
   @Override
   public WriteResult complete() throws IOException {
     close();
+    finishPendingCloses();
 
     return WriteResult.builder()
         .addDataFiles(completedDataFiles)
@@ -98,16 +128,41 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     private RollingEqDeleteWriter eqDeleteWriter;
     private SortedPosDeleteWriter<T> posDeleteWriter;
     private Map<StructLike, PathOffset> insertedRowMap;
+    private SpillableKeyPositionIndex insertedRowIndex;
 
     protected BaseEqualityDeltaWriter(StructLike partition, Schema schema, Schema deleteSchema) {
+      this(partition, schema, deleteSchema, null);
+    }
+
+    /**
+     * Creates a delta writer that tracks the positions of inserted rows by key in the given index.
+     *
+     * @param partition the partition of the rows
+     * @param schema the schema of the rows
+     * @param deleteSchema the schema of the equality fields
+     * @param insertedRowIndex an off-heap index for the keys of inserted rows, or null to keep keys in a heap map; the
+     *                         index is closed when this writer is closed
+     */
+    protected BaseEqualityDeltaWriter(StructLike partition, Schema schema, Schema deleteSchema,
+                                      SpillableKeyPositionIndex insertedRowIndex) {
       Preconditions.checkNotNull(schema, "Iceberg table schema cannot be null.");
       Preconditions.checkNotNull(deleteSchema, "Equality-delete schema cannot be null.");
       this.structProjection = StructProjection.create(schema, deleteSchema);
 
       this.dataWriter = new RollingFileWriter(partition);
       this.eqDeleteWriter = new RollingEqDeleteWriter(partition);
-      this.posDeleteWriter = new SortedPosDeleteWriter<>(appenderFactory, fileFactory, format, partition);
-      this.insertedRowMap = StructLikeMap.create(deleteSchema.asStruct());
+      if (SystemProperties.getBoolean(SystemProperties.POS_DELETE_WRITER_SPILL_ENABLED, false)) {
+        File spillDirectory = new File(SystemProperties.getString(
+            SystemProperties.DELETE_SPILL_DIR, System.getProperty("java.io.tmpdir")));
+        this.posDeleteWriter = new SortedPosDeleteWriter<>(appenderFactory, fileFactory, format, partition,
+            spillDirectory);
+      } else {
+        this.posDeleteWriter = new SortedPosDeleteWriter<>(appenderFactory, fileFactory, format, partition);
+      }
+      this.insertedRowIndex = insertedRowIndex;
+      if (insertedRowIndex == null) {
+        this.insertedRowMap = StructLikeMap.create(deleteSchema.asStruct());
+      }
     }
 
     /**
@@ -118,11 +173,8 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     public void write(T row) throws IOException {
       PathOffset pathOffset = PathOffset.of(dataWriter.currentPath(), dataWriter.currentRows());
 
-      // Create a copied key from this row.
-      StructLike copiedKey = StructCopy.copy(structProjection.wrap(asStructLike(row)));
-
       // Adding a pos-delete to replace the old path-offset.
-      PathOffset previous = insertedRowMap.put(copiedKey, pathOffset);
+      PathOffset previous = putInsertedRow(structProjection.wrap(asStructLike(row)), pathOffset);
       if (previous != null) {
         // TODO attach the previous row if has a positional-delete row schema in appender factory.
         posDeleteWriter.delete(previous.path, previous.rowOffset, null);
@@ -137,7 +189,7 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
      * @param key has the same columns with the equality fields.
      */
     private void internalPosDelete(StructLike key) {
-      PathOffset previous = insertedRowMap.remove(key);
+      PathOffset previous = removeInsertedRow(key);
 
       if (previous != null) {
         // TODO attach the previous row if has a positional-delete row schema in appender factory.
@@ -145,6 +197,23 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       }
     }
 
+    private PathOffset putInsertedRow(StructLike key, PathOffset pathOffset) {
+      if (insertedRowIndex != null) {
+        return PathOffset.of(insertedRowIndex.put(key, pathOffset.path, pathOffset.rowOffset));
+      }
+
+      // Create a copied key from this row.
+      return insertedRowMap.put(StructCopy.copy(key), pathOffset);
+    }
+
+    private PathOffset removeInsertedRow(StructLike key) {
+      if (insertedRowIndex != null) {
+        return PathOffset.of(insertedRowIndex.remove(key));
+      }
+
+      return insertedRowMap.remove(key);
+    }
+
     /**
      * Delete those rows whose equality fields has the same values with the given row. It will write the entire row into
      * the equality-delete file.
@@ -171,28 +240,42 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
     @Override
     public void close() throws IOException {
-      // Close data writer and add completed data files.
-      if (dataWriter != null) {
-        dataWriter.close();
-        dataWriter = null;
-      }
+      try {
+        // Close data writer and add completed data files.
+        if (dataWriter != null) {
+          dataWriter.close();
+          dataWriter = null;
+        }
 
-      // Close eq-delete writer and add completed equality-delete files.
-      if (eqDeleteWriter != null) {
-        eqDeleteWriter.close();
-        eqDeleteWriter = null;
-      }
+        // Close eq-delete writer and add completed equality-delete files.
+        if (eqDeleteWriter != null) {
+          eqDeleteWriter.close();
+          eqDeleteWriter = null;
+        }
 
-      if (insertedRowMap != null) {
-        insertedRowMap.clear();
-        insertedRowMap = null;
-      }
+        if (insertedRowMap != null) {
+          insertedRowMap.clear();
+          insertedRowMap = null;
+        }
+
+        if (insertedRowIndex != null) {
+          insertedRowIndex.close();
+          insertedRowIndex = null;
+        }
 
-      // Add the completed pos-delete files.
-      if (posDeleteWriter != null) {
-        completedDeleteFiles.addAll(posDeleteWriter.complete());
-        referencedDataFiles.addAll(posDeleteWriter.referencedDataFiles());
-        posDeleteWriter = null;
+        // Add the completed pos-delete files, unless the task is aborted and they would only be deleted again.
+        if (posDeleteWriter != null && !aborting) {
+          completedDeleteFiles.addAll(posDeleteWriter.complete());
+          referencedDataFiles.addAll(posDeleteWriter.referencedDataFiles());
+          posDeleteWriter = null;
+        }
+
+      } finally {
+        // the task is aborted or closing failed, so discard the pos-deletes without merging their spilled runs
+        if (posDeleteWriter != null) {
+          posDeleteWriter.abort().forEach(file -> failedCloseLocations.add(file.path().toString()));
+          posDeleteWriter = null;
+        }
       }
     }
   }
@@ -210,6 +293,10 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       return new PathOffset(path, rowOffset);
     }
 
+    private static PathOffset of(SpillableKeyPositionIndex.Position position) {
+      return position != null ? new PathOffset(position.path(), position.pos()) : null;
+    }
+
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
@@ -219,6 +306,88 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     }
   }
 
+  /**
+   * Closes a finished file writer and then runs a completion callback.
+   * <p>
+   * When {@link SystemProperties#WRITER_MAX_PENDING_CLOSES} is set, the writer is closed in the file-close pool and
+   * this only waits when too many files are already closing. Callbacks always run on the writing thread, in the order
+   * that files were closed, after their writer is closed.
+   */
+  private void closeFile(Closeable writer, String location, Runnable onClose) throws IOException {
+    if (maxPendingCloses <= 0) {
+      writer.close();
+      onClose.run();
+      return;
+    }
+
+    while (pendingCloses.size() >= maxPendingCloses) {
+      finishPendingClose(pendingCloses.removeFirst());
+    }
+
+    Future<?> future = ThreadPools.getFileClosePool().submit(() -> {
+      writer.close();
+      return null;
+    });
+
+    pendingCloses.addLast(new PendingClose(future, location, onClose));
+  }
+
+  /**
+   * Waits for all files that are closing in the background, and throws the first failure after all have finished.
+   */
+  private void finishPendingCloses() throws IOException {
+    Exception failure = null;
+    while (!pendingCloses.isEmpty()) {
+      try {
+        finishPendingClose(pendingCloses.removeFirst());
+      } catch (IOException | RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    if (failure instanceof IOException) {
+      throw (IOException) failure;
+    } else if (failure != null) {
+      throw (RuntimeException) failure;
+    }
+  }
+
+  private void finishPendingClose(PendingClose pending) throws IOException {
+    try {
+      pending.future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failedCloseLocations.add(pending.location);
+      throw new InterruptedIOException("Interrupted while closing file: " + pending.location);
+    } catch (ExecutionException e) {
+      failedCloseLocations.add(pending.location);
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw new IOException("Failed to close file: " + pending.location, cause);
+      }
+
+      throw new RuntimeException("Failed to close file: " + pending.location, cause);
+    }
+
+    pending.onClose.run();
+  }
+
+  private static class PendingClose {
+    private final Future<?> future;
+    private final String location;
+    private final Runnable onClose;
+
+    private PendingClose(Future<?> future, String location, Runnable onClose) {
+      this.future = future;
+      this.location = location;
+      this.onClose = onClose;
+    }
+  }
+
   private abstract class BaseRollingWriter<W extends Closeable> implements Closeable {
     private static final int ROWS_DIVISOR = 1000;
     private final StructLike partitionKey;
@@ -236,6 +405,8 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
     abstract long length(W writer);
 
+    abstract long bufferedBytes(W writer);
+
     abstract void write(W writer, T record);
 
     abstract void complete(W closedWriter);
@@ -259,6 +430,13 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       return currentRows;
     }
 
+    /**
+     * Returns an estimate of the number of bytes buffered in memory by the current file's writer.
+     */
+    public long bufferedBytes() {
+      return currentWriter != null ? bufferedBytes(currentWriter) : 0L;
+    }
+
     private void openCurrent() {
       if (partitionKey == null) {
         // unpartitioned
@@ -279,13 +457,17 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
     private void closeCurrent() throws IOException {
       if (currentWriter != null) {
-        currentWriter.close();
-
-        if (currentRows == 0L) {
-          io.deleteFile(currentFile.encryptingOutputFile());
-        } else {
-          complete(currentWriter);
-        }
+        W closingWriter = currentWriter;
+        EncryptedOutputFile closingFile = currentFile;
+        boolean isEmpty = currentRows == 0L;
+
+        closeFile(closingWriter, closingFile.encryptingOutputFile().location(), () -> {
+          if (isEmpty) {
+            io.deleteFile(closingFile.encryptingOutputFile());
+          } else {
+            complete(closingWriter);
+          }
+        });
 
         this.currentFile = null;
         this.currentWriter = null;
@@ -314,6 +496,11 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       return writer.length();
     }
 
+    @Override
+    long bufferedBytes(DataWriter<T> writer) {
+      return writer.bufferedBytes();
+    }
+
     @Override
     void write(DataWriter<T> writer, T record) {
       writer.add(record);
@@ -340,6 +527,11 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       return writer.length();
     }
 
+    @Override
+    long bufferedBytes(EqualityDeleteWriter<T> writer) {
+      return writer.bufferedBytes();
+    }
+
     @Override
     void write(EqualityDeleteWriter<T> writer, T record) {
       writer.delete(record);
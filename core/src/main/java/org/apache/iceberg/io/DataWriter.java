@@ -57,6 +57,10 @@ public class DataWriter<T> implements Closeable {
     return appender.length();
   }
 
+  public long bufferedBytes() {
+    return appender.bufferedBytes();
+  }
+
   @Override
   public void close() throws IOException {
     if (dataFile == null) {
@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.hadoop.HadoopInputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetches the start and footer of the upcoming files of a combined scan task in the background.
+ * <p>
+ * Readers call {@link #inputFile(FileScanTask)} when they open each task's file. This starts fetching the next files
+ * in the prefetch pool, and returns an {@link InputFile} that serves reads of the prefetched ranges from memory. Each
+ * prefetched file holds the file's footer and the first bytes of the task's split, which usually contain the first
+ * row group or stripe.
+ * <p>
+ * Prefetched bytes are bounded: each file may use at most {@code maxBytes / (numFiles + 1)} bytes, because the file
+ * that is being read keeps its prefetched bytes until the next file is opened.
+ * <p>
+ * ORC files and {@link HadoopInputFile Hadoop files} are not prefetched, because their readers use the file's Hadoop
+ * file system and configuration instead of reading through the input file.
+ */
+public class FilePrefetcher implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FilePrefetcher.class);
+  private static final byte[] PARQUET_MAGIC = new byte[] { 'P', 'A', 'R', '1' };
+  private static final int PARQUET_FOOTER_TAIL_LENGTH = 8;
+
+  private final List<FileScanTask> tasks;
+  private final Map<FileScanTask, Integer> taskIndexes = new IdentityHashMap<>();
+  private final Function<FileScanTask, InputFile> inputFiles;
+  private final int numFiles;
+  private final long maxBytesPerFile;
+  private final ExecutorService executor;
+  private final Map<Integer, InputFile> resolvedFiles = Maps.newHashMap();
+  private final Map<Integer, Future<PrefetchedFile>> prefetches = Maps.newHashMap();
+  private int nextToPrefetch = 0;
+
+  /**
+   * Creates a prefetcher configured by {@link SystemProperties#READ_PREFETCH_NUM_FILES} and
+   * {@link SystemProperties#READ_PREFETCH_MAX_BYTES}.
+   *
+   * @param tasks the file tasks of a combined scan task, in the order they are read
+   * @param inputFiles a function that returns the decrypted input file of a task
+   * @return a prefetcher, or null if prefetching is not enabled
+   */
+  public static FilePrefetcher create(Iterable<FileScanTask> tasks, Function<FileScanTask, InputFile> inputFiles) {
+    int numFiles = SystemProperties.getInt(SystemProperties.READ_PREFETCH_NUM_FILES, 0);
+    long maxBytes = SystemProperties.getLong(SystemProperties.READ_PREFETCH_MAX_BYTES,
+        SystemProperties.READ_PREFETCH_MAX_BYTES_DEFAULT);
+    if (numFiles <= 0 || maxBytes <= 0) {
+      return null;
+    }
+
+    return new FilePrefetcher(tasks, inputFiles, numFiles, maxBytes, ThreadPools.getPrefetchPool());
+  }
+
+  public FilePrefetcher(Iterable<FileScanTask> tasks, Function<FileScanTask, InputFile> inputFiles,
+                        int numFiles, long maxBytes, ExecutorService executor) {
+    Preconditions.checkArgument(numFiles > 0, "Invalid number of files to prefetch: %s", numFiles);
+    Preconditions.checkArgument(maxBytes > 0, "Invalid maximum prefetch size: %s", maxBytes);
+    this.tasks = ImmutableList.copyOf(tasks);
+    for (int i = 0; i < this.tasks.size(); i += 1) {
+      taskIndexes.put(this.tasks.get(i), i);
+    }
+    this.inputFiles = inputFiles;
+    this.numFiles = numFiles;
+    this.maxBytesPerFile = maxBytes / (numFiles + 1);
+    this.executor = executor;
+  }
+
+  /**
+   * Returns the input file for a task and starts prefetching the files of the tasks after it.
+   * <p>
+   * Prefetched bytes of earlier tasks are released, so tasks must be opened in order.
+   *
+   * @param task a task from this prefetcher's tasks
+   * @return an input file that serves prefetched ranges from memory, or the task's input file
+   */
+  public synchronized InputFile inputFile(FileScanTask task) {
+    Integer index = taskIndexes.get(task);
+    if (index == null) {
+      return inputFiles.apply(task);
+    }
+
+    // release the prefetched bytes of files that were already read
+    prefetches.entrySet().removeIf(entry -> {
+      if (entry.getKey() < index) {
+        entry.getValue().cancel(false);
+        return true;
+      }
+      return false;
+    });
+    resolvedFiles.keySet().removeIf(resolvedIndex -> resolvedIndex < index);
+
+    int lastToPrefetch = Math.min(index + numFiles, tasks.size() - 1);
+    for (int i = Math.max(nextToPrefetch, index + 1); i <= lastToPrefetch; i += 1) {
+      FileScanTask next = tasks.get(i);
+      if (canPrefetch(next)) {
+        // resolve the input file once, the prefetched bytes are served through the same file when the task is read
+        InputFile nextFile = inputFiles.apply(next);
+        if (!(nextFile instanceof HadoopInputFile)) {
+          resolvedFiles.put(i, nextFile);
+          prefetches.put(i, executor.submit(() -> prefetch(next, nextFile)));
+        }
+      }
+    }
+    this.nextToPrefetch = Math.max(nextToPrefetch, lastToPrefetch + 1);
+
+    InputFile resolved = resolvedFiles.remove(index);
+    InputFile file = resolved != null ? resolved : inputFiles.apply(task);
+    Future<PrefetchedFile> prefetch = prefetches.get(index);
+    if (prefetch == null) {
+      return file;
+    }
+
+    try {
+      // the prefetch is already in progress, so waiting for it is no slower than reading the file again
+      return prefetch.get().wrap(file);
+    } catch (ExecutionException e) {
+      LOG.warn("Failed to prefetch file: {}", file.location(), e.getCause());
+      return file;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return file;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    prefetches.values().forEach(prefetch -> prefetch.cancel(false));
+    prefetches.clear();
+    resolvedFiles.clear();
+    this.nextToPrefetch = tasks.size();
+  }
+
+  private static boolean canPrefetch(FileScanTask task) {
+    return !task.isDataTask() && task.file().format() != FileFormat.ORC;
+  }
+
+  private PrefetchedFile prefetch(FileScanTask task, InputFile file) throws IOException {
+    long length = file.getLength();
+    try (SeekableInputStream in = file.newStream()) {
+      long tailLength = Math.min(tailLength(task.file().format(), in, length), maxBytesPerFile);
+      byte[] tail = readFully(in, length - tailLength, (int) tailLength);
+
+      long start = Math.min(task.start(), length - tailLength);
+      long headLength = Math.min(Math.min(task.length(), maxBytesPerFile - tailLength), length - tailLength - start);
+      byte[] head = readFully(in, start, (int) Math.max(headLength, 0));
+
+      return new PrefetchedFile(length, start, head, length - tailLength, tail);
+    }
+  }
+
+  private static long tailLength(FileFormat format, SeekableInputStream in, long length) throws IOException {
+    switch (format) {
+      case PARQUET:
+        if (length < PARQUET_FOOTER_TAIL_LENGTH) {
+          return length;
+        }
+
+        byte[] footerTail = readFully(in, length - PARQUET_FOOTER_TAIL_LENGTH, PARQUET_FOOTER_TAIL_LENGTH);
+        if (!Arrays.equals(PARQUET_MAGIC, Arrays.copyOfRange(footerTail, 4, 8))) {
+          return 0;
+        }
+
+        int footerLength = ByteBuffer.wrap(footerTail, 0, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        return Math.min(length, (long) footerLength + PARQUET_FOOTER_TAIL_LENGTH);
+
+      default:
+        // Avro files have no footer
+        return 0;
+    }
+  }
+
+  private static byte[] readFully(SeekableInputStream in, long position, int length) throws IOException {
+    byte[] bytes = new byte[length];
+    in.seek(position);
+    int offset = 0;
+    while (offset < length) {
+      int bytesRead = in.read(bytes, offset, length - offset);
+      if (bytesRead < 0) {
+        throw new EOFException(String.format("Reached the end of stream with %d bytes left to read", length - offset));
+      }
+      offset += bytesRead;
+    }
+
+    return bytes;
+  }
+
+  private static class PrefetchedFile {
+    private final long length;
+    private final long headStart;
+    private final byte[] head;
+    private final long tailStart;
+    private final byte[] tail;
+
+    private PrefetchedFile(long length, long headStart, byte[] head, long tailStart, byte[] tail) {
+      this.length = length;
+      this.headStart = headStart;
+      this.head = head;
+      this.tailStart = tailStart;
+      this.tail = tail;
+    }
+
+    private InputFile wrap(InputFile file) {
+      return new PrefetchedInputFile(file, this);
+    }
+  }
+
+  private static class PrefetchedInputFile implements InputFile {
+    private final InputFile file;
+    private final PrefetchedFile prefetched;
+
+    private PrefetchedInputFile(InputFile file, PrefetchedFile prefetched) {
+      this.file = file;
+      this.prefetched = prefetched;
+    }
+
+    @Override
+    public long getLength() {
+      return prefetched.length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new PrefetchedInputStream(file, prefetched);
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return true;
+    }
+  }
+
+  /**
+   * A stream that reads prefetched ranges from memory and opens the file only to read other ranges.
+   */
+  private static class PrefetchedInputStream extends SeekableInputStream {
+    private final InputFile file;
+    private final PrefetchedFile prefetched;
+    private SeekableInputStream stream = null;
+    private long pos = 0L;
+    private boolean closed = false;
+
+    private PrefetchedInputStream(InputFile file, PrefetchedFile prefetched) {
+      this.file = file;
+      this.prefetched = prefetched;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) {
+      Preconditions.checkState(!closed, "Cannot seek: already closed");
+      Preconditions.checkArgument(newPos >= 0, "Cannot seek: position %s is negative", newPos);
+      this.pos = newPos;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      int bytesRead = read(single, 0, 1);
+      return bytesRead < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      Preconditions.checkState(!closed, "Cannot read: already closed");
+      if (len == 0) {
+        return 0;
+      }
+
+      if (pos >= prefetched.length) {
+        return -1;
+      }
+
+      int bytesRead = readPrefetched(prefetched.headStart, prefetched.head, bytes, off, len);
+      if (bytesRead < 0) {
+        bytesRead = readPrefetched(prefetched.tailStart, prefetched.tail, bytes, off, len);
+      }
+
+      if (bytesRead < 0) {
+        // only read up to the start of the next prefetched range
+        int toRead = len;
+        if (prefetched.head.length > 0 && pos < prefetched.headStart) {
+          toRead = (int) Math.min(toRead, prefetched.headStart - pos);
+        }
+        if (prefetched.tail.length > 0 && pos < prefetched.tailStart) {
+          toRead = (int) Math.min(toRead, prefetched.tailStart - pos);
+        }
+
+        SeekableInputStream in = stream();
+        in.seek(pos);
+        bytesRead = in.read(bytes, off, toRead);
+        if (bytesRead < 0) {
+          return -1;
+        }
+      }
+
+      this.pos += bytesRead;
+      return bytesRead;
+    }
+
+    private int readPrefetched(long start, byte[] range, byte[] bytes, int off, int len) {
+      if (pos < start || pos >= start + range.length) {
+        return -1;
+      }
+
+      int rangeOffset = (int) (pos - start);
+      int toCopy = Math.min(len, range.length - rangeOffset);
+      System.arraycopy(range, rangeOffset, bytes, off, toCopy);
+      return toCopy;
+    }
+
+    private SeekableInputStream stream() {
+      if (stream == null) {
+        this.stream = file.newStream();
+      }
+
+      return stream;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.closed = true;
+      if (stream != null) {
+        stream.close();
+      }
+    }
+  }
+}
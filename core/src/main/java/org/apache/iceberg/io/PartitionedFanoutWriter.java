@@ -20,18 +20,46 @@
 package org.apache.iceberg.io;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
-import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * A task writer that keeps a file open for each partition it receives, so rows do not need to be clustered by
+ * partition.
+ * <p>
+ * The memory used by open files can be bounded by setting a maximum number of buffered bytes. When the writers'
+ * buffers exceed it, the least recently used partition writers are closed, and later rows for those partitions are
+ * written to new files. The number of buffered bytes is checked every {@value #BUFFER_CHECK_ROWS} rows, using the
+ * estimates reported by {@link FileAppender#bufferedBytes()}.
+ */
 public abstract class PartitionedFanoutWriter<T> extends BaseTaskWriter<T> {
-  private final Map<PartitionKey, RollingFileWriter> writers = Maps.newHashMap();
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionedFanoutWriter.class);
+  private static final int BUFFER_CHECK_ROWS = 1000;
+
+  // iterates in access order so the least recently used writers are closed first
+  private final Map<PartitionKey, RollingFileWriter> writers = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxBufferedBytes;
+  private int rowsSinceBufferCheck = 0;
+  private long closedWriters = 0L;
 
   protected PartitionedFanoutWriter(PartitionSpec spec, FileFormat format, FileAppenderFactory<T> appenderFactory,
                           OutputFileFactory fileFactory, FileIO io, long targetFileSize) {
+    this(spec, format, appenderFactory, fileFactory, io, targetFileSize, Long.MAX_VALUE);
+  }
+
+  protected PartitionedFanoutWriter(PartitionSpec spec, FileFormat format, FileAppenderFactory<T> appenderFactory,
+                                    OutputFileFactory fileFactory, FileIO io, long targetFileSize,
+                                    long maxBufferedBytes) {
     super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
+    Preconditions.checkArgument(maxBufferedBytes > 0, "Invalid max buffered bytes: %s", maxBufferedBytes);
+    this.maxBufferedBytes = maxBufferedBytes;
   }
 
   /**
@@ -56,13 +84,70 @@ public abstract class PartitionedFanoutWriter<T> extends BaseTaskWriter<T> {
     }
 
     writer.write(row);
+
+    if (maxBufferedBytes < Long.MAX_VALUE) {
+      this.rowsSinceBufferCheck += 1;
+      if (rowsSinceBufferCheck >= BUFFER_CHECK_ROWS) {
+        this.rowsSinceBufferCheck = 0;
+        closeLeastRecentlyUsed(writer);
+      }
+    }
+  }
+
+  /**
+   * @return the number of partition writers that are open
+   */
+  public int openWriters() {
+    return writers.size();
+  }
+
+  /**
+   * @return an estimate of the number of bytes buffered in memory by open partition writers
+   */
+  public long bufferedBytes() {
+    long bufferedBytes = 0L;
+    for (RollingFileWriter writer : writers.values()) {
+      bufferedBytes += writer.bufferedBytes();
+    }
+
+    return bufferedBytes;
+  }
+
+  /**
+   * @return the number of partition writers that were closed to stay under the max buffered bytes
+   */
+  public long closedWriters() {
+    return closedWriters;
+  }
+
+  private void closeLeastRecentlyUsed(RollingFileWriter current) throws IOException {
+    long bufferedBytes = bufferedBytes();
+    if (bufferedBytes <= maxBufferedBytes) {
+      return;
+    }
+
+    int numClosed = 0;
+    Iterator<RollingFileWriter> iter = writers.values().iterator();
+    while (bufferedBytes > maxBufferedBytes && iter.hasNext()) {
+      RollingFileWriter writer = iter.next();
+      if (writer != current) {
+        bufferedBytes -= writer.bufferedBytes();
+        writer.close();
+        iter.remove();
+        numClosed += 1;
+      }
+    }
+
+    this.closedWriters += numClosed;
+    LOG.debug("Closed {} partition writers to buffer at most {} bytes ({} open writers, {} bytes buffered)",
+        numClosed, maxBufferedBytes, writers.size(), bufferedBytes);
   }
 
   @Override
   public void close() throws IOException {
     if (!writers.isEmpty()) {
-      for (PartitionKey key : writers.keySet()) {
-        writers.get(key).close();
+      for (RollingFileWriter writer : writers.values()) {
+        writer.close();
       }
       writers.clear();
     }
@@ -19,26 +19,52 @@
 
 package org.apache.iceberg.io;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.deletes.PositionDeleteWriter;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.apache.iceberg.util.CharSequenceWrapper;
 
+/**
+ * Writes position deletes sorted by data file path and position.
+ * <p>
+ * Deletes are buffered in memory and a new delete file is written each time the buffer reaches the record threshold.
+ * <p>
+ * When a spill directory is set, full buffers of deletes without rows are instead written to local run files, using
+ * delta-encoded positions that are grouped by data file path. When the writer is closed, the runs are merged into
+ * globally sorted delete files of up to the given number of records, so the number of delete files does not grow with
+ * the number of buffer flushes. Deletes with rows cannot be spilled and are always written when the buffer is full.
+ * Run files are deleted when the writer is closed, even if the merge fails, or discarded unmerged by {@link #abort()}.
+ */
 class SortedPosDeleteWriter<T> implements Closeable {
   private static final long DEFAULT_RECORDS_NUM_THRESHOLD = 100_000L;
+  private static final long DEFAULT_SPILL_FILE_RECORDS = 10_000_000L;
+  private static final Comparator<SpillRunReader> RUN_ORDER = Comparator
+      .comparing(SpillRunReader::path, Comparators.charSequences())
+      .thenComparingLong(SpillRunReader::pos);
 
   private final Map<CharSequenceWrapper, List<PosRow<T>>> posDeletes = Maps.newHashMap();
   private final List<DeleteFile> completedFiles = Lists.newArrayList();
@@ -50,19 +76,45 @@ class SortedPosDeleteWriter<T> implements Closeable {
   private final FileFormat format;
   private final StructLike partition;
   private final long recordsNumThreshold;
+  private final File spillDirectory;
+  private final long spillFileRecords;
+  private final List<File> spillRuns = Lists.newArrayList();
 
   private int records = 0;
+  private int recordsWithRow = 0;
 
   SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
                         OutputFileFactory fileFactory,
                         FileFormat format,
                         StructLike partition,
-                        long recordsNumThreshold) {
+                        long recordsNumThreshold,
+                        File spillDirectory,
+                        long spillFileRecords) {
+    Preconditions.checkArgument(spillFileRecords > 0, "Invalid records per spill file: %s", spillFileRecords);
     this.appenderFactory = appenderFactory;
     this.fileFactory = fileFactory;
     this.format = format;
     this.partition = partition;
     this.recordsNumThreshold = recordsNumThreshold;
+    this.spillDirectory = spillDirectory;
+    this.spillFileRecords = spillFileRecords;
+  }
+
+  SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
+                        OutputFileFactory fileFactory,
+                        FileFormat format,
+                        StructLike partition,
+                        long recordsNumThreshold) {
+    this(appenderFactory, fileFactory, format, partition, recordsNumThreshold, null, DEFAULT_SPILL_FILE_RECORDS);
+  }
+
+  SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
+                        OutputFileFactory fileFactory,
+                        FileFormat format,
+                        StructLike partition,
+                        File spillDirectory) {
+    this(appenderFactory, fileFactory, format, partition, DEFAULT_RECORDS_NUM_THRESHOLD, spillDirectory,
+        DEFAULT_SPILL_FILE_RECORDS);
   }
 
   SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
@@ -85,10 +137,17 @@ class SortedPosDeleteWriter<T> implements Closeable {
     }
 
     records += 1;
+    if (row != null) {
+      recordsWithRow += 1;
+    }
 
     // TODO Flush buffer based on the policy that checking whether whole heap memory size exceed the threshold.
     if (records >= recordsNumThreshold) {
-      flushDeletes();
+      if (canSpill()) {
+        spillDeletes();
+      } else {
+        flushDeletes();
+      }
     }
   }
 
@@ -104,7 +163,37 @@ class SortedPosDeleteWriter<T> implements Closeable {
 
   @Override
   public void close() throws IOException {
-    flushDeletes();
+    if (spillRuns.isEmpty()) {
+      flushDeletes();
+    } else {
+      try {
+        if (canSpill()) {
+          spillDeletes();
+        } else {
+          flushDeletes();
+        }
+
+        mergeSpillRuns();
+      } finally {
+        deleteSpillRuns();
+      }
+    }
+  }
+
+  /**
+   * Discards the buffered and spilled deletes without writing them and deletes the spill run files.
+   *
+   * @return delete files that were already written, which the caller must delete
+   */
+  public List<DeleteFile> abort() {
+    clearBuffer();
+    deleteSpillRuns();
+
+    return completedFiles;
+  }
+
+  private boolean canSpill() {
+    return spillDirectory != null && recordsWithRow == 0;
   }
 
   private void flushDeletes() {
@@ -112,28 +201,12 @@ class SortedPosDeleteWriter<T> implements Closeable {
       return;
     }
 
-    // Create a new output file.
-    EncryptedOutputFile outputFile;
-    if (partition == null) {
-      outputFile = fileFactory.newOutputFile();
-    } else {
-      outputFile = fileFactory.newOutputFile(partition);
-    }
-
+    EncryptedOutputFile outputFile = newOutputFile();
     PositionDeleteWriter<T> writer = appenderFactory.newPosDeleteWriter(outputFile, format, partition);
     try (PositionDeleteWriter<T> closeableWriter = writer) {
-      // Sort all the paths.
-      List<CharSequence> paths = Lists.newArrayListWithCapacity(posDeletes.keySet().size());
-      for (CharSequenceWrapper charSequenceWrapper : posDeletes.keySet()) {
-        paths.add(charSequenceWrapper.get());
-      }
-      paths.sort(Comparators.charSequences());
-
       // Write all the sorted <path, pos, row> triples.
-      for (CharSequence path : paths) {
-        List<PosRow<T>> positions = posDeletes.get(wrapper.set(path));
-        positions.sort(Comparator.comparingLong(PosRow::pos));
-
+      for (CharSequence path : sortedPaths()) {
+        List<PosRow<T>> positions = sortedPositions(path);
         positions.forEach(posRow -> closeableWriter.delete(path, posRow.pos(), posRow.row()));
       }
     } catch (IOException e) {
@@ -141,9 +214,7 @@ class SortedPosDeleteWriter<T> implements Closeable {
           outputFile.encryptingOutputFile().location(), e);
     }
 
-    // Clear the buffered pos-deletions.
-    posDeletes.clear();
-    records = 0;
+    clearBuffer();
 
     // Add the referenced data files.
     referencedDataFiles.addAll(writer.referencedDataFiles());
@@ -152,6 +223,214 @@ class SortedPosDeleteWriter<T> implements Closeable {
     completedFiles.add(writer.toDeleteFile());
   }
 
+  private void spillDeletes() {
+    if (posDeletes.isEmpty()) {
+      return;
+    }
+
+    File runFile;
+    try {
+      runFile = File.createTempFile("iceberg-pos-deletes-", ".run", spillDirectory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create pos-delete spill file in " + spillDirectory, e);
+    }
+
+    spillRuns.add(runFile);
+
+    // each path is written once, followed by the number of positions and the position deltas as var-longs
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(runFile)))) {
+      for (CharSequence path : sortedPaths()) {
+        List<PosRow<T>> positions = sortedPositions(path);
+        byte[] pathBytes = path.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(pathBytes.length);
+        out.write(pathBytes);
+        out.writeInt(positions.size());
+
+        long lastPos = 0L;
+        for (PosRow<T> posRow : positions) {
+          writeVarLong(out, posRow.pos() - lastPos);
+          lastPos = posRow.pos();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill the sorted path/pos pairs to: " + runFile, e);
+    }
+
+    clearBuffer();
+  }
+
+  private void mergeSpillRuns() {
+    PriorityQueue<SpillRunReader> queue = new PriorityQueue<>(RUN_ORDER);
+    List<SpillRunReader> readers = Lists.newArrayList();
+    PositionDeleteWriter<T> writer = null;
+    try {
+      for (File runFile : spillRuns) {
+        SpillRunReader reader = new SpillRunReader(runFile);
+        readers.add(reader);
+        if (reader.advance()) {
+          queue.add(reader);
+        }
+      }
+
+      long written = 0L;
+      while (!queue.isEmpty()) {
+        SpillRunReader reader = queue.poll();
+        if (writer == null) {
+          writer = appenderFactory.newPosDeleteWriter(newOutputFile(), format, partition);
+        }
+
+        writer.delete(reader.path(), reader.pos());
+        written += 1;
+
+        if (written >= spillFileRecords) {
+          completeMergedFile(writer);
+          writer = null;
+          written = 0L;
+        }
+
+        if (reader.advance()) {
+          queue.add(reader);
+        }
+      }
+
+      if (writer != null) {
+        completeMergedFile(writer);
+        writer = null;
+      }
+
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to merge spilled pos-deletes", e);
+
+    } finally {
+      closeQuietly(writer);
+      readers.forEach(SortedPosDeleteWriter::closeQuietly);
+      deleteSpillRuns();
+    }
+  }
+
+  private void deleteSpillRuns() {
+    spillRuns.forEach(File::delete);
+    spillRuns.clear();
+  }
+
+  private void completeMergedFile(PositionDeleteWriter<T> writer) throws IOException {
+    writer.close();
+    referencedDataFiles.addAll(writer.referencedDataFiles());
+    completedFiles.add(writer.toDeleteFile());
+  }
+
+  private EncryptedOutputFile newOutputFile() {
+    if (partition == null) {
+      return fileFactory.newOutputFile();
+    } else {
+      return fileFactory.newOutputFile(partition);
+    }
+  }
+
+  private List<CharSequence> sortedPaths() {
+    List<CharSequence> paths = Lists.newArrayListWithCapacity(posDeletes.keySet().size());
+    for (CharSequenceWrapper charSequenceWrapper : posDeletes.keySet()) {
+      paths.add(charSequenceWrapper.get());
+    }
+
+    paths.sort(Comparators.charSequences());
+    return paths;
+  }
+
+  private List<PosRow<T>> sortedPositions(CharSequence path) {
+    List<PosRow<T>> positions = posDeletes.get(wrapper.set(path));
+    positions.sort(Comparator.comparingLong(PosRow::pos));
+    return positions;
+  }
+
+  private void clearBuffer() {
+    posDeletes.clear();
+    records = 0;
+    recordsWithRow = 0;
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      out.writeByte((int) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+
+    out.writeByte((int) remaining);
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable != null) {
+      try {
+        closeable.close();
+      } catch (IOException e) {
+        // the merge already failed or the spill run was fully read
+      }
+    }
+  }
+
+  /**
+   * Reads the sorted path/pos pairs of a spill run.
+   */
+  private static class SpillRunReader implements Closeable {
+    private final DataInputStream in;
+    private String path = null;
+    private int remainingInPath = 0;
+    private long pos = 0L;
+
+    private SpillRunReader(File runFile) throws IOException {
+      this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(runFile)));
+    }
+
+    private boolean advance() throws IOException {
+      if (remainingInPath == 0) {
+        int pathLength;
+        try {
+          pathLength = in.readInt();
+        } catch (EOFException e) {
+          return false;
+        }
+
+        byte[] pathBytes = new byte[pathLength];
+        in.readFully(pathBytes);
+        this.path = new String(pathBytes, StandardCharsets.UTF_8);
+        this.remainingInPath = in.readInt();
+        this.pos = 0L;
+      }
+
+      this.pos += readVarLong();
+      this.remainingInPath -= 1;
+
+      return true;
+    }
+
+    private long readVarLong() throws IOException {
+      long value = 0L;
+      int shift = 0;
+      int b;
+      do {
+        b = in.readUnsignedByte();
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+
+      return value;
+    }
+
+    private String path() {
+      return path;
+    }
+
+    private long pos() {
+      return pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+
   private static class PosRow<R> {
     private final long pos;
     private final R row;
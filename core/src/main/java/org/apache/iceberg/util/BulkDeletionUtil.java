@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+
+public class BulkDeletionUtil {
+
+  private BulkDeletionUtil() {
+  }
+
+  /**
+   * Deletes files using a bulk delete and retries the files that could not be deleted.
+   * <p>
+   * Each retry only deletes the files that failed in the previous attempt. Files that still cannot be deleted after
+   * all retries, or after a failure that is not a {@link BulkDeletionFailureException}, are passed to onFailure with
+   * the last exception.
+   *
+   * @param io a FileIO that supports bulk operations
+   * @param paths the paths of files to delete
+   * @param numRetries the number of times to retry files that could not be deleted
+   * @param onFailure called for each file that could not be deleted
+   * @return the number of files that could not be deleted
+   */
+  public static int deleteFiles(SupportsBulkOperations io, Iterable<String> paths, int numRetries,
+                                BiConsumer<String, Exception> onFailure) {
+    List<Set<String>> remaining = ImmutableList.of(Sets.newHashSet(paths));
+    if (remaining.get(0).isEmpty()) {
+      return 0;
+    }
+
+    Tasks.foreach(remaining)
+        .retry(numRetries)
+        .onlyRetryOn(BulkDeletionFailureException.class)
+        .suppressFailureWhenFinished()
+        .onFailure((failed, exc) -> failed.forEach(path -> onFailure.accept(path, exc)))
+        .run(pathsToDelete -> {
+          try {
+            io.deleteFiles(pathsToDelete);
+            pathsToDelete.clear();
+          } catch (BulkDeletionFailureException e) {
+            pathsToDelete.retainAll(Sets.newHashSet(e.failedPaths()));
+            throw e;
+          }
+        });
+
+    return remaining.get(0).size();
+  }
+}
@@ -21,12 +21,18 @@ package org.apache.iceberg.util;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
@@ -34,57 +40,90 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 
+/**
+ * Runs a set of iterables in parallel using a worker pool and returns their items in a single iterable.
+ * <p>
+ * When created with a maximum queue size, the number of items waiting to be consumed is bounded. Worker tasks stop
+ * reading and yield their worker thread when the queue is full, and are resumed once the consumer drains the queue.
+ * The bound is approximate: each running task may add at most one item past the limit.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
+  private static final int UNBOUNDED = Integer.MAX_VALUE;
+
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int maxQueueSize;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
                           ExecutorService workerPool) {
+    this(iterables, workerPool, UNBOUNDED);
+  }
+
+  public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
+                          ExecutorService workerPool,
+                          int maxQueueSize) {
+    Preconditions.checkArgument(maxQueueSize > 0, "Invalid max queue size: %s (must be positive)", maxQueueSize);
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.maxQueueSize = maxQueueSize;
   }
 
   @Override
   public CloseableIterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool, maxQueueSize);
     addCloseable(iter);
     return iter;
   }
 
   private static class ParallelIterator<T> implements CloseableIterator<T> {
-    private final Iterator<Runnable> tasks;
+    private final Iterator<Task<T>> tasks;
+    private final Deque<Task<T>> yieldedTasks = new ArrayDeque<>();
     private final ExecutorService workerPool;
-    private final Future<?>[] taskFutures;
+    private final Task<T>[] submittedTasks;
+    private final Future<Optional<Task<T>>>[] taskFutures;
     private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
-    private boolean closed = false;
+    // ConcurrentLinkedQueue#size is not constant time, so the number of queued items is tracked separately
+    private final AtomicInteger queueSize = new AtomicInteger(0);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final int maxQueueSize;
 
+    @SuppressWarnings("unchecked")
     private ParallelIterator(Iterable<? extends Iterable<T>> iterables,
-                             ExecutorService workerPool) {
-      this.tasks = Iterables.transform(iterables, iterable ->
-          (Runnable) () -> {
-            try (Closeable ignored = (iterable instanceof Closeable) ?
-                (Closeable) iterable : () -> { }) {
-              for (T item : iterable) {
-                queue.add(item);
-              }
-            } catch (IOException e) {
-              throw new RuntimeIOException(e, "Failed to close iterable");
-            }
-          }).iterator();
+                             ExecutorService workerPool,
+                             int maxQueueSize) {
+      this.tasks = Iterables.transform(iterables,
+          iterable -> new Task<>(iterable, queue, queueSize, closed, maxQueueSize)).iterator();
       this.workerPool = workerPool;
+      this.maxQueueSize = maxQueueSize;
       // submit 2 tasks per worker at a time
+      this.submittedTasks = new Task[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
       this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
     }
 
     @Override
     public void close() {
+      // signal running tasks to stop adding items and close their iterables
+      closed.set(true);
+
       // cancel background tasks
       for (int i = 0; i < taskFutures.length; i += 1) {
         if (taskFutures[i] != null && !taskFutures[i].isDone()) {
           taskFutures[i].cancel(true);
         }
       }
-      this.closed = true;
+
+      // close tasks that are not running, including tasks that yielded because the queue was full
+      synchronized (this) {
+        for (Task<T> task : submittedTasks) {
+          if (task != null) {
+            task.close();
+          }
+        }
+
+        while (!yieldedTasks.isEmpty()) {
+          yieldedTasks.removeFirst().close();
+        }
+      }
     }
 
     /**
@@ -102,7 +141,8 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
           if (taskFutures[i] != null) {
             // check for task failure and re-throw any exception
             try {
-              taskFutures[i].get();
+              // a task that returns itself yielded because the queue was full and must be resumed later
+              taskFutures[i].get().ifPresent(yieldedTasks::addLast);
             } catch (ExecutionException e) {
               if (e.getCause() instanceof RuntimeException) {
                 // rethrow a runtime exception
@@ -115,7 +155,8 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
             }
           }
 
-          taskFutures[i] = submitNextTask();
+          submittedTasks[i] = nextTask();
+          taskFutures[i] = submittedTasks[i] != null ? workerPool.submit(submittedTasks[i]) : null;
         }
 
         if (taskFutures[i] != null) {
@@ -123,19 +164,28 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
         }
       }
 
-      return tasks.hasNext() || hasRunningTask;
+      return !yieldedTasks.isEmpty() || tasks.hasNext() || hasRunningTask;
     }
 
-    private Future<?> submitNextTask() {
-      if (tasks.hasNext()) {
-        return workerPool.submit(tasks.next());
+    private Task<T> nextTask() {
+      if (closed.get() || queueSize.get() >= maxQueueSize) {
+        // the queue is full, wait for the consumer to drain it before starting or resuming tasks
+        return null;
       }
+
+      // resume yielded tasks before starting new ones to limit the number of open iterables
+      if (!yieldedTasks.isEmpty()) {
+        return yieldedTasks.removeFirst();
+      } else if (tasks.hasNext()) {
+        return tasks.next();
+      }
+
       return null;
     }
 
     @Override
     public synchronized boolean hasNext() {
-      Preconditions.checkState(!closed, "Already closed");
+      Preconditions.checkState(!closed.get(), "Already closed");
 
       // if the consumer is processing records more slowly than the producers, then this check will
       // prevent tasks from being submitted. while the producers are running, this will always
@@ -176,7 +226,109 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      return queue.poll();
+
+      T item = queue.poll();
+      queueSize.decrementAndGet();
+      return item;
+    }
+  }
+
+  /**
+   * A resumable task that reads an iterable into the shared queue.
+   * <p>
+   * When the queue is full, the task returns itself so that it can be resumed later, releasing its worker thread
+   * instead of blocking it. The task closes its iterable when it is exhausted or fails, or when the parallel
+   * iterator is closed.
+   */
+  private static class Task<T> implements Callable<Optional<Task<T>>> {
+    private static final int IDLE = 0;
+    private static final int RUNNING = 1;
+    private static final int CLOSED = 2;
+
+    private final Iterable<T> input;
+    private final ConcurrentLinkedQueue<T> queue;
+    private final AtomicInteger queueSize;
+    private final AtomicBoolean closed;
+    private final int maxQueueSize;
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+
+    // lazily initialized on first run
+    private Iterator<T> iterator = null;
+
+    private Task(Iterable<T> input, ConcurrentLinkedQueue<T> queue, AtomicInteger queueSize, AtomicBoolean closed,
+                 int maxQueueSize) {
+      this.input = input;
+      this.queue = queue;
+      this.queueSize = queueSize;
+      this.closed = closed;
+      this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public Optional<Task<T>> call() {
+      if (!state.compareAndSet(IDLE, RUNNING)) {
+        // the task was closed before it could run
+        return Optional.empty();
+      }
+
+      try {
+        if (iterator == null) {
+          this.iterator = input.iterator();
+        }
+
+        while (!closed.get() && iterator.hasNext()) {
+          if (queueSize.get() >= maxQueueSize) {
+            // yield the worker thread and keep the iterator open to resume later
+            state.set(IDLE);
+            if (closed.get()) {
+              // the parallel iterator may have been closed while this task was running
+              close();
+              return Optional.empty();
+            }
+
+            return Optional.of(this);
+          }
+
+          queue.add(iterator.next());
+          queueSize.incrementAndGet();
+        }
+
+      } catch (RuntimeException e) {
+        state.set(CLOSED);
+        try {
+          closeIterable();
+        } catch (RuntimeException closeFailure) {
+          e.addSuppressed(closeFailure);
+        }
+
+        throw e;
+      }
+
+      state.set(CLOSED);
+      closeIterable();
+
+      return Optional.empty();
+    }
+
+    /**
+     * Closes this task if it is not running.
+     * <p>
+     * Running tasks close themselves when they see that the parallel iterator was closed.
+     */
+    private void close() {
+      if (state.compareAndSet(IDLE, CLOSED)) {
+        closeIterable();
+      }
+    }
+
+    private void closeIterable() {
+      try {
+        if (input instanceof Closeable) {
+          ((Closeable) input).close();
+        }
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to close iterable");
+      }
     }
   }
 }
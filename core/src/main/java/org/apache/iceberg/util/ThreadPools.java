@@ -61,6 +61,65 @@ public class ThreadPools {
     return WORKER_POOL;
   }
 
+  public static final String FILE_CLOSE_THREAD_POOL_SIZE_PROP =
+      SystemProperties.FILE_CLOSE_THREAD_POOL_SIZE_PROP;
+
+  public static final int FILE_CLOSE_THREAD_POOL_SIZE = getPoolSize(
+      FILE_CLOSE_THREAD_POOL_SIZE_PROP,
+      Runtime.getRuntime().availableProcessors());
+
+  private static final ExecutorService FILE_CLOSE_POOL = MoreExecutors.getExitingExecutorService(
+      (ThreadPoolExecutor) Executors.newFixedThreadPool(
+          FILE_CLOSE_THREAD_POOL_SIZE,
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("iceberg-file-close-pool-%d")
+              .build()));
+
+  /**
+   * Return an {@link ExecutorService} that uses the "file-close" thread-pool.
+   * <p>
+   * Task writers use this pool to close finished files in the background, which writes file footers and completes
+   * uploads while the writer continues with the next file.
+   * <p>
+   * The size of this thread-pool is controlled by the Java system property
+   * {@code iceberg.write.close-pool.num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the file-close pool
+   */
+  public static ExecutorService getFileClosePool() {
+    return FILE_CLOSE_POOL;
+  }
+
+  public static final String PREFETCH_THREAD_POOL_SIZE_PROP =
+      SystemProperties.PREFETCH_THREAD_POOL_SIZE_PROP;
+
+  public static final int PREFETCH_THREAD_POOL_SIZE = getPoolSize(
+      PREFETCH_THREAD_POOL_SIZE_PROP,
+      Runtime.getRuntime().availableProcessors());
+
+  private static final ExecutorService PREFETCH_POOL = MoreExecutors.getExitingExecutorService(
+      (ThreadPoolExecutor) Executors.newFixedThreadPool(
+          PREFETCH_THREAD_POOL_SIZE,
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("iceberg-prefetch-pool-%d")
+              .build()));
+
+  /**
+   * Return an {@link ExecutorService} that uses the "prefetch" thread-pool.
+   * <p>
+   * Task readers use this pool to fetch the footers and first bytes of upcoming files while the current file is read.
+   * <p>
+   * The size of this thread-pool is controlled by the Java system property
+   * {@code iceberg.read.prefetch-pool.num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the prefetch pool
+   */
+  public static ExecutorService getPrefetchPool() {
+    return PREFETCH_POOL;
+  }
+
   private static int getPoolSize(String systemProperty, int defaultSize) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
@@ -27,6 +27,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.StructLikeWrapper;
 import org.junit.Assert;
@@ -145,6 +147,72 @@ public class TestDeleteFileIndex extends TableTestBase {
         0, index.forDataFile(0, unpartitionedFileA).length);
   }
 
+  @Test
+  public void testEqualityDeleteRangeIndex() {
+    // delete files are sorted by sequence number; the file at position 20 has no bounds and cannot be indexed
+    int numFiles = 41;
+    long[] seqs = new long[numFiles];
+    DeleteFile[] deletes = new DeleteFile[numFiles];
+    for (int pos = 0; pos < numFiles; pos += 1) {
+      seqs[pos] = pos;
+      if (pos == 20) {
+        deletes[pos] = FileMetadata.deleteFileBuilder(SPEC)
+            .ofEqualityDeletes(3)
+            .withPath("/path/to/eq-deletes-no-bounds.parquet")
+            .withFileSizeInBytes(10)
+            .withPartition(FILE_A.partition())
+            .withRecordCount(10)
+            .build();
+      } else {
+        int rangeId = pos < 20 ? pos : pos - 1;
+        deletes[pos] = FileMetadata.deleteFileBuilder(SPEC)
+            .ofEqualityDeletes(3)
+            .withPath("/path/to/eq-deletes-" + rangeId + ".parquet")
+            .withFileSizeInBytes(10)
+            .withPartition(FILE_A.partition())
+            .withMetrics(idMetrics(rangeId * 10, rangeId * 10 + 9))
+            .build();
+      }
+    }
+
+    DeleteFileIndex index = new DeleteFileIndex(
+        ImmutableMap.of(SPEC.specId(), SPEC),
+        null, null, ImmutableMap.of(
+            Pair.of(SPEC.specId(), StructLikeWrapper.forType(SPEC.partitionType()).set(FILE_A.partition())),
+            Pair.of(seqs, deletes)));
+
+    DataFile dataFile = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-with-bounds.parquet")
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withMetrics(idMetrics(105, 123))
+        .build();
+
+    Assert.assertArrayEquals("Should apply overlapping and unindexed deletes in sequence number order",
+        new DeleteFile[] { deletes[10], deletes[11], deletes[13], deletes[20] }, index.forDataFile(0, dataFile));
+    Assert.assertArrayEquals("Should apply only deletes with newer sequence numbers",
+        new DeleteFile[] { deletes[13], deletes[20] }, index.forDataFile(12, dataFile));
+
+    DataFile dataFileWithoutBounds = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-without-bounds.parquet")
+        .withFileSizeInBytes(10)
+        .withPartition(FILE_A.partition())
+        .withRecordCount(10)
+        .build();
+
+    Assert.assertArrayEquals("Should apply all deletes to a file without bounds",
+        deletes, index.forDataFile(0, dataFileWithoutBounds));
+  }
+
+  private static Metrics idMetrics(int lower, int upper) {
+    return new Metrics(10L, null,
+        ImmutableMap.of(3, 10L),
+        ImmutableMap.of(3, 0L),
+        null,
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper)));
+  }
+
   @Test
   public void testUnpartitionedTableScan() throws IOException {
     File location = temp.newFolder();
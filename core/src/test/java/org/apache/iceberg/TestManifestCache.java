@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestCache extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] { 1, 2 };
+  }
+
+  public TestManifestCache(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void dropCache() {
+    ManifestFiles.dropCache();
+  }
+
+  @Test
+  public void testCachedReadsMatchUncachedReads() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_B, FILE_C);
+    List<String> expected = Lists.newArrayList(FILE_A.path(), FILE_B.path(), FILE_C.path());
+    ManifestCacheStats before = ManifestFiles.cacheStats();
+
+    for (int i = 0; i < 2; i += 1) {
+      try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)) {
+        List<String> files = Streams.stream(reader)
+            .map(file -> file.path().toString())
+            .collect(Collectors.toList());
+        Assert.assertEquals("Should read the expected files", expected, files);
+      }
+    }
+
+    ManifestCacheStats stats = ManifestFiles.cacheStats().minus(before);
+    Assert.assertEquals("Should miss on the first read", 1, stats.missCount());
+    Assert.assertEquals("Should hit on the second read", 1, stats.hitCount());
+  }
+
+  @Test
+  public void testCachedEntriesAreCopied() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A);
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)) {
+      ManifestEntry<DataFile> entry = Iterables.getOnlyElement(reader.entries());
+      Assert.assertEquals(1000L, (long) entry.snapshotId());
+      entry.setSnapshotId(5L);
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)) {
+      ManifestEntry<DataFile> entry = Iterables.getOnlyElement(reader.entries());
+      Assert.assertEquals("Should not be affected by changes to returned entries", 1000L, (long) entry.snapshotId());
+      Assert.assertEquals(FILE_A.path(), entry.file().path());
+    }
+  }
+
+  @Test
+  public void testCachedReadsApplyFilters() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_B);
+    // warm the cache with an unfiltered read
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)) {
+      Assert.assertEquals("Should read both files", 2, Iterables.size(reader));
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)
+        .filterPartitions(Expressions.equal("data_bucket", 0))) {
+      DataFile file = Iterables.getOnlyElement(reader);
+      Assert.assertEquals("Should filter cached entries", FILE_A.path(), file.path());
+    }
+  }
+
+  @Test
+  public void testScanWithManifestCache() throws IOException {
+    table.updateProperties()
+        .set(TableProperties.MANIFEST_CACHE_ENABLED, "true")
+        .commit();
+
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+
+    ManifestCacheStats before = ManifestFiles.cacheStats();
+    for (int i = 0; i < 2; i += 1) {
+      try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+        Assert.assertEquals("Should plan both files", 2, Iterables.size(tasks));
+      }
+    }
+
+    ManifestCacheStats stats = ManifestFiles.cacheStats().minus(before);
+    Assert.assertEquals("Should load the manifest once", 1, stats.missCount());
+    Assert.assertEquals("Should hit the cache when planning again", 1, stats.hitCount());
+  }
+
+  @Test
+  public void testCachedReadsApplyProjection() throws IOException {
+    DataFile fileWithStats = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-with-stats.parquet")
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(new Metrics(1L, null, ImmutableMap.of(1, 1L), ImmutableMap.of(1, 0L)))
+        .build();
+    ManifestFile manifest = writeManifest(1000L, fileWithStats);
+    // warm the cache with a read of all columns
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)) {
+      Assert.assertNotNull("Should read stats", Iterables.getOnlyElement(reader).valueCounts());
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)
+        .select(Lists.newArrayList("file_path"))) {
+      DataFile file = Iterables.getOnlyElement(reader);
+      Assert.assertEquals(fileWithStats.path(), file.path());
+      Assert.assertNull("Should drop stats that are not projected", file.valueCounts());
+    }
+  }
+
+  @Test
+  public void testCacheWeighsDecodedEntries() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_B);
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO, table.specs(), true)) {
+      Assert.assertEquals("Should read both files", 2, Iterables.size(reader));
+    }
+
+    long expectedSize = ManifestCache.estimateSize(FILE_A) + ManifestCache.estimateSize(FILE_B);
+    Assert.assertEquals("Should weigh the decoded entries",
+        expectedSize, ManifestFiles.cacheStats().estimatedSizeBytes());
+  }
+}
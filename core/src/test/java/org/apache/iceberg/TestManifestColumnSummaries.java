@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.iceberg.ManifestFile.ColumnFieldSummary;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestColumnSummaries extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] { 1, 2 };
+  }
+
+  public TestManifestColumnSummaries(int formatVersion) {
+    super(formatVersion);
+  }
+
+  private static DataFile fileWithIdRange(String path, int lower, int upper) {
+    Metrics metrics = new Metrics(10L, null,
+        ImmutableMap.of(3, 10L),
+        ImmutableMap.of(3, 0L),
+        null,
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+        ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper)));
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withRecordCount(10)
+        .withMetrics(metrics)
+        .build();
+  }
+
+  @Before
+  public void enableColumnSummaries() {
+    table.updateProperties()
+        .set(TableProperties.MANIFEST_COLUMN_SUMMARIES, "id")
+        .commit();
+  }
+
+  private ManifestFile writeSummarizedManifest(DataFile... files) throws IOException {
+    File manifestFile = temp.newFile("summarized.m0.avro");
+    Assert.assertTrue(manifestFile.delete());
+    OutputFile outputFile = table.ops().io().newOutputFile(manifestFile.getCanonicalPath());
+
+    ManifestWriter<DataFile> writer = ManifestFiles.write(formatVersion, table.spec(), outputFile, 1000L)
+        .summarizeColumns(ImmutableSet.of(3));
+    try {
+      for (DataFile file : files) {
+        writer.add(file);
+      }
+    } finally {
+      writer.close();
+    }
+
+    return writer.toManifestFile();
+  }
+
+  @Test
+  public void testWriterAggregatesColumnMetrics() throws IOException {
+    ManifestFile manifest = writeSummarizedManifest(
+        fileWithIdRange("/path/to/data-1.parquet", 10, 20),
+        fileWithIdRange("/path/to/data-2.parquet", 2, 4));
+
+    ColumnFieldSummary summary = Iterables.getOnlyElement(manifest.columnSummaries());
+    Assert.assertEquals("Should summarize the id column", 3, summary.fieldId());
+    Assert.assertEquals("Should sum value counts", 20L, (long) summary.valueCount());
+    Assert.assertEquals("Should sum null counts", 0L, (long) summary.nullValueCount());
+    Assert.assertNull("Should not report unknown NaN counts", summary.nanValueCount());
+    Assert.assertEquals("Should use the smallest lower bound",
+        2, (int) Conversions.fromByteBuffer(Types.IntegerType.get(), summary.lowerBound()));
+    Assert.assertEquals("Should use the largest upper bound",
+        20, (int) Conversions.fromByteBuffer(Types.IntegerType.get(), summary.upperBound()));
+  }
+
+  @Test
+  public void testMissingMetricsAreNotSummarized() throws IOException {
+    // FILE_A has no column metrics, so no bounds are known for the manifest
+    ManifestFile manifest = writeSummarizedManifest(fileWithIdRange("/path/to/data-1.parquet", 10, 20), FILE_A);
+
+    List<ColumnFieldSummary> summaries = manifest.columnSummaries();
+    Assert.assertNotNull("Should have column summaries", summaries);
+    Assert.assertTrue("Should not summarize columns without metrics in every file", summaries.isEmpty());
+  }
+
+  @Test
+  public void testSummariesAreNotWrittenByDefault() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, fileWithIdRange("/path/to/data-1.parquet", 10, 20));
+    Assert.assertNull("Should not summarize columns by default", manifest.columnSummaries());
+
+    table.updateProperties()
+        .remove(TableProperties.MANIFEST_COLUMN_SUMMARIES)
+        .commit();
+    table.newFastAppend()
+        .appendFile(fileWithIdRange("/path/to/data-2.parquet", 10, 20))
+        .commit();
+
+    ManifestFile listed = Iterables.getOnlyElement(table.currentSnapshot().dataManifests());
+    Assert.assertNull("Should not store column summaries", listed.columnSummaries());
+
+    File manifestList = new File(table.currentSnapshot().manifestListLocation());
+    try (DataFileReader<GenericData.Record> reader = new DataFileReader<>(manifestList, new GenericDatumReader<>())) {
+      Assert.assertNull("Should not add column summaries to the manifest list schema",
+          reader.getSchema().getField(ManifestFile.COLUMN_SUMMARIES.name()));
+    }
+  }
+
+  @Test
+  public void testSummariesAreStoredInManifestList() {
+    table.newFastAppend()
+        .appendFile(fileWithIdRange("/path/to/data-1.parquet", 10, 20))
+        .commit();
+
+    ManifestFile manifest = Iterables.getOnlyElement(table.currentSnapshot().dataManifests());
+    ColumnFieldSummary summary = Iterables.getOnlyElement(manifest.columnSummaries());
+    Assert.assertEquals("Should read the lower bound from the manifest list",
+        10, (int) Conversions.fromByteBuffer(Types.IntegerType.get(), summary.lowerBound()));
+    Assert.assertEquals("Should read the upper bound from the manifest list",
+        20, (int) Conversions.fromByteBuffer(Types.IntegerType.get(), summary.upperBound()));
+  }
+
+  @Test
+  public void testScanSkipsManifestsUsingColumnSummaries() throws IOException {
+    table.newFastAppend()
+        .appendFile(fileWithIdRange("/path/to/data-1.parquet", 10, 20))
+        .commit();
+    ManifestFile skipped = Iterables.getOnlyElement(table.currentSnapshot().dataManifests());
+
+    table.newFastAppend()
+        .appendFile(fileWithIdRange("/path/to/data-2.parquet", 30, 40))
+        .commit();
+
+    // remove the manifest that should be skipped so that reading it would fail the scan
+    Assert.assertTrue("Should delete the manifest", new File(skipped.path()).delete());
+
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().filter(Expressions.equal("id", 35)).planFiles()) {
+      FileScanTask task = Iterables.getOnlyElement(tasks);
+      Assert.assertEquals("Should plan only the matching file",
+          "/path/to/data-2.parquet", task.file().path().toString());
+    }
+  }
+}
@@ -28,7 +28,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.ManifestEntry.Status;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -1137,4 +1144,143 @@ public class TestRemoveSnapshots extends TableTestBase {
         Sets.newHashSet(firstSnapshot.manifestListLocation(), secondSnapshot.manifestListLocation()),
         deletedFiles);
   }
+
+  @Test
+  public void testBulkDeleteRetriesFailedFiles() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+
+    waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    table.newAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    long tAfterCommits = waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    String manifestList = firstSnapshot.manifestListLocation();
+    BulkDeleteFileIO io = new BulkDeleteFileIO(table.ops().io(), manifestList, 1);
+
+    new RemoveSnapshots(new BulkDeleteTableOperations(table.ops(), io))
+        .expireOlderThan(tAfterCommits)
+        .commit();
+
+    Assert.assertNull("Expire should remove the oldest snapshot", table.snapshot(firstSnapshot.snapshotId()));
+    Assert.assertEquals("Should retry only the file that failed",
+        ImmutableList.of(ImmutableSet.of(manifestList), ImmutableSet.of(manifestList)),
+        io.deleteCalls());
+  }
+
+  @Test
+  public void testBulkDeleteStopsAfterRetries() {
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+
+    waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    table.newAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    long tAfterCommits = waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    String manifestList = firstSnapshot.manifestListLocation();
+    BulkDeleteFileIO io = new BulkDeleteFileIO(table.ops().io(), manifestList, Integer.MAX_VALUE);
+
+    new RemoveSnapshots(new BulkDeleteTableOperations(table.ops(), io))
+        .expireOlderThan(tAfterCommits)
+        .commit();
+
+    Assert.assertNull("Expire should remove the oldest snapshot", table.snapshot(firstSnapshot.snapshotId()));
+    Assert.assertEquals("Should attempt the delete once and retry 3 times", 4, io.deleteCalls().size());
+  }
+
+  /**
+   * A FileIO that supports bulk deletes and fails to delete one path a number of times.
+   */
+  private static class BulkDeleteFileIO implements FileIO, SupportsBulkOperations {
+    private final FileIO io;
+    private final String failingPath;
+    private final List<Set<String>> deleteCalls = Lists.newArrayList();
+    private int numFailures;
+
+    BulkDeleteFileIO(FileIO io, String failingPath, int numFailures) {
+      this.io = io;
+      this.failingPath = failingPath;
+      this.numFailures = numFailures;
+    }
+
+    List<Set<String>> deleteCalls() {
+      return deleteCalls;
+    }
+
+    @Override
+    public InputFile newInputFile(String path) {
+      return io.newInputFile(path);
+    }
+
+    @Override
+    public OutputFile newOutputFile(String path) {
+      return io.newOutputFile(path);
+    }
+
+    @Override
+    public void deleteFile(String path) {
+      throw new UnsupportedOperationException("Should use bulk deletes");
+    }
+
+    @Override
+    public void deleteFiles(Iterable<String> pathsToDelete) {
+      Set<String> paths = ImmutableSet.copyOf(pathsToDelete);
+      deleteCalls.add(paths);
+      if (paths.contains(failingPath) && numFailures > 0) {
+        this.numFailures -= 1;
+        throw new BulkDeletionFailureException(ImmutableList.of(failingPath));
+      }
+    }
+  }
+
+  private static class BulkDeleteTableOperations implements TableOperations {
+    private final TableOperations ops;
+    private final FileIO io;
+
+    BulkDeleteTableOperations(TableOperations ops, FileIO io) {
+      this.ops = ops;
+      this.io = io;
+    }
+
+    @Override
+    public TableMetadata current() {
+      return ops.current();
+    }
+
+    @Override
+    public TableMetadata refresh() {
+      return ops.refresh();
+    }
+
+    @Override
+    public void commit(TableMetadata base, TableMetadata metadata) {
+      ops.commit(base, metadata);
+    }
+
+    @Override
+    public FileIO io() {
+      return io;
+    }
+
+    @Override
+    public String metadataFileLocation(String fileName) {
+      return ops.metadataFileLocation(fileName);
+    }
+
+    @Override
+    public LocationProvider locationProvider() {
+      return ops.locationProvider();
+    }
+  }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.Random;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestBitmapPositionDeleteIndex {
+  @Test
+  public void testEmptyIndex() {
+    PositionDeleteIndex index = new BitmapPositionDeleteIndex();
+    Assert.assertTrue("Should be empty", index.isEmpty());
+    Assert.assertFalse("Should not contain position 0", index.isDeleted(0L));
+
+    boolean[] isDeleted = new boolean[] { true, true, true };
+    Assert.assertEquals("Should not delete any rows", 0, index.isDeleted(10L, isDeleted, 3));
+    Assert.assertArrayEquals("Should clear the batch mask", new boolean[3], isDeleted);
+  }
+
+  @Test
+  public void testMatchesSetAcrossContainers() {
+    Random random = new Random(34);
+    Set<Long> expected = Sets.newHashSet();
+    PositionDeleteIndex index = new BitmapPositionDeleteIndex();
+
+    // sparse positions across many containers, added out of order
+    for (int i = 0; i < 10000; i += 1) {
+      long pos = (long) (random.nextDouble() * 10_000_000L);
+      expected.add(pos);
+      index.delete(pos);
+    }
+
+    // a dense container that is converted to a bitmap
+    for (long pos = 200000L; pos < 260000L; pos += 2) {
+      expected.add(pos);
+      index.delete(pos);
+    }
+
+    // a position beyond the range of an int
+    long largePos = 5_000_000_000L;
+    expected.add(largePos);
+    index.delete(largePos);
+
+    Assert.assertEquals("Should count each position once", expected.size(), index.cardinality());
+    for (long pos = 0; pos < 300000L; pos += 1) {
+      Assert.assertEquals("Should match set for position " + pos, expected.contains(pos), index.isDeleted(pos));
+    }
+
+    Assert.assertTrue("Should contain large position", index.isDeleted(largePos));
+    Assert.assertFalse("Should not contain position after large position", index.isDeleted(largePos + 1));
+  }
+
+  @Test
+  public void testDeleteRange() {
+    PositionDeleteIndex index = new BitmapPositionDeleteIndex();
+    index.delete(65530L, 70000L);
+
+    Assert.assertEquals("Should delete every position in the range", 70000L - 65530L, index.cardinality());
+    Assert.assertFalse("Should not delete position before the range", index.isDeleted(65529L));
+    Assert.assertTrue("Should delete first position", index.isDeleted(65530L));
+    Assert.assertTrue("Should delete position in the next container", index.isDeleted(65536L));
+    Assert.assertTrue("Should delete last position", index.isDeleted(69999L));
+    Assert.assertFalse("Should not delete the end position", index.isDeleted(70000L));
+  }
+
+  @Test
+  public void testBatchIsDeleted() {
+    PositionDeleteIndex index = new BitmapPositionDeleteIndex();
+    index.delete(3L);
+    index.delete(65535L);
+    index.delete(65536L);
+    index.delete(131073L);
+    // make the second container dense
+    index.delete(140000L, 150000L);
+
+    int numRows = 150000;
+    boolean[] isDeleted = new boolean[numRows];
+    int deleted = index.isDeleted(0L, isDeleted, numRows);
+
+    Assert.assertEquals("Should count deleted rows in the batch", index.cardinality(), deleted);
+    for (int i = 0; i < numRows; i += 1) {
+      Assert.assertEquals("Should match single position check for row " + i, index.isDeleted(i), isDeleted[i]);
+    }
+
+    boolean[] offsetBatch = new boolean[4];
+    Assert.assertEquals("Should find deletes at the container boundary",
+        2, index.isDeleted(65534L, offsetBatch, 4));
+    Assert.assertArrayEquals(new boolean[] { false, true, true, false }, offsetBatch);
+  }
+}
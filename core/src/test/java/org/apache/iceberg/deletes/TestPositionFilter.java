@@ -262,4 +262,45 @@ public class TestPositionFilter {
         Lists.newArrayList(1L, 2L, 5L, 6L, 8L),
         Lists.newArrayList(Iterables.transform(actual, row -> row.get(0, Long.class))));
   }
+
+  @Test
+  public void testCombinedPositionIndexRowFilter() {
+    CloseableIterable<StructLike> positionDeletes1 = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of("file_a.avro", 0L),
+        Row.of("file_a.avro", 3L),
+        Row.of("file_a.avro", 9L),
+        Row.of("file_b.avro", 5L),
+        Row.of("file_b.avro", 6L)
+    ));
+
+    CloseableIterable<StructLike> positionDeletes2 = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of("file_a.avro", 3L),
+        Row.of("file_a.avro", 4L),
+        Row.of("file_a.avro", 7L),
+        Row.of("file_b.avro", 2L)
+    ));
+
+    CloseableIterable<StructLike> rows = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of(0L, "a"),
+        Row.of(1L, "b"),
+        Row.of(2L, "c"),
+        Row.of(3L, "d"),
+        Row.of(4L, "e"),
+        Row.of(5L, "f"),
+        Row.of(6L, "g"),
+        Row.of(7L, "h"),
+        Row.of(8L, "i"),
+        Row.of(9L, "j")
+    ));
+
+    PositionDeleteIndex deleteIndex = Deletes.toPositionIndex(
+        "file_a.avro", ImmutableList.of(positionDeletes1, positionDeletes2));
+    Assert.assertEquals("Should index positions for file_a.avro only", 5, deleteIndex.cardinality());
+
+    CloseableIterable<StructLike> actual = Deletes.filter(rows, row -> row.get(0, Long.class), deleteIndex);
+
+    Assert.assertEquals("Filter should produce expected rows",
+        Lists.newArrayList(1L, 2L, 5L, 6L, 8L),
+        Lists.newArrayList(Iterables.transform(actual, row -> row.get(0, Long.class))));
+  }
 }
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.types.Types.NestedField;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestSpillableEqualityDeleteSet {
+  private static final Schema SCHEMA = new Schema(
+      NestedField.required(1, "id", Types.LongType.get()),
+      NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private File spillDir = null;
+
+  @Before
+  public void createSpillDir() throws IOException {
+    this.spillDir = temp.newFolder();
+  }
+
+  @Test
+  public void testAddAndContains() {
+    try (SpillableEqualityDeleteSet deleteSet = SpillableEqualityDeleteSet.create(
+        SCHEMA.asStruct(), 10, new DirectMemoryBudget(1 << 20), spillDir)) {
+      Assert.assertTrue("Should add new key", deleteSet.add(Row.of(1L, "a")));
+      Assert.assertTrue("Should add key with null", deleteSet.add(Row.of(2L, null)));
+      Assert.assertFalse("Should not add duplicate key", deleteSet.add(Row.of(1L, new Utf8("a"))));
+      Assert.assertEquals("Should count distinct keys", 2, deleteSet.size());
+
+      Assert.assertTrue("Should match equal CharSequence", deleteSet.contains(Row.of(1L, new Utf8("a"))));
+      Assert.assertTrue("Should match null value", deleteSet.contains(Row.of(2L, null)));
+      Assert.assertFalse("Should not match empty string instead of null", deleteSet.contains(Row.of(2L, "")));
+      Assert.assertFalse("Should not match different value", deleteSet.contains(Row.of(1L, "b")));
+      Assert.assertFalse("Should not match different id", deleteSet.contains(Row.of(3L, "a")));
+      Assert.assertEquals("Should not spill when keys fit in memory", 0, deleteSet.spilledBytes());
+    }
+  }
+
+  @Test
+  public void testSpillToDisk() {
+    // a zero memory budget stores every page in spill files
+    try (SpillableEqualityDeleteSet deleteSet = SpillableEqualityDeleteSet.create(
+        SCHEMA.asStruct(), 100, new DirectMemoryBudget(0), spillDir)) {
+      for (long id = 0; id < 100_000L; id += 1) {
+        deleteSet.add(Row.of(id, "value-" + id));
+      }
+
+      Assert.assertEquals("Should add all keys", 100_000L, deleteSet.size());
+      Assert.assertEquals("Should not use direct memory", 0, deleteSet.offHeapBytes());
+      Assert.assertTrue("Should spill keys", deleteSet.spilledBytes() > 0);
+      Assert.assertEquals("Should remove spill files after mapping them", 0, spillDir.listFiles().length);
+
+      for (long id = 0; id < 100_000L; id += 1) {
+        Assert.assertTrue("Should contain spilled key " + id, deleteSet.contains(Row.of(id, "value-" + id)));
+      }
+
+      for (long id = 100_000L; id < 110_000L; id += 1) {
+        Assert.assertFalse("Should not contain missing key " + id, deleteSet.contains(Row.of(id, "value-" + id)));
+      }
+    }
+  }
+
+  @Test
+  public void testLargeKey() {
+    try (SpillableEqualityDeleteSet deleteSet = SpillableEqualityDeleteSet.create(
+        SCHEMA.asStruct(), 10, new DirectMemoryBudget(0), spillDir)) {
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < (2 << 20); i += 1) {
+        sb.append((char) ('a' + i % 26));
+      }
+
+      String large = sb.toString();
+      deleteSet.add(Row.of(1L, "small"));
+      deleteSet.add(Row.of(2L, large));
+      deleteSet.add(Row.of(3L, "small"));
+
+      Assert.assertTrue("Should contain large key", deleteSet.contains(Row.of(2L, large)));
+      Assert.assertTrue("Should contain key after large key", deleteSet.contains(Row.of(3L, "small")));
+      Assert.assertFalse("Should not match truncated key", deleteSet.contains(Row.of(2L, large.substring(1))));
+    }
+  }
+
+  @Test
+  public void testEncodedTypes() {
+    Schema schema = new Schema(
+        NestedField.optional(1, "f", Types.FloatType.get()),
+        NestedField.optional(2, "d", Types.DoubleType.get()),
+        NestedField.optional(3, "dec", Types.DecimalType.of(9, 2)),
+        NestedField.optional(4, "u", Types.UUIDType.get()),
+        NestedField.optional(5, "b", Types.BinaryType.get()),
+        NestedField.optional(6, "s", Types.StringType.get()),
+        NestedField.optional(7, "struct", Types.StructType.of(
+            NestedField.optional(8, "x", Types.IntegerType.get()))));
+
+    UUID uuid = UUID.randomUUID();
+    try (SpillableEqualityDeleteSet deleteSet = SpillableEqualityDeleteSet.create(
+        schema.asStruct(), 10, new DirectMemoryBudget(1 << 20), spillDir)) {
+      deleteSet.add(Row.of(Float.NaN, 1.5D, new BigDecimal("12.34"), uuid,
+          ByteBuffer.wrap(new byte[] { 1, 2, 3 }), "\uD83D\uDC3C panda", Row.of(7)));
+
+      Assert.assertTrue("Should match equal values",
+          deleteSet.contains(Row.of(Float.intBitsToFloat(0x7fc00001), 1.5D, new BigDecimal("12.34"),
+              UUID.fromString(uuid.toString()), ByteBuffer.wrap(new byte[] { 0, 1, 2, 3 }, 1, 3),
+              new Utf8("\uD83D\uDC3C panda"), Row.of(7))));
+      Assert.assertFalse("Should not match different nested value",
+          deleteSet.contains(Row.of(Float.NaN, 1.5D, new BigDecimal("12.34"), uuid,
+              ByteBuffer.wrap(new byte[] { 1, 2, 3 }), "\uD83D\uDC3C panda", Row.of(8))));
+    }
+  }
+
+  @Test
+  public void testToSpillableEqualitySet() {
+    CloseableIterable<StructLike> deletes = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of(4L),
+        Row.of(3L),
+        Row.of(6L)
+    ));
+
+    try (SpillableEqualityDeleteSet deleteSet = Deletes.toSpillableEqualitySet(
+        deletes, SCHEMA.select("id").asStruct(), 3, new DirectMemoryBudget(0), spillDir)) {
+      Assert.assertEquals("Should add all deletes", 3, deleteSet.size());
+      Assert.assertTrue("Should contain delete", deleteSet.contains(Row.of(3L)));
+      Assert.assertFalse("Should not contain other key", deleteSet.contains(Row.of(5L)));
+    }
+  }
+
+  @Test
+  public void testSharedMemoryBudget() {
+    // the budget fits one page, so a second set must spill until the first set is closed
+    DirectMemoryBudget budget = new DirectMemoryBudget(1 << 20);
+    SpillableEqualityDeleteSet first = SpillableEqualityDeleteSet.create(SCHEMA.asStruct(), 10, budget, spillDir);
+    first.add(Row.of(1L, "a"));
+    Assert.assertEquals("Should reserve a page", 1 << 20, first.offHeapBytes());
+    Assert.assertEquals("Should track reserved memory", 1 << 20, budget.reservedBytes());
+
+    try (SpillableEqualityDeleteSet second = SpillableEqualityDeleteSet.create(
+        SCHEMA.asStruct(), 10, budget, spillDir)) {
+      second.add(Row.of(2L, "b"));
+      Assert.assertEquals("Should not use direct memory when the budget is used", 0, second.offHeapBytes());
+      Assert.assertTrue("Should spill keys", second.spilledBytes() > 0);
+      Assert.assertTrue("Should contain spilled key", second.contains(Row.of(2L, "b")));
+    }
+
+    first.close();
+    Assert.assertEquals("Should release memory when closed", 0, budget.reservedBytes());
+
+    try (SpillableEqualityDeleteSet third = SpillableEqualityDeleteSet.create(
+        SCHEMA.asStruct(), 10, budget, spillDir)) {
+      third.add(Row.of(3L, "c"));
+      Assert.assertEquals("Should reuse released memory", 1 << 20, third.offHeapBytes());
+    }
+
+    Assert.assertEquals("Should release memory when closed", 0, budget.reservedBytes());
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.io.File;
+import java.io.IOException;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.types.Types.NestedField;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestSpillableKeyPositionIndex {
+  private static final Schema KEY_SCHEMA = new Schema(
+      NestedField.required(1, "id", Types.LongType.get()),
+      NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private File spillDir = null;
+
+  @Before
+  public void createSpillDir() throws IOException {
+    this.spillDir = temp.newFolder();
+  }
+
+  @Test
+  public void testPutAndRemove() {
+    SpillableKeyPositionIndex index = SpillableKeyPositionIndex.create(
+        KEY_SCHEMA.asStruct(), new DirectMemoryBudget(1 << 20), spillDir);
+
+    Assert.assertNull("Should not have a previous position", index.put(Row.of(1L, "a"), "file-1", 0L));
+    Assert.assertNull("Should not have a previous position", index.put(Row.of(2L, null), "file-1", 1L));
+    Assert.assertEquals("Should index 2 keys", 2, index.size());
+
+    SpillableKeyPositionIndex.Position previous = index.put(Row.of(1L, "a"), "file-2", 5L);
+    Assert.assertNotNull("Should return the previous position", previous);
+    Assert.assertEquals("Should return the previous path", "file-1", previous.path());
+    Assert.assertEquals("Should return the previous pos", 0L, previous.pos());
+    Assert.assertEquals("Should not add a key when updating", 2, index.size());
+
+    SpillableKeyPositionIndex.Position removed = index.remove(Row.of(1L, "a"));
+    Assert.assertEquals("Should return the updated path", "file-2", removed.path());
+    Assert.assertEquals("Should return the updated pos", 5L, removed.pos());
+    Assert.assertNull("Should not remove a key twice", index.remove(Row.of(1L, "a")));
+    Assert.assertNull("Should not remove a missing key", index.remove(Row.of(2L, "")));
+    Assert.assertEquals("Should index 1 key", 1, index.size());
+
+    Assert.assertNull("Should add a removed key again", index.put(Row.of(1L, "a"), "file-2", 7L));
+    Assert.assertEquals("Should find key with null value", 1L, index.remove(Row.of(2L, null)).pos());
+    Assert.assertEquals("Should not spill when keys fit in memory", 0, index.spilledBytes());
+
+    index.close();
+  }
+
+  @Test
+  public void testSpillAndRehash() {
+    // a zero memory budget stores every page in spill files
+    SpillableKeyPositionIndex index = SpillableKeyPositionIndex.create(
+        KEY_SCHEMA.asStruct(), new DirectMemoryBudget(0), spillDir);
+    for (long id = 0; id < 100_000L; id += 1) {
+      index.put(Row.of(id, "value-" + id), "file-" + (id % 3), id);
+    }
+
+    // remove every other key so that rehashing drops removed slots
+    for (long id = 0; id < 100_000L; id += 2) {
+      Assert.assertEquals("Should remove key " + id, id, index.remove(Row.of(id, "value-" + id)).pos());
+    }
+
+    for (long id = 100_000L; id < 150_000L; id += 1) {
+      index.put(Row.of(id, "value-" + id), "file-" + (id % 3), id);
+    }
+
+    Assert.assertEquals("Should index remaining keys", 100_000L, index.size());
+    Assert.assertEquals("Should not use direct memory", 0, index.offHeapBytes());
+    Assert.assertTrue("Should spill keys", index.spilledBytes() > 0);
+    Assert.assertEquals("Should remove spill files after mapping them", 0, spillDir.listFiles().length);
+
+    for (long id = 1; id < 100_000L; id += 2) {
+      assertPosition(index, id);
+    }
+
+    for (long id = 100_000L; id < 150_000L; id += 1) {
+      assertPosition(index, id);
+    }
+
+    index.close();
+  }
+
+  @Test
+  public void testSharedBudgetIsReleasedOnClose() {
+    // the budget fits one page, so a second index spills until the first index is closed
+    DirectMemoryBudget budget = new DirectMemoryBudget(1 << 20);
+    SpillableKeyPositionIndex first = SpillableKeyPositionIndex.create(KEY_SCHEMA.asStruct(), budget, spillDir);
+    SpillableKeyPositionIndex second = SpillableKeyPositionIndex.create(KEY_SCHEMA.asStruct(), budget, spillDir);
+
+    first.put(Row.of(1L, "a"), "file-1", 0L);
+    second.put(Row.of(2L, "b"), "file-1", 1L);
+    Assert.assertEquals("Should reserve the budget for the first index", 1 << 20, first.offHeapBytes());
+    Assert.assertEquals("Should spill the second index", 0, second.offHeapBytes());
+    Assert.assertEquals("Should find spilled key", 1L, second.remove(Row.of(2L, "b")).pos());
+
+    first.close();
+    Assert.assertEquals("Should release memory when closed", 0, budget.reservedBytes());
+    Assert.assertEquals("Should clear the index when closed", 0, first.size());
+
+    SpillableKeyPositionIndex third = SpillableKeyPositionIndex.create(KEY_SCHEMA.asStruct(), budget, spillDir);
+    third.put(Row.of(3L, "c"), "file-1", 2L);
+    Assert.assertEquals("Should use released memory", 1 << 20, third.offHeapBytes());
+
+    second.close();
+    third.close();
+    Assert.assertEquals("Should release memory when closed", 0, budget.reservedBytes());
+  }
+
+  private static void assertPosition(SpillableKeyPositionIndex index, long id) {
+    SpillableKeyPositionIndex.Position position = index.put(Row.of(id, "value-" + id), "file-3", 0L);
+    Assert.assertNotNull("Should contain key " + id, position);
+    Assert.assertEquals("Should return path for key " + id, "file-" + (id % 3), position.path());
+    Assert.assertEquals("Should return pos for key " + id, id, position.pos());
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestFilePrefetcher {
+  private static final int FILE_LENGTH = 1000;
+  private static final int FOOTER_LENGTH = 100;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final Random random = new Random(34);
+  private final List<FileScanTask> tasks = Lists.newArrayList();
+  private final Map<String, byte[]> contents = Maps.newHashMap();
+  private final Map<String, AtomicInteger> streamCounts = Maps.newHashMap();
+  private final AtomicInteger resolvedCount = new AtomicInteger(0);
+
+  @Before
+  public void createFiles() throws IOException {
+    for (int i = 0; i < 3; i += 1) {
+      byte[] bytes = new byte[FILE_LENGTH];
+      random.nextBytes(bytes);
+      // end the file with a Parquet footer length and magic
+      ByteBuffer.wrap(bytes, FILE_LENGTH - 8, 4).order(ByteOrder.LITTLE_ENDIAN).putInt(FOOTER_LENGTH);
+      System.arraycopy(new byte[] { 'P', 'A', 'R', '1' }, 0, bytes, FILE_LENGTH - 4, 4);
+
+      File file = temp.newFile();
+      java.nio.file.Files.write(file.toPath(), bytes);
+      contents.put(file.toString(), bytes);
+      streamCounts.put(file.toString(), new AtomicInteger(0));
+
+      DataFile dataFile = DataFiles.builder(PartitionSpec.unpartitioned())
+          .withPath(file.toString())
+          .withFileSizeInBytes(FILE_LENGTH)
+          .withRecordCount(1)
+          .withFormat(FileFormat.PARQUET)
+          .build();
+      tasks.add(new TestTask(dataFile));
+    }
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    Assert.assertNull("Should not prefetch unless enabled", FilePrefetcher.create(tasks, this::inputFile));
+  }
+
+  @Test
+  public void testPrefetchNextFiles() throws IOException {
+    try (FilePrefetcher prefetcher = new FilePrefetcher(
+        tasks, this::inputFile, 2, 1024 * 1024, MoreExecutors.newDirectExecutorService())) {
+      InputFile first = prefetcher.inputFile(tasks.get(0));
+      Assert.assertEquals("Should not prefetch the first file", 0, streamCount(0));
+      Assert.assertEquals("Should prefetch the next file", 1, streamCount(1));
+      Assert.assertEquals("Should prefetch the next file", 1, streamCount(2));
+      assertContents(0, first);
+
+      for (int i = 1; i < tasks.size(); i += 1) {
+        InputFile file = prefetcher.inputFile(tasks.get(i));
+        Assert.assertEquals("Should return the file length", FILE_LENGTH, file.getLength());
+        assertContents(i, file);
+        Assert.assertEquals("Should read the whole file from memory", 1, streamCount(i));
+      }
+
+      Assert.assertEquals("Should resolve each input file once", tasks.size(), resolvedCount.get());
+    }
+  }
+
+  @Test
+  public void testPrefetchMemoryBound() throws IOException {
+    // each of the 2 prefetched files and the current file may use 300 bytes
+    try (FilePrefetcher prefetcher = new FilePrefetcher(
+        tasks, this::inputFile, 2, 900, MoreExecutors.newDirectExecutorService())) {
+      prefetcher.inputFile(tasks.get(0));
+
+      InputFile file = prefetcher.inputFile(tasks.get(1));
+      try (SeekableInputStream in = file.newStream()) {
+        byte[] footer = new byte[FOOTER_LENGTH + 8];
+        in.seek(FILE_LENGTH - footer.length);
+        readFully(in, footer);
+        byte[] head = new byte[300 - footer.length];
+        in.seek(0);
+        readFully(in, head);
+        Assert.assertEquals("Should read the footer and first bytes from memory", 1, streamCount(1));
+      }
+
+      assertContents(1, file);
+      Assert.assertEquals("Should open the file to read bytes that were not prefetched", 2, streamCount(1));
+    }
+  }
+
+  private void assertContents(int index, InputFile file) throws IOException {
+    byte[] expected = contents.get(tasks.get(index).file().path().toString());
+    byte[] actual = new byte[FILE_LENGTH];
+    try (SeekableInputStream in = file.newStream()) {
+      readFully(in, actual);
+      Assert.assertEquals("Should reach the end of the file", -1, in.read());
+    }
+
+    Assert.assertArrayEquals("Should read the file contents", expected, actual);
+  }
+
+  private static void readFully(SeekableInputStream in, byte[] bytes) throws IOException {
+    int offset = 0;
+    while (offset < bytes.length) {
+      int bytesRead = in.read(bytes, offset, bytes.length - offset);
+      Assert.assertTrue("Should not reach the end of the file", bytesRead > 0);
+      offset += bytesRead;
+    }
+  }
+
+  private int streamCount(int index) {
+    return streamCounts.get(tasks.get(index).file().path().toString()).get();
+  }
+
+  private InputFile inputFile(FileScanTask task) {
+    resolvedCount.incrementAndGet();
+    String location = task.file().path().toString();
+    InputFile file = Files.localInput(location);
+    AtomicInteger count = streamCounts.get(location);
+    return new InputFile() {
+      @Override
+      public long getLength() {
+        return file.getLength();
+      }
+
+      @Override
+      public SeekableInputStream newStream() {
+        count.incrementAndGet();
+        return file.newStream();
+      }
+
+      @Override
+      public String location() {
+        return file.location();
+      }
+
+      @Override
+      public boolean exists() {
+        return file.exists();
+      }
+    };
+  }
+
+  private static class TestTask implements FileScanTask {
+    private final DataFile file;
+
+    private TestTask(DataFile file) {
+      this.file = file;
+    }
+
+    @Override
+    public DataFile file() {
+      return file;
+    }
+
+    @Override
+    public List<DeleteFile> deletes() {
+      return ImmutableList.of();
+    }
+
+    @Override
+    public PartitionSpec spec() {
+      return PartitionSpec.unpartitioned();
+    }
+
+    @Override
+    public long start() {
+      return 0;
+    }
+
+    @Override
+    public long length() {
+      return file.fileSizeInBytes();
+    }
+
+    @Override
+    public Expression residual() {
+      return Expressions.alwaysTrue();
+    }
+
+    @Override
+    public Iterable<FileScanTask> split(long splitSize) {
+      return ImmutableList.of(this);
+    }
+  }
+}
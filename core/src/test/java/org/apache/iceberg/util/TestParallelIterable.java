@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestParallelIterable {
+  private ExecutorService workerPool = null;
+
+  @Before
+  public void createWorkerPool() {
+    this.workerPool = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void shutdownWorkerPool() {
+    workerPool.shutdownNow();
+  }
+
+  @Test
+  public void testReadsAllItems() throws IOException {
+    List<List<Integer>> iterables = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      int start = i * 100;
+      iterables.add(IntStream.range(start, start + 100).boxed().collect(Collectors.toList()));
+    }
+
+    Set<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toSet());
+
+    try (CloseableIterable<Integer> unbounded = new ParallelIterable<>(iterables, workerPool)) {
+      Assert.assertEquals("Should read all items", expected, Sets.newHashSet(unbounded));
+    }
+
+    try (CloseableIterable<Integer> bounded = new ParallelIterable<>(iterables, workerPool, 7)) {
+      Assert.assertEquals("Should read all items with a bounded queue", expected, Sets.newHashSet(bounded));
+    }
+  }
+
+  @Test
+  public void testBoundedQueuePausesProducers() throws IOException, InterruptedException {
+    AtomicInteger produced = new AtomicInteger(0);
+    List<Iterable<Integer>> iterables = Lists.newArrayList();
+    for (int i = 0; i < 8; i += 1) {
+      iterables.add(() -> IntStream.range(0, 1000).peek(value -> produced.incrementAndGet()).iterator());
+    }
+
+    int maxQueueSize = 20;
+    ParallelIterable<Integer> parallel = new ParallelIterable<>(iterables, workerPool, maxQueueSize);
+    try (CloseableIterator<Integer> iterator = parallel.iterator()) {
+      int consumed = 0;
+      for (int i = 0; i < 100; i += 1) {
+        Assert.assertTrue("Should have more items", iterator.hasNext());
+        iterator.next();
+        consumed += 1;
+
+        // each running task may add one item past the limit
+        Assert.assertTrue("Should not read far ahead of the consumer",
+            produced.get() - consumed <= maxQueueSize + iterables.size());
+      }
+
+      // give producers time to fill the queue and verify that they stop
+      Thread.sleep(100);
+      Assert.assertTrue("Should not read far ahead of the consumer",
+          produced.get() - consumed <= maxQueueSize + iterables.size());
+    }
+  }
+
+  @Test
+  public void testCloseClosesPausedIterables() throws IOException {
+    AtomicInteger opened = new AtomicInteger(0);
+    AtomicInteger closed = new AtomicInteger(0);
+    List<CloseableIterable<Integer>> iterables = Lists.newArrayList();
+    for (int i = 0; i < 4; i += 1) {
+      List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+      iterables.add(CloseableIterable.combine(
+          () -> {
+            opened.incrementAndGet();
+            return values.iterator();
+          },
+          closed::incrementAndGet));
+    }
+
+    ParallelIterable<Integer> parallel = new ParallelIterable<>(iterables, workerPool, 10);
+    CloseableIterator<Integer> iterator = parallel.iterator();
+    Assert.assertTrue("Should have more items", iterator.hasNext());
+    iterator.next();
+    iterator.close();
+
+    AssertHelpers.assertThrows("Should not allow reading after close",
+        IllegalStateException.class, "Already closed", iterator::hasNext);
+
+    // paused tasks are closed immediately, running tasks close when they observe the closed flag
+    long deadline = System.currentTimeMillis() + 5000;
+    while (closed.get() < opened.get() && System.currentTimeMillis() < deadline) {
+      Thread.yield();
+    }
+
+    Assert.assertTrue("Should open at least one iterable", opened.get() > 0);
+    Assert.assertTrue("Should close every opened iterable", closed.get() >= opened.get());
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.data;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+
+/**
+ * A JVM-wide cache of loaded delete files.
+ * <p>
+ * A delete file usually applies to many data files, which are read by different tasks. Caching the loaded deletes
+ * avoids reading and hashing the same delete file for every task that runs in the same JVM. Delete files are
+ * immutable once written, so entries are cached by delete file path. A position delete file is read once and cached
+ * as an index for each data file that it applies to, so tasks for other data files reuse it. Equality deletes are
+ * also keyed by the projected equality delete type.
+ * <p>
+ * Only deletes that are held on the heap are cached. Large equality deletes that are stored off-heap are loaded by
+ * each task and released when the task is done. Entries that are larger than the whole cache are not cached.
+ * <p>
+ * Cached deletes are shared by concurrent tasks and must not be modified.
+ * <p>
+ * The cache is disabled by default and is enabled by setting the {@link SystemProperties#DELETE_CACHE_ENABLED} system
+ * property to true. It is bounded by the estimated heap size of loaded deletes, set using the
+ * {@link SystemProperties#DELETE_CACHE_MAX_TOTAL_BYTES} system property.
+ */
+public class DeleteCache {
+  private static final long MAX_TOTAL_BYTES_DEFAULT = 100 * 1024 * 1024; // 100 MB
+
+  private static volatile DeleteCache instance = null;
+
+  public static DeleteCache get() {
+    if (instance == null) {
+      synchronized (DeleteCache.class) {
+        if (instance == null) {
+          instance = new DeleteCache(
+              SystemProperties.getLong(SystemProperties.DELETE_CACHE_MAX_TOTAL_BYTES, MAX_TOTAL_BYTES_DEFAULT));
+        }
+      }
+    }
+
+    return instance;
+  }
+
+  static boolean enabled() {
+    return SystemProperties.getBoolean(SystemProperties.DELETE_CACHE_ENABLED, false);
+  }
+
+  private final long maxTotalBytes;
+  private final Cache<Key, LoadedDeletes<?>> entries;
+
+  DeleteCache(long maxTotalBytes) {
+    this.maxTotalBytes = maxTotalBytes;
+    this.entries = Caffeine.newBuilder()
+        .maximumWeight(maxTotalBytes)
+        .weigher((Key key, LoadedDeletes<?> value) -> (int) Math.min(value.sizeInBytes(), Integer.MAX_VALUE))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the positions deleted by a position delete file, for each data file that it applies to.
+   *
+   * @param deleteFile a position delete file
+   * @param loader a supplier that loads the delete file's indexes by data file location if they are not cached
+   * @return a map from data file location to an index of deleted positions in that data file
+   */
+  Map<String, PositionDeleteIndex> positionDeletes(DeleteFile deleteFile,
+                                                   Supplier<Map<String, PositionDeleteIndex>> loader) {
+    return get(new Key(deleteFile.path().toString(), null), () -> {
+      Map<String, PositionDeleteIndex> indexes = loader.get();
+      long sizeInBytes = 64L;
+      for (Map.Entry<String, PositionDeleteIndex> entry : indexes.entrySet()) {
+        // the map entry and the location, plus the index
+        sizeInBytes += 64L + 2L * entry.getKey().length() + entry.getValue().sizeInBytes();
+      }
+
+      return new LoadedDeletes<>(indexes, sizeInBytes);
+    });
+  }
+
+  /**
+   * Returns the rows of an equality delete file.
+   *
+   * @param deleteFile an equality delete file
+   * @param deleteType the struct type of the projected equality delete rows
+   * @param loader a supplier that loads the delete file and estimates its heap size if it is not cached
+   * @return a set of the delete file's projected equality delete rows
+   */
+  StructLikeSet equalityDeletes(DeleteFile deleteFile, Types.StructType deleteType,
+                                Supplier<LoadedDeletes<StructLikeSet>> loader) {
+    return get(new Key(deleteFile.path().toString(), deleteType), loader);
+  }
+
+  /**
+   * Returns stats for this cache, including hits and evictions.
+   *
+   * @return {@link CacheStats} for this cache
+   */
+  public CacheStats stats() {
+    return entries.stats();
+  }
+
+  public void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <D> D get(Key key, Supplier<LoadedDeletes<D>> loader) {
+    LoadedDeletes<?> cached = entries.getIfPresent(key);
+    if (cached != null) {
+      return (D) cached.deletes();
+    }
+
+    // load outside of the cache so that a slow read does not block other tasks; concurrent loads of the same file
+    // are rare and the first one to finish is cached
+    LoadedDeletes<D> loaded = loader.get();
+    if (loaded.sizeInBytes() > maxTotalBytes) {
+      return loaded.deletes();
+    }
+
+    LoadedDeletes<?> existing = entries.asMap().putIfAbsent(key, loaded);
+    return existing != null ? (D) existing.deletes() : loaded.deletes();
+  }
+
+  static class LoadedDeletes<D> {
+    private final D deletes;
+    private final long sizeInBytes;
+
+    LoadedDeletes(D deletes, long sizeInBytes) {
+      this.deletes = deletes;
+      this.sizeInBytes = sizeInBytes;
+    }
+
+    D deletes() {
+      return deletes;
+    }
+
+    long sizeInBytes() {
+      return sizeInBytes;
+    }
+  }
+
+  private static class Key {
+    private final String path;
+    private final Types.StructType deleteType;
+
+    private Key(String path, Types.StructType deleteType) {
+      this.path = path;
+      this.deleteType = deleteType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return path.equals(that.path) && Objects.equals(deleteType, that.deleteType);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, deleteType);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("path", path)
+          .add("deleteType", deleteType)
+          .toString();
+    }
+  }
+}
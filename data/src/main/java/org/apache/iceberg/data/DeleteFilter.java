@@ -19,6 +19,9 @@
 
 package org.apache.iceberg.data;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -27,17 +30,22 @@ import java.util.function.Predicate;
 import org.apache.iceberg.Accessor;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
-import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemProperties;
 import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.DeleteCache.LoadedDeletes;
 import org.apache.iceberg.data.avro.DataReader;
 import org.apache.iceberg.data.parquet.GenericParquetReaders;
 import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.DirectMemoryBudget;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.deletes.SpillableEqualityDeleteSet;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
@@ -54,21 +62,35 @@ import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.StructProjection;
 import org.apache.parquet.Preconditions;
 
-public abstract class DeleteFilter<T> {
+public abstract class DeleteFilter<T> implements Closeable {
   private static final long DEFAULT_SET_FILTER_THRESHOLD = 100_000L;
+  private static final long DEFAULT_DELETE_SET_MAX_MEMORY_BYTES = 128L * 1024 * 1024; // 128 MB
+  // direct memory is shared by the equality delete sets of all concurrent tasks
+  private static final DirectMemoryBudget DELETE_SET_MEMORY = new DirectMemoryBudget(SystemProperties.getLong(
+      SystemProperties.DELETE_SET_MAX_MEMORY_BYTES, DEFAULT_DELETE_SET_MAX_MEMORY_BYTES));
+  // estimated heap use of equality deletes, used to weigh cached deletes
+  private static final long ROW_BYTES = 128L;
+  private static final long FIELD_BYTES = 32L;
   private static final Schema POS_DELETE_SCHEMA = new Schema(
       MetadataColumns.DELETE_FILE_PATH,
       MetadataColumns.DELETE_FILE_POS);
 
   private final long setFilterThreshold;
+  private final File deleteSpillDir;
   private final DataFile dataFile;
   private final List<DeleteFile> posDeletes;
   private final List<DeleteFile> eqDeletes;
   private final Schema requiredSchema;
   private final Accessor<StructLike> posAccessor;
 
+  private final List<SpillableEqualityDeleteSet> spillableDeleteSets = Lists.newArrayList();
+
+  private PositionDeleteIndex deletedRowPositions = null;
+
   protected DeleteFilter(FileScanTask task, Schema tableSchema, Schema requestedSchema) {
     this.setFilterThreshold = DEFAULT_SET_FILTER_THRESHOLD;
+    this.deleteSpillDir = new File(SystemProperties.getString(
+        SystemProperties.DELETE_SPILL_DIR, System.getProperty("java.io.tmpdir")));
     this.dataFile = task.file();
 
     ImmutableList.Builder<DeleteFile> posDeleteBuilder = ImmutableList.builder();
@@ -108,8 +130,27 @@ public abstract class DeleteFilter<T> {
     return (Long) posAccessor.get(asStructLike(record));
   }
 
+  /**
+   * Returns the records that are not deleted.
+   * <p>
+   * Closing the returned iterable or its iterator also closes this filter.
+   *
+   * @param records records from the data file with the {@link #requiredSchema() required schema}
+   * @return the records that are not deleted
+   */
   public CloseableIterable<T> filter(CloseableIterable<T> records) {
-    return applyEqDeletes(applyPosDeletes(records));
+    return closeWith(applyEqDeletes(applyPosDeletes(records)));
+  }
+
+  /**
+   * Releases the direct memory and spill space used by large equality delete sets that were loaded by this filter.
+   * <p>
+   * Row filters returned by this filter must not be used after it is closed.
+   */
+  @Override
+  public void close() {
+    spillableDeleteSets.forEach(SpillableEqualityDeleteSet::close);
+    spillableDeleteSets.clear();
   }
 
   private List<Predicate<T>> applyEqDeletes() {
@@ -125,27 +166,87 @@ public abstract class DeleteFilter<T> {
 
     for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry : filesByDeleteIds.asMap().entrySet()) {
       Set<Integer> ids = entry.getKey();
-      Iterable<DeleteFile> deletes = entry.getValue();
+      Collection<DeleteFile> deletes = entry.getValue();
 
       Schema deleteSchema = TypeUtil.select(requiredSchema, ids);
 
       // a projection to select and reorder fields of the file schema to match the delete rows
       StructProjection projectRow = StructProjection.create(requiredSchema, deleteSchema);
 
-      Iterable<CloseableIterable<Record>> deleteRecords = Iterables.transform(deletes,
-          delete -> openDeletes(delete, deleteSchema));
-      StructLikeSet deleteSet = Deletes.toEqualitySet(
-          // copy the delete records because they will be held in a set
-          CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy),
-          deleteSchema.asStruct());
+      // if there are fewer deletes than a reasonable number to keep on the heap, use a set
+      Predicate<StructLike> isDeleted;
+      long expectedSize = deletes.stream().mapToLong(DeleteFile::recordCount).sum();
+      if (expectedSize >= setFilterThreshold) {
+        isDeleted = loadSpillableEqualityDeletes(deletes, deleteSchema, expectedSize)::contains;
+      } else if (DeleteCache.enabled()) {
+        isDeleted = cachedEqualityDeletes(deletes, deleteSchema);
+      } else {
+        isDeleted = loadEqualityDeletes(deletes, deleteSchema)::contains;
+      }
 
-      Predicate<T> isInDeleteSet = record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
+      Predicate<T> isInDeleteSet = record -> isDeleted.test(projectRow.wrap(asStructLike(record)));
       isInDeleteSets.add(isInDeleteSet);
     }
 
     return isInDeleteSets;
   }
 
+  private Predicate<StructLike> cachedEqualityDeletes(Collection<DeleteFile> deletes, Schema deleteSchema) {
+    Types.StructType deleteType = deleteSchema.asStruct();
+    long rowBytes = ROW_BYTES + deleteSchema.columns().size() * FIELD_BYTES;
+
+    List<StructLikeSet> deleteSets = Lists.newArrayList();
+    for (DeleteFile delete : deletes) {
+      deleteSets.add(DeleteCache.get().equalityDeletes(delete, deleteType, () -> {
+        StructLikeSet deleteSet = loadEqualityDeletes(ImmutableList.of(delete), deleteSchema);
+        return new LoadedDeletes<>(deleteSet, deleteSet.size() * rowBytes);
+      }));
+    }
+
+    if (deleteSets.size() == 1) {
+      return deleteSets.get(0)::contains;
+    }
+
+    // check each cached set instead of merging them, which would copy and re-hash every cached row for each task
+    return row -> {
+      for (StructLikeSet deleteSet : deleteSets) {
+        if (deleteSet.contains(row)) {
+          return true;
+        }
+      }
+
+      return false;
+    };
+  }
+
+  private StructLikeSet loadEqualityDeletes(Collection<DeleteFile> deletes, Schema deleteSchema) {
+    Iterable<CloseableIterable<Record>> deleteRecords = Iterables.transform(deletes,
+        delete -> openDeletes(delete, deleteSchema));
+
+    return Deletes.toEqualitySet(
+        // copy the delete records because they will be held in a set
+        CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy),
+        deleteSchema.asStruct());
+  }
+
+  private SpillableEqualityDeleteSet loadSpillableEqualityDeletes(Collection<DeleteFile> deletes, Schema deleteSchema,
+                                                                  long expectedSize) {
+    Iterable<CloseableIterable<Record>> deleteRecords = Iterables.transform(deletes,
+        delete -> openDeletes(delete, deleteSchema));
+
+    // keys are encoded as they are read, so the records are not copied
+    InternalRecordWrapper internalRecord = new InternalRecordWrapper(deleteSchema.asStruct());
+    CloseableIterable<StructLike> internalDeletes = CloseableIterable.transform(
+        CloseableIterable.concat(deleteRecords), internalRecord::wrap);
+    SpillableEqualityDeleteSet deleteSet = Deletes.toSpillableEqualitySet(
+        internalDeletes, deleteSchema.asStruct(), expectedSize, DELETE_SET_MEMORY, deleteSpillDir);
+
+    // off-heap sets are not cached, so they are released when this filter is closed
+    spillableDeleteSets.add(deleteSet);
+
+    return deleteSet;
+  }
+
   public CloseableIterable<T> findEqualityDeleteRows(CloseableIterable<T> records) {
     // Predicate to test whether a row has been deleted by equality deletions.
     Predicate<T> deletedRows = applyEqDeletes().stream()
@@ -158,7 +259,22 @@ public abstract class DeleteFilter<T> {
         return deletedRows.test(item);
       }
     };
-    return deletedRowsFilter.filter(records);
+    return closeWith(deletedRowsFilter.filter(records));
+  }
+
+  /**
+   * Returns a predicate that tests whether a row is deleted by equality delete files.
+   * <p>
+   * Rows passed to the predicate must have the {@link #requiredSchema() required schema}. Vectorized readers can use
+   * it to check the rows of a batch, and must {@link #close() close} this filter when the batches are read, for example
+   * using {@link #closeWith(CloseableIterable)}.
+   *
+   * @return a predicate that returns true for deleted rows, or null if there are no equality deletes
+   */
+  public Predicate<T> eqDeletedRowFilter() {
+    return applyEqDeletes().stream()
+        .reduce(Predicate::or)
+        .orElse(null);
   }
 
   private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records) {
@@ -178,6 +294,53 @@ public abstract class DeleteFilter<T> {
     return remainingRowsFilter.filter(records);
   }
 
+  /**
+   * Returns an iterable that closes this filter when it or one of its iterators is closed.
+   * <p>
+   * Vectorized readers use this to release deletes when the filtered batches are closed.
+   *
+   * @param records an iterable that uses this filter
+   * @param <R> the type of records
+   * @return an iterable that also closes this filter
+   */
+  public <R> CloseableIterable<R> closeWith(CloseableIterable<R> records) {
+    return new CloseableIterable<R>() {
+      @Override
+      public CloseableIterator<R> iterator() {
+        CloseableIterator<R> iter = records.iterator();
+        return new CloseableIterator<R>() {
+          @Override
+          public boolean hasNext() {
+            return iter.hasNext();
+          }
+
+          @Override
+          public R next() {
+            return iter.next();
+          }
+
+          @Override
+          public void close() throws IOException {
+            try {
+              iter.close();
+            } finally {
+              DeleteFilter.this.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          records.close();
+        } finally {
+          DeleteFilter.this.close();
+        }
+      }
+    };
+  }
+
   private CloseableIterable<T> applyPosDeletes(CloseableIterable<T> records) {
     if (posDeletes.isEmpty()) {
       return records;
@@ -185,21 +348,66 @@ public abstract class DeleteFilter<T> {
 
     List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
 
-    // if there are fewer deletes than a reasonable number to keep in memory, use a set
-    if (posDeletes.stream().mapToLong(DeleteFile::recordCount).sum() < setFilterThreshold) {
-      return Deletes.filter(
-          records, this::pos,
-          Deletes.toPositionSet(dataFile.path(), CloseableIterable.concat(deletes)));
+    // if the deletes are cached or there are fewer deletes than a reasonable number to keep in memory, use an index
+    if (deletedRowPositions != null || DeleteCache.enabled() ||
+        posDeletes.stream().mapToLong(DeleteFile::recordCount).sum() < setFilterThreshold) {
+      return Deletes.filter(records, this::pos, deletedRowPositions());
     }
 
     return Deletes.streamingFilter(records, this::pos, Deletes.deletePositions(dataFile.path(), deletes));
   }
 
+  /**
+   * Returns an index of the row positions in the data file that are deleted by position delete files.
+   * <p>
+   * The index is loaded the first time this is called. Vectorized readers can use it to check batches of rows. The
+   * index may be shared with other tasks through the {@link DeleteCache} and must not be modified.
+   *
+   * @return a {@link PositionDeleteIndex} of deleted positions, or null if there are no position deletes
+   */
+  public PositionDeleteIndex deletedRowPositions() {
+    if (posDeletes.isEmpty()) {
+      return null;
+    }
+
+    if (deletedRowPositions == null) {
+      if (DeleteCache.enabled()) {
+        this.deletedRowPositions = cachedPositionDeletes();
+      } else {
+        List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
+        this.deletedRowPositions = Deletes.toPositionIndex(dataFile.path(), deletes);
+      }
+    }
+
+    return deletedRowPositions;
+  }
+
+  private PositionDeleteIndex cachedPositionDeletes() {
+    String dataLocation = dataFile.path().toString();
+    List<PositionDeleteIndex> indexes = Lists.newArrayList();
+    for (DeleteFile delete : posDeletes) {
+      // the whole delete file is loaded once and shared by the tasks for all of the data files it applies to
+      Map<String, PositionDeleteIndex> indexByLocation = DeleteCache.get().positionDeletes(delete,
+          () -> Deletes.toPositionIndexes(openDeletes(delete, POS_DELETE_SCHEMA, null)));
+      PositionDeleteIndex index = indexByLocation.get(dataLocation);
+      if (index != null) {
+        indexes.add(index);
+      }
+    }
+
+    return Deletes.mergePositionIndexes(indexes);
+  }
+
   private CloseableIterable<Record> openPosDeletes(DeleteFile file) {
-    return openDeletes(file, POS_DELETE_SCHEMA);
+    return openDeletes(file, POS_DELETE_SCHEMA, dataFile.path());
   }
 
   private CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema deleteSchema) {
+    return openDeletes(deleteFile, deleteSchema, null);
+  }
+
+  private CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema deleteSchema,
+                                                CharSequence dataLocation) {
     InputFile input = getInputFile(deleteFile.path().toString());
     switch (deleteFile.format()) {
       case AVRO:
@@ -215,8 +423,8 @@ public abstract class DeleteFilter<T> {
             .reuseContainers()
             .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(deleteSchema, fileSchema));
 
-        if (deleteFile.content() == FileContent.POSITION_DELETES) {
-          builder.filter(Expressions.equal(MetadataColumns.DELETE_FILE_PATH.name(), dataFile.path()));
+        if (dataLocation != null) {
+          builder.filter(Expressions.equal(MetadataColumns.DELETE_FILE_PATH.name(), dataLocation));
         }
 
         return builder.build();
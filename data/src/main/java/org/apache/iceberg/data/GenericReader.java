@@ -25,6 +25,7 @@ import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.DataReader;
@@ -44,6 +45,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.PartitionUtil;
+import org.apache.iceberg.util.PropertyUtil;
 
 class GenericReader implements Serializable {
   private final FileIO io;
@@ -51,6 +53,7 @@ class GenericReader implements Serializable {
   private final Schema projection;
   private final boolean caseSensitive;
   private final boolean reuseContainers;
+  private final boolean filterPages;
 
   GenericReader(TableScan scan, boolean reuseContainers) {
     this.io = scan.table().io();
@@ -58,6 +61,8 @@ class GenericReader implements Serializable {
     this.projection = scan.schema();
     this.caseSensitive = scan.isCaseSensitive();
     this.reuseContainers = reuseContainers;
+    this.filterPages = PropertyUtil.propertyAsBoolean(scan.table().properties(),
+        TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED, TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED_DEFAULT);
   }
 
   CloseableIterator<Record> open(CloseableIterable<CombinedScanTask> tasks) {
@@ -115,7 +120,9 @@ class GenericReader implements Serializable {
             .project(fileProjection)
             .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(fileProjection, fileSchema, partition))
             .split(task.start(), task.length())
-            .filter(task.residual());
+            .filter(task.residual())
+            .filterRows(true)
+            .filterPages(filterPages);
 
         if (reuseContainers) {
           parquet.reuseContainers();
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.data;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.data.DeleteCache.LoadedDeletes;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.StructLikeSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestDeleteCache {
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private Table table = null;
+  private DataFile dataFile1 = null;
+  private DataFile dataFile2 = null;
+
+  @Before
+  public void createTable() throws IOException {
+    File tableDir = temp.newFolder();
+    Assert.assertTrue(tableDir.delete());
+
+    this.table = TestTables.create(tableDir, "test", DeleteReadTests.SCHEMA, DeleteReadTests.SPEC, 2);
+
+    // records all use IDs that are in bucket id_bucket=0
+    GenericRecord record = GenericRecord.create(table.schema());
+    this.dataFile1 = FileHelpers.writeDataFile(table, Files.localOutput(temp.newFile()), Row.of(0),
+        Lists.newArrayList(record.copy("id", 29, "data", "a"), record.copy("id", 43, "data", "b")));
+    this.dataFile2 = FileHelpers.writeDataFile(table, Files.localOutput(temp.newFile()), Row.of(0),
+        Lists.newArrayList(record.copy("id", 61, "data", "c"), record.copy("id", 89, "data", "d")));
+
+    table.newAppend()
+        .appendFile(dataFile1)
+        .appendFile(dataFile2)
+        .commit();
+  }
+
+  @After
+  public void dropTable() {
+    System.clearProperty(SystemProperties.DELETE_CACHE_ENABLED);
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testDeleteFilesAreLoadedOnce() throws IOException {
+    System.setProperty(SystemProperties.DELETE_CACHE_ENABLED, "true");
+    DeleteCache.get().invalidateAll();
+
+    List<Pair<CharSequence, Long>> deletes = Lists.newArrayList(
+        Pair.of(dataFile1.path(), 0L), // id = 29
+        Pair.of(dataFile2.path(), 1L) // id = 89
+    );
+
+    Pair<DeleteFile, ?> posDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), Row.of(0), deletes);
+
+    Schema deleteRowSchema = table.schema().select("data");
+    Record dataDelete = GenericRecord.create(deleteRowSchema);
+    DeleteFile eqDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), Row.of(0),
+        Lists.newArrayList(dataDelete.copy("data", "b")), // id = 43
+        deleteRowSchema);
+
+    table.newRowDelta()
+        .addDeletes(posDeletes.first())
+        .addDeletes(eqDeletes)
+        .commit();
+
+    CacheStats before = DeleteCache.get().stats();
+    Assert.assertEquals("Should apply deletes from both delete files", Lists.newArrayList(61), readIds());
+
+    CacheStats stats = DeleteCache.get().stats().minus(before);
+    // both delete files are loaded once and shared by both data files
+    Assert.assertEquals("Should load each delete file once", 2, stats.missCount());
+    Assert.assertEquals("Should reuse the delete files for the second data file", 2, stats.hitCount());
+
+    before = DeleteCache.get().stats();
+    Assert.assertEquals("Should apply cached deletes", Lists.newArrayList(61), readIds());
+
+    stats = DeleteCache.get().stats().minus(before);
+    Assert.assertEquals("Should not load cached delete files", 0, stats.missCount());
+    Assert.assertEquals("Should reuse all cached delete files", 4, stats.hitCount());
+  }
+
+  @Test
+  public void testPositionDeleteFileIsReadOnce() throws IOException {
+    System.setProperty(SystemProperties.DELETE_CACHE_ENABLED, "true");
+    DeleteCache.get().invalidateAll();
+
+    List<Pair<CharSequence, Long>> deletes = Lists.newArrayList(
+        Pair.of(dataFile1.path(), 0L), // id = 29
+        Pair.of(dataFile2.path(), 1L) // id = 89
+    );
+
+    Pair<DeleteFile, ?> posDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), Row.of(0), deletes);
+
+    table.newRowDelta()
+        .addDeletes(posDeletes.first())
+        .commit();
+
+    String deletePath = posDeletes.first().path().toString();
+    AtomicInteger deleteFileReads = new AtomicInteger(0);
+    List<Long> deletedPositions = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        DeleteFilter<Record> filter = new GenericDeleteFilter(table.io(), task, table.schema(), table.schema()) {
+          @Override
+          protected InputFile getInputFile(String location) {
+            if (location.equals(deletePath)) {
+              deleteFileReads.incrementAndGet();
+            }
+
+            return super.getInputFile(location);
+          }
+        };
+
+        filter.deletedRowPositions().forEach(deletedPositions::add);
+      }
+    }
+
+    deletedPositions.sort(Long::compare);
+    Assert.assertEquals("Should apply the deletes for each data file", Lists.newArrayList(0L, 1L), deletedPositions);
+    Assert.assertEquals("Should read the delete file once for both data files", 1, deleteFileReads.get());
+  }
+
+  @Test
+  public void testCacheIsDisabledByDefault() throws IOException {
+    List<Pair<CharSequence, Long>> deletes = Lists.newArrayList(
+        Pair.of(dataFile1.path(), 0L) // id = 29
+    );
+
+    Pair<DeleteFile, ?> posDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), Row.of(0), deletes);
+
+    table.newRowDelta()
+        .addDeletes(posDeletes.first())
+        .commit();
+
+    CacheStats before = DeleteCache.get().stats();
+    Assert.assertEquals("Should apply deletes", Lists.newArrayList(43, 61, 89), readIds());
+
+    CacheStats stats = DeleteCache.get().stats().minus(before);
+    Assert.assertEquals("Should not use the cache", 0, stats.requestCount());
+  }
+
+  @Test
+  public void testLargeEntriesAreNotCached() throws IOException {
+    Schema deleteRowSchema = table.schema().select("data");
+    Record dataDelete = GenericRecord.create(deleteRowSchema);
+    DeleteFile eqDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), Row.of(0),
+        Lists.newArrayList(dataDelete.copy("data", "b")),
+        deleteRowSchema);
+
+    DeleteCache cache = new DeleteCache(100);
+    AtomicInteger loads = new AtomicInteger(0);
+    for (int i = 0; i < 2; i += 1) {
+      cache.equalityDeletes(eqDeletes, deleteRowSchema.asStruct(), () -> {
+        loads.incrementAndGet();
+        return new LoadedDeletes<>(StructLikeSet.create(deleteRowSchema.asStruct()), 1000L);
+      });
+    }
+
+    Assert.assertEquals("Should load entries larger than the cache every time", 2, loads.get());
+  }
+
+  private List<Integer> readIds() throws IOException {
+    List<Integer> ids = Lists.newArrayList();
+    try (CloseableIterable<Record> reader = IcebergGenerics.read(table).build()) {
+      reader.forEach(row -> ids.add((Integer) row.getField("id")));
+    }
+
+    ids.sort(Integer::compare);
+    return ids;
+  }
+}
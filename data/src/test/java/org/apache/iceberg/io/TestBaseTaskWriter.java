@@ -28,14 +28,22 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Metrics;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.RowDelta;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemProperties;
 import org.apache.iceberg.TableTestBase;
 import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.IcebergGenerics;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.StructLikeSet;
 import org.junit.Assert;
@@ -191,6 +199,57 @@ public class TestBaseTaskWriter extends TableTestBase {
     Assert.assertEquals("Should have expected records", expectedRowSet(expected), actualRowSet("*"));
   }
 
+  @Test
+  public void testAsyncClose() throws IOException {
+    List<Record> records = Lists.newArrayListWithCapacity(8000);
+    for (int i = 0; i < 8000; i++) {
+      records.add(createRecord(i, "aaa"));
+    }
+
+    WriteResult result;
+    System.setProperty(SystemProperties.WRITER_MAX_PENDING_CLOSES, "2");
+    try (TaskWriter<Record> taskWriter = createTaskWriter(4)) {
+      for (Record record : records) {
+        taskWriter.write(record);
+      }
+
+      result = taskWriter.complete();
+    } finally {
+      System.clearProperty(SystemProperties.WRITER_MAX_PENDING_CLOSES);
+    }
+
+    Assert.assertEquals(8, result.dataFiles().length);
+    for (DataFile dataFile : result.dataFiles()) {
+      Assert.assertEquals("Should complete files after they are closed", 1000, dataFile.recordCount());
+    }
+
+    RowDelta rowDelta = table.newRowDelta();
+    Arrays.stream(result.dataFiles()).forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    Assert.assertEquals("Should have expected records", expectedRowSet(records), actualRowSet("*"));
+  }
+
+  @Test
+  public void testAsyncCloseFailure() throws IOException {
+    FileAppenderFactory<Record> failingFactory = new FailingCloseAppenderFactory(appenderFactory);
+
+    System.setProperty(SystemProperties.WRITER_MAX_PENDING_CLOSES, "2");
+    try (TestTaskWriter taskWriter = new TestTaskWriter(
+        table.spec(), format, failingFactory, fileFactory, table.io(), 4)) {
+      // the first file is rolled and closed in the background
+      for (int i = 0; i < 1000; i++) {
+        taskWriter.write(createRecord(i, "aaa"));
+      }
+
+      AssertHelpers.assertThrows("Should surface close failures on complete",
+          IOException.class, "Failed to close file",
+          taskWriter::complete);
+    } finally {
+      System.clearProperty(SystemProperties.WRITER_MAX_PENDING_CLOSES);
+    }
+  }
+
   private StructLikeSet expectedRowSet(Iterable<Record> records) {
     StructLikeSet set = StructLikeSet.create(table.schema().asStruct());
     records.forEach(set::add);
@@ -242,4 +301,57 @@ public class TestBaseTaskWriter extends TableTestBase {
       }
     }
   }
+
+  private static class FailingCloseAppenderFactory implements FileAppenderFactory<Record> {
+    private final FileAppenderFactory<Record> delegate;
+
+    private FailingCloseAppenderFactory(FileAppenderFactory<Record> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public FileAppender<Record> newAppender(OutputFile outputFile, FileFormat fileFormat) {
+      FileAppender<Record> appender = delegate.newAppender(outputFile, fileFormat);
+      return new FileAppender<Record>() {
+        @Override
+        public void add(Record datum) {
+          appender.add(datum);
+        }
+
+        @Override
+        public Metrics metrics() {
+          return appender.metrics();
+        }
+
+        @Override
+        public long length() {
+          return appender.length();
+        }
+
+        @Override
+        public void close() throws IOException {
+          appender.close();
+          throw new IOException("Injected failure");
+        }
+      };
+    }
+
+    @Override
+    public DataWriter<Record> newDataWriter(EncryptedOutputFile file, FileFormat fileFormat, StructLike partition) {
+      return new DataWriter<>(newAppender(file.encryptingOutputFile(), fileFormat), fileFormat,
+          file.encryptingOutputFile().location(), PartitionSpec.unpartitioned(), partition, file.keyMetadata());
+    }
+
+    @Override
+    public EqualityDeleteWriter<Record> newEqDeleteWriter(EncryptedOutputFile file, FileFormat fileFormat,
+                                                          StructLike partition) {
+      return delegate.newEqDeleteWriter(file, fileFormat, partition);
+    }
+
+    @Override
+    public PositionDeleteWriter<Record> newPosDeleteWriter(EncryptedOutputFile file, FileFormat fileFormat,
+                                                           StructLike partition) {
+      return delegate.newPosDeleteWriter(file, fileFormat, partition);
+    }
+  }
 }
@@ -42,6 +42,7 @@ import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.util.StructLikeSet;
 import org.junit.Assert;
 import org.junit.Before;
@@ -308,6 +309,98 @@ public class TestGenericSortedPosDeleteWriter extends TableTestBase {
     Assert.assertEquals("Should have no record.", expectedRowSet(ImmutableList.of()), actualRowSet("*"));
   }
 
+  @Test
+  public void testSpillAndMergeSortedRuns() throws IOException {
+    FileAppenderFactory<Record> appenderFactory = new GenericAppenderFactory(table.schema(), table.spec(),
+        null, null, null);
+
+    List<DataFile> dataFiles = Lists.newArrayList();
+    for (int fileIndex = 0; fileIndex < 5; fileIndex++) {
+      List<Record> recordList = Lists.newArrayList();
+      for (int recordIndex = 0; recordIndex < 100; recordIndex++) {
+        int id = fileIndex * 100 + recordIndex;
+        recordList.add(createRow(id, String.format("val-%s", id)));
+      }
+
+      dataFiles.add(prepareDataFile(appenderFactory, recordList));
+    }
+
+    RowDelta rowDelta = table.newRowDelta();
+    dataFiles.forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    // spill a run every 50 deletes and merge the 10 runs into files of at most 200 deletes
+    File spillDir = temp.newFolder();
+    SortedPosDeleteWriter<Record> writer = new SortedPosDeleteWriter<>(appenderFactory, fileFactory, format, null,
+        50, spillDir, 200);
+    try (SortedPosDeleteWriter<Record> closeableWriter = writer) {
+      for (int pos = 99; pos >= 0; pos--) {
+        for (int fileIndex = 4; fileIndex >= 0; fileIndex--) {
+          closeableWriter.delete(dataFiles.get(fileIndex).path(), pos);
+        }
+      }
+    }
+
+    List<DeleteFile> deleteFiles = writer.complete();
+    Assert.assertEquals("Should merge spilled runs into 3 files", 3, deleteFiles.size());
+    Assert.assertEquals("Should remove spill files", 0, spillDir.listFiles().length);
+
+    List<CharSequence> paths = Lists.newArrayList();
+    dataFiles.forEach(dataFile -> paths.add(dataFile.path()));
+    paths.sort(Comparators.charSequences());
+
+    Schema pathPosSchema = DeleteSchemaUtil.pathPosSchema();
+    Record record = GenericRecord.create(pathPosSchema);
+    List<Record> expectedDeletes = Lists.newArrayList();
+    for (CharSequence path : paths) {
+      for (long pos = 0; pos < 100; pos++) {
+        expectedDeletes.add(record.copy("file_path", path, "pos", pos));
+      }
+    }
+
+    List<Record> actualDeletes = Lists.newArrayList();
+    for (DeleteFile deleteFile : deleteFiles) {
+      actualDeletes.addAll(readRecordsAsList(pathPosSchema, deleteFile.path()));
+    }
+
+    Assert.assertEquals("Should write globally sorted deletes", expectedDeletes, actualDeletes);
+    Assert.assertEquals("Should reference all data files", 5, writer.referencedDataFiles().size());
+
+    rowDelta = table.newRowDelta();
+    deleteFiles.forEach(rowDelta::addDeletes);
+    rowDelta.commit();
+
+    Assert.assertEquals("Should have no record.", expectedRowSet(ImmutableList.of()), actualRowSet("*"));
+  }
+
+  @Test
+  public void testAbortDiscardsSpilledRuns() throws IOException {
+    FileAppenderFactory<Record> appenderFactory = new GenericAppenderFactory(table.schema(), table.spec(),
+        null, null, null);
+
+    DataFile dataFile = prepareDataFile(appenderFactory, ImmutableList.of(createRow(0, "val-0")));
+    File dataDir = new File(dataFile.path().toString()).getParentFile();
+    int dataDirFiles = dataDir.listFiles().length;
+
+    // spill 2 runs and keep 10 deletes in the buffer
+    File spillDir = temp.newFolder();
+    SortedPosDeleteWriter<Record> writer = new SortedPosDeleteWriter<>(appenderFactory, fileFactory, format, null,
+        50, spillDir, 200);
+    for (int pos = 0; pos < 110; pos++) {
+      writer.delete(dataFile.path(), pos);
+    }
+
+    Assert.assertEquals("Should spill 2 runs", 2, spillDir.listFiles().length);
+
+    List<DeleteFile> deleteFiles = writer.abort();
+    Assert.assertEquals("Should not write delete files", 0, deleteFiles.size());
+    Assert.assertEquals("Should remove spill files", 0, spillDir.listFiles().length);
+    Assert.assertEquals("Should not write files to the table location", dataDirFiles, dataDir.listFiles().length);
+
+    writer.close();
+    Assert.assertEquals("Should not write discarded deletes on close", 0, writer.complete().size());
+  }
+
   private List<Record> readRecordsAsList(Schema schema, CharSequence path) throws IOException {
     CloseableIterable<Record> iterable;
 
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.TableTestBase;
+import org.apache.iceberg.data.GenericAppenderFactory;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.IcebergGenerics;
+import org.apache.iceberg.data.InternalRecordWrapper;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.StructLikeSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestPartitionedFanoutWriter extends TableTestBase {
+  private static final int NUM_RECORDS = 20_000;
+
+  private final GenericRecord gRecord = GenericRecord.create(SCHEMA);
+
+  private OutputFileFactory fileFactory = null;
+  private FileAppenderFactory<Record> appenderFactory = null;
+
+  public TestPartitionedFanoutWriter() {
+    super(2);
+  }
+
+  @Before
+  public void setupTable() throws IOException {
+    this.tableDir = temp.newFolder();
+    Assert.assertTrue(tableDir.delete()); // created by table create
+
+    this.metadataDir = new File(tableDir, "metadata");
+
+    this.table = create(SCHEMA, SPEC);
+    this.fileFactory = new OutputFileFactory(table.spec(), FileFormat.PARQUET, table.locationProvider(), table.io(),
+        table.encryption(), 1, 1);
+    this.appenderFactory = new GenericAppenderFactory(table.schema(), table.spec());
+  }
+
+  @Test
+  public void testUnboundedWriterKeepsWritersOpen() throws IOException {
+    TestFanoutWriter writer = new TestFanoutWriter(Long.MAX_VALUE);
+    List<Record> expected = writeRecords(writer);
+
+    int numPartitions = writer.openWriters();
+    Assert.assertTrue("Should keep a writer open for each partition", numPartitions > 1);
+    Assert.assertTrue("Should report buffered bytes", writer.bufferedBytes() > 0);
+
+    WriteResult result = writer.complete();
+    Assert.assertEquals("Should not close any writers early", 0, writer.closedWriters());
+    Assert.assertEquals("Should write one file per partition", numPartitions, result.dataFiles().length);
+    assertTableRecords(result, expected);
+  }
+
+  @Test
+  public void testBoundedWriterClosesLeastRecentlyUsedWriters() throws IOException {
+    // a 1-byte budget closes every writer but the current one at each check
+    TestFanoutWriter writer = new TestFanoutWriter(1L);
+    List<Record> expected = writeRecords(writer);
+
+    Assert.assertTrue("Should close writers to stay under the budget", writer.closedWriters() > 0);
+    Assert.assertEquals("Should only keep the most recently used writer open", 1, writer.openWriters());
+
+    WriteResult result = writer.complete();
+    Assert.assertTrue("Should write a file for each closed writer",
+        result.dataFiles().length > writer.closedWriters());
+    assertTableRecords(result, expected);
+  }
+
+  @Test
+  public void testInvalidMaxBufferedBytes() {
+    AssertHelpers.assertThrows("Should reject a non-positive budget",
+        IllegalArgumentException.class, "Invalid max buffered bytes: 0",
+        () -> new TestFanoutWriter(0L));
+  }
+
+  private List<Record> writeRecords(TestFanoutWriter writer) throws IOException {
+    List<Record> records = Lists.newArrayList();
+    for (int i = 0; i < NUM_RECORDS; i += 1) {
+      Record record = gRecord.copy("id", i, "data", "data-" + (i % 100));
+      writer.write(record);
+      records.add(record);
+    }
+
+    return records;
+  }
+
+  private void assertTableRecords(WriteResult result, List<Record> expected) throws IOException {
+    AppendFiles append = table.newAppend();
+    for (DataFile dataFile : result.dataFiles()) {
+      append.appendFile(dataFile);
+    }
+    append.commit();
+
+    StructLikeSet expectedSet = StructLikeSet.create(SCHEMA.asStruct());
+    expectedSet.addAll(expected);
+
+    StructLikeSet actualSet = StructLikeSet.create(SCHEMA.asStruct());
+    try (CloseableIterable<Record> reader = IcebergGenerics.read(table).build()) {
+      reader.forEach(actualSet::add);
+    }
+
+    Assert.assertEquals("Should read all written records", expectedSet, actualSet);
+  }
+
+  private class TestFanoutWriter extends PartitionedFanoutWriter<Record> {
+    private final PartitionKey partitionKey;
+    private final InternalRecordWrapper wrapper;
+
+    private TestFanoutWriter(long maxBufferedBytes) {
+      super(table.spec(), FileFormat.PARQUET, appenderFactory, fileFactory, table.io(), 128 * 1024 * 1024,
+          maxBufferedBytes);
+      this.partitionKey = new PartitionKey(table.spec(), table.schema());
+      this.wrapper = new InternalRecordWrapper(table.schema().asStruct());
+    }
+
+    @Override
+    protected PartitionKey partition(Record row) {
+      partitionKey.partition(wrapper.wrap(row));
+      return partitionKey;
+    }
+  }
+}
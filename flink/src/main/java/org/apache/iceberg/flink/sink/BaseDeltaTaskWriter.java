@@ -19,6 +19,7 @@
 
 package org.apache.iceberg.flink.sink;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import org.apache.flink.table.data.RowData;
@@ -28,6 +29,9 @@ import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.deletes.DirectMemoryBudget;
+import org.apache.iceberg.deletes.SpillableKeyPositionIndex;
 import org.apache.iceberg.flink.RowDataWrapper;
 import org.apache.iceberg.io.BaseTaskWriter;
 import org.apache.iceberg.io.FileAppenderFactory;
@@ -41,6 +45,8 @@ abstract class BaseDeltaTaskWriter extends BaseTaskWriter<RowData> {
   private final Schema schema;
   private final Schema deleteSchema;
   private final RowDataWrapper wrapper;
+  private final DirectMemoryBudget keyIndexMemory;
+  private final File keyIndexSpillDir;
 
   BaseDeltaTaskWriter(PartitionSpec spec,
                       FileFormat format,
@@ -50,15 +56,32 @@ abstract class BaseDeltaTaskWriter extends BaseTaskWriter<RowData> {
                       long targetFileSize,
                       Schema schema,
                       RowType flinkSchema,
-                      List<Integer> equalityFieldIds) {
+                      List<Integer> equalityFieldIds,
+                      Long keyIndexMemoryBytes) {
     super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
     this.schema = schema;
     this.deleteSchema = TypeUtil.select(schema, Sets.newHashSet(equalityFieldIds));
     this.wrapper = new RowDataWrapper(flinkSchema, schema.asStruct());
+    // the key indexes of all partitions share one budget, so the task uses at most the configured direct memory
+    this.keyIndexMemory = keyIndexMemoryBytes != null ? new DirectMemoryBudget(keyIndexMemoryBytes) : null;
+    this.keyIndexSpillDir = new File(SystemProperties.getString(
+        SystemProperties.DELETE_SPILL_DIR, System.getProperty("java.io.tmpdir")));
   }
 
   abstract RowDataDeltaWriter route(RowData row);
 
+  private SpillableKeyPositionIndex newKeyIndex() {
+    if (keyIndexMemory == null) {
+      return null;
+    }
+
+    return SpillableKeyPositionIndex.create(deleteSchema.asStruct(), keyIndexMemory, keyIndexSpillDir);
+  }
+
+  DirectMemoryBudget keyIndexMemory() {
+    return keyIndexMemory;
+  }
+
   RowDataWrapper wrapper() {
     return wrapper;
   }
@@ -85,7 +108,7 @@ abstract class BaseDeltaTaskWriter extends BaseTaskWriter<RowData> {
 
   protected class RowDataDeltaWriter extends BaseEqualityDeltaWriter {
     RowDataDeltaWriter(PartitionKey partition) {
-      super(partition, schema, deleteSchema);
+      super(partition, schema, deleteSchema, newKeyIndex());
     }
 
     @Override
@@ -33,6 +33,7 @@ import org.apache.iceberg.encryption.EncryptedInputFile;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.FilePrefetcher;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -46,6 +47,7 @@ abstract class DataIterator<T> implements CloseableIterator<T> {
 
   private Iterator<FileScanTask> tasks;
   private final Map<String, InputFile> inputFiles;
+  private final FilePrefetcher prefetcher;
 
   private CloseableIterator<T> currentIterator;
 
@@ -66,11 +68,18 @@ abstract class DataIterator<T> implements CloseableIterator<T> {
     decryptedFiles.forEach(decrypted -> files.putIfAbsent(decrypted.location(), decrypted));
     this.inputFiles = Collections.unmodifiableMap(files);
 
+    // start fetching the next files while the current file is read, if enabled
+    this.prefetcher = FilePrefetcher.create(
+        task.files(), fileTask -> inputFiles.get(fileTask.file().path().toString()));
+
     this.currentIterator = CloseableIterator.empty();
   }
 
   InputFile getInputFile(FileScanTask task) {
     Preconditions.checkArgument(!task.isDataTask(), "Invalid task type");
+    if (prefetcher != null) {
+      return prefetcher.inputFile(task);
+    }
 
     return inputFiles.get(task.file().path().toString());
   }
@@ -113,5 +122,9 @@ abstract class DataIterator<T> implements CloseableIterator<T> {
     // close the current iterator
     currentIterator.close();
     tasks = null;
+
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
   }
 }
@@ -93,7 +93,7 @@ public class FlinkInputFormat extends RichInputFormat<RowData, FlinkInputSplit>
   public void open(FlinkInputSplit split) {
     this.iterator = new RowDataIterator(
         split.getTask(), io, encryption, tableSchema, context.project(), context.nameMapping(),
-        context.caseSensitive());
+        context.caseSensitive(), context.filterPages());
   }
 
   @Override
@@ -53,14 +53,16 @@ class RowDataIterator extends DataIterator<RowData> {
   private final Schema projectedSchema;
   private final String nameMapping;
   private final boolean caseSensitive;
+  private final boolean filterPages;
 
   RowDataIterator(CombinedScanTask task, FileIO io, EncryptionManager encryption, Schema tableSchema,
-                  Schema projectedSchema, String nameMapping, boolean caseSensitive) {
+                  Schema projectedSchema, String nameMapping, boolean caseSensitive, boolean filterPages) {
     super(task, io, encryption);
     this.tableSchema = tableSchema;
     this.projectedSchema = projectedSchema;
     this.nameMapping = nameMapping;
     this.caseSensitive = caseSensitive;
+    this.filterPages = filterPages;
   }
 
   @Override
@@ -125,6 +127,7 @@ class RowDataIterator extends DataIterator<RowData> {
         .project(schema)
         .createReaderFunc(fileSchema -> FlinkParquetReaders.buildReader(schema, fileSchema, idToConstant))
         .filter(task.residual())
+        .filterPages(filterPages)
         .caseSensitive(caseSensitive)
         .reuseContainers();
 
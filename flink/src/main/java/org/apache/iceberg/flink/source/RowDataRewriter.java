@@ -127,8 +127,9 @@ public class RowDataRewriter {
     public List<DataFile> map(CombinedScanTask task) throws Exception {
       // Initialize the task writer.
       this.writer = taskWriterFactory.create();
+      // rewrites must keep every row, so pages are never skipped
       try (RowDataIterator iterator =
-               new RowDataIterator(task, io, encryptionManager, schema, schema, nameMapping, caseSensitive)) {
+               new RowDataIterator(task, io, encryptionManager, schema, schema, nameMapping, caseSensitive, false)) {
         while (iterator.hasNext()) {
           RowData rowData = iterator.next();
           writer.write(rowData);
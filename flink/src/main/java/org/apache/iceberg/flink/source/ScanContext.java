@@ -80,13 +80,14 @@ class ScanContext implements Serializable {
   private final Duration monitorInterval;
 
   private final String nameMapping;
+  private final boolean filterPages;
   private final Schema schema;
   private final List<Expression> filters;
   private final long limit;
 
   private ScanContext(boolean caseSensitive, Long snapshotId, Long startSnapshotId, Long endSnapshotId,
                       Long asOfTimestamp, Long splitSize, Integer splitLookback, Long splitOpenFileCost,
-                      boolean isStreaming, Duration monitorInterval, String nameMapping,
+                      boolean isStreaming, Duration monitorInterval, String nameMapping, boolean filterPages,
                       Schema schema, List<Expression> filters, long limit) {
     this.caseSensitive = caseSensitive;
     this.snapshotId = snapshotId;
@@ -100,6 +101,7 @@ class ScanContext implements Serializable {
     this.monitorInterval = monitorInterval;
 
     this.nameMapping = nameMapping;
+    this.filterPages = filterPages;
     this.schema = schema;
     this.filters = filters;
     this.limit = limit;
@@ -149,6 +151,10 @@ class ScanContext implements Serializable {
     return nameMapping;
   }
 
+  boolean filterPages() {
+    return filterPages;
+  }
+
   Schema project() {
     return schema;
   }
@@ -174,6 +180,7 @@ class ScanContext implements Serializable {
         .streaming(isStreaming)
         .monitorInterval(monitorInterval)
         .nameMapping(nameMapping)
+        .filterPages(filterPages)
         .project(schema)
         .filters(filters)
         .limit(limit)
@@ -193,6 +200,7 @@ class ScanContext implements Serializable {
         .streaming(isStreaming)
         .monitorInterval(monitorInterval)
         .nameMapping(nameMapping)
+        .filterPages(filterPages)
         .project(schema)
         .filters(filters)
         .limit(limit)
@@ -215,6 +223,7 @@ class ScanContext implements Serializable {
     private boolean isStreaming = STREAMING.defaultValue();
     private Duration monitorInterval = MONITOR_INTERVAL.defaultValue();
     private String nameMapping;
+    private boolean filterPages = false;
     private Schema projectedSchema;
     private List<Expression> filters;
     private long limit = -1L;
@@ -277,6 +286,11 @@ class ScanContext implements Serializable {
       return this;
     }
 
+    Builder filterPages(boolean newFilterPages) {
+      this.filterPages = newFilterPages;
+      return this;
+    }
+
     Builder project(Schema newProjectedSchema) {
       this.projectedSchema = newProjectedSchema;
       return this;
@@ -312,7 +326,7 @@ class ScanContext implements Serializable {
     public ScanContext build() {
       return new ScanContext(caseSensitive, snapshotId, startSnapshotId,
           endSnapshotId, asOfTimestamp, splitSize, splitLookback,
-          splitOpenFileCost, isStreaming, monitorInterval, nameMapping, projectedSchema,
+          splitOpenFileCost, isStreaming, monitorInterval, nameMapping, filterPages, projectedSchema,
           filters, limit);
     }
   }
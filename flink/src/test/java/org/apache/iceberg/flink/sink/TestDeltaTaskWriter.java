@@ -33,8 +33,10 @@ import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.RowDelta;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableTestBase;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.deletes.DirectMemoryBudget;
 import org.apache.iceberg.flink.FlinkSchemaUtil;
 import org.apache.iceberg.flink.SimpleDataUtil;
 import org.apache.iceberg.io.TaskWriter;
@@ -313,6 +315,41 @@ public class TestDeltaTaskWriter extends TableTestBase {
     ), actualRowSet("*"));
   }
 
+  @Test
+  public void testOffHeapKeyIndexSharesMemoryBudget() throws IOException {
+    initTable(true);
+    table.updateProperties()
+        .set(TableProperties.DELTA_KEY_INDEX_OFF_HEAP_ENABLED, "true")
+        .set(TableProperties.DELTA_KEY_INDEX_MAX_MEMORY_BYTES, String.valueOf(1 << 20))
+        .commit();
+
+    List<Integer> equalityFieldIds = Lists.newArrayList(idFieldId());
+    TaskWriterFactory<RowData> taskWriterFactory = createTaskWriterFactory(equalityFieldIds);
+    taskWriterFactory.initialize(1, 1);
+
+    TaskWriter<RowData> writer = taskWriterFactory.create();
+    DirectMemoryBudget budget = ((BaseDeltaTaskWriter) writer).keyIndexMemory();
+    Assert.assertNotNull("Should use an off-heap key index", budget);
+
+    // each partition has its own index, but all indexes share the task's budget
+    writer.write(createInsert(1, "aaa"));
+    writer.write(createInsert(2, "bbb"));
+    writer.write(createInsert(3, "ccc"));
+    writer.write(createUpdateBefore(2, "bbb"));
+    writer.write(createUpdateAfter(2, "bbb"));
+    writer.write(createDelete(3, "ccc"));
+    Assert.assertEquals("Should not reserve more than the budget", 1 << 20, budget.reservedBytes());
+
+    WriteResult result = writer.complete();
+    Assert.assertEquals("Should release the key indexes when the writer is closed", 0, budget.reservedBytes());
+    commitTransaction(result);
+
+    Assert.assertEquals("Should have expected records", expectedRowSet(
+        createRecord(1, "aaa"),
+        createRecord(2, "bbb")
+    ), actualRowSet("*"));
+  }
+
   private void commitTransaction(WriteResult result) {
     RowDelta rowDelta = table.newRowDelta();
     Arrays.stream(result.dataFiles()).forEach(rowDelta::addRows);
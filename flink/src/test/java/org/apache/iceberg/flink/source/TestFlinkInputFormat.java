@@ -19,6 +19,7 @@
 
 package org.apache.iceberg.flink.source;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -26,16 +27,30 @@ import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.api.TableSchema;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.Row;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.GenericAppenderHelper;
+import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.RandomGenericData;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.flink.FlinkSchemaUtil;
 import org.apache.iceberg.flink.TestHelpers;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 
 import static org.apache.iceberg.types.Types.NestedField.required;
@@ -126,6 +141,64 @@ public class TestFlinkInputFormat extends TestFlinkSource {
     TestHelpers.assertRows(result, expected);
   }
 
+  @Test
+  public void testPageIndexFiltering() throws IOException {
+    Assume.assumeTrue("Page indexes are only written to Parquet files", fileFormat == FileFormat.PARQUET);
+
+    Schema schema = new Schema(
+        required(1, "id", Types.LongType.get()),
+        required(2, "data", Types.StringType.get()));
+
+    Table table = catalog.createTable(TableIdentifier.of("default", "t"), schema, PartitionSpec.unpartitioned(),
+        ImmutableMap.of(TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED, "true"));
+
+    Record record = GenericRecord.create(schema);
+    List<Record> writeRecords = Lists.newArrayList();
+    for (long id = 0; id < 20000; id += 1) {
+      writeRecords.add(record.copy(ImmutableMap.of("id", id, "data", "value-" + id)));
+    }
+
+    // use small pages so that the single row group has many pages
+    File file = TEMPORARY_FOLDER.newFile();
+    Assert.assertTrue(file.delete());
+    FileAppender<Record> appender = new GenericAppenderFactory(schema)
+        .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "1024")
+        .newAppender(Files.localOutput(file), FileFormat.PARQUET);
+    try (FileAppender<Record> fileAppender = appender) {
+      fileAppender.addAll(writeRecords);
+    }
+
+    DataFile dataFile = DataFiles.builder(table.spec())
+        .withRecordCount(writeRecords.size())
+        .withFileSizeInBytes(file.length())
+        .withPath(Files.localInput(file).location())
+        .withMetrics(appender.metrics())
+        .withFormat(FileFormat.PARQUET)
+        .build();
+    table.newAppend().appendFile(dataFile).commit();
+
+    // the input format does not apply the filter to rows, so skipped pages are missing from the output
+    List<Row> filtered = runFormat(FlinkSource.forRowData()
+        .tableLoader(tableLoader())
+        .filters(ImmutableList.of(Expressions.equal("id", 10000L)))
+        .buildFormat());
+
+    Assert.assertTrue("Should skip pages that cannot match", filtered.size() < writeRecords.size() / 10);
+    Assert.assertTrue("Should read the matching row",
+        filtered.stream().anyMatch(row -> Long.valueOf(10000L).equals(row.getField(0))));
+
+    table.updateProperties()
+        .set(TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED, "false")
+        .commit();
+
+    List<Row> unfiltered = runFormat(FlinkSource.forRowData()
+        .tableLoader(tableLoader())
+        .filters(ImmutableList.of(Expressions.equal("id", 10000L)))
+        .buildFormat());
+
+    Assert.assertEquals("Should not skip pages when disabled", writeRecords.size(), unfiltered.size());
+  }
+
   private List<Row> runFormat(FlinkInputFormat inputFormat) throws IOException {
     RowType rowType = FlinkSchemaUtil.convert(inputFormat.projectedSchema());
     return TestHelpers.readRows(inputFormat, rowType);
@@ -19,6 +19,7 @@
 
 package org.apache.iceberg.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.page.DataPage;
@@ -35,12 +36,36 @@ public abstract class BaseColumnIterator {
   protected long advanceNextPageCount = 0L;
   protected Dictionary dictionary;
 
+  // selected rows when the row group was filtered using page indexes, or null if all rows are read
+  private PrimitiveIterator.OfLong rowIndexes = null;
+  private long selectedRangeStart = -1L;
+  private long selectedRangeEnd = -1L;
+  private long nextRangeStart = -1L;
+
   protected BaseColumnIterator(ColumnDescriptor descriptor) {
     this.desc = descriptor;
   }
 
   public void setPageSource(PageReader source) {
+    setPageSource(source, null);
+  }
+
+  /**
+   * Sets the page source for a row group.
+   * <p>
+   * When a row group is filtered using page indexes, the source only returns pages that contain selected rows and those
+   * pages may also contain rows that were not selected. Subclasses are responsible for skipping the rows that were not
+   * selected using {@link #isFiltered()}, {@link #nextSelectedRow(long)}, and {@link #selectedRowCount(long)}.
+   *
+   * @param source a page reader for the column chunk
+   * @param selectedRows an iterator of the selected row indexes in ascending order, or null to read all rows
+   */
+  public void setPageSource(PageReader source, PrimitiveIterator.OfLong selectedRows) {
     this.pageSource = source;
+    this.rowIndexes = selectedRows;
+    this.selectedRangeStart = -1L;
+    this.selectedRangeEnd = -1L;
+    this.nextRangeStart = -1L;
     this.triplesCount = source.getTotalValueCount();
     this.triplesRead = 0L;
     this.advanceNextPageCount = 0L;
@@ -53,6 +78,13 @@ public abstract class BaseColumnIterator {
 
   protected abstract BasePageIterator pageIterator();
 
+  /**
+   * @return the dictionary of the current column chunk, or null if it is not dictionary encoded
+   */
+  public Dictionary dictionary() {
+    return dictionary;
+  }
+
   protected void advance() {
     if (triplesRead >= advanceNextPageCount) {
       BasePageIterator pageIterator = pageIterator();
@@ -72,4 +104,68 @@ public abstract class BaseColumnIterator {
     return triplesRead < triplesCount;
   }
 
+  /**
+   * @return true if only some of the rows in the current row group are selected
+   */
+  protected boolean isFiltered() {
+    return rowIndexes != null;
+  }
+
+  /**
+   * Returns the first selected row at or after a row index.
+   * <p>
+   * Rows must be requested in ascending order.
+   *
+   * @param row a row index in the current row group
+   * @return the first selected row index that is at least row, or -1 if there are no more selected rows
+   */
+  protected long nextSelectedRow(long row) {
+    while (selectedRangeEnd <= row) {
+      if (!nextSelectedRange()) {
+        return -1L;
+      }
+    }
+
+    return Math.max(row, selectedRangeStart);
+  }
+
+  /**
+   * Returns the number of consecutive selected rows starting at a selected row.
+   *
+   * @param row a selected row index returned by {@link #nextSelectedRow(long)}
+   * @return the number of selected rows in the range [row, row + count)
+   */
+  protected long selectedRowCount(long row) {
+    return selectedRangeEnd - row;
+  }
+
+  private boolean nextSelectedRange() {
+    long start;
+    if (nextRangeStart >= 0) {
+      start = nextRangeStart;
+      this.nextRangeStart = -1L;
+    } else if (rowIndexes.hasNext()) {
+      start = rowIndexes.nextLong();
+    } else {
+      return false;
+    }
+
+    // group consecutive row indexes into a range
+    long end = start + 1;
+    while (rowIndexes.hasNext()) {
+      long index = rowIndexes.nextLong();
+      if (index != end) {
+        this.nextRangeStart = index;
+        break;
+      }
+
+      end += 1;
+    }
+
+    this.selectedRangeStart = start;
+    this.selectedRangeEnd = end;
+
+    return true;
+  }
+
 }
@@ -59,6 +59,9 @@ public abstract class BasePageIterator {
   protected IntIterator repetitionLevels = null;
   protected ValuesReader values = null;
 
+  // the number of values in the previous pages of the column chunk
+  private long valuesInPreviousPages = 0L;
+
   protected BasePageIterator(ColumnDescriptor descriptor, String writerVersion) {
     this.desc = descriptor;
     this.writerVersion = writerVersion;
@@ -66,6 +69,7 @@ public abstract class BasePageIterator {
 
   protected void reset() {
     this.page = null;
+    this.valuesInPreviousPages = 0L;
     this.triplesCount = 0;
     this.triplesRead = 0;
     this.repetitionLevels = null;
@@ -87,8 +91,28 @@ public abstract class BasePageIterator {
     return hasNext;
   }
 
+  /**
+   * Returns the index of the first row of the current page in its row group.
+   * <p>
+   * Pages that were read without page indexes have no row index. Those pages are read in order, so the index of a
+   * non-nested column's page is the number of values in the previous pages.
+   *
+   * @return the index of the first row of the current page, or -1 if the index is not known
+   */
+  public long firstRowIndex() {
+    if (page == null) {
+      return -1L;
+    }
+
+    return page.getFirstRowIndex().orElse(desc.getMaxRepetitionLevel() == 0 ? valuesInPreviousPages : -1L);
+  }
+
   public void setPage(DataPage page) {
     Preconditions.checkNotNull(page, "Cannot read from null page");
+    if (this.page != null) {
+      this.valuesInPreviousPages += this.page.getValueCount();
+    }
+
     this.page = page;
     this.page.accept(new DataPage.Visitor<ValuesReader>() {
       @Override
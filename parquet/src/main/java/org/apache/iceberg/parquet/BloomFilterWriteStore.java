@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.column.ColumnWriter;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.PositionOutputStream;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * A {@link ColumnWriteStore} that builds Bloom filters for the values written to some of a row group's columns.
+ * <p>
+ * Distinct value hashes are collected while the row group is written so that each filter can be sized for the number
+ * of distinct values in the row group. When a column has more distinct values than the largest filter can hold at the
+ * target false positive probability, hashes are added directly to a filter with the maximum size.
+ */
+class BloomFilterWriteStore implements ColumnWriteStore {
+  private final ColumnWriteStore delegate;
+  private final Set<Integer> bloomFilterFieldIds;
+  private final int maxBytes;
+  private final Map<ColumnPath, BloomFilterBuilder> builders = Maps.newLinkedHashMap();
+
+  BloomFilterWriteStore(ColumnWriteStore delegate, Set<Integer> bloomFilterFieldIds, int maxBytes) {
+    this.delegate = delegate;
+    this.bloomFilterFieldIds = bloomFilterFieldIds;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Writes the Bloom filters for the row group's columns to a file and returns their locations as key-value metadata.
+   * <p>
+   * Filters are released after they are written.
+   *
+   * @param rowGroupStart the starting position of the row group in the file
+   * @param out the file's output stream, positioned after the row group
+   * @return a map of metadata keys to Bloom filter locations
+   * @throws IOException if a filter cannot be written
+   */
+  Map<String, String> writeBloomFilters(long rowGroupStart, PositionOutputStream out) throws IOException {
+    Map<String, String> metadata = Maps.newLinkedHashMap();
+    for (Map.Entry<ColumnPath, BloomFilterBuilder> entry : builders.entrySet()) {
+      ParquetBloomFilter filter = entry.getValue().build();
+      if (filter != null) {
+        long offset = out.getPos();
+        filter.writeTo(out);
+        metadata.put(ParquetBloomFilter.metadataKey(entry.getKey(), rowGroupStart),
+            ParquetBloomFilter.location(offset, filter.sizeInBytes()));
+      }
+    }
+
+    builders.clear();
+
+    return metadata;
+  }
+
+  /**
+   * Returns the number of bytes used to build Bloom filters for the row group.
+   *
+   * @return the size of the distinct value hashes and filters that have not been written
+   */
+  long bloomFilterBytes() {
+    long bytes = 0L;
+    for (BloomFilterBuilder builder : builders.values()) {
+      bytes += builder.sizeInBytes();
+    }
+
+    return bytes;
+  }
+
+  @Override
+  public ColumnWriter getColumnWriter(ColumnDescriptor desc) {
+    ColumnWriter writer = delegate.getColumnWriter(desc);
+    PrimitiveType type = desc.getPrimitiveType();
+    if (type.getId() == null || !bloomFilterFieldIds.contains(type.getId().intValue())) {
+      return writer;
+    }
+
+    BloomFilterBuilder builder = builders.computeIfAbsent(
+        ColumnPath.get(desc.getPath()), path -> new BloomFilterBuilder(maxBytes));
+    return new BloomFilterColumnWriter(writer, builder);
+  }
+
+  @Override
+  public void flush() {
+    delegate.flush();
+  }
+
+  @Override
+  public void endRecord() {
+    delegate.endRecord();
+  }
+
+  @Override
+  public long getAllocatedSize() {
+    return delegate.getAllocatedSize();
+  }
+
+  @Override
+  public long getBufferedSize() {
+    return delegate.getBufferedSize();
+  }
+
+  @Override
+  public String memUsageString() {
+    return delegate.memUsageString();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public boolean isColumnFlushNeeded() {
+    return delegate.isColumnFlushNeeded();
+  }
+
+  private static class BloomFilterColumnWriter implements ColumnWriter {
+    private final ColumnWriter writer;
+    private final BloomFilterBuilder builder;
+
+    private BloomFilterColumnWriter(ColumnWriter writer, BloomFilterBuilder builder) {
+      this.writer = writer;
+      this.builder = builder;
+    }
+
+    @Override
+    public void write(int value, int repetitionLevel, int definitionLevel) {
+      builder.add(ParquetBloomFilter.hash(value));
+      writer.write(value, repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void write(long value, int repetitionLevel, int definitionLevel) {
+      builder.add(ParquetBloomFilter.hash(value));
+      writer.write(value, repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void write(boolean value, int repetitionLevel, int definitionLevel) {
+      writer.write(value, repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void write(Binary value, int repetitionLevel, int definitionLevel) {
+      builder.add(ParquetBloomFilter.hash(value.toByteBuffer()));
+      writer.write(value, repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void write(float value, int repetitionLevel, int definitionLevel) {
+      builder.add(ParquetBloomFilter.hash(value));
+      writer.write(value, repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void write(double value, int repetitionLevel, int definitionLevel) {
+      builder.add(ParquetBloomFilter.hash(value));
+      writer.write(value, repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void writeNull(int repetitionLevel, int definitionLevel) {
+      writer.writeNull(repetitionLevel, definitionLevel);
+    }
+
+    @Override
+    public void close() {
+      writer.close();
+    }
+
+    @Override
+    public long getBufferedSizeInMemory() {
+      return writer.getBufferedSizeInMemory();
+    }
+  }
+
+  /**
+   * Collects distinct hashes in an open addressing set until there are too many for the largest filter.
+   */
+  private static class BloomFilterBuilder {
+    private static final int MAX_DISTINCT = 1 << 26;
+
+    private final int maxBytes;
+    private final int maxDistinct;
+    private long[] hashes = new long[64];
+    private int numHashes = 0;
+    private boolean hasZero = false;
+    private ParquetBloomFilter filter = null;
+
+    private BloomFilterBuilder(int maxBytes) {
+      this.maxBytes = maxBytes;
+      int distinct = 1;
+      while (distinct < MAX_DISTINCT &&
+          ParquetBloomFilter.optimalNumBytes(distinct * 2L, ParquetBloomFilter.DEFAULT_FPP) <= maxBytes) {
+        distinct *= 2;
+      }
+      this.maxDistinct = distinct;
+    }
+
+    private void add(long hash) {
+      if (filter != null) {
+        filter.insert(hash);
+        return;
+      }
+
+      if (hash == 0) {
+        this.hasZero = true;
+      } else if (insert(hashes, hash)) {
+        this.numHashes += 1;
+        if (numHashes * 2 > hashes.length) {
+          grow();
+        }
+      }
+
+      if (numDistinct() > maxDistinct) {
+        this.filter = newFilter(maxBytes);
+      }
+    }
+
+    private ParquetBloomFilter build() {
+      if (filter != null) {
+        return filter;
+      }
+
+      if (numDistinct() == 0) {
+        return null;
+      }
+
+      return newFilter(ParquetBloomFilter.optimalNumBytes(numDistinct(), ParquetBloomFilter.DEFAULT_FPP));
+    }
+
+    private long sizeInBytes() {
+      return filter != null ? filter.sizeInBytes() : (long) hashes.length * Long.BYTES;
+    }
+
+    private int numDistinct() {
+      return hasZero ? numHashes + 1 : numHashes;
+    }
+
+    private ParquetBloomFilter newFilter(int numBytes) {
+      ParquetBloomFilter newFilter = new ParquetBloomFilter(numBytes);
+      if (hasZero) {
+        newFilter.insert(0L);
+      }
+
+      for (long hash : hashes) {
+        if (hash != 0) {
+          newFilter.insert(hash);
+        }
+      }
+
+      // the distinct hashes are no longer needed
+      this.hashes = null;
+      return newFilter;
+    }
+
+    private void grow() {
+      long[] newHashes = new long[hashes.length * 2];
+      for (long hash : hashes) {
+        if (hash != 0) {
+          insert(newHashes, hash);
+        }
+      }
+
+      this.hashes = newHashes;
+    }
+
+    private static boolean insert(long[] table, long hash) {
+      int mask = table.length - 1;
+      int index = (int) (hash ^ (hash >>> 32)) & mask;
+      while (table[index] != 0) {
+        if (table[index] == hash) {
+          return false;
+        }
+
+        index = (index + 1) & mask;
+      }
+
+      table[index] = hash;
+      return true;
+    }
+  }
+}
@@ -19,12 +19,15 @@
 
 package org.apache.iceberg.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.PageReader;
 import org.apache.parquet.io.api.Binary;
 
 public abstract class ColumnIterator<T> extends BaseColumnIterator implements TripleIterator<T> {
   @SuppressWarnings("unchecked")
-  static <T> ColumnIterator<T> newIterator(ColumnDescriptor desc, String writerVersion) {
+  public static <T> ColumnIterator<T> newIterator(ColumnDescriptor desc, String writerVersion) {
     switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
       case BOOLEAN:
         return (ColumnIterator<T>) new ColumnIterator<Boolean>(desc, writerVersion) {
@@ -84,11 +87,26 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   private final PageIterator<T> pageIterator;
 
+  // row tracking state used to skip rows that were not selected by page index filters
+  private boolean skippedToSelectedRow = false;
+  private DataPage currentPage = null;
+  private long currentRow = -1L;
+  private boolean currentRowSelected = false;
+
   private ColumnIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc);
     this.pageIterator = PageIterator.newIterator(desc, writerVersion);
   }
 
+  @Override
+  public void setPageSource(PageReader source, PrimitiveIterator.OfLong selectedRows) {
+    this.skippedToSelectedRow = false;
+    this.currentPage = null;
+    this.currentRow = -1L;
+    this.currentRowSelected = false;
+    super.setPageSource(source, selectedRows);
+  }
+
   @Override
   public int currentDefinitionLevel() {
     advance();
@@ -103,56 +121,112 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public boolean nextBoolean() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextBoolean();
   }
 
   @Override
   public int nextInteger() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextInteger();
   }
 
   @Override
   public long nextLong() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextLong();
   }
 
   @Override
   public float nextFloat() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextFloat();
   }
 
   @Override
   public double nextDouble() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextDouble();
   }
 
   @Override
   public Binary nextBinary() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextBinary();
   }
 
   @Override
   public <N> N nextNull() {
-    this.triplesRead += 1;
-    advance();
+    nextTriple();
     return pageIterator.nextNull();
   }
 
+  /**
+   * @return true if the values of the current page are dictionary encoded
+   */
+  public boolean isDictionaryEncoded() {
+    advance();
+    return pageIterator.isDictionaryEncoded();
+  }
+
+  /**
+   * Returns the dictionary id of the next value, which can be decoded using {@link #dictionary()}.
+   * <p>
+   * Must only be called when {@link #isDictionaryEncoded()} is true and the next value is not null.
+   *
+   * @return the dictionary id of the next value
+   */
+  public int nextDictionaryId() {
+    nextTriple();
+    return pageIterator.nextDictionaryId();
+  }
+
   @Override
   protected BasePageIterator pageIterator() {
     return pageIterator;
   }
 
+  @Override
+  protected void advance() {
+    super.advance();
+    if (isFiltered() && !skippedToSelectedRow) {
+      skipUnselectedRows();
+      this.skippedToSelectedRow = true;
+    }
+  }
+
+  private void nextTriple() {
+    this.triplesRead += 1;
+    advance();
+    // the current triple is consumed by the caller, so the next triple must be checked
+    this.skippedToSelectedRow = false;
+  }
+
+  private void skipUnselectedRows() {
+    while (pageIterator.hasNext()) {
+      if (pageIterator.currentRepetitionLevel() == 0) {
+        // the current triple starts a new row. pages always start at a row boundary, so the first triple of a page
+        // is the page's first row
+        if (pageIterator.page != currentPage) {
+          // pages without a row index are read in order, so the page's first row follows the previous row
+          long firstRow = pageIterator.firstRowIndex();
+          this.currentPage = pageIterator.page;
+          this.currentRow = firstRow >= 0 ? firstRow : currentRow + 1;
+        } else {
+          this.currentRow += 1;
+        }
+
+        this.currentRowSelected = nextSelectedRow(currentRow) == currentRow;
+      }
+
+      if (currentRowSelected) {
+        return;
+      }
+
+      pageIterator.skip();
+      this.triplesRead += 1;
+      super.advance();
+    }
+  }
+
 }
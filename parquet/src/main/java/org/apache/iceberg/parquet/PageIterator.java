@@ -183,6 +183,42 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     return null;
   }
 
+  /**
+   * @return true if the values of the current page are dictionary encoded
+   */
+  boolean isDictionaryEncoded() {
+    return valueEncoding != null && valueEncoding.usesDictionary();
+  }
+
+  /**
+   * Returns the dictionary id of the next value without decoding it.
+   * <p>
+   * Must only be called when the current page is dictionary encoded.
+   */
+  int nextDictionaryId() {
+    advance();
+    try {
+      return values.readValueDictionaryId();
+    } catch (RuntimeException e) {
+      throw handleRuntimeException(e);
+    }
+  }
+
+  /**
+   * Skips the current triple without returning its value.
+   */
+  void skip() {
+    boolean hasValue = currentDL == desc.getMaxDefinitionLevel();
+    advance();
+    if (hasValue) {
+      try {
+        values.skip();
+      } catch (RuntimeException e) {
+        throw handleRuntimeException(e);
+      }
+    }
+  }
+
   private void advance() {
     if (triplesRead < triplesCount) {
       this.currentDL = definitionLevels.nextInt();
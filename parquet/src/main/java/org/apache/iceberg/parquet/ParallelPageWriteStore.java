@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.CodecFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * A {@link PageWriteStore} that compresses pages in a shared thread pool while the writer continues to encode rows.
+ * <p>
+ * Each column is assigned to one of the writer's compressors. Pages that use the same compressor are compressed one at
+ * a time, in order, so a writer runs at most one compression task per compressor. Compressed pages are buffered until
+ * the row group is flushed and are then written column by column in schema order, with the same page headers as
+ * Parquet's ColumnChunkPageWriteStore.
+ * <p>
+ * Reading the buffered size does not wait for compression, and pages that are still being compressed are counted at
+ * their uncompressed size. The writer calls {@link #awaitPendingPages()} before it checks whether to close a row group,
+ * so row groups end at the same rows as when pages are compressed on the writing thread.
+ * <p>
+ * Only v1 data pages are supported, because Parquet's file writer has no method to write v2 pages. Writers for the
+ * v2 format use Parquet's serial page store instead.
+ */
+class ParallelPageWriteStore implements PageWriteStore {
+  private static final ParquetMetadataConverter METADATA_CONVERTER = new ParquetMetadataConverter();
+
+  private static final ExecutorService COMPRESSION_POOL = MoreExecutors.getExitingExecutorService(
+      (ThreadPoolExecutor) Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(),
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("iceberg-parquet-compression-%d")
+              .build()));
+
+  private final MessageType schema;
+  private final List<CompressionLane> lanes;
+  private final Map<ColumnDescriptor, ColumnPageWriter> writers = Maps.newHashMap();
+
+  ParallelPageWriteStore(MessageType schema, List<CodecFactory.BytesCompressor> compressors) {
+    Preconditions.checkArgument(!compressors.isEmpty(), "Cannot compress pages without compressors");
+    this.schema = schema;
+
+    this.lanes = Lists.newArrayListWithCapacity(compressors.size());
+    for (CodecFactory.BytesCompressor compressor : compressors) {
+      lanes.add(new CompressionLane(compressor));
+    }
+
+    List<ColumnDescriptor> columns = schema.getColumns();
+    for (int i = 0; i < columns.size(); i += 1) {
+      ColumnDescriptor column = columns.get(i);
+      writers.put(column, new ColumnPageWriter(column, lanes.get(i % lanes.size())));
+    }
+  }
+
+  @Override
+  public PageWriter getPageWriter(ColumnDescriptor path) {
+    return writers.get(path);
+  }
+
+  /**
+   * Waits until every page written so far is compressed, so that the buffered size is exact.
+   */
+  void awaitPendingPages() {
+    // pages in a lane are compressed in order, so the last page in each lane is compressed after all others
+    for (CompressionLane lane : lanes) {
+      await(lane.last);
+    }
+  }
+
+  void flushToFileWriter(ParquetFileWriter writer) throws IOException {
+    for (ColumnDescriptor path : schema.getColumns()) {
+      writers.get(path).writeToFileWriter(writer);
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw new RuntimeException("Failed to compress page", e.getCause());
+    }
+  }
+
+  private static class CompressionLane {
+    private final CodecFactory.BytesCompressor compressor;
+    private CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+
+    private CompressionLane(CodecFactory.BytesCompressor compressor) {
+      this.compressor = compressor;
+    }
+
+    private CompletableFuture<BytesInput> compress(BytesInput bytes) {
+      CompletableFuture<BytesInput> compressed = last.thenApplyAsync(ignored -> {
+        try {
+          // the compressor reuses its output buffer, so the result must be copied
+          return BytesInput.copy(compressor.compress(bytes));
+        } catch (IOException e) {
+          throw new RuntimeIOException(e, "Failed to compress page");
+        }
+      }, COMPRESSION_POOL);
+
+      this.last = compressed;
+      return compressed;
+    }
+  }
+
+  private static class BufferedPage {
+    private final CompletableFuture<BytesInput> compressed;
+    private final int uncompressedSize;
+    private final int valueCount;
+    private final int rowCount;
+    private final Statistics<?> statistics;
+    private final Encoding rlEncoding;
+    private final Encoding dlEncoding;
+    private final Encoding valuesEncoding;
+
+    private BufferedPage(CompletableFuture<BytesInput> compressed, int uncompressedSize, int valueCount, int rowCount,
+                         Statistics<?> statistics, Encoding rlEncoding, Encoding dlEncoding, Encoding valuesEncoding) {
+      this.compressed = compressed;
+      this.uncompressedSize = uncompressedSize;
+      this.valueCount = valueCount;
+      this.rowCount = rowCount;
+      this.statistics = statistics;
+      this.rlEncoding = rlEncoding;
+      this.dlEncoding = dlEncoding;
+      this.valuesEncoding = valuesEncoding;
+    }
+
+    private boolean isCompressed() {
+      return compressed.isDone();
+    }
+
+    private long sizeWithHeader() throws IOException {
+      BytesInput bytes = await(compressed);
+      ByteArrayOutputStream header = new ByteArrayOutputStream();
+      METADATA_CONVERTER.writeDataPageV1Header(uncompressedSize, (int) bytes.size(), valueCount,
+          rlEncoding, dlEncoding, valuesEncoding, header);
+      return header.size() + bytes.size();
+    }
+  }
+
+  private static class ColumnPageWriter implements PageWriter {
+    private final ColumnDescriptor path;
+    private final CompressionLane lane;
+    private final List<BufferedPage> pages = Lists.newArrayList();
+    private CompletableFuture<BytesInput> dictionaryBytes = null;
+    private int dictionaryUncompressedSize = 0;
+    private int dictionarySize = 0;
+    private Encoding dictionaryEncoding = null;
+    private long totalValueCount = 0L;
+    private long compressedSize = 0L;
+    private long pendingSize = 0L;
+    private int numSizedPages = 0;
+
+    private ColumnPageWriter(ColumnDescriptor path, CompressionLane lane) {
+      this.path = path;
+      this.lane = lane;
+    }
+
+    @Override
+    @Deprecated
+    public void writePage(BytesInput bytes, int valueCount, Statistics<?> statistics,
+                          Encoding rlEncoding, Encoding dlEncoding, Encoding valuesEncoding) throws IOException {
+      // the row count is unknown, so the page is written without an offset index entry
+      writePage(bytes, valueCount, -1, statistics, rlEncoding, dlEncoding, valuesEncoding);
+    }
+
+    @Override
+    public void writePage(BytesInput bytes, int valueCount, int rowCount, Statistics<?> statistics,
+                          Encoding rlEncoding, Encoding dlEncoding, Encoding valuesEncoding) throws IOException {
+      // the column writer reuses its buffers after this returns, so the page is copied before it is compressed
+      BytesInput uncompressed = BytesInput.copy(bytes);
+      Preconditions.checkState(uncompressed.size() <= Integer.MAX_VALUE,
+          "Cannot write page larger than %s bytes: %s", Integer.MAX_VALUE, uncompressed.size());
+
+      pages.add(new BufferedPage(lane.compress(uncompressed), (int) uncompressed.size(), valueCount, rowCount,
+          statistics, rlEncoding, dlEncoding, valuesEncoding));
+      this.totalValueCount += valueCount;
+      this.pendingSize += uncompressed.size();
+    }
+
+    @Override
+    public void writePageV2(int rowCount, int nullCount, int valueCount,
+                            BytesInput repetitionLevels, BytesInput definitionLevels,
+                            Encoding dataEncoding, BytesInput data, Statistics<?> statistics) {
+      // ParquetWriter uses the serial page store for v2 pages, so this is only reached if a column writer is misused
+      throw new IllegalStateException("Cannot write v2 pages to a parallel page store for column: " + path);
+    }
+
+    @Override
+    public void writeDictionaryPage(DictionaryPage page) throws IOException {
+      Preconditions.checkState(dictionaryBytes == null, "Only one dictionary page is allowed for column: %s", path);
+      BytesInput uncompressed = BytesInput.copy(page.getBytes());
+      this.dictionaryBytes = lane.compress(uncompressed);
+      this.dictionaryUncompressedSize = (int) uncompressed.size();
+      this.dictionarySize = page.getDictionarySize();
+      this.dictionaryEncoding = page.getEncoding();
+    }
+
+    @Override
+    public long getMemSize() {
+      // pages in a lane are compressed in order, so compressed pages are always before pending pages
+      try {
+        while (numSizedPages < pages.size() && pages.get(numSizedPages).isCompressed()) {
+          BufferedPage page = pages.get(numSizedPages);
+          this.compressedSize += page.sizeWithHeader();
+          this.pendingSize -= page.uncompressedSize;
+          this.numSizedPages += 1;
+        }
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to get page header size for column: %s", path);
+      }
+
+      return compressedSize + pendingSize;
+    }
+
+    @Override
+    public long allocatedSize() {
+      return getMemSize();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+      return String.format("%s %s %d bytes", prefix, path, getMemSize());
+    }
+
+    private void writeToFileWriter(ParquetFileWriter writer) throws IOException {
+      writer.startColumn(path, totalValueCount, lane.compressor.getCodecName());
+
+      if (dictionaryBytes != null) {
+        writer.writeDictionaryPage(new DictionaryPage(
+            await(dictionaryBytes), dictionaryUncompressedSize, dictionarySize, dictionaryEncoding));
+      }
+
+      for (BufferedPage page : pages) {
+        if (page.rowCount < 0) {
+          writer.writeDataPage(page.valueCount, page.uncompressedSize, await(page.compressed), page.statistics,
+              page.rlEncoding, page.dlEncoding, page.valuesEncoding);
+        } else {
+          writer.writeDataPage(page.valueCount, page.uncompressedSize, await(page.compressed), page.statistics,
+              page.rowCount, page.rlEncoding, page.dlEncoding, page.valuesEncoding);
+        }
+      }
+
+      writer.endColumn();
+
+      pages.clear();
+      this.dictionaryBytes = null;
+      this.totalValueCount = 0L;
+      this.compressedSize = 0L;
+      this.pendingSize = 0L;
+      this.numSizedPages = 0;
+    }
+  }
+}
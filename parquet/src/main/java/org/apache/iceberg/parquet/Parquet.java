@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -58,6 +59,7 @@ import org.apache.iceberg.parquet.ParquetValueWriters.StructWriter;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ArrayUtil;
 import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.ParquetReadOptions;
@@ -74,10 +76,15 @@ import org.apache.parquet.hadoop.api.WriteSupport;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.schema.MessageType;
 
+import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX;
+import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_MAX_BYTES;
+import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_MAX_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_PARALLELISM;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_PARALLELISM_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES;
@@ -204,6 +211,10 @@ public class Parquet {
           PARQUET_DICT_SIZE_BYTES, PARQUET_DICT_SIZE_BYTES_DEFAULT));
       String compressionLevel = config.getOrDefault(
           PARQUET_COMPRESSION_LEVEL, PARQUET_COMPRESSION_LEVEL_DEFAULT);
+      int compressionParallelism = Integer.parseInt(config.getOrDefault(
+          PARQUET_COMPRESSION_PARALLELISM, PARQUET_COMPRESSION_PARALLELISM_DEFAULT));
+      int bloomFilterMaxBytes = Integer.parseInt(config.getOrDefault(
+          PARQUET_BLOOM_FILTER_MAX_BYTES, PARQUET_BLOOM_FILTER_MAX_BYTES_DEFAULT));
 
       if (compressionLevel != null) {
         switch (codec()) {
@@ -248,7 +259,8 @@ public class Parquet {
 
         return new org.apache.iceberg.parquet.ParquetWriter<>(
             conf, file, schema, rowGroupSize, metadata, createWriterFunc, codec(),
-            parquetProperties, metricsConfig, writeMode);
+            parquetProperties, metricsConfig, writeMode, compressionParallelism, bloomFilterFieldIds(),
+            bloomFilterMaxBytes);
       } else {
         return new ParquetWriteAdapter<>(new ParquetWriteBuilder<D>(ParquetIO.file(file))
             .withWriterVersion(writerVersion)
@@ -265,6 +277,25 @@ public class Parquet {
             metricsConfig);
       }
     }
+
+    private Set<Integer> bloomFilterFieldIds() {
+      Set<Integer> fieldIds = Sets.newHashSet();
+      for (Map.Entry<String, String> entry : config.entrySet()) {
+        String key = entry.getKey();
+        if (key.startsWith(PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX) && Boolean.parseBoolean(entry.getValue())) {
+          String columnName = key.substring(PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX.length());
+          // table properties are also used for files that do not have every table column, like delete files
+          Types.NestedField field = schema.findField(columnName);
+          if (field != null) {
+            Preconditions.checkArgument(field.type().isPrimitiveType(),
+                "Cannot create a Bloom filter for non-primitive column: %s", columnName);
+            fieldIds.add(field.fieldId());
+          }
+        }
+      }
+
+      return fieldIds;
+    }
   }
 
   public static DeleteWriteBuilder writeDeletes(OutputFile file) {
@@ -474,6 +505,8 @@ public class Parquet {
     private Function<MessageType, VectorizedReader<?>> batchedReaderFunc = null;
     private Function<MessageType, ParquetValueReader<?>> readerFunc = null;
     private boolean filterRecords = true;
+    private boolean filterRows = false;
+    private boolean filterPages = false;
     private boolean caseSensitive = true;
     private boolean callInit = false;
     private boolean reuseContainers = false;
@@ -516,6 +549,37 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets whether readers created by {@link #createReaderFunc(Function)} or
+     * {@link #createBatchedReaderFunc(Function)} remove rows that do not match the filter.
+     * <p>
+     * When enabled, the filter's columns are read first and the other columns are only read for rows that match.
+     * Rows are only removed when all of the filter's columns are top-level primitive columns in the file, so callers
+     * must still apply the filter to the rows that are returned.
+     *
+     * @param newFilterRows whether to remove rows that do not match the filter
+     * @return this builder for method chaining
+     */
+    public ReadBuilder filterRows(boolean newFilterRows) {
+      this.filterRows = newFilterRows;
+      return this;
+    }
+
+    /**
+     * Sets whether readers created by {@link #createReaderFunc(Function)} or
+     * {@link #createBatchedReaderFunc(Function)} use page indexes to skip pages that cannot match the filter.
+     * <p>
+     * When enabled, the column and offset indexes of the filter's columns are read for each row group that is not
+     * skipped. Pages are not skipped in files written without page indexes.
+     *
+     * @param newFilterPages whether to skip pages using page indexes
+     * @return this builder for method chaining
+     */
+    public ReadBuilder filterPages(boolean newFilterPages) {
+      this.filterPages = newFilterPages;
+      return this;
+    }
+
     public ReadBuilder filter(Expression newFilter) {
       this.filter = newFilter;
       return this;
@@ -588,14 +652,16 @@ public class Parquet {
           optionsBuilder.withRange(start, start + length);
         }
 
+        optionsBuilder.useColumnIndexFilter(filterPages);
+
         ParquetReadOptions options = optionsBuilder.build();
 
         if (batchedReaderFunc != null) {
           return new VectorizedParquetReader<>(file, schema, options, batchedReaderFunc, nameMapping, filter,
-              reuseContainers, caseSensitive, maxRecordsPerBatch);
+              reuseContainers, caseSensitive, maxRecordsPerBatch, filterRows);
         } else {
           return new org.apache.iceberg.parquet.ParquetReader<>(
-              file, schema, options, readerFunc, nameMapping, filter, reuseContainers, caseSensitive);
+              file, schema, options, readerFunc, nameMapping, filter, reuseContainers, caseSensitive, filterRows);
         }
       }
 
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.hash.HashFunction;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * A split block Bloom filter for the values of a column in a Parquet row group.
+ * <p>
+ * The filter is an array of 256-bit blocks. Each value sets one bit in each of the eight 32-bit words of a single
+ * block, so checking a value only reads one block. Values are hashed using the bytes of their Parquet physical type.
+ * <p>
+ * The Parquet format version used by this library does not have a Bloom filter section, so filters are written to the
+ * file after the row group that they cover and are only read when a filter needs them. The location of each filter is
+ * stored in the file's key-value metadata using {@link #metadataKey(ColumnPath, long)}.
+ */
+class ParquetBloomFilter {
+  private static final String METADATA_KEY_PREFIX = "iceberg.bloom-filter.";
+  private static final HashFunction HASH = Hashing.murmur3_128();
+  private static final int WORDS_PER_BLOCK = 8;
+  private static final int BYTES_PER_BLOCK = WORDS_PER_BLOCK * Integer.BYTES;
+  private static final int[] SALT = {
+      0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d, 0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31 };
+
+  static final double DEFAULT_FPP = 0.01;
+
+  /**
+   * Returns the key-value metadata key for the location of the filter of a column in a row group.
+   *
+   * @param path the column's path
+   * @param rowGroupStart the starting position of the row group in the file
+   * @return a metadata key
+   */
+  static String metadataKey(ColumnPath path, long rowGroupStart) {
+    return METADATA_KEY_PREFIX + rowGroupStart + "." + path.toDotString();
+  }
+
+  /**
+   * Returns the number of bytes needed to store a number of distinct values with a false positive probability.
+   *
+   * @param numDistinct the number of distinct values
+   * @param fpp the false positive probability
+   * @return a number of bytes that is a multiple of the block size
+   */
+  static int optimalNumBytes(long numDistinct, double fpp) {
+    Preconditions.checkArgument(fpp > 0.0 && fpp < 1.0, "Invalid false positive probability: %s", fpp);
+    double numBits = -8 * Math.max(numDistinct, 1) / Math.log(1 - Math.pow(fpp, 1.0 / 8));
+    long numBlocks = (long) Math.ceil(numBits / (BYTES_PER_BLOCK * 8));
+    return (int) Math.min(Math.max(numBlocks, 1) * BYTES_PER_BLOCK, Integer.MAX_VALUE - BYTES_PER_BLOCK);
+  }
+
+  /**
+   * Returns the key-value metadata value for a filter's location in the file.
+   *
+   * @param offset the position of the filter in the file
+   * @param length the length of the filter in bytes
+   * @return a location string
+   */
+  static String location(long offset, int length) {
+    return offset + ":" + length;
+  }
+
+  /**
+   * Reads a filter from a stream using a location created by {@link #location(long, int)}.
+   *
+   * @param stream a stream for the file that contains the filter
+   * @param location the filter's location
+   * @return the filter
+   * @throws IOException if the filter cannot be read
+   */
+  static ParquetBloomFilter read(SeekableInputStream stream, String location) throws IOException {
+    int separator = location.indexOf(':');
+    Preconditions.checkArgument(separator > 0, "Invalid Bloom filter location: %s", location);
+    long offset = Long.parseLong(location.substring(0, separator));
+    int length = Integer.parseInt(location.substring(separator + 1));
+    Preconditions.checkArgument(length > 0 && length % BYTES_PER_BLOCK == 0,
+        "Invalid Bloom filter length: %s", length);
+
+    byte[] bytes = new byte[length];
+    stream.seek(offset);
+    stream.readFully(bytes);
+
+    int[] words = new int[length / Integer.BYTES];
+    ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(words);
+    return new ParquetBloomFilter(words);
+  }
+
+  private final int[] words;
+  private final int numBlocks;
+
+  ParquetBloomFilter(int numBytes) {
+    this(new int[Math.max(numBytes / BYTES_PER_BLOCK, 1) * WORDS_PER_BLOCK]);
+  }
+
+  private ParquetBloomFilter(int[] words) {
+    this.words = words;
+    this.numBlocks = words.length / WORDS_PER_BLOCK;
+  }
+
+  int sizeInBytes() {
+    return words.length * Integer.BYTES;
+  }
+
+  void insert(long hash) {
+    int offset = blockOffset(hash);
+    int key = (int) hash;
+    for (int i = 0; i < WORDS_PER_BLOCK; i += 1) {
+      words[offset + i] |= 1 << ((key * SALT[i]) >>> 27);
+    }
+  }
+
+  boolean mightContain(long hash) {
+    int offset = blockOffset(hash);
+    int key = (int) hash;
+    for (int i = 0; i < WORDS_PER_BLOCK; i += 1) {
+      if ((words[offset + i] & (1 << ((key * SALT[i]) >>> 27))) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  void writeTo(OutputStream out) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(sizeInBytes()).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asIntBuffer().put(words);
+    out.write(buffer.array());
+  }
+
+  private int blockOffset(long hash) {
+    // use the upper 32 bits to select a block without a division
+    return (int) (((hash >>> 32) * numBlocks) >>> 32) * WORDS_PER_BLOCK;
+  }
+
+  static long hash(int value) {
+    return HASH.hashInt(value).asLong();
+  }
+
+  static long hash(long value) {
+    return HASH.hashLong(value).asLong();
+  }
+
+  static long hash(float value) {
+    return hash(Float.floatToIntBits(value));
+  }
+
+  static long hash(double value) {
+    return hash(Double.doubleToLongBits(value));
+  }
+
+  static long hash(ByteBuffer value) {
+    return HASH.hashBytes(value.duplicate()).asLong();
+  }
+
+  /**
+   * Hashes an Iceberg value as the Parquet physical type of a column.
+   *
+   * @param type the Parquet type of the column
+   * @param value a value in Iceberg's internal representation
+   * @return the value's hash, or null if the value cannot be hashed and any row might match it
+   */
+  static Long hashValue(PrimitiveType type, Object value) {
+    switch (type.getPrimitiveTypeName()) {
+      case INT32:
+        Long intValue = longValue(value);
+        return intValue != null && intValue == intValue.intValue() ? hash(intValue.intValue()) : null;
+      case INT64:
+        Long longValue = longValue(value);
+        return longValue != null ? hash(longValue) : null;
+      case FLOAT:
+        // -0.0 and 0.0 have different bits, but are equal
+        if (value instanceof Number && ((Number) value).floatValue() != 0.0F &&
+            ((Number) value).floatValue() == ((Number) value).doubleValue()) {
+          return hash(((Number) value).floatValue());
+        }
+        return null;
+      case DOUBLE:
+        if (value instanceof Number && ((Number) value).doubleValue() != 0.0D) {
+          return hash(((Number) value).doubleValue());
+        }
+        return null;
+      case BINARY:
+      case FIXED_LEN_BYTE_ARRAY:
+        if (value instanceof CharSequence) {
+          return hash(StandardCharsets.UTF_8.encode(value.toString()));
+        } else if (value instanceof ByteBuffer) {
+          return hash((ByteBuffer) value);
+        } else if (value instanceof UUID) {
+          UUID uuid = (UUID) value;
+          ByteBuffer buffer = ByteBuffer.allocate(16);
+          buffer.putLong(uuid.getMostSignificantBits());
+          buffer.putLong(uuid.getLeastSignificantBits());
+          buffer.flip();
+          return hash(buffer);
+        }
+        return null;
+      default:
+        return null;
+    }
+  }
+
+  private static Long longValue(Object value) {
+    if (value instanceof Integer || value instanceof Long) {
+      return ((Number) value).longValue();
+    } else if (value instanceof BigDecimal) {
+      // decimals stored as ints or longs are stored as the unscaled value
+      BigDecimal decimal = (BigDecimal) value;
+      return decimal.unscaledValue().bitLength() < 64 ? decimal.unscaledValue().longValue() : null;
+    }
+
+    return null;
+  }
+}
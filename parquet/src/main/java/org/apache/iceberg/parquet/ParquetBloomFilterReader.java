@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * Reads the Bloom filters that Iceberg writes to a Parquet file.
+ * <p>
+ * The file is only opened when the first filter is read, and filters are read one at a time when they are needed.
+ */
+class ParquetBloomFilterReader implements Closeable {
+  private final InputFile file;
+  private final Map<String, String> keyValueMetadata;
+  private SeekableInputStream stream = null;
+
+  /**
+   * Creates a reader for a file.
+   *
+   * @param file the Parquet file
+   * @param keyValueMetadata the file's key-value metadata
+   */
+  ParquetBloomFilterReader(InputFile file, Map<String, String> keyValueMetadata) {
+    this.file = file;
+    this.keyValueMetadata = keyValueMetadata;
+  }
+
+  /**
+   * Reads the filter for a column in a row group.
+   *
+   * @param rowGroup metadata for a row group
+   * @param path the column's path
+   * @return the filter, or null if the row group has no filter for the column
+   */
+  ParquetBloomFilter read(BlockMetaData rowGroup, ColumnPath path) {
+    String location = keyValueMetadata.get(ParquetBloomFilter.metadataKey(path, rowGroup.getStartingPos()));
+    if (location == null) {
+      return null;
+    }
+
+    try {
+      if (stream == null) {
+        this.stream = file.newStream();
+      }
+
+      return ParquetBloomFilter.read(stream, location);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read Bloom filter for column: %s", path.toDotString());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (stream != null) {
+      stream.close();
+      this.stream = null;
+    }
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates equality and in predicates using the Bloom filters that Iceberg writes for a row group.
+ * <p>
+ * Bloom filters can only show that a value is not in a row group, so all other predicates might match. Row groups
+ * without a filter for a column, such as row groups written before the column was configured, are always read.
+ */
+class ParquetBloomRowGroupFilter {
+  private final Expression expr;
+
+  ParquetBloomRowGroupFilter(Schema schema, Expression unbound) {
+    this(schema, unbound, true);
+  }
+
+  ParquetBloomRowGroupFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Test whether the Bloom filters for a row group may contain records that match the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param rowGroup metadata for a row group
+   * @param bloomFilters a reader for the file's Bloom filters
+   * @return false if the row group cannot contain rows that match the expression, true otherwise.
+   */
+  boolean shouldRead(MessageType fileSchema, BlockMetaData rowGroup, ParquetBloomFilterReader bloomFilters) {
+    return new EvalVisitor().eval(fileSchema, rowGroup, bloomFilters);
+  }
+
+  private static final boolean ROWS_MIGHT_MATCH = true;
+  private static final boolean ROWS_CANNOT_MATCH = false;
+
+  private class EvalVisitor extends BoundExpressionVisitor<Boolean> {
+    private ParquetBloomFilterReader bloomFilters = null;
+    private BlockMetaData rowGroup = null;
+    private Map<Integer, ColumnDescriptor> cols = null;
+    private Map<Integer, ParquetBloomFilter> filterCache = null;
+
+    private boolean eval(MessageType fileSchema, BlockMetaData metadata, ParquetBloomFilterReader filterReader) {
+      this.bloomFilters = filterReader;
+      this.rowGroup = metadata;
+      this.cols = Maps.newHashMap();
+      this.filterCache = Maps.newHashMap();
+
+      for (ColumnDescriptor desc : fileSchema.getColumns()) {
+        PrimitiveType colType = desc.getPrimitiveType();
+        if (colType.getId() != null) {
+          cols.put(colType.getId().intValue(), desc);
+        }
+      }
+
+      return ExpressionVisitors.visitEvaluator(expr, this);
+    }
+
+    @Override
+    public Boolean alwaysTrue() {
+      return ROWS_MIGHT_MATCH; // all rows match
+    }
+
+    @Override
+    public Boolean alwaysFalse() {
+      return ROWS_CANNOT_MATCH; // all rows fail
+    }
+
+    @Override
+    public Boolean not(Boolean result) {
+      return !result;
+    }
+
+    @Override
+    public Boolean and(Boolean leftResult, Boolean rightResult) {
+      return leftResult && rightResult;
+    }
+
+    @Override
+    public Boolean or(Boolean leftResult, Boolean rightResult) {
+      return leftResult || rightResult;
+    }
+
+    @Override
+    public <T> Boolean isNull(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notNull(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean isNaN(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notNaN(BoundReference<T> ref) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean lt(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean gt(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean eq(BoundReference<T> ref, Literal<T> lit) {
+      return mightContain(ref.fieldId(), lit.value()) ? ROWS_MIGHT_MATCH : ROWS_CANNOT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notEq(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean in(BoundReference<T> ref, Set<T> literalSet) {
+      for (T value : literalSet) {
+        if (mightContain(ref.fieldId(), value)) {
+          return ROWS_MIGHT_MATCH;
+        }
+      }
+
+      return ROWS_CANNOT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean notIn(BoundReference<T> ref, Set<T> literalSet) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public <T> Boolean startsWith(BoundReference<T> ref, Literal<T> lit) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    private boolean mightContain(int id, Object value) {
+      ColumnDescriptor desc = cols.get(id);
+      if (desc == null) {
+        // the column is not in the file and has no filter
+        return true;
+      }
+
+      ParquetBloomFilter filter = filter(id, desc);
+      if (filter == null) {
+        return true;
+      }
+
+      Long hash = ParquetBloomFilter.hashValue(desc.getPrimitiveType(), value);
+      return hash == null || filter.mightContain(hash);
+    }
+
+    private ParquetBloomFilter filter(int id, ColumnDescriptor desc) {
+      if (filterCache.containsKey(id)) {
+        return filterCache.get(id);
+      }
+
+      ParquetBloomFilter filter = bloomFilters.read(rowGroup, ColumnPath.get(desc.getPath()));
+      filterCache.put(id, filter);
+
+      return filter;
+    }
+  }
+}
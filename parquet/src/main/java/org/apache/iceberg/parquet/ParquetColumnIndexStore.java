@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+
+/**
+ * A {@link ColumnIndexStore} for the projected columns of a row group.
+ * <p>
+ * Column and offset indexes are read when they are first used, so only the indexes of the filter's columns are read.
+ * Like the store used by {@link ParquetFileReader}, this store cannot be created if a projected column has no offset
+ * index, so row ranges calculated using this store are the same as the ranges used by
+ * {@link ParquetFileReader#readNextFilteredRowGroup()}.
+ */
+class ParquetColumnIndexStore implements ColumnIndexStore {
+  private final ParquetFileReader reader;
+  private final Map<ColumnPath, ColumnChunkMetaData> columns = Maps.newHashMap();
+  private final Map<ColumnPath, OffsetIndex> offsetIndexes = Maps.newHashMap();
+  private final Map<ColumnPath, ColumnIndex> columnIndexes = Maps.newHashMap();
+
+  /**
+   * Creates a store for a row group.
+   *
+   * @param reader a reader for the file that contains the row group
+   * @param rowGroup the row group's metadata
+   * @param paths paths of the projected columns
+   * @throws MissingOffsetIndexException if a projected column does not have an offset index
+   */
+  ParquetColumnIndexStore(ParquetFileReader reader, BlockMetaData rowGroup, Set<ColumnPath> paths) {
+    this.reader = reader;
+    for (ColumnChunkMetaData column : rowGroup.getColumns()) {
+      ColumnPath path = column.getPath();
+      if (paths.contains(path)) {
+        if (column.getOffsetIndexReference() == null) {
+          throw new MissingOffsetIndexException(path);
+        }
+
+        columns.put(path, column);
+      }
+    }
+  }
+
+  @Override
+  public ColumnIndex getColumnIndex(ColumnPath path) {
+    ColumnChunkMetaData column = columns.get(path);
+    if (column == null) {
+      return null;
+    }
+
+    if (!columnIndexes.containsKey(path)) {
+      columnIndexes.put(path, read(() -> reader.readColumnIndex(column), path));
+    }
+
+    return columnIndexes.get(path);
+  }
+
+  @Override
+  public OffsetIndex getOffsetIndex(ColumnPath path) {
+    ColumnChunkMetaData column = columns.get(path);
+    if (column == null) {
+      throw new MissingOffsetIndexException(path);
+    }
+
+    if (!offsetIndexes.containsKey(path)) {
+      OffsetIndex offsetIndex = read(() -> reader.readOffsetIndex(column), path);
+      if (offsetIndex == null) {
+        throw new MissingOffsetIndexException(path);
+      }
+
+      offsetIndexes.put(path, offsetIndex);
+    }
+
+    return offsetIndexes.get(path);
+  }
+
+  private interface IndexReader<I> {
+    I read() throws IOException;
+  }
+
+  private static <I> I read(IndexReader<I> indexReader, ColumnPath path) {
+    try {
+      return indexReader.read();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read page index for column: %s", path.toDotString());
+    }
+  }
+}
@@ -22,6 +22,9 @@ package org.apache.iceberg.parquet;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Supplier;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -30,6 +33,8 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
@@ -46,6 +51,22 @@ class ParquetIO {
   }
 
   static InputFile file(org.apache.iceberg.io.InputFile file) {
+    return file(file, false);
+  }
+
+  /**
+   * Returns a Parquet input file that can prefetch row groups.
+   * <p>
+   * When prefetchRowGroups is true, streams opened by the file prefetch the ranges set by
+   * {@link #readRowGroupRanges(InputFile, List)}. Streams are only wrapped when they override
+   * {@link org.apache.iceberg.io.SeekableInputStream#readRanges(List)}, because the default implementation reads each
+   * range in turn and is slower than reading the ranges through the stream.
+   *
+   * @param file an input file
+   * @param prefetchRowGroups whether streams should prefetch the column chunks of each row group
+   * @return a Parquet input file
+   */
+  static InputFile file(org.apache.iceberg.io.InputFile file, boolean prefetchRowGroups) {
     // TODO: use reflection to avoid depending on classes from iceberg-hadoop
     // TODO: use reflection to avoid depending on classes from hadoop
     if (file instanceof HadoopInputFile) {
@@ -56,7 +77,23 @@ class ParquetIO {
         throw new RuntimeIOException(e, "Failed to create Parquet input file for %s", file);
       }
     }
-    return new ParquetInputFile(file);
+    return new ParquetInputFile(file, prefetchRowGroups);
+  }
+
+  /**
+   * Sets the column chunk ranges to read for each row group of a Parquet input file.
+   * <p>
+   * When a stream opened by the file reads from one of the ranges, all ranges of the same row group are fetched with a
+   * single {@link org.apache.iceberg.io.SeekableInputStream#readRanges(List) vectored read}. This has no effect on
+   * files that are read through Hadoop or that were not created to prefetch row groups.
+   *
+   * @param file a Parquet input file returned by {@link #file(org.apache.iceberg.io.InputFile, boolean)}
+   * @param rowGroupRanges a list of column chunk ranges for each row group
+   */
+  static void readRowGroupRanges(InputFile file, List<List<FileRange>> rowGroupRanges) {
+    if (file instanceof ParquetInputFile) {
+      ((ParquetInputFile) file).rowGroupRanges = rowGroupRanges;
+    }
   }
 
   static OutputFile file(org.apache.iceberg.io.OutputFile file) {
@@ -93,6 +130,24 @@ class ParquetIO {
     return new ParquetInputStreamAdapter(stream);
   }
 
+  private static SeekableInputStream stream(org.apache.iceberg.io.SeekableInputStream stream,
+                                            Supplier<List<List<FileRange>>> rowGroupRanges) {
+    if (!overridesReadRanges(stream)) {
+      return stream(stream);
+    }
+
+    return new PrefetchInputStreamAdapter(new RowGroupPrefetchStream(stream, rowGroupRanges));
+  }
+
+  private static boolean overridesReadRanges(org.apache.iceberg.io.SeekableInputStream stream) {
+    try {
+      return stream.getClass().getMethod("readRanges", List.class).getDeclaringClass() !=
+          org.apache.iceberg.io.SeekableInputStream.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   static PositionOutputStream stream(org.apache.iceberg.io.PositionOutputStream stream) {
     if (stream instanceof DelegatingOutputStream) {
       OutputStream wrapped = ((DelegatingOutputStream) stream).getDelegate();
@@ -122,6 +177,171 @@ class ParquetIO {
     }
   }
 
+  /**
+   * A stream adapter that copies prefetched ranges directly into Parquet's buffers.
+   * <p>
+   * Parquet reads column chunks into buffers that it allocates, so the fetched buffers are copied once, without the
+   * intermediate arrays used by {@link DelegatingSeekableInputStream} for direct buffers.
+   */
+  private static class PrefetchInputStreamAdapter extends ParquetInputStreamAdapter {
+    private final RowGroupPrefetchStream prefetchStream;
+
+    private PrefetchInputStreamAdapter(RowGroupPrefetchStream prefetchStream) {
+      super(prefetchStream);
+      this.prefetchStream = prefetchStream;
+    }
+
+    @Override
+    public int read(ByteBuffer buf) throws IOException {
+      if (!buf.hasRemaining()) {
+        return 0;
+      }
+
+      int bytesRead = prefetchStream.readPrefetched(buf);
+      return bytesRead >= 0 ? bytesRead : super.read(buf);
+    }
+
+    @Override
+    public void readFully(ByteBuffer buf) throws IOException {
+      while (buf.hasRemaining()) {
+        if (prefetchStream.readPrefetched(buf) < 0) {
+          // the rest of the buffer is not in a prefetched range
+          super.readFully(buf);
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads all column chunk ranges of a row group with one vectored read when the first of them is read.
+   * <p>
+   * Prefetched ranges are released once they are read to the end, because the Parquet reader reads each column chunk
+   * once. Reads outside of the prefetched ranges go to the underlying stream.
+   */
+  private static class RowGroupPrefetchStream extends org.apache.iceberg.io.SeekableInputStream {
+    private final org.apache.iceberg.io.SeekableInputStream delegate;
+    private final Supplier<List<List<FileRange>>> rowGroupRanges;
+    private List<FileRange> prefetchedRanges = ImmutableList.of();
+    private ByteBuffer[] prefetched = new ByteBuffer[0];
+    private long pos = 0;
+
+    private RowGroupPrefetchStream(org.apache.iceberg.io.SeekableInputStream delegate,
+                                   Supplier<List<List<FileRange>>> rowGroupRanges) {
+      this.delegate = delegate;
+      this.rowGroupRanges = rowGroupRanges;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) {
+      this.pos = newPos;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      int bytesRead = read(single, 0, 1);
+      return bytesRead > 0 ? single[0] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+
+      int prefetchedBytes = readPrefetched(ByteBuffer.wrap(b, off, len));
+      if (prefetchedBytes >= 0) {
+        return prefetchedBytes;
+      }
+
+      if (delegate.getPos() != pos) {
+        delegate.seek(pos);
+      }
+
+      int bytesRead = delegate.read(b, off, len);
+      if (bytesRead > 0) {
+        this.pos += bytesRead;
+      }
+
+      return bytesRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.prefetched = new ByteBuffer[0];
+      delegate.close();
+    }
+
+    /**
+     * Copies bytes from a prefetched range at the current position into a buffer.
+     *
+     * @param dst a buffer to copy into
+     * @return the number of bytes copied, or -1 if the current position is not in a prefetched range
+     * @throws IOException if the row group's ranges cannot be fetched
+     */
+    private int readPrefetched(ByteBuffer dst) throws IOException {
+      int index = prefetchedIndex(pos);
+      if (index < 0) {
+        return -1;
+      }
+
+      FileRange range = prefetchedRanges.get(index);
+      ByteBuffer src = prefetched[index].duplicate();
+      src.position((int) (pos - range.offset()));
+      if (src.remaining() > dst.remaining()) {
+        src.limit(src.position() + dst.remaining());
+      }
+
+      int bytesRead = src.remaining();
+      dst.put(src);
+      this.pos += bytesRead;
+
+      if (pos == range.offset() + range.length()) {
+        prefetched[index] = null;
+      }
+
+      return bytesRead;
+    }
+
+    private int prefetchedIndex(long position) throws IOException {
+      int index = indexOf(prefetchedRanges, position);
+      if (index >= 0) {
+        return prefetched[index] != null ? index : -1;
+      }
+
+      for (List<FileRange> ranges : rowGroupRanges.get()) {
+        index = indexOf(ranges, position);
+        if (index >= 0) {
+          // release the previous row group before fetching the next one
+          this.prefetchedRanges = ImmutableList.of();
+          this.prefetched = new ByteBuffer[0];
+          this.prefetched = delegate.readRanges(ranges).toArray(new ByteBuffer[0]);
+          this.prefetchedRanges = ranges;
+          return index;
+        }
+      }
+
+      return -1;
+    }
+
+    private static int indexOf(List<FileRange> ranges, long position) {
+      for (int i = 0; i < ranges.size(); i += 1) {
+        FileRange range = ranges.get(i);
+        if (position >= range.offset() && position < range.offset() + range.length()) {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+  }
+
   private static class ParquetOutputStreamAdapter extends DelegatingPositionOutputStream {
     private final org.apache.iceberg.io.PositionOutputStream delegate;
 
@@ -166,9 +386,12 @@ class ParquetIO {
 
   private static class ParquetInputFile implements InputFile {
     private final org.apache.iceberg.io.InputFile file;
+    private final boolean prefetchRowGroups;
+    private volatile List<List<FileRange>> rowGroupRanges = ImmutableList.of();
 
-    private ParquetInputFile(org.apache.iceberg.io.InputFile file) {
+    private ParquetInputFile(org.apache.iceberg.io.InputFile file, boolean prefetchRowGroups) {
       this.file = file;
+      this.prefetchRowGroups = prefetchRowGroups;
     }
 
     @Override
@@ -178,6 +401,10 @@ class ParquetIO {
 
     @Override
     public SeekableInputStream newStream() throws IOException {
+      if (prefetchRowGroups) {
+        return stream(file.newStream(), () -> rowGroupRanges);
+      }
+
       return stream(file.newStream());
     }
   }
@@ -20,6 +20,7 @@
 package org.apache.iceberg.parquet;
 
 import java.io.IOException;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -44,10 +45,17 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
   private final boolean reuseContainers;
   private final boolean caseSensitive;
   private final NameMapping nameMapping;
+  private final boolean filterRows;
 
   public ParquetReader(InputFile input, Schema expectedSchema, ParquetReadOptions options,
                        Function<MessageType, ParquetValueReader<?>> readerFunc, NameMapping nameMapping,
                        Expression filter, boolean reuseContainers, boolean caseSensitive) {
+    this(input, expectedSchema, options, readerFunc, nameMapping, filter, reuseContainers, caseSensitive, false);
+  }
+
+  public ParquetReader(InputFile input, Schema expectedSchema, ParquetReadOptions options,
+                       Function<MessageType, ParquetValueReader<?>> readerFunc, NameMapping nameMapping,
+                       Expression filter, boolean reuseContainers, boolean caseSensitive, boolean filterRows) {
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -57,6 +65,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     this.reuseContainers = reuseContainers;
     this.caseSensitive = caseSensitive;
     this.nameMapping = nameMapping;
+    this.filterRows = filterRows;
   }
 
   private ReadConf<T> conf = null;
@@ -65,7 +74,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     if (conf == null) {
       ReadConf<T> readConf = new ReadConf<>(
           input, options, expectedSchema, filter, readerFunc, null, nameMapping, reuseContainers,
-          caseSensitive, null);
+          caseSensitive, filterRows, null);
       this.conf = readConf.copy();
       return readConf;
     }
@@ -82,11 +91,13 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
   private static class FileIterator<T> implements CloseableIterator<T> {
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
+    private final boolean filterPages;
+    private final ParquetRowFilter rowFilter;
     private final ParquetValueReader<T> model;
-    private final long totalValues;
     private final boolean reuseContainers;
     private final long[] rowGroupsStartRowPos;
 
+    private int remainingRowGroups = 0;
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
     private long valuesRead = 0;
@@ -95,21 +106,32 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     FileIterator(ReadConf<T> conf) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
+      this.filterPages = conf.filterPages();
+      this.rowFilter = conf.rowFilter();
       this.model = conf.model();
-      this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
       this.rowGroupsStartRowPos = conf.startRowPositions();
+      for (boolean skip : shouldSkip) {
+        if (!skip) {
+          this.remainingRowGroups += 1;
+        }
+      }
     }
 
     @Override
     public boolean hasNext() {
-      return valuesRead < totalValues;
+      // when rows are filtered, the number of rows in a row group is only known after it is read
+      while (valuesRead >= nextRowGroupStart && remainingRowGroups > 0) {
+        advance();
+      }
+
+      return valuesRead < nextRowGroupStart;
     }
 
     @Override
     public T next() {
-      if (valuesRead >= nextRowGroupStart) {
-        advance();
+      if (!hasNext()) {
+        throw new NoSuchElementException();
       }
 
       if (reuseContainers) {
@@ -130,16 +152,25 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
 
       PageReadStore pages;
       try {
-        pages = reader.readNextRowGroup();
+        // filtered row groups only contain the pages with selected rows and the row count is the number selected
+        pages = filterPages ? reader.readNextFilteredRowGroup() : reader.readNextRowGroup();
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
 
+      if (rowFilter != null) {
+        // read the filter columns first so that the other columns are only read for matching rows
+        pages = rowFilter.filter(pages);
+      }
+
       long rowPosition = rowGroupsStartRowPos[nextRowGroup];
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
+      remainingRowGroups -= 1;
 
-      model.setPageSource(pages, rowPosition);
+      if (pages.getRowCount() > 0) {
+        model.setPageSource(pages, rowPosition);
+      }
     }
 
     @Override
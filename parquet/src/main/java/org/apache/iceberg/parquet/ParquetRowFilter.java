@@ -0,0 +1,701 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Selects the rows of a row group that match a filter by reading only the filter's columns.
+ * <p>
+ * The filter's columns are decoded first and the filter is evaluated for each row. The returned
+ * {@link PageReadStore} contains only the matching rows, so readers that use its row indexes skip the values of the
+ * other rows in every projected column without materializing them.
+ * <p>
+ * Values of dictionary-encoded pages are converted once per dictionary entry. When the filter references a single
+ * column, the filter is also evaluated once per dictionary entry.
+ * <p>
+ * Only filters on top-level primitive columns that are present in the file can be used. Filters on other columns
+ * return null from {@link #create(Schema, MessageType, Expression, boolean)} and rows are not filtered.
+ */
+class ParquetRowFilter {
+  private final FilterColumn[] columns;
+  private final Evaluator evaluator;
+  private final Row row;
+
+  private ParquetRowFilter(List<FilterColumn> columns, Types.StructType filterStruct, Expression filter,
+                           boolean caseSensitive) {
+    this.columns = columns.toArray(new FilterColumn[0]);
+    this.evaluator = new Evaluator(filterStruct, filter, caseSensitive);
+    this.row = new Row(columns.size());
+  }
+
+  /**
+   * Creates a row filter for a Parquet file.
+   *
+   * @param expectedSchema the expected Iceberg schema
+   * @param fileSchema the Parquet file schema with field ids
+   * @param filter a filter expression
+   * @param caseSensitive whether column names in the filter are case sensitive
+   * @return a row filter, or null if the filter's columns cannot be read by a row filter
+   */
+  static ParquetRowFilter create(Schema expectedSchema, MessageType fileSchema, Expression filter,
+                                 boolean caseSensitive) {
+    if (filter == null) {
+      return null;
+    }
+
+    Map<Integer, org.apache.parquet.schema.Type> fileFields = Maps.newHashMap();
+    for (org.apache.parquet.schema.Type field : fileSchema.getFields()) {
+      if (field.getId() != null) {
+        fileFields.put(field.getId().intValue(), field);
+      }
+    }
+
+    Set<Integer> fieldIds = Binder.boundReferences(expectedSchema.asStruct(), ImmutableList.of(filter), caseSensitive);
+    List<Types.NestedField> filterFields = Lists.newArrayList();
+    List<FilterColumn> columns = Lists.newArrayList();
+    for (Types.NestedField field : expectedSchema.columns()) {
+      if (!fieldIds.contains(field.fieldId())) {
+        continue;
+      }
+
+      org.apache.parquet.schema.Type fileField = fileFields.get(field.fieldId());
+      if (fileField == null || !fileField.isPrimitive() ||
+          fileField.isRepetition(org.apache.parquet.schema.Type.Repetition.REPEATED)) {
+        return null;
+      }
+
+      ColumnDescriptor desc = fileSchema.getColumnDescription(new String[] { fileField.getName() });
+      ValueConverter converter = converter(field.type(), fileField.asPrimitiveType());
+      if (converter == null) {
+        return null;
+      }
+
+      filterFields.add(field);
+      columns.add(new FilterColumn(desc, converter));
+    }
+
+    if (filterFields.size() != fieldIds.size()) {
+      // the filter references nested fields
+      return null;
+    }
+
+    return new ParquetRowFilter(columns, Types.StructType.of(filterFields), filter, caseSensitive);
+  }
+
+  /**
+   * Selects the rows of a row group that match the filter.
+   * <p>
+   * The returned store's row count is the number of matching rows and its row indexes are the matching rows. Pages
+   * of the filter's columns are buffered while the filter is evaluated and are returned again by the returned store.
+   *
+   * @param pages the pages of a row group
+   * @return a page store for the matching rows
+   */
+  PageReadStore filter(PageReadStore pages) {
+    Map<ColumnDescriptor, BufferedPageReader> buffered = Maps.newHashMap();
+    for (FilterColumn column : columns) {
+      BufferedPageReader reader = new BufferedPageReader(pages.getPageReader(column.desc));
+      buffered.put(column.desc, reader);
+      column.setPageSource(reader, pages.getRowIndexes().orElse(null));
+    }
+
+    PrimitiveIterator.OfLong rowIndexes = pages.getRowIndexes().orElse(null);
+    long rowCount = pages.getRowCount();
+    long[] selected = new long[(int) Math.min(rowCount, 1024)];
+    int numSelected = 0;
+    for (long pos = 0; pos < rowCount; pos += 1) {
+      long rowIndex = rowIndexes != null ? rowIndexes.nextLong() : pos;
+      if (matches()) {
+        if (numSelected == selected.length) {
+          selected = Arrays.copyOf(selected, selected.length * 2);
+        }
+
+        selected[numSelected] = rowIndex;
+        numSelected += 1;
+      }
+    }
+
+    for (BufferedPageReader reader : buffered.values()) {
+      reader.replay();
+    }
+
+    return new SelectedRows(pages, buffered, selected, numSelected);
+  }
+
+  private boolean matches() {
+    if (columns.length == 1) {
+      // the result only depends on a single value, so it is cached for dictionary-encoded values
+      return columns[0].matches(evaluator, row);
+    }
+
+    for (int i = 0; i < columns.length; i += 1) {
+      row.values[i] = columns[i].next();
+    }
+
+    return evaluator.eval(row);
+  }
+
+  private interface ValueConverter {
+    Object convert(ColumnIterator<?> column);
+
+    Object convert(Dictionary dictionary, int id);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static ValueConverter converter(Type type, PrimitiveType primitive) {
+    OriginalType originalType = primitive.getOriginalType();
+    switch (primitive.getPrimitiveTypeName()) {
+      case BOOLEAN:
+        return type.typeId() == Type.TypeID.BOOLEAN ? new BooleanConverter() : null;
+
+      case INT32:
+        switch (type.typeId()) {
+          case INTEGER:
+          case DATE:
+            return new IntConverter();
+          case LONG:
+            return new IntAsLongConverter();
+          case TIME:
+            return originalType == OriginalType.TIME_MILLIS ? new IntAsLongConverter(1000L) : null;
+          case DECIMAL:
+            return new IntDecimalConverter(((Types.DecimalType) type).scale());
+          default:
+            return null;
+        }
+
+      case INT64:
+        switch (type.typeId()) {
+          case LONG:
+            return new LongConverter(1L);
+          case TIME:
+          case TIMESTAMP:
+            if (originalType == OriginalType.TIMESTAMP_MILLIS) {
+              return new LongConverter(1000L);
+            }
+            return originalType == OriginalType.TIMESTAMP_MICROS || originalType == OriginalType.TIME_MICROS ?
+                new LongConverter(1L) : null;
+          case DECIMAL:
+            return new LongDecimalConverter(((Types.DecimalType) type).scale());
+          default:
+            return null;
+        }
+
+      case FLOAT:
+        if (type.typeId() == Type.TypeID.FLOAT) {
+          return new FloatConverter();
+        }
+        return type.typeId() == Type.TypeID.DOUBLE ? new FloatAsDoubleConverter() : null;
+
+      case DOUBLE:
+        return type.typeId() == Type.TypeID.DOUBLE ? new DoubleConverter() : null;
+
+      case BINARY:
+      case FIXED_LEN_BYTE_ARRAY:
+        switch (type.typeId()) {
+          case STRING:
+            return new StringConverter();
+          case BINARY:
+          case FIXED:
+            return new BytesConverter();
+          case DECIMAL:
+            return new BinaryDecimalConverter(((Types.DecimalType) type).scale());
+          default:
+            return null;
+        }
+
+      default:
+        // INT96 timestamps are not supported
+        return null;
+    }
+  }
+
+  private static class BooleanConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextBoolean();
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToBoolean(id);
+    }
+  }
+
+  private static class IntConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextInteger();
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToInt(id);
+    }
+  }
+
+  private static class IntAsLongConverter implements ValueConverter {
+    private final long multiplier;
+
+    private IntAsLongConverter() {
+      this(1L);
+    }
+
+    private IntAsLongConverter(long multiplier) {
+      this.multiplier = multiplier;
+    }
+
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextInteger() * multiplier;
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToInt(id) * multiplier;
+    }
+  }
+
+  private static class LongConverter implements ValueConverter {
+    private final long multiplier;
+
+    private LongConverter(long multiplier) {
+      this.multiplier = multiplier;
+    }
+
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextLong() * multiplier;
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToLong(id) * multiplier;
+    }
+  }
+
+  private static class FloatConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextFloat();
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToFloat(id);
+    }
+  }
+
+  private static class FloatAsDoubleConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return (double) column.nextFloat();
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return (double) dictionary.decodeToFloat(id);
+    }
+  }
+
+  private static class DoubleConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextDouble();
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToDouble(id);
+    }
+  }
+
+  private static class StringConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return column.nextBinary().toStringUsingUTF8();
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return dictionary.decodeToBinary(id).toStringUsingUTF8();
+    }
+  }
+
+  private static class BytesConverter implements ValueConverter {
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return ByteBuffer.wrap(column.nextBinary().getBytes());
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return ByteBuffer.wrap(dictionary.decodeToBinary(id).getBytes());
+    }
+  }
+
+  private static class IntDecimalConverter implements ValueConverter {
+    private final int scale;
+
+    private IntDecimalConverter(int scale) {
+      this.scale = scale;
+    }
+
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return BigDecimal.valueOf(column.nextInteger(), scale);
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return BigDecimal.valueOf(dictionary.decodeToInt(id), scale);
+    }
+  }
+
+  private static class LongDecimalConverter implements ValueConverter {
+    private final int scale;
+
+    private LongDecimalConverter(int scale) {
+      this.scale = scale;
+    }
+
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return BigDecimal.valueOf(column.nextLong(), scale);
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return BigDecimal.valueOf(dictionary.decodeToLong(id), scale);
+    }
+  }
+
+  private static class BinaryDecimalConverter implements ValueConverter {
+    private final int scale;
+
+    private BinaryDecimalConverter(int scale) {
+      this.scale = scale;
+    }
+
+    @Override
+    public Object convert(ColumnIterator<?> column) {
+      return decimal(column.nextBinary());
+    }
+
+    @Override
+    public Object convert(Dictionary dictionary, int id) {
+      return decimal(dictionary.decodeToBinary(id));
+    }
+
+    private BigDecimal decimal(Binary binary) {
+      return new BigDecimal(new BigInteger(binary.getBytes()), scale);
+    }
+  }
+
+  private static class FilterColumn {
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+
+    private final ColumnDescriptor desc;
+    private final int definitionLevel;
+    private final ValueConverter converter;
+    private final ColumnIterator<?> column;
+
+    // state for the current row group's dictionary
+    private Object[] dictionaryValues = null;
+    private byte[] dictionaryResults = null;
+    private byte nullResult = UNKNOWN;
+
+    private FilterColumn(ColumnDescriptor desc, ValueConverter converter) {
+      this.desc = desc;
+      this.definitionLevel = desc.getMaxDefinitionLevel();
+      this.converter = converter;
+      this.column = ColumnIterator.newIterator(desc, "");
+    }
+
+    private void setPageSource(PageReader pageReader, PrimitiveIterator.OfLong rowIndexes) {
+      column.setPageSource(pageReader, rowIndexes);
+      Dictionary dictionary = column.dictionary();
+      this.dictionaryValues = dictionary != null ? new Object[dictionary.getMaxId() + 1] : null;
+      this.dictionaryResults = dictionary != null ? new byte[dictionary.getMaxId() + 1] : null;
+      this.nullResult = UNKNOWN;
+    }
+
+    private Object next() {
+      if (column.currentDefinitionLevel() < definitionLevel) {
+        return column.nextNull();
+      }
+
+      if (dictionaryValues != null && column.isDictionaryEncoded()) {
+        return dictionaryValue(column.nextDictionaryId());
+      }
+
+      return converter.convert(column);
+    }
+
+    private boolean matches(Evaluator evaluator, Row row) {
+      if (column.currentDefinitionLevel() < definitionLevel) {
+        column.nextNull();
+        if (nullResult == UNKNOWN) {
+          row.values[0] = null;
+          this.nullResult = evaluator.eval(row) ? MATCH : NO_MATCH;
+        }
+
+        return nullResult == MATCH;
+      }
+
+      if (dictionaryValues != null && column.isDictionaryEncoded()) {
+        int id = column.nextDictionaryId();
+        if (dictionaryResults[id] == UNKNOWN) {
+          row.values[0] = dictionaryValue(id);
+          dictionaryResults[id] = evaluator.eval(row) ? MATCH : NO_MATCH;
+        }
+
+        return dictionaryResults[id] == MATCH;
+      }
+
+      row.values[0] = converter.convert(column);
+      return evaluator.eval(row);
+    }
+
+    private Object dictionaryValue(int id) {
+      Object value = dictionaryValues[id];
+      if (value == null) {
+        value = converter.convert(column.dictionary(), id);
+        dictionaryValues[id] = value;
+      }
+
+      return value;
+    }
+  }
+
+  private static class Row implements StructLike {
+    private final Object[] values;
+
+    private Row(int size) {
+      this.values = new Object[size];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(values[pos]);
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Cannot modify a filter row");
+    }
+  }
+
+  /**
+   * A {@link PageReader} that keeps a copy of the pages it returns so that they can be read again.
+   * <p>
+   * Pages returned by a row group's page readers can only be read once.
+   */
+  private static class BufferedPageReader implements PageReader {
+    private final PageReader delegate;
+    private final List<DataPage> pages = Lists.newArrayList();
+    private DictionaryPage dictionaryPage = null;
+    private boolean readDictionary = false;
+    private boolean replaying = false;
+    private int nextPage = 0;
+
+    private BufferedPageReader(PageReader delegate) {
+      this.delegate = delegate;
+    }
+
+    private void replay() {
+      // pages that were not read by the filter are read from the delegate
+      this.replaying = true;
+      this.nextPage = 0;
+    }
+
+    @Override
+    public DictionaryPage readDictionaryPage() {
+      if (!readDictionary) {
+        DictionaryPage page = delegate.readDictionaryPage();
+        try {
+          this.dictionaryPage = page != null ? page.copy() : null;
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to buffer dictionary page", e);
+        }
+        this.readDictionary = true;
+      }
+
+      return dictionaryPage;
+    }
+
+    @Override
+    public long getTotalValueCount() {
+      return delegate.getTotalValueCount();
+    }
+
+    @Override
+    public DataPage readPage() {
+      if (replaying && nextPage < pages.size()) {
+        DataPage page = pages.get(nextPage);
+        this.nextPage += 1;
+        return page;
+      }
+
+      DataPage page = delegate.readPage();
+      if (page == null) {
+        return null;
+      }
+
+      if (replaying) {
+        return page;
+      }
+
+      DataPage copy = copy(page);
+      pages.add(copy);
+      return copy;
+    }
+
+    private static DataPage copy(DataPage page) {
+      return page.accept(new DataPage.Visitor<DataPage>() {
+        @Override
+        public DataPage visit(DataPageV1 v1) {
+          try {
+            if (v1.getFirstRowIndex().isPresent() && v1.getIndexRowCount().isPresent()) {
+              return new DataPageV1(BytesInput.copy(v1.getBytes()), v1.getValueCount(), v1.getUncompressedSize(),
+                  v1.getFirstRowIndex().get(), v1.getIndexRowCount().get(), v1.getStatistics(),
+                  v1.getRlEncoding(), v1.getDlEncoding(), v1.getValueEncoding());
+            }
+
+            return new DataPageV1(BytesInput.copy(v1.getBytes()), v1.getValueCount(), v1.getUncompressedSize(),
+                v1.getStatistics(), v1.getRlEncoding(), v1.getDlEncoding(), v1.getValueEncoding());
+          } catch (IOException e) {
+            throw new UncheckedIOException("Failed to buffer data page", e);
+          }
+        }
+
+        @Override
+        public DataPage visit(DataPageV2 v2) {
+          try {
+            if (v2.getFirstRowIndex().isPresent()) {
+              return DataPageV2.uncompressed(v2.getRowCount(), v2.getNullCount(), v2.getValueCount(),
+                  v2.getFirstRowIndex().get(), BytesInput.copy(v2.getRepetitionLevels()),
+                  BytesInput.copy(v2.getDefinitionLevels()), v2.getDataEncoding(), BytesInput.copy(v2.getData()),
+                  v2.getStatistics());
+            }
+
+            return DataPageV2.uncompressed(v2.getRowCount(), v2.getNullCount(), v2.getValueCount(),
+                BytesInput.copy(v2.getRepetitionLevels()), BytesInput.copy(v2.getDefinitionLevels()),
+                v2.getDataEncoding(), BytesInput.copy(v2.getData()), v2.getStatistics());
+          } catch (IOException e) {
+            throw new UncheckedIOException("Failed to buffer data page", e);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * A {@link PageReadStore} that selects rows of a row group using row indexes.
+   */
+  private static class SelectedRows implements PageReadStore {
+    private final PageReadStore pages;
+    private final Map<ColumnDescriptor, BufferedPageReader> buffered;
+    private final long[] selected;
+    private final int numSelected;
+
+    private SelectedRows(PageReadStore pages, Map<ColumnDescriptor, BufferedPageReader> buffered,
+                         long[] selected, int numSelected) {
+      this.pages = pages;
+      this.buffered = buffered;
+      this.selected = selected;
+      this.numSelected = numSelected;
+    }
+
+    @Override
+    public PageReader getPageReader(ColumnDescriptor descriptor) {
+      BufferedPageReader reader = buffered.get(descriptor);
+      return reader != null ? reader : pages.getPageReader(descriptor);
+    }
+
+    @Override
+    public long getRowCount() {
+      return numSelected;
+    }
+
+    @Override
+    public Optional<PrimitiveIterator.OfLong> getRowIndexes() {
+      return Optional.of(new PrimitiveIterator.OfLong() {
+        private int pos = 0;
+
+        @Override
+        public boolean hasNext() {
+          return pos < numSelected;
+        }
+
+        @Override
+        public long nextLong() {
+          if (pos >= numSelected) {
+            throw new NoSuchElementException();
+          }
+
+          long rowIndex = selected[pos];
+          this.pos += 1;
+          return rowIndex;
+        }
+      });
+    }
+  }
+}
@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -144,9 +145,15 @@ public class ParquetValueReaders {
   static class PositionReader implements ParquetValueReader<Long> {
     private long rowOffset = -1;
     private long rowGroupStart;
+    private PrimitiveIterator.OfLong rowIndexes = null;
 
     @Override
     public Long read(Long reuse) {
+      if (rowIndexes != null) {
+        // the row group was filtered using page indexes and rows are not contiguous
+        return rowGroupStart + rowIndexes.nextLong();
+      }
+
       rowOffset = rowOffset + 1;
       return rowGroupStart + rowOffset;
     }
@@ -165,6 +172,7 @@ public class ParquetValueReaders {
     public void setPageSource(PageReadStore pageStore, long rowPosition) {
       this.rowGroupStart = rowPosition;
       this.rowOffset = -1;
+      this.rowIndexes = pageStore.getRowIndexes().orElse(null);
     }
   }
 
@@ -182,7 +190,7 @@ public class ParquetValueReaders {
 
     @Override
     public void setPageSource(PageReadStore pageStore, long rowPosition) {
-      column.setPageSource(pageStore.getPageReader(desc));
+      column.setPageSource(pageStore.getPageReader(desc), pageStore.getRowIndexes().orElse(null));
     }
 
     @Override
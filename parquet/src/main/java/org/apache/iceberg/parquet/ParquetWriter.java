@@ -23,6 +23,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.Metrics;
@@ -35,6 +36,9 @@ import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.column.ColumnWriteStore;
 import org.apache.parquet.column.ParquetProperties;
@@ -42,6 +46,7 @@ import org.apache.parquet.column.page.PageWriteStore;
 import org.apache.parquet.hadoop.CodecFactory;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.PositionOutputStream;
 import org.apache.parquet.schema.MessageType;
 
 class ParquetWriter<T> implements FileAppender<T>, Closeable {
@@ -63,15 +68,23 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final long targetRowGroupSize;
   private final Map<String, String> metadata;
   private final ParquetProperties props;
+  private final SharedCodecFactory codecFactory;
   private final CodecFactory.BytesCompressor compressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
   private final ParquetFileWriter writer;
   private final MetricsConfig metricsConfig;
   private final int columnIndexTruncateLength;
+  private final List<CodecFactory.BytesCompressor> parallelCompressors;
+  private final Set<Integer> bloomFilterFieldIds;
+  private final int bloomFilterMaxBytes;
+  private final Map<String, String> bloomFilterLocations = Maps.newLinkedHashMap();
+  private final TrackingOutputFile outputFile;
 
   private DynMethods.BoundMethod flushPageStoreToWriter;
+  private ParallelPageWriteStore parallelPageStore;
   private ColumnWriteStore writeStore;
+  private BloomFilterWriteStore bloomFilterStore;
   private long nextRowGroupSize = 0;
   private long recordCount = 0;
   private long nextCheckRecordCount = 10;
@@ -88,17 +101,76 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
                 ParquetProperties properties,
                 MetricsConfig metricsConfig,
                 ParquetFileWriter.Mode writeMode) {
+    this(conf, output, schema, rowGroupSize, metadata, createWriterFunc, codec, properties, metricsConfig, writeMode,
+        1);
+  }
+
+  /**
+   * Creates a writer that compresses pages using up to compressionParallelism threads.
+   * <p>
+   * When compressionParallelism is greater than 1 and the writer produces v1 pages, pages are compressed in a shared
+   * pool by {@link ParallelPageWriteStore}. Otherwise, pages are compressed on the writing thread.
+   */
+  @SuppressWarnings("unchecked")
+  ParquetWriter(Configuration conf, OutputFile output, Schema schema, long rowGroupSize,
+                Map<String, String> metadata,
+                Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
+                CompressionCodecName codec,
+                ParquetProperties properties,
+                MetricsConfig metricsConfig,
+                ParquetFileWriter.Mode writeMode,
+                int compressionParallelism) {
+    this(conf, output, schema, rowGroupSize, metadata, createWriterFunc, codec, properties, metricsConfig, writeMode,
+        compressionParallelism, ImmutableSet.of(), 0);
+  }
+
+  /**
+   * Creates a writer that also builds Bloom filters for the columns of bloomFilterFieldIds.
+   * <p>
+   * Filters are sized for the number of distinct values in each row group, up to bloomFilterMaxBytes. They are written
+   * after each row group and their locations are stored in the file's key-value metadata.
+   */
+  @SuppressWarnings("unchecked")
+  ParquetWriter(Configuration conf, OutputFile output, Schema schema, long rowGroupSize,
+                Map<String, String> metadata,
+                Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
+                CompressionCodecName codec,
+                ParquetProperties properties,
+                MetricsConfig metricsConfig,
+                ParquetFileWriter.Mode writeMode,
+                int compressionParallelism,
+                Set<Integer> bloomFilterFieldIds,
+                int bloomFilterMaxBytes) {
+    Preconditions.checkArgument(compressionParallelism > 0,
+        "Invalid compression parallelism: %s", compressionParallelism);
     this.targetRowGroupSize = rowGroupSize;
     this.props = properties;
     this.metadata = ImmutableMap.copyOf(metadata);
-    this.compressor = new CodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+    this.codecFactory = new SharedCodecFactory(conf, props.getPageSizeThreshold());
+    this.compressor = codecFactory.getCompressor(codec);
     this.parquetSchema = ParquetSchemaUtil.convert(schema, "table");
     this.model = (ParquetValueWriter<T>) createWriterFunc.apply(parquetSchema);
     this.metricsConfig = metricsConfig;
     this.columnIndexTruncateLength = conf.getInt(COLUMN_INDEX_TRUNCATE_LENGTH, DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
+    this.bloomFilterFieldIds = ImmutableSet.copyOf(bloomFilterFieldIds);
+    this.bloomFilterMaxBytes = bloomFilterMaxBytes;
+    Preconditions.checkArgument(this.bloomFilterFieldIds.isEmpty() || bloomFilterMaxBytes > 0,
+        "Invalid Bloom filter max bytes: %s", bloomFilterMaxBytes);
+
+    // v2 pages can only be written by Parquet's page store
+    if (compressionParallelism > 1 && props.getWriterVersion() == ParquetProperties.WriterVersion.PARQUET_1_0) {
+      // compressors are not thread-safe, so each compression lane gets its own compressor from the shared factory
+      this.parallelCompressors = Lists.newArrayListWithCapacity(compressionParallelism);
+      for (int i = 0; i < compressionParallelism; i += 1) {
+        parallelCompressors.add(codecFactory.newCompressor(codec));
+      }
+    } else {
+      this.parallelCompressors = null;
+    }
 
     try {
-      this.writer = new ParquetFileWriter(ParquetIO.file(output, conf), parquetSchema,
+      this.outputFile = new TrackingOutputFile(ParquetIO.file(output, conf));
+      this.writer = new ParquetFileWriter(outputFile, parquetSchema,
          writeMode, rowGroupSize, 0);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to create Parquet file");
@@ -141,7 +213,8 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       if (closed) {
         return writer.getPos();
       } else {
-        return writer.getPos() + (writeStore.isColumnFlushNeeded() ? writeStore.getBufferedSize() : 0);
+        return writer.getPos() + (writeStore.isColumnFlushNeeded() ? writeStore.getBufferedSize() : 0) +
+            bloomFilterBytes();
       }
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to get file length");
@@ -153,8 +226,22 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     return ParquetUtil.getSplitOffsets(writer.getFooter());
   }
 
+  @Override
+  public long bufferedBytes() {
+    return closed ? 0L : writeStore.getBufferedSize() + bloomFilterBytes();
+  }
+
+  private long bloomFilterBytes() {
+    return bloomFilterStore != null ? bloomFilterStore.bloomFilterBytes() : 0L;
+  }
+
   private void checkSize() {
     if (recordCount >= nextCheckRecordCount) {
+      if (parallelPageStore != null) {
+        // size pages exactly so that row groups end at the same rows as a serial write
+        parallelPageStore.awaitPendingPages();
+      }
+
       long bufferedSize = writeStore.getBufferedSize();
       double avgRecordSize = ((double) bufferedSize) / recordCount;
 
@@ -172,9 +259,18 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     try {
       if (recordCount > 0) {
         writer.startBlock(recordCount);
+        long rowGroupStart = writer.getPos();
         writeStore.flush();
-        flushPageStoreToWriter.invoke(writer);
+        if (parallelPageStore != null) {
+          parallelPageStore.flushToFileWriter(writer);
+        } else {
+          flushPageStoreToWriter.invoke(writer);
+        }
         writer.endBlock();
+        if (bloomFilterStore != null) {
+          // the Parquet format version used here has no Bloom filter section, so filters follow their row group
+          bloomFilterLocations.putAll(bloomFilterStore.writeBloomFilters(rowGroupStart, outputFile.stream()));
+        }
         if (!finished) {
           startRowGroup();
         }
@@ -195,11 +291,23 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     this.nextCheckRecordCount = Math.min(Math.max(recordCount / 2, 100), 10000);
     this.recordCount = 0;
 
-    PageWriteStore pageStore = pageStoreCtorParquet.newInstance(
-        compressor, parquetSchema, props.getAllocator(), this.columnIndexTruncateLength);
+    PageWriteStore pageStore;
+    if (parallelCompressors != null) {
+      this.parallelPageStore = new ParallelPageWriteStore(parquetSchema, parallelCompressors);
+      pageStore = parallelPageStore;
+    } else {
+      pageStore = pageStoreCtorParquet.newInstance(
+          compressor, parquetSchema, props.getAllocator(), this.columnIndexTruncateLength);
+      this.flushPageStoreToWriter = flushToWriter.bind(pageStore);
+    }
 
-    this.flushPageStoreToWriter = flushToWriter.bind(pageStore);
-    this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore);
+    ColumnWriteStore columnStore = props.newColumnWriteStore(parquetSchema, pageStore);
+    if (bloomFilterFieldIds.isEmpty()) {
+      this.writeStore = columnStore;
+    } else {
+      this.bloomFilterStore = new BloomFilterWriteStore(columnStore, bloomFilterFieldIds, bloomFilterMaxBytes);
+      this.writeStore = bloomFilterStore;
+    }
 
     model.setColumnStore(writeStore);
   }
@@ -210,7 +318,69 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       this.closed = true;
       flushRowGroup(true);
       writeStore.close();
-      writer.end(metadata);
+      if (bloomFilterLocations.isEmpty()) {
+        writer.end(metadata);
+      } else {
+        Map<String, String> fileMetadata = Maps.newLinkedHashMap(metadata);
+        fileMetadata.putAll(bloomFilterLocations);
+        writer.end(fileMetadata);
+      }
+      if (parallelCompressors != null) {
+        parallelCompressors.forEach(CodecFactory.BytesCompressor::release);
+      }
+      codecFactory.release();
+    }
+  }
+
+  /**
+   * A Parquet output file that keeps the stream it creates so that data can be written between row groups.
+   */
+  private static class TrackingOutputFile implements org.apache.parquet.io.OutputFile {
+    private final org.apache.parquet.io.OutputFile file;
+    private PositionOutputStream stream = null;
+
+    private TrackingOutputFile(org.apache.parquet.io.OutputFile file) {
+      this.file = file;
+    }
+
+    private PositionOutputStream stream() {
+      Preconditions.checkState(stream != null, "Output stream has not been created");
+      return stream;
+    }
+
+    @Override
+    public PositionOutputStream create(long blockSizeHint) throws IOException {
+      this.stream = file.create(blockSizeHint);
+      return stream;
+    }
+
+    @Override
+    public PositionOutputStream createOrOverwrite(long blockSizeHint) throws IOException {
+      this.stream = file.createOrOverwrite(blockSizeHint);
+      return stream;
+    }
+
+    @Override
+    public boolean supportsBlockSize() {
+      return file.supportsBlockSize();
+    }
+
+    @Override
+    public long defaultBlockSize() {
+      return file.defaultBlockSize();
+    }
+  }
+
+  /**
+   * A {@link CodecFactory} that can create compressors that are not cached, for use by separate threads.
+   */
+  private static class SharedCodecFactory extends CodecFactory {
+    private SharedCodecFactory(Configuration conf, int pageSize) {
+      super(conf, pageSize);
+    }
+
+    private CodecFactory.BytesCompressor newCompressor(CompressionCodecName codec) {
+      return createCompressor(codec);
     }
   }
 }
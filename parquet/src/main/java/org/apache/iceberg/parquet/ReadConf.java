@@ -29,18 +29,28 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Type;
+import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexFilter;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
 import org.apache.parquet.schema.MessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Configuration for Parquet readers.
@@ -48,6 +58,8 @@ import org.apache.parquet.schema.MessageType;
  * @param <T> type of value to read
  */
 class ReadConf<T> {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadConf.class);
+
   private final ParquetFileReader reader;
   private final InputFile file;
   private final ParquetReadOptions options;
@@ -57,9 +69,13 @@ class ReadConf<T> {
   private final List<BlockMetaData> rowGroups;
   private final boolean[] shouldSkip;
   private final long totalValues;
+  private final boolean filterPages;
   private final boolean reuseContainers;
   private final Integer batchSize;
   private final long[] startRowPositions;
+  private final ParquetRowFilter rowFilter;
+  private final boolean prefetchRowGroups;
+  private final List<List<FileRange>> rowGroupRanges;
 
   // List of column chunk metadata for each row group
   private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetaDataForRowGroups;
@@ -68,11 +84,17 @@ class ReadConf<T> {
   ReadConf(InputFile file, ParquetReadOptions options, Schema expectedSchema, Expression filter,
            Function<MessageType, ParquetValueReader<?>> readerFunc, Function<MessageType,
            VectorizedReader<?>> batchedReaderFunc, NameMapping nameMapping, boolean reuseContainers,
-           boolean caseSensitive, Integer bSize) {
+           boolean caseSensitive, boolean filterRows, Integer bSize) {
     this.file = file;
-    this.options = options;
-    this.reader = newReader(file, options);
-    MessageType fileSchema = reader.getFileMetaData().getSchema();
+    this.prefetchRowGroups = prefetchRowGroups(options);
+    org.apache.parquet.io.InputFile parquetFile = ParquetIO.file(file, prefetchRowGroups);
+
+    // page indexes are only used when enabled by the read options. the page filter is converted after the footer is
+    // read, so the file reader is opened with a filter that is set later
+    DeferredFilter deferredPageFilter = filter != null && options.useColumnIndexFilter() ? new DeferredFilter() : null;
+    this.options = deferredPageFilter != null ? pageFilterOptions(options, deferredPageFilter) : options;
+    ParquetFileReader fileReader = newReader(file, parquetFile, this.options);
+    MessageType fileSchema = fileReader.getFileMetaData().getSchema();
 
     MessageType typeWithIds;
     if (ParquetSchemaUtil.hasIds(fileSchema)) {
@@ -86,7 +108,7 @@ class ReadConf<T> {
       this.projection = ParquetSchemaUtil.pruneColumnsFallback(fileSchema, expectedSchema);
     }
 
-    this.rowGroups = reader.getRowGroups();
+    this.rowGroups = fileReader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
     this.startRowPositions = new long[rowGroups.size()];
 
@@ -95,25 +117,62 @@ class ReadConf<T> {
 
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
+    ParquetBloomRowGroupFilter bloomFilter = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
+      bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
     }
 
+    // Bloom filters are stored outside of the footer and are read only when a row group is not skipped by its stats
+    try (ParquetBloomFilterReader bloomFilters = new ParquetBloomFilterReader(
+        ParquetIO.file(file), fileReader.getFileMetaData().getKeyValueMetaData())) {
+      for (int i = 0; i < shouldSkip.length; i += 1) {
+        BlockMetaData rowGroup = rowGroups.get(i);
+        startRowPositions[i] = offsetToStartPos == null ? 0 : offsetToStartPos.get(rowGroup.getStartingPos());
+        boolean shouldRead = filter == null || (
+            statsFilter.shouldRead(typeWithIds, rowGroup) &&
+                bloomFilter.shouldRead(typeWithIds, rowGroup, bloomFilters) &&
+                dictFilter.shouldRead(typeWithIds, rowGroup, fileReader.getDictionaryReader(rowGroup)));
+        this.shouldSkip[i] = !shouldRead;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close Bloom filter reader for file: " + file, e);
+    }
+
+    // use page indexes to find the rows that may match in each row group that was not skipped
+    FilterCompat.Filter pageFilter = deferredPageFilter != null ?
+        pageFilter(expectedSchema, typeWithIds, filter, caseSensitive) : null;
+    long[] selectedRowCounts = pageFilter != null ? selectedRowCounts(fileReader, pageFilter) : null;
+    this.filterPages = selectedRowCounts != null;
+
     long computedTotalValues = 0L;
     for (int i = 0; i < shouldSkip.length; i += 1) {
-      BlockMetaData rowGroup = rowGroups.get(i);
-      startRowPositions[i] = offsetToStartPos == null ? 0 : offsetToStartPos.get(rowGroup.getStartingPos());
-      boolean shouldRead = filter == null || (
-          statsFilter.shouldRead(typeWithIds, rowGroup) &&
-              dictFilter.shouldRead(typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup)));
-      this.shouldSkip[i] = !shouldRead;
-      if (shouldRead) {
-        computedTotalValues += rowGroup.getRowCount();
+      if (filterPages && selectedRowCounts[i] == 0) {
+        this.shouldSkip[i] = true;
+      }
+
+      if (!shouldSkip[i]) {
+        computedTotalValues += filterPages ? selectedRowCounts[i] : rowGroups.get(i).getRowCount();
       }
     }
 
     this.totalValues = computedTotalValues;
+
+    if (filterPages) {
+      deferredPageFilter.set(pageFilter);
+    }
+
+    // filtered row groups read only some pages of each column chunk, so chunks are not fetched with vectored reads
+    if (prefetchRowGroups && !filterPages) {
+      this.rowGroupRanges = rowGroupRanges();
+      ParquetIO.readRowGroupRanges(parquetFile, rowGroupRanges);
+    } else {
+      this.rowGroupRanges = ImmutableList.of();
+    }
+
+    this.reader = fileReader;
+
     if (readerFunc != null) {
       this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
       this.vectorizedModel = null;
@@ -124,6 +183,7 @@ class ReadConf<T> {
       this.columnChunkMetaDataForRowGroups = getColumnChunkMetadataForRowGroups();
     }
 
+    this.rowFilter = filterRows ? ParquetRowFilter.create(expectedSchema, typeWithIds, filter, caseSensitive) : null;
     this.reuseContainers = reuseContainers;
     this.batchSize = bSize;
   }
@@ -137,11 +197,15 @@ class ReadConf<T> {
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
     this.totalValues = toCopy.totalValues;
+    this.filterPages = toCopy.filterPages;
     this.reuseContainers = toCopy.reuseContainers;
     this.batchSize = toCopy.batchSize;
     this.vectorizedModel = toCopy.vectorizedModel;
     this.columnChunkMetaDataForRowGroups = toCopy.columnChunkMetaDataForRowGroups;
     this.startRowPositions = toCopy.startRowPositions;
+    this.rowFilter = toCopy.rowFilter;
+    this.prefetchRowGroups = toCopy.prefetchRowGroups;
+    this.rowGroupRanges = toCopy.rowGroupRanges;
   }
 
   ParquetFileReader reader() {
@@ -150,7 +214,9 @@ class ReadConf<T> {
       return reader;
     }
 
-    ParquetFileReader newReader = newReader(file, options);
+    org.apache.parquet.io.InputFile parquetFile = ParquetIO.file(file, prefetchRowGroups);
+    ParquetIO.readRowGroupRanges(parquetFile, rowGroupRanges);
+    ParquetFileReader newReader = newReader(file, parquetFile, options);
     newReader.setRequestedSchema(projection);
     return newReader;
   }
@@ -163,10 +229,113 @@ class ReadConf<T> {
     return vectorizedModel;
   }
 
+  /**
+   * Returns a filter that selects the rows of a row group that match the read filter, or null if rows are not filtered.
+   * <p>
+   * When rows are filtered, {@link #totalValues()} is an upper bound of the number of rows that will be read.
+   */
+  ParquetRowFilter rowFilter() {
+    return rowFilter;
+  }
+
   boolean[] shouldSkip() {
     return shouldSkip;
   }
 
+  /**
+   * Returns whether row groups should be read using page indexes.
+   * <p>
+   * Page indexes are only used when {@link ParquetReadOptions#useColumnIndexFilter()} is enabled.
+   * <p>
+   * When true, row groups must be read using {@link ParquetFileReader#readNextFilteredRowGroup()}, which returns only
+   * the pages that contain selected rows. {@link #totalValues()} is the number of selected rows.
+   */
+  boolean filterPages() {
+    return filterPages;
+  }
+
+  private FilterCompat.Filter pageFilter(Schema expectedSchema, MessageType typeWithIds, Expression filter,
+                                         boolean caseSensitive) {
+    if (filter == null) {
+      return null;
+    }
+
+    Schema fileSchema = ParquetSchemaUtil.convert(typeWithIds);
+    for (int fieldId : Binder.boundReferences(expectedSchema.asStruct(), ImmutableList.of(filter), caseSensitive)) {
+      // page indexes are compared using the file's types, so only filter columns that have not been promoted.
+      // decimal and UUID literals cannot be converted to Parquet filters
+      Type type = expectedSchema.findType(fieldId);
+      if (!type.equals(fileSchema.findType(fieldId)) ||
+          type.typeId() == Type.TypeID.DECIMAL || type.typeId() == Type.TypeID.UUID) {
+        return null;
+      }
+    }
+
+    try {
+      FilterCompat.Filter converted = ParquetFilters.convert(
+          fileSchema, Binder.bind(expectedSchema.asStruct(), filter, caseSensitive), caseSensitive);
+      return FilterCompat.isFilteringRequired(converted) ? converted : null;
+    } catch (RuntimeException e) {
+      LOG.debug("Cannot filter pages using expression: {}", filter, e);
+      return null;
+    }
+  }
+
+  private long[] selectedRowCounts(ParquetFileReader fileReader, FilterCompat.Filter pageFilter) {
+    Set<ColumnPath> paths = projectedColumns();
+    long[] selectedRowCounts = new long[rowGroups.size()];
+    boolean hasFilteredPages = false;
+    for (int i = 0; i < rowGroups.size(); i += 1) {
+      BlockMetaData rowGroup = rowGroups.get(i);
+      if (shouldSkip[i]) {
+        continue;
+      }
+
+      try {
+        ColumnIndexStore indexStore = new ParquetColumnIndexStore(fileReader, rowGroup, paths);
+        selectedRowCounts[i] = ColumnIndexFilter.calculateRowRanges(
+            pageFilter, indexStore, paths, rowGroup.getRowCount()).rowCount();
+      } catch (ColumnIndexStore.MissingOffsetIndexException e) {
+        selectedRowCounts[i] = rowGroup.getRowCount();
+      } catch (RuntimeException e) {
+        // the file reader would fail the same way when reading filtered pages, so read all rows
+        LOG.warn("Failed to filter pages using page indexes in file: {}", file.location(), e);
+        return null;
+      }
+
+      hasFilteredPages |= selectedRowCounts[i] < rowGroup.getRowCount();
+    }
+
+    return hasFilteredPages ? selectedRowCounts : null;
+  }
+
+  private static boolean prefetchRowGroups(ParquetReadOptions options) {
+    String prefetch = options.getProperty(TableProperties.PARQUET_PREFETCH_ROW_GROUPS_ENABLED);
+    if (prefetch == null) {
+      return TableProperties.PARQUET_PREFETCH_ROW_GROUPS_ENABLED_DEFAULT;
+    }
+
+    return Boolean.parseBoolean(prefetch);
+  }
+
+  private static ParquetReadOptions pageFilterOptions(ParquetReadOptions options, DeferredFilter pageFilter) {
+    ParquetReadOptions.Builder builder;
+    if (options instanceof HadoopReadOptions) {
+      builder = HadoopReadOptions.builder(((HadoopReadOptions) options).getConf());
+    } else {
+      builder = ParquetReadOptions.builder();
+    }
+
+    // row groups are filtered by Iceberg, so the file reader must only use the filter for page indexes
+    return builder.copy(options)
+        .withRecordFilter(pageFilter)
+        .useStatsFilter(false)
+        .useDictionaryFilter(false)
+        .useRecordFilter(false)
+        .useColumnIndexFilter(true)
+        .build();
+  }
+
   private Map<Long, Long> generateOffsetToStartPos(Schema schema) {
     if (schema.findField(MetadataColumns.ROW_POSITION.fieldId()) == null) {
       return null;
@@ -214,16 +383,40 @@ class ReadConf<T> {
   }
 
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
+    return newReader(file, ParquetIO.file(file), options);
+  }
+
+  private static ParquetFileReader newReader(InputFile file, org.apache.parquet.io.InputFile parquetFile,
+                                             ParquetReadOptions options) {
     try {
-      return ParquetFileReader.open(ParquetIO.file(file), options);
+      return ParquetFileReader.open(parquetFile, options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
-  private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
-    Set<ColumnPath> projectedColumns = projection.getColumns().stream()
+  private Set<ColumnPath> projectedColumns() {
+    return projection.getColumns().stream()
         .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath())).collect(Collectors.toSet());
+  }
+
+  private List<List<FileRange>> rowGroupRanges() {
+    Set<ColumnPath> projectedColumns = projectedColumns();
+    ImmutableList.Builder<List<FileRange>> listBuilder = ImmutableList.builder();
+    for (int i = 0; i < rowGroups.size(); i += 1) {
+      if (!shouldSkip[i]) {
+        listBuilder.add(rowGroups.get(i).getColumns().stream()
+            .filter(columnChunkMetaData -> projectedColumns.contains(columnChunkMetaData.getPath()))
+            .map(columnChunkMetaData -> new FileRange(
+                columnChunkMetaData.getStartingPos(), Math.toIntExact(columnChunkMetaData.getTotalSize())))
+            .collect(Collectors.toList()));
+      }
+    }
+    return listBuilder.build();
+  }
+
+  private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
+    Set<ColumnPath> projectedColumns = projectedColumns();
     ImmutableList.Builder<Map<ColumnPath, ColumnChunkMetaData>> listBuilder = ImmutableList.builder();
     for (int i = 0; i < rowGroups.size(); i++) {
       if (!shouldSkip[i]) {
@@ -239,4 +432,24 @@ class ReadConf<T> {
     }
     return listBuilder.build();
   }
+
+  /**
+   * A record filter that does not filter until it is set.
+   * <p>
+   * The file reader only filters pages using the record filter in its options, which cannot be changed after the
+   * reader is opened. Passing this filter when the reader is opened allows the page filter to be converted using the
+   * file's schema without opening the file again.
+   */
+  private static class DeferredFilter implements FilterCompat.Filter {
+    private FilterCompat.Filter filter = FilterCompat.NOOP;
+
+    private void set(FilterCompat.Filter newFilter) {
+      this.filter = newFilter;
+    }
+
+    @Override
+    public <R> R accept(FilterCompat.Visitor<R> visitor) {
+      return filter.accept(visitor);
+    }
+  }
 }
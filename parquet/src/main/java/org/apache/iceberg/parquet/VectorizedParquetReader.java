@@ -50,11 +50,20 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private final boolean caseSensitive;
   private final int batchSize;
   private final NameMapping nameMapping;
+  private final boolean filterRows;
 
   public VectorizedParquetReader(
       InputFile input, Schema expectedSchema, ParquetReadOptions options,
       Function<MessageType, VectorizedReader<?>> readerFunc, NameMapping nameMapping, Expression filter,
       boolean reuseContainers, boolean caseSensitive, int maxRecordsPerBatch) {
+    this(input, expectedSchema, options, readerFunc, nameMapping, filter, reuseContainers, caseSensitive,
+        maxRecordsPerBatch, false);
+  }
+
+  public VectorizedParquetReader(
+      InputFile input, Schema expectedSchema, ParquetReadOptions options,
+      Function<MessageType, VectorizedReader<?>> readerFunc, NameMapping nameMapping, Expression filter,
+      boolean reuseContainers, boolean caseSensitive, int maxRecordsPerBatch, boolean filterRows) {
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -65,6 +74,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     this.caseSensitive = caseSensitive;
     this.batchSize = maxRecordsPerBatch;
     this.nameMapping = nameMapping;
+    this.filterRows = filterRows;
   }
 
   private ReadConf conf = null;
@@ -73,7 +83,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     if (conf == null) {
       ReadConf readConf = new ReadConf(
           input, options, expectedSchema, filter, null, batchReaderFunc, nameMapping, reuseContainers,
-          caseSensitive, batchSize);
+          caseSensitive, filterRows, batchSize);
       this.conf = readConf.copy();
       return readConf;
     }
@@ -90,11 +100,13 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private static class FileIterator<T> implements CloseableIterator<T> {
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
+    private final boolean filterPages;
+    private final ParquetRowFilter rowFilter;
     private final VectorizedReader<T> model;
-    private final long totalValues;
     private final int batchSize;
     private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetadata;
     private final boolean reuseContainers;
+    private int remainingRowGroups = 0;
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
     private long valuesRead = 0;
@@ -104,19 +116,29 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     FileIterator(ReadConf conf) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
-      this.totalValues = conf.totalValues();
+      this.filterPages = conf.filterPages();
+      this.rowFilter = conf.rowFilter();
       this.reuseContainers = conf.reuseContainers();
       this.model = conf.vectorizedModel();
       this.batchSize = conf.batchSize();
       this.model.setBatchSize(this.batchSize);
       this.columnChunkMetadata = conf.columnChunkMetadataForRowGroups();
       this.rowGroupsStartRowPos = conf.startRowPositions();
+      for (boolean skip : shouldSkip) {
+        if (!skip) {
+          this.remainingRowGroups += 1;
+        }
+      }
     }
 
-
     @Override
     public boolean hasNext() {
-      return valuesRead < totalValues;
+      // when rows are filtered, the number of rows in a row group is only known after it is read
+      while (valuesRead >= nextRowGroupStart && remainingRowGroups > 0) {
+        advance();
+      }
+
+      return valuesRead < nextRowGroupStart;
     }
 
     @Override
@@ -124,9 +146,6 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      if (valuesRead >= nextRowGroupStart) {
-        advance();
-      }
 
       // batchSize is an integer, so casting to integer is safe
       int numValuesToRead = (int) Math.min(nextRowGroupStart - valuesRead, batchSize);
@@ -147,15 +166,24 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       }
       PageReadStore pages;
       try {
-        pages = reader.readNextRowGroup();
+        // filtered row groups only contain the pages with selected rows and the row count is the number selected
+        pages = filterPages ? reader.readNextFilteredRowGroup() : reader.readNextRowGroup();
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
 
+      if (rowFilter != null) {
+        // read the filter columns first so that the other columns are only read for matching rows
+        pages = rowFilter.filter(pages);
+      }
+
       long rowPosition = rowGroupsStartRowPos[nextRowGroup];
-      model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup), rowPosition);
+      if (pages.getRowCount() > 0) {
+        model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup), rowPosition);
+      }
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
+      remainingRowGroups -= 1;
     }
 
     @Override
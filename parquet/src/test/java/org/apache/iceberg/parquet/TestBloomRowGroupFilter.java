@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types.DoubleType;
+import org.apache.iceberg.types.Types.IntegerType;
+import org.apache.iceberg.types.Types.LongType;
+import org.apache.iceberg.types.Types.StringType;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX;
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.not;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.writeRecords;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class TestBloomRowGroupFilter {
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", IntegerType.get()),
+      optional(2, "data", StringType.get()),
+      optional(3, "price", DoubleType.get()),
+      optional(4, "no_bloom", LongType.get())
+  );
+
+  private static final int NUM_RECORDS = 1000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private File file = null;
+  private MessageType parquetSchema = null;
+  private BlockMetaData rowGroupMetadata = null;
+  private Map<String, String> keyValueMetadata = null;
+
+  @Before
+  public void createInputFile() throws IOException {
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(SCHEMA.asStruct());
+    List<GenericData.Record> records = Lists.newArrayList();
+    // write even values so that odd values are between the min and max but not in the file
+    for (int i = 0; i < NUM_RECORDS; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", i * 2);
+      record.put("data", i % 10 == 0 ? null : "data-" + (i * 2));
+      record.put("price", i * 2.5D);
+      record.put("no_bloom", i * 2L);
+      records.add(record);
+    }
+
+    Map<String, String> properties = ImmutableMap.of(
+        PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "id", "true",
+        PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "data", "true",
+        PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "price", "true",
+        PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "no_bloom", "false");
+
+    this.file = writeRecords(temp, SCHEMA, properties, ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[] {}));
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      Assert.assertEquals("Should create only one row group", 1, reader.getRowGroups().size());
+      this.rowGroupMetadata = reader.getRowGroups().get(0);
+      this.parquetSchema = reader.getFileMetaData().getSchema();
+      this.keyValueMetadata = reader.getFileMetaData().getKeyValueMetaData();
+    }
+  }
+
+  @Test
+  public void testFiltersWritten() {
+    List<String> locations = keyValueMetadata.entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith("iceberg.bloom-filter."))
+        .map(Map.Entry::getValue)
+        .collect(Collectors.toList());
+    Assert.assertEquals("Should write a filter for each enabled column", 3, locations.size());
+    for (String location : locations) {
+      Assert.assertTrue("Should store filter locations in the footer: " + location, location.matches("\\d+:\\d+"));
+    }
+  }
+
+  @Test
+  public void testEq() {
+    Assert.assertTrue("Should read: id is in the row group", shouldRead(equal("id", 500)));
+    Assert.assertFalse("Should skip: id is not in the row group", shouldRead(equal("id", 501)));
+    Assert.assertTrue("Should read: data is in the row group", shouldRead(equal("data", "data-502")));
+    Assert.assertFalse("Should skip: data is not in the row group", shouldRead(equal("data", "data-501")));
+    Assert.assertTrue("Should read: price is in the row group", shouldRead(equal("price", 250.0D)));
+    Assert.assertFalse("Should skip: price is not in the row group", shouldRead(equal("price", 251.0D)));
+  }
+
+  @Test
+  public void testIn() {
+    Assert.assertTrue("Should read: one id is in the row group", shouldRead(in("id", 501, 503, 504)));
+    Assert.assertFalse("Should skip: no id is in the row group", shouldRead(in("id", 501, 503, 505)));
+  }
+
+  @Test
+  public void testColumnWithoutFilter() {
+    Assert.assertTrue("Should read: no filter for column", shouldRead(equal("no_bloom", 501L)));
+  }
+
+  @Test
+  public void testOtherPredicates() {
+    Assert.assertTrue("Should read: filters cannot evaluate lt", shouldRead(lessThan("id", 1)));
+    Assert.assertTrue("Should read: filters cannot evaluate notEq", shouldRead(not(equal("id", 501))));
+  }
+
+  @Test
+  public void testAndOr() {
+    Assert.assertFalse("Should skip: one side cannot match",
+        shouldRead(and(equal("id", 500), equal("data", "data-501"))));
+    Assert.assertTrue("Should read: one side might match",
+        shouldRead(or(equal("id", 501), equal("data", "data-502"))));
+    Assert.assertFalse("Should skip: neither side can match",
+        shouldRead(or(equal("id", 501), equal("data", "data-501"))));
+  }
+
+  @Test
+  public void testReadSkipsRowGroup() {
+    List<GenericData.Record> missing = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(SCHEMA)
+        .filter(equal("id", 501))
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(SCHEMA, fileSchema))
+        .build());
+    Assert.assertEquals("Should skip the row group", 0, missing.size());
+
+    List<GenericData.Record> present = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(SCHEMA)
+        .filter(equal("id", 500))
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(SCHEMA, fileSchema))
+        .build());
+    Assert.assertTrue("Should read the matching row",
+        present.stream().anyMatch(record -> (Integer) record.get("id") == 500));
+  }
+
+  @Test
+  public void testFiltersBetweenRowGroups() throws IOException {
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(SCHEMA.asStruct());
+    List<GenericData.Record> records = Lists.newArrayList();
+    for (int i = 0; i < 50000; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", i);
+      record.put("data", "data-" + i);
+      records.add(record);
+    }
+
+    Map<String, String> properties = ImmutableMap.of(
+        PARQUET_ROW_GROUP_SIZE_BYTES, "65536",
+        PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "id", "true",
+        PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX + "data", "true");
+
+    File multipleRowGroups = writeRecords(temp, SCHEMA, properties, ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[] {}));
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(multipleRowGroups)))) {
+      Assert.assertTrue("Should create multiple row groups", reader.getRowGroups().size() > 1);
+    }
+
+    List<GenericData.Record> actual = Lists.newArrayList(Parquet.read(localInput(multipleRowGroups))
+        .project(SCHEMA)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(SCHEMA, fileSchema))
+        .build());
+    Assert.assertEquals("Should read all rows", records.size(), actual.size());
+    for (int i = 0; i < records.size(); i += 1) {
+      Assert.assertEquals("Should read matching row", records.get(i).get("id"), actual.get(i).get("id"));
+    }
+
+    List<GenericData.Record> selected = Lists.newArrayList(Parquet.read(localInput(multipleRowGroups))
+        .project(SCHEMA)
+        .filter(equal("data", "data-45000"))
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(SCHEMA, fileSchema))
+        .build());
+    Assert.assertTrue("Should read the matching row",
+        selected.stream().anyMatch(record -> (Integer) record.get("id") == 45000));
+    Assert.assertTrue("Should skip row groups without the value", selected.size() < records.size() / 2);
+  }
+
+  private boolean shouldRead(Expression expr) {
+    try (ParquetBloomFilterReader bloomFilters = new ParquetBloomFilterReader(
+        ParquetIO.file(localInput(file)), keyValueMetadata)) {
+      return new ParquetBloomRowGroupFilter(SCHEMA, expr).shouldRead(parquetSchema, rowGroupMetadata, bloomFilters);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -21,15 +21,26 @@ package org.apache.iceberg.parquet;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.avro.generic.GenericData;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types.IntegerType;
+import org.apache.iceberg.types.Types.StringType;
 import org.apache.iceberg.util.Pair;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.schema.MessageType;
@@ -39,6 +50,9 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_PARALLELISM;
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES;
+import static org.apache.iceberg.TableProperties.PARQUET_PREFETCH_ROW_GROUPS_ENABLED;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
 import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
 import static org.apache.iceberg.parquet.ParquetWritingTestUtils.write;
@@ -97,6 +111,230 @@ public class TestParquet {
     Assert.assertEquals(expectedSize, actualSize);
   }
 
+  @Test
+  public void testParallelCompressionWritesSameFile() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "intCol", IntegerType.get()),
+        optional(2, "stringCol", StringType.get()),
+        optional(3, "dictCol", StringType.get())
+    );
+
+    int recordCount = 50000;
+    List<GenericData.Record> records = new ArrayList<>(recordCount);
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    for (int i = 0; i < recordCount; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      record.put("stringCol", i % 7 == 0 ? null : "value-" + i);
+      record.put("dictCol", "category-" + (i % 10));
+      records.add(record);
+    }
+
+    // use small pages and row groups so that each column has many pages in several row groups
+    Map<String, String> serialProps = ImmutableMap.of(
+        PARQUET_ROW_GROUP_SIZE_BYTES, "262144",
+        PARQUET_PAGE_SIZE_BYTES, "4096");
+    Map<String, String> parallelProps = ImmutableMap.of(
+        PARQUET_ROW_GROUP_SIZE_BYTES, "262144",
+        PARQUET_PAGE_SIZE_BYTES, "4096",
+        PARQUET_COMPRESSION_PARALLELISM, "3");
+
+    File serialFile = createTempFile(temp);
+    write(serialFile, schema, serialProps, ParquetAvroWriter::buildWriter, records.toArray(new GenericData.Record[]{}));
+
+    File parallelFile = createTempFile(temp);
+    write(parallelFile, schema, parallelProps, ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[]{}));
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(parallelFile)))) {
+      Assert.assertTrue("Should write multiple row groups", reader.getRowGroups().size() > 1);
+    }
+
+    Assert.assertArrayEquals("Should write the same bytes when compressing in parallel",
+        Files.readAllBytes(serialFile.toPath()), Files.readAllBytes(parallelFile.toPath()));
+  }
+
+  @Test
+  public void testPageIndexFiltering() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "intCol", IntegerType.get()),
+        optional(2, "stringCol", StringType.get())
+    );
+
+    int recordCount = 50000;
+    List<GenericData.Record> records = new ArrayList<>(recordCount);
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    for (int i = 0; i < recordCount; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      record.put("stringCol", i % 7 == 0 ? null : "value-" + i);
+      records.add(record);
+    }
+
+    // use small pages so that the single row group has many pages
+    File file = createTempFile(temp);
+    write(file, schema, ImmutableMap.of(PARQUET_PAGE_SIZE_BYTES, "1024"), ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[]{}));
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      Assert.assertEquals("Should write a single row group", 1, reader.getRowGroups().size());
+    }
+
+    List<GenericData.Record> selected = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(schema)
+        .filter(Expressions.equal("intCol", 25000))
+        .filterPages(true)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+        .build());
+
+    Assert.assertTrue("Should skip pages that cannot match", selected.size() < recordCount / 10);
+    Assert.assertTrue("Should read the matching row",
+        selected.stream().anyMatch(record -> (Integer) record.get("intCol") == 25000));
+
+    int firstId = (Integer) selected.get(0).get("intCol");
+    for (int i = 0; i < selected.size(); i += 1) {
+      // rows must be contiguous and values from each column must come from the same row
+      GenericData.Record expected = records.get(firstId + i);
+      GenericData.Record actual = selected.get(i);
+      Assert.assertEquals("Should read contiguous rows", expected.get("intCol"), actual.get("intCol"));
+      Assert.assertEquals("Should read values from the same row",
+          String.valueOf(expected.get("stringCol")), String.valueOf(actual.get("stringCol")));
+    }
+
+    List<GenericData.Record> unfiltered = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(schema)
+        .filter(Expressions.equal("intCol", 25000))
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+        .build());
+
+    Assert.assertEquals("Should not skip pages by default", recordCount, unfiltered.size());
+  }
+
+  @Test
+  public void testFilterRows() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "intCol", IntegerType.get()),
+        optional(2, "category", StringType.get()),
+        optional(3, "stringCol", StringType.get())
+    );
+
+    int recordCount = 20000;
+    List<GenericData.Record> records = new ArrayList<>(recordCount);
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    for (int i = 0; i < recordCount; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      // a low cardinality column is dictionary encoded
+      record.put("category", i % 11 == 0 ? null : "category-" + (i % 5));
+      record.put("stringCol", "value-" + i);
+      records.add(record);
+    }
+
+    // use small pages so that each column has many pages
+    File file = createTempFile(temp);
+    write(file, schema, ImmutableMap.of(PARQUET_PAGE_SIZE_BYTES, "1024"), ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[]{}));
+
+    List<GenericData.Record> selected = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(schema)
+        .filter(Expressions.equal("category", "category-3"))
+        .filterRows(true)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+        .build());
+
+    List<GenericData.Record> expected = records.stream()
+        .filter(record -> "category-3".equals(record.get("category")))
+        .collect(Collectors.toList());
+    assertSameRecords(expected, selected);
+
+    selected = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(schema)
+        .filter(Expressions.and(
+            Expressions.greaterThanOrEqual("intCol", 5000),
+            Expressions.isNull("category")))
+        .filterRows(true)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+        .build());
+
+    expected = records.stream()
+        .filter(record -> (Integer) record.get("intCol") >= 5000 && record.get("category") == null)
+        .collect(Collectors.toList());
+    assertSameRecords(expected, selected);
+
+    List<GenericData.Record> unfiltered = Lists.newArrayList(Parquet.read(localInput(file))
+        .project(schema)
+        .filter(Expressions.equal("category", "category-3"))
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+        .build());
+    Assert.assertEquals("Should not filter rows by default", recordCount, unfiltered.size());
+  }
+
+  @Test
+  public void testPrefetchRowGroups() throws IOException {
+    Schema schema = new Schema(
+        optional(1, "intCol", IntegerType.get()),
+        optional(2, "stringCol", StringType.get())
+    );
+
+    int recordCount = 20000;
+    List<GenericData.Record> records = new ArrayList<>(recordCount);
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    for (int i = 0; i < recordCount; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      record.put("stringCol", "value-" + i);
+      records.add(record);
+    }
+
+    File file = createTempFile(temp);
+    write(file, schema, ImmutableMap.of(PARQUET_ROW_GROUP_SIZE_BYTES, "65536"), ParquetAvroWriter::buildWriter,
+        records.toArray(new GenericData.Record[]{}));
+
+    int numRowGroups;
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      numRowGroups = reader.getRowGroups().size();
+    }
+
+    Assert.assertTrue("Should write multiple row groups", numRowGroups > 1);
+
+    AtomicInteger rangeReads = new AtomicInteger(0);
+    List<GenericData.Record> notPrefetched = Lists.newArrayList(
+        Parquet.read(new RangeReadingInputFile(localInput(file), rangeReads))
+            .project(schema)
+            .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+            .build());
+
+    Assert.assertEquals("Should read all rows", recordCount, notPrefetched.size());
+    Assert.assertEquals("Should not prefetch row groups by default", 0, rangeReads.get());
+
+    List<GenericData.Record> prefetched = Lists.newArrayList(
+        Parquet.read(new RangeReadingInputFile(localInput(file), rangeReads))
+            .project(schema)
+            .set(PARQUET_PREFETCH_ROW_GROUPS_ENABLED, "true")
+            .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+            .build());
+
+    Assert.assertEquals("Should prefetch each row group once", numRowGroups, rangeReads.get());
+    Assert.assertEquals("Should read all rows", recordCount, prefetched.size());
+    for (int i = 0; i < recordCount; i += 1) {
+      Assert.assertEquals("Should read matching row", records.get(i).get("intCol"), prefetched.get(i).get("intCol"));
+      Assert.assertEquals("Should read values from the same row",
+          String.valueOf(records.get(i).get("stringCol")), String.valueOf(prefetched.get(i).get("stringCol")));
+    }
+  }
+
+  private static void assertSameRecords(List<GenericData.Record> expected, List<GenericData.Record> actual) {
+    Assert.assertEquals("Should read only matching rows", expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i += 1) {
+      // values from each column must come from the same row
+      Assert.assertEquals("Should read matching row", expected.get(i).get("intCol"), actual.get(i).get("intCol"));
+      Assert.assertEquals("Should read values from the same row",
+          String.valueOf(expected.get(i).get("category")), String.valueOf(actual.get(i).get("category")));
+      Assert.assertEquals("Should read values from the same row",
+          String.valueOf(expected.get(i).get("stringCol")), String.valueOf(actual.get(i).get("stringCol")));
+    }
+  }
+
   private Pair<File, Long> generateFileWithTwoRowGroups(Function<MessageType, ParquetValueWriter<?>> createWriterFunc)
       throws IOException {
     Schema schema = new Schema(
@@ -127,4 +365,69 @@ public class TestParquet {
         records.toArray(new GenericData.Record[]{}));
     return Pair.of(file, size);
   }
+
+  /**
+   * An input file with streams that override readRanges and count how many times it is called.
+   */
+  private static class RangeReadingInputFile implements InputFile {
+    private final InputFile file;
+    private final AtomicInteger rangeReads;
+
+    private RangeReadingInputFile(InputFile file, AtomicInteger rangeReads) {
+      this.file = file;
+      this.rangeReads = rangeReads;
+    }
+
+    @Override
+    public long getLength() {
+      return file.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      SeekableInputStream stream = file.newStream();
+      return new SeekableInputStream() {
+        @Override
+        public long getPos() throws IOException {
+          return stream.getPos();
+        }
+
+        @Override
+        public void seek(long newPos) throws IOException {
+          stream.seek(newPos);
+        }
+
+        @Override
+        public int read() throws IOException {
+          return stream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          return stream.read(b, off, len);
+        }
+
+        @Override
+        public List<ByteBuffer> readRanges(List<FileRange> ranges) throws IOException {
+          rangeReads.incrementAndGet();
+          return super.readRanges(ranges);
+        }
+
+        @Override
+        public void close() throws IOException {
+          stream.close();
+        }
+      };
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return file.exists();
+    }
+  }
 }
@@ -36,8 +36,10 @@ import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.hadoop.HiddenPathFilter;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.JobGroupInfo;
+import org.apache.iceberg.util.BulkDeletionUtil;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
 import org.apache.spark.api.java.JavaRDD;
@@ -91,13 +93,15 @@ public class RemoveOrphanFilesAction extends BaseSparkAction<RemoveOrphanFilesAc
 
   private String location = null;
   private long olderThanTimestamp = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(3);
-  private Consumer<String> deleteFunc = new Consumer<String>() {
+  private final Consumer<String> defaultDelete = new Consumer<String>() {
     @Override
     public void accept(String file) {
       table.io().deleteFile(file);
     }
   };
 
+  private Consumer<String> deleteFunc = defaultDelete;
+
   RemoveOrphanFilesAction(SparkSession spark, Table table) {
     super(spark);
     this.hadoopConf = new SerializableConfiguration(spark.sessionState().newHadoopConf());
@@ -169,11 +173,18 @@ public class RemoveOrphanFilesAction extends BaseSparkAction<RemoveOrphanFilesAc
         .as(Encoders.STRING())
         .collectAsList();
 
-    Tasks.foreach(orphanFiles)
-        .noRetry()
-        .suppressFailureWhenFinished()
-        .onFailure((file, exc) -> LOG.warn("Failed to delete file: {}", file, exc))
-        .run(deleteFunc::accept);
+    if (deleteFunc == defaultDelete && table.io() instanceof SupportsBulkOperations) {
+      // orphan file deletes are not retried, like deletes with the delete function
+      BulkDeletionUtil.deleteFiles((SupportsBulkOperations) table.io(), orphanFiles, 0,
+          (file, exc) -> LOG.warn("Failed to delete file: {}", file, exc));
+
+    } else {
+      Tasks.foreach(orphanFiles)
+          .noRetry()
+          .suppressFailureWhenFinished()
+          .onFailure((file, exc) -> LOG.warn("Failed to delete file: {}", file, exc))
+          .run(deleteFunc::accept);
+    }
 
     return orphanFiles;
   }
@@ -20,10 +20,13 @@
 package org.apache.iceberg.spark.actions;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
@@ -33,9 +36,13 @@ import org.apache.iceberg.actions.BaseSparkAction;
 import org.apache.iceberg.actions.ExpireSnapshots;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.spark.JobGroupInfo;
+import org.apache.iceberg.util.BulkDeletionUtil;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
 import org.apache.spark.sql.Column;
@@ -74,6 +81,9 @@ public class BaseExpireSnapshotsSparkAction
 
   private static final String STREAM_RESULTS = "stream-results";
 
+  // number of files passed to each bulk delete, bounds the memory used when results are streamed
+  private static final int BULK_DELETE_SIZE = 100_000;
+
   // Creates an executor service that runs each task in the thread that invokes execute/submit.
   private static final ExecutorService DEFAULT_DELETE_EXECUTOR_SERVICE = null;
 
@@ -213,6 +223,10 @@ public class BaseExpireSnapshotsSparkAction
    * @return Statistics on which files were deleted
    */
   private BaseExpireSnapshotsActionResult deleteFiles(Iterator<Row> expired) {
+    if (deleteFunc == defaultDelete && ops.io() instanceof SupportsBulkOperations) {
+      return bulkDeleteFiles((SupportsBulkOperations) ops.io(), expired);
+    }
+
     AtomicLong dataFileCount = new AtomicLong(0L);
     AtomicLong manifestCount = new AtomicLong(0L);
     AtomicLong manifestListCount = new AtomicLong(0L);
@@ -248,4 +262,39 @@ public class BaseExpireSnapshotsSparkAction
     LOG.info("Deleted {} total files", dataFileCount.get() + manifestCount.get() + manifestListCount.get());
     return new BaseExpireSnapshotsActionResult(dataFileCount.get(), manifestCount.get(), manifestListCount.get());
   }
+
+  /**
+   * Deletes files passed to it using the bulk delete operation of the table's FileIO.
+   * <p>
+   * The FileIO deletes with its own parallelism, so the delete executor service is not used.
+   *
+   * @param expired an Iterator of Spark Rows of the structure (path: String, type: String)
+   * @return Statistics on which files were deleted
+   */
+  private BaseExpireSnapshotsActionResult bulkDeleteFiles(SupportsBulkOperations io, Iterator<Row> expired) {
+    long dataFileCount = 0L;
+    long manifestCount = 0L;
+    long manifestListCount = 0L;
+
+    Iterator<List<Row>> batches = Iterators.partition(expired, BULK_DELETE_SIZE);
+    while (batches.hasNext()) {
+      Map<String, List<String>> pathsByType = batches.next().stream()
+          .collect(Collectors.groupingBy(
+              fileInfo -> fileInfo.getString(1),
+              Collectors.mapping(fileInfo -> fileInfo.getString(0), Collectors.toList())));
+
+      dataFileCount += bulkDelete(io, pathsByType.getOrDefault(DATA_FILE, ImmutableList.of()), DATA_FILE);
+      manifestCount += bulkDelete(io, pathsByType.getOrDefault(MANIFEST, ImmutableList.of()), MANIFEST);
+      manifestListCount += bulkDelete(io, pathsByType.getOrDefault(MANIFEST_LIST, ImmutableList.of()), MANIFEST_LIST);
+    }
+
+    LOG.info("Deleted {} total files", dataFileCount + manifestCount + manifestListCount);
+    return new BaseExpireSnapshotsActionResult(dataFileCount, manifestCount, manifestListCount);
+  }
+
+  private static long bulkDelete(SupportsBulkOperations io, List<String> paths, String type) {
+    int numFailed = BulkDeletionUtil.deleteFiles(io, paths, 3,
+        (file, exc) -> LOG.warn("Delete failed for {}: {}", type, file, exc));
+    return paths.size() - numFailed;
+  }
 }
@@ -21,29 +21,30 @@ package org.apache.iceberg.spark.data.vectorized;
 
 import org.apache.arrow.vector.ValueVector;
 import org.apache.spark.sql.types.Decimal;
-import org.apache.spark.sql.vectorized.ArrowColumnVector;
+import org.apache.spark.sql.vectorized.ColumnVector;
 import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
 import org.apache.spark.unsafe.types.UTF8String;
 
 @SuppressWarnings("checkstyle:VisibilityModifier")
 public abstract class ArrowVectorAccessor {
 
   private final ValueVector vector;
-  private final ArrowColumnVector[] childColumns;
+  private final ColumnVector[] childColumns;
 
   ArrowVectorAccessor(ValueVector vector) {
     this.vector = vector;
-    this.childColumns = new ArrowColumnVector[0];
+    this.childColumns = new ColumnVector[0];
   }
 
-  ArrowVectorAccessor(ValueVector vector, ArrowColumnVector[] children) {
+  ArrowVectorAccessor(ValueVector vector, ColumnVector[] children) {
     this.vector = vector;
     this.childColumns = children;
   }
 
   final void close() {
-    for (ArrowColumnVector column : childColumns) {
-      // Closing an ArrowColumnVector is expected to not throw any exception
+    for (ColumnVector column : childColumns) {
+      // Closing a child column vector is expected to not throw any exception
       column.close();
     }
     vector.close();
@@ -85,7 +86,11 @@ public abstract class ArrowVectorAccessor {
     throw new UnsupportedOperationException("Unsupported type: array");
   }
 
-  ArrowColumnVector childColumn(int pos) {
+  ColumnarMap getMap(int rowId) {
+    throw new UnsupportedOperationException("Unsupported type: map");
+  }
+
+  ColumnVector childColumn(int pos) {
     return childColumns[pos];
   }
 
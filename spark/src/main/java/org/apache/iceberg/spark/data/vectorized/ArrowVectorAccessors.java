@@ -34,17 +34,21 @@ import org.apache.arrow.vector.TimeStampMicroTZVector;
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
 import org.apache.arrow.vector.complex.StructVector;
 import org.apache.arrow.vector.util.DecimalUtility;
 import org.apache.iceberg.arrow.vectorized.VectorHolder;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
 import org.apache.parquet.Preconditions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.PrimitiveType;
 import org.apache.spark.sql.types.Decimal;
-import org.apache.spark.sql.vectorized.ArrowColumnVector;
+import org.apache.spark.sql.vectorized.ColumnVector;
 import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
 import org.apache.spark.unsafe.types.UTF8String;
 import org.jetbrains.annotations.NotNull;
 
@@ -62,7 +66,7 @@ public class ArrowVectorAccessors {
       PrimitiveType primitive = desc.getPrimitiveType();
       return getDictionaryVectorAccessor(dictionary, desc, vector, primitive);
     } else {
-      return getPlainVectorAccessor(vector);
+      return getPlainVectorAccessor(vector, holder.icebergType());
     }
   }
 
@@ -125,7 +129,7 @@ public class ArrowVectorAccessors {
 
   @NotNull
   @SuppressWarnings("checkstyle:CyclomaticComplexity")
-  private static ArrowVectorAccessor getPlainVectorAccessor(FieldVector vector) {
+  private static ArrowVectorAccessor getPlainVectorAccessor(FieldVector vector, Type type) {
     if (vector instanceof BitVector) {
       return new BooleanAccessor((BitVector) vector);
     } else if (vector instanceof IntVector) {
@@ -146,12 +150,16 @@ public class ArrowVectorAccessors {
       return new DateAccessor((DateDayVector) vector);
     } else if (vector instanceof TimeStampMicroTZVector) {
       return new TimestampAccessor((TimeStampMicroTZVector) vector);
+    } else if (vector instanceof MapVector) {
+      // MapVector is a ListVector of key/value structs, so it must be checked first
+      MapVector mapVector = (MapVector) vector;
+      return new MapAccessor(mapVector, type.asMapType());
     } else if (vector instanceof ListVector) {
       ListVector listVector = (ListVector) vector;
-      return new ArrayAccessor(listVector);
+      return new ArrayAccessor(listVector, type.asListType());
     } else if (vector instanceof StructVector) {
       StructVector structVector = (StructVector) vector;
-      return new StructAccessor(structVector);
+      return new StructAccessor(structVector, type.asStructType());
     }
     throw new UnsupportedOperationException("Unsupported vector: " + vector.getClass());
   }
@@ -410,12 +418,12 @@ public class ArrowVectorAccessors {
   private static class ArrayAccessor extends ArrowVectorAccessor {
 
     private final ListVector vector;
-    private final ArrowColumnVector arrayData;
+    private final ColumnVector arrayData;
 
-    ArrayAccessor(ListVector vector) {
+    ArrayAccessor(ListVector vector, Types.ListType type) {
       super(vector);
       this.vector = vector;
-      this.arrayData = new ArrowColumnVector(vector.getDataVector());
+      this.arrayData = childColumnVector(vector.getDataVector(), type.elementType());
     }
 
     @Override
@@ -428,19 +436,47 @@ public class ArrowVectorAccessors {
     }
   }
 
+  private static class MapAccessor extends ArrowVectorAccessor {
+
+    private final MapVector vector;
+    private final ColumnVector keys;
+    private final ColumnVector values;
+
+    MapAccessor(MapVector vector, Types.MapType type) {
+      super(vector);
+      this.vector = vector;
+      StructVector entries = (StructVector) vector.getDataVector();
+      this.keys = childColumnVector((FieldVector) entries.getChildByOrdinal(0), type.keyType());
+      this.values = childColumnVector((FieldVector) entries.getChildByOrdinal(1), type.valueType());
+    }
+
+    @Override
+    final ColumnarMap getMap(int rowId) {
+      ArrowBuf offsets = vector.getOffsetBuffer();
+      int index = rowId * MapVector.OFFSET_WIDTH;
+      int start = offsets.getInt(index);
+      int end = offsets.getInt(index + MapVector.OFFSET_WIDTH);
+      return new ColumnarMap(keys, values, start, end - start);
+    }
+  }
+
   /**
-   * Use {@link IcebergArrowColumnVector#getChild(int)} to get hold of the {@link ArrowColumnVector} vectors holding the
+   * Use {@link IcebergArrowColumnVector#getChild(int)} to get hold of the {@link ColumnVector} vectors holding the
    * struct values.
    */
   private static class StructAccessor extends ArrowVectorAccessor {
-    StructAccessor(StructVector structVector) {
+    StructAccessor(StructVector structVector, Types.StructType type) {
       super(structVector, IntStream.range(0, structVector.size())
-          .mapToObj(structVector::getVectorById)
-          .map(ArrowColumnVector::new)
-          .toArray(ArrowColumnVector[]::new));
+          .mapToObj(pos -> childColumnVector(
+              (FieldVector) structVector.getChildByOrdinal(pos), type.fields().get(pos).type()))
+          .toArray(ColumnVector[]::new));
     }
   }
 
+  private static ColumnVector childColumnVector(FieldVector vector, Type type) {
+    return new IcebergArrowColumnVector(new VectorHolder.NestedVectorHolder(vector, type));
+  }
+
   private static class DecimalAccessor extends ArrowVectorAccessor {
 
     private final DecimalVector vector;
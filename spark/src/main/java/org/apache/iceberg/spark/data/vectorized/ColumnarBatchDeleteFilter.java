@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.data.vectorized;
+
+import java.util.function.Predicate;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+/**
+ * Applies position and equality deletes to Spark's {@link ColumnarBatch}.
+ * <p>
+ * Batches must be read with the {@link DeleteFilter#requiredSchema() required schema} of the delete filter, which has
+ * the requested columns first, followed by any columns needed to apply the deletes. Deleted rows are removed by
+ * wrapping the requested columns in {@link ColumnVectorWithFilter} with a mapping to the remaining rows, so column
+ * values are not copied.
+ * <p>
+ * Position deletes are checked for the whole batch using the row positions from the {@code _pos} column and equality
+ * deletes are checked for each row that is not deleted by position.
+ * <p>
+ * The returned batch is valid until the next call to {@link #filter(ColumnarBatch)}.
+ */
+public class ColumnarBatchDeleteFilter {
+  private final PositionDeleteIndex deletedPositions;
+  private final Predicate<InternalRow> isEqDeleted;
+  private final int posColumnIndex;
+  private final int numOutputColumns;
+  private boolean[] isDeleted = new boolean[0];
+  private int[] rowIdMapping = new int[0];
+
+  /**
+   * @param deletes a {@link DeleteFilter} for the file that is read
+   * @param posColumnIndex the index of the {@code _pos} column in batches, or -1 if there are no position deletes
+   * @param numOutputColumns the number of columns to return from each batch
+   */
+  public ColumnarBatchDeleteFilter(DeleteFilter<InternalRow> deletes, int posColumnIndex, int numOutputColumns) {
+    this.deletedPositions = deletes.deletedRowPositions();
+    this.isEqDeleted = deletes.eqDeletedRowFilter();
+    Preconditions.checkArgument(deletedPositions == null || posColumnIndex >= 0,
+        "Cannot apply position deletes without a row position column");
+    this.posColumnIndex = posColumnIndex;
+    this.numOutputColumns = numOutputColumns;
+  }
+
+  public ColumnarBatch filter(ColumnarBatch batch) {
+    int numRows = batch.numRows();
+    int numLiveRows = numRows > 0 ? findLiveRows(batch, numRows) : 0;
+
+    ColumnVector[] vectors = new ColumnVector[numOutputColumns];
+    for (int i = 0; i < numOutputColumns; i += 1) {
+      if (numLiveRows < numRows) {
+        vectors[i] = new ColumnVectorWithFilter(batch.column(i), rowIdMapping, numLiveRows);
+      } else {
+        vectors[i] = batch.column(i);
+      }
+    }
+
+    ColumnarBatch filtered = new ColumnarBatch(vectors);
+    filtered.setNumRows(numLiveRows);
+
+    return filtered;
+  }
+
+  private int findLiveRows(ColumnarBatch batch, int numRows) {
+    if (isDeleted.length < numRows) {
+      this.isDeleted = new boolean[numRows];
+      this.rowIdMapping = new int[numRows];
+    }
+
+    boolean hasPosDeletes = deletedPositions != null && isDeletedByPosition(batch.column(posColumnIndex), numRows);
+
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      if (hasPosDeletes && isDeleted[rowId]) {
+        continue;
+      }
+
+      if (isEqDeleted != null && isEqDeleted.test(batch.getRow(rowId))) {
+        continue;
+      }
+
+      rowIdMapping[numLiveRows] = rowId;
+      numLiveRows += 1;
+    }
+
+    return numLiveRows;
+  }
+
+  private boolean isDeletedByPosition(ColumnVector positions, int numRows) {
+    long firstPos = positions.getLong(0);
+    long lastPos = positions.getLong(numRows - 1);
+    if (lastPos - firstPos == numRows - 1) {
+      // rows in a batch are usually contiguous, so check the range at once
+      return deletedPositions.isDeleted(firstPos, isDeleted, numRows) > 0;
+    }
+
+    boolean hasDeletes = false;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      isDeleted[rowId] = deletedPositions.isDeleted(positions.getLong(rowId));
+      hasDeletes |= isDeleted[rowId];
+    }
+
+    return hasDeletes;
+  }
+}
@@ -112,7 +112,10 @@ public class IcebergArrowColumnVector extends ColumnVector {
 
   @Override
   public ColumnarMap getMap(int rowId) {
-    throw new UnsupportedOperationException("Unsupported type - map");
+    if (isNullAt(rowId)) {
+      return null;
+    }
+    return accessor.getMap(rowId);
   }
 
   @Override
@@ -140,7 +143,7 @@ public class IcebergArrowColumnVector extends ColumnVector {
   }
 
   @Override
-  public ArrowColumnVector getChild(int ordinal) {
+  public ColumnVector getChild(int ordinal) {
     return accessor.childColumn(ordinal);
   }
 
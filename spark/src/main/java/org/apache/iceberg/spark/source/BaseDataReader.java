@@ -36,6 +36,7 @@ import org.apache.iceberg.encryption.EncryptedInputFile;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.FilePrefetcher;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -57,6 +58,7 @@ abstract class BaseDataReader<T> implements Closeable {
 
   private final Iterator<FileScanTask> tasks;
   private final Map<String, InputFile> inputFiles;
+  private final FilePrefetcher prefetcher;
 
   private CloseableIterator<T> currentIterator;
   private T current = null;
@@ -78,6 +80,10 @@ abstract class BaseDataReader<T> implements Closeable {
     decryptedFiles.forEach(decrypted -> files.putIfAbsent(decrypted.location(), decrypted));
     this.inputFiles = Collections.unmodifiableMap(files);
 
+    // start fetching the next files while the current file is read, if enabled
+    this.prefetcher = FilePrefetcher.create(
+        task.files(), fileTask -> inputFiles.get(fileTask.file().path().toString()));
+
     this.currentIterator = CloseableIterator.empty();
   }
 
@@ -117,6 +123,10 @@ abstract class BaseDataReader<T> implements Closeable {
     // close the current iterator
     this.currentIterator.close();
 
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
+
     // exhaust the task iterator
     while (tasks.hasNext()) {
       tasks.next();
@@ -125,6 +135,10 @@ abstract class BaseDataReader<T> implements Closeable {
 
   protected InputFile getInputFile(FileScanTask task) {
     Preconditions.checkArgument(!task.isDataTask(), "Invalid task type");
+    if (prefetcher != null) {
+      return prefetcher.inputFile(task);
+    }
+
     return inputFiles.get(task.file().path().toString());
   }
 
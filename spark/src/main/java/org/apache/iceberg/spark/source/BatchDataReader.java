@@ -28,6 +28,8 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.DeleteFilter;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
@@ -38,26 +40,33 @@ import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.spark.data.vectorized.ColumnarBatchDeleteFilter;
 import org.apache.iceberg.spark.data.vectorized.VectorizedSparkOrcReaders;
 import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.PartitionUtil;
 import org.apache.spark.rdd.InputFileBlockHolder;
+import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 class BatchDataReader extends BaseDataReader<ColumnarBatch> {
+  private final Schema tableSchema;
   private final Schema expectedSchema;
   private final String nameMapping;
   private final boolean caseSensitive;
+  private final boolean filterPages;
   private final int batchSize;
 
   BatchDataReader(
-      CombinedScanTask task, Schema expectedSchema, String nameMapping, FileIO fileIo,
-      EncryptionManager encryptionManager, boolean caseSensitive, int size) {
+      CombinedScanTask task, Schema tableSchema, Schema expectedSchema, String nameMapping, FileIO fileIo,
+      EncryptionManager encryptionManager, boolean caseSensitive, boolean filterPages, int size) {
     super(task, fileIo, encryptionManager);
+    this.tableSchema = tableSchema;
     this.expectedSchema = expectedSchema;
     this.nameMapping = nameMapping;
     this.caseSensitive = caseSensitive;
+    this.filterPages = filterPages;
     this.batchSize = size;
   }
 
@@ -70,17 +79,23 @@ class BatchDataReader extends BaseDataReader<ColumnarBatch> {
 
     Map<Integer, ?> idToConstant = PartitionUtil.constantsMap(task, BatchDataReader::convertConstant);
 
+    // columns needed to apply deletes are read after the expected columns and are removed from filtered batches
+    SparkDeleteFilter deletes = task.deletes().isEmpty() ? null :
+        new SparkDeleteFilter(task, tableSchema, expectedSchema);
+    Schema readSchema = deletes != null ? deletes.requiredSchema() : expectedSchema;
+
     CloseableIterable<ColumnarBatch> iter;
     InputFile location = getInputFile(task);
     Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
     if (task.file().format() == FileFormat.PARQUET) {
       Parquet.ReadBuilder builder = Parquet.read(location)
-          .project(expectedSchema)
+          .project(readSchema)
           .split(task.start(), task.length())
-          .createBatchedReaderFunc(fileSchema -> VectorizedSparkParquetReaders.buildReader(expectedSchema,
+          .createBatchedReaderFunc(fileSchema -> VectorizedSparkParquetReaders.buildReader(readSchema,
               fileSchema, /* setArrowValidityVector */ NullCheckingForGet.NULL_CHECKING_ENABLED, idToConstant))
           .recordsPerBatch(batchSize)
           .filter(task.residual())
+          .filterPages(filterPages)
           .caseSensitive(caseSensitive)
           // Spark eagerly consumes the batches. So the underlying memory allocated could be reused
           // without worrying about subsequent reads clobbering over each other. This improves
@@ -96,11 +111,11 @@ class BatchDataReader extends BaseDataReader<ColumnarBatch> {
       Set<Integer> constantFieldIds = idToConstant.keySet();
       Set<Integer> metadataFieldIds = MetadataColumns.metadataFieldIds();
       Sets.SetView<Integer> constantAndMetadataFieldIds = Sets.union(constantFieldIds, metadataFieldIds);
-      Schema schemaWithoutConstantAndMetadataFields = TypeUtil.selectNot(expectedSchema, constantAndMetadataFieldIds);
+      Schema schemaWithoutConstantAndMetadataFields = TypeUtil.selectNot(readSchema, constantAndMetadataFieldIds);
       ORC.ReadBuilder builder = ORC.read(location)
           .project(schemaWithoutConstantAndMetadataFields)
           .split(task.start(), task.length())
-          .createBatchedReaderFunc(fileSchema -> VectorizedSparkOrcReaders.buildReader(expectedSchema, fileSchema,
+          .createBatchedReaderFunc(fileSchema -> VectorizedSparkOrcReaders.buildReader(readSchema, fileSchema,
               idToConstant))
           .recordsPerBatch(batchSize)
           .filter(task.residual())
@@ -115,6 +130,33 @@ class BatchDataReader extends BaseDataReader<ColumnarBatch> {
       throw new UnsupportedOperationException(
           "Format: " + task.file().format() + " not supported for batched reads");
     }
+
+    if (deletes != null) {
+      int posColumnIndex = readSchema.columns().indexOf(MetadataColumns.ROW_POSITION);
+      ColumnarBatchDeleteFilter batchFilter = new ColumnarBatchDeleteFilter(
+          deletes, posColumnIndex, expectedSchema.columns().size());
+      iter = deletes.closeWith(CloseableIterable.transform(iter, batchFilter::filter));
+    }
+
     return iter.iterator();
   }
+
+  private class SparkDeleteFilter extends DeleteFilter<InternalRow> {
+    private final InternalRowWrapper asStructLike;
+
+    SparkDeleteFilter(FileScanTask task, Schema tableSchema, Schema requestedSchema) {
+      super(task, tableSchema, requestedSchema);
+      this.asStructLike = new InternalRowWrapper(SparkSchemaUtil.convert(requiredSchema()));
+    }
+
+    @Override
+    protected StructLike asStructLike(InternalRow row) {
+      return asStructLike.wrap(row);
+    }
+
+    @Override
+    protected InputFile getInputFile(String location) {
+      return BatchDataReader.this.getInputFile(location);
+    }
+  }
 }
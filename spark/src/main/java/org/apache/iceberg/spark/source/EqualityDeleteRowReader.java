@@ -36,7 +36,7 @@ public class EqualityDeleteRowReader extends RowDataReader {
 
   public EqualityDeleteRowReader(CombinedScanTask task, Schema schema, Schema expectedSchema, String nameMapping,
                                  FileIO io, EncryptionManager encryptionManager, boolean caseSensitive) {
-    super(task, schema, schema, nameMapping, io, encryptionManager, caseSensitive);
+    super(task, schema, schema, nameMapping, io, encryptionManager, caseSensitive, false);
     this.expectedSchema = expectedSchema;
   }
 
@@ -95,8 +95,9 @@ public class RowDataRewriter implements Serializable {
     int partitionId = context.partitionId();
     long taskId = context.taskAttemptId();
 
+    // rewrites must keep every row, so pages are never skipped
     RowDataReader dataReader = new RowDataReader(
-        task, schema, schema, nameMapping, io.value(), encryptionManager.value(), caseSensitive);
+        task, schema, schema, nameMapping, io.value(), encryptionManager.value(), caseSensitive, false);
 
     StructType structType = SparkSchemaUtil.convert(schema);
     SparkAppenderFactory appenderFactory = new SparkAppenderFactory(properties, schema, structType, spec);
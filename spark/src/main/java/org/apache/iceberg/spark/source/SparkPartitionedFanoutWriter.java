@@ -38,7 +38,14 @@ public class SparkPartitionedFanoutWriter extends PartitionedFanoutWriter<Intern
       FileAppenderFactory<InternalRow> appenderFactory,
       OutputFileFactory fileFactory, FileIO io, long targetFileSize,
       Schema schema, StructType sparkSchema) {
-    super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
+    this(spec, format, appenderFactory, fileFactory, io, targetFileSize, Long.MAX_VALUE, schema, sparkSchema);
+  }
+
+  public SparkPartitionedFanoutWriter(PartitionSpec spec, FileFormat format,
+      FileAppenderFactory<InternalRow> appenderFactory,
+      OutputFileFactory fileFactory, FileIO io, long targetFileSize, long maxBufferedBytes,
+      Schema schema, StructType sparkSchema) {
+    super(spec, format, appenderFactory, fileFactory, io, targetFileSize, maxBufferedBytes);
     this.partitionKey = new PartitionKey(spec, schema);
     this.internalRowWrapper = new InternalRowWrapper(sparkSchema);
   }
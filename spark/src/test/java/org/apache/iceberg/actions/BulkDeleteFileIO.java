@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.actions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * A FileIO that supports bulk deletes, records each bulk delete, and fails to delete some paths.
+ */
+class BulkDeleteFileIO implements FileIO, SupportsBulkOperations {
+  private final FileIO io;
+  private final Map<String, Integer> failuresByPath = Maps.newHashMap();
+  private final List<Set<String>> deleteCalls = Lists.newArrayList();
+
+  private BulkDeleteFileIO(FileIO io) {
+    this.io = io;
+  }
+
+  /**
+   * Returns a table that uses a BulkDeleteFileIO wrapping the table's FileIO.
+   */
+  static Table wrap(Table table) {
+    TableOperations ops = ((HasTableOperations) table).operations();
+    return new BaseTable(new BulkDeleteTableOperations(ops, new BulkDeleteFileIO(ops.io())), table.name());
+  }
+
+  static BulkDeleteFileIO io(Table table) {
+    return (BulkDeleteFileIO) table.io();
+  }
+
+  void failDeletes(String path, int numFailures) {
+    failuresByPath.put(path, numFailures);
+  }
+
+  List<Set<String>> deleteCalls() {
+    return deleteCalls;
+  }
+
+  @Override
+  public InputFile newInputFile(String path) {
+    return io.newInputFile(path);
+  }
+
+  @Override
+  public OutputFile newOutputFile(String path) {
+    return io.newOutputFile(path);
+  }
+
+  @Override
+  public void deleteFile(String path) {
+    throw new UnsupportedOperationException("Should use bulk deletes");
+  }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) {
+    Set<String> paths = ImmutableSet.copyOf(pathsToDelete);
+    deleteCalls.add(paths);
+
+    List<String> failedPaths = Lists.newArrayList();
+    for (String path : paths) {
+      int numFailures = failuresByPath.getOrDefault(path, 0);
+      if (numFailures > 0) {
+        failuresByPath.put(path, numFailures - 1);
+        failedPaths.add(path);
+      } else {
+        io.deleteFile(path);
+      }
+    }
+
+    if (!failedPaths.isEmpty()) {
+      throw new BulkDeletionFailureException(failedPaths);
+    }
+  }
+
+  private static class BulkDeleteTableOperations implements TableOperations {
+    private final TableOperations ops;
+    private final FileIO io;
+
+    private BulkDeleteTableOperations(TableOperations ops, FileIO io) {
+      this.ops = ops;
+      this.io = io;
+    }
+
+    @Override
+    public TableMetadata current() {
+      return ops.current();
+    }
+
+    @Override
+    public TableMetadata refresh() {
+      return ops.refresh();
+    }
+
+    @Override
+    public void commit(TableMetadata base, TableMetadata metadata) {
+      ops.commit(base, metadata);
+    }
+
+    @Override
+    public FileIO io() {
+      return io;
+    }
+
+    @Override
+    public String metadataFileLocation(String fileName) {
+      return ops.metadataFileLocation(fileName);
+    }
+
+    @Override
+    public LocationProvider locationProvider() {
+      return ops.locationProvider();
+    }
+  }
+}
@@ -1059,4 +1059,64 @@ public abstract class TestExpireSnapshotsAction extends SparkTestBase {
         String.format("Expected more than %d jobs when using local iterator, ran %d", SHUFFLE_PARTITIONS, totalJobsRun),
         totalJobsRun > SHUFFLE_PARTITIONS);
   }
+
+  @Test
+  public void testBulkDeleteRetriesFailedFiles() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    table.newOverwrite()
+        .deleteFile(FILE_A)
+        .addFile(FILE_B)
+        .commit();
+
+    long end = rightAfterSnapshot();
+
+    Table bulkTable = BulkDeleteFileIO.wrap(table);
+    BulkDeleteFileIO io = BulkDeleteFileIO.io(bulkTable);
+    io.failDeletes(FILE_A.path().toString(), 1);
+
+    ExpireSnapshotsActionResult results = Actions.forTable(bulkTable).expireSnapshots()
+        .expireOlderThan(end)
+        .execute();
+
+    checkExpirationResults(1L, 1L, 1L, results);
+
+    long dataFileDeletes = io.deleteCalls().stream()
+        .filter(paths -> paths.contains(FILE_A.path().toString()))
+        .count();
+    Assert.assertEquals("Should retry the data file that failed", 2, dataFileDeletes);
+    Assert.assertTrue("Should retry only the data file that failed",
+        io.deleteCalls().contains(ImmutableSet.of(FILE_A.path().toString())));
+  }
+
+  @Test
+  public void testBulkDeleteReportsFailedFiles() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    table.newOverwrite()
+        .deleteFile(FILE_A)
+        .addFile(FILE_B)
+        .commit();
+
+    long end = rightAfterSnapshot();
+
+    Table bulkTable = BulkDeleteFileIO.wrap(table);
+    BulkDeleteFileIO io = BulkDeleteFileIO.io(bulkTable);
+    io.failDeletes(FILE_A.path().toString(), Integer.MAX_VALUE);
+
+    ExpireSnapshotsActionResult results = Actions.forTable(bulkTable).expireSnapshots()
+        .expireOlderThan(end)
+        .execute();
+
+    checkExpirationResults(0L, 1L, 1L, results);
+
+    long dataFileDeletes = io.deleteCalls().stream()
+        .filter(paths -> paths.contains(FILE_A.path().toString()))
+        .count();
+    Assert.assertEquals("Should attempt the data file delete once and retry 3 times", 4, dataFileDeletes);
+  }
 }
@@ -41,8 +41,10 @@ import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.hadoop.HadoopCatalog;
 import org.apache.iceberg.hadoop.HadoopTables;
 import org.apache.iceberg.hadoop.HiddenPathFilter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.spark.SparkTestBase;
 import org.apache.iceberg.spark.source.ThreeColumnRecord;
 import org.apache.iceberg.types.Types;
@@ -623,4 +625,50 @@ public abstract class TestRemoveOrphanFilesAction extends SparkTestBase {
         ValidationException.class, "Cannot remove orphan files: GC is disabled",
         actions::removeOrphanFiles);
   }
+
+  @Test
+  public void testBulkDeleteReportsFailedFiles() throws IOException, InterruptedException {
+    Table table = TABLES.create(SCHEMA, PartitionSpec.unpartitioned(), Maps.newHashMap(), tableLocation);
+
+    List<ThreeColumnRecord> records = Lists.newArrayList(
+        new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA")
+    );
+
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class).coalesce(1);
+
+    df.select("c1", "c2", "c3")
+        .write()
+        .format("iceberg")
+        .mode("append")
+        .save(tableLocation);
+
+    df.write().mode("append").parquet(tableLocation + "/data");
+    df.write().mode("append").parquet(tableLocation + "/data");
+
+    // sleep for 1 second to ensure files will be old enough
+    Thread.sleep(1000);
+
+    Table bulkTable = BulkDeleteFileIO.wrap(table);
+    List<String> orphanFiles = Actions.forTable(bulkTable).removeOrphanFiles()
+        .olderThan(System.currentTimeMillis())
+        .deleteWith(s -> { })
+        .execute();
+    Assert.assertEquals("Should find 2 orphan files", 2, orphanFiles.size());
+
+    BulkDeleteFileIO io = BulkDeleteFileIO.io(bulkTable);
+    io.failDeletes(orphanFiles.get(0), 1);
+
+    List<String> result = Actions.forTable(bulkTable).removeOrphanFiles()
+        .olderThan(System.currentTimeMillis())
+        .execute();
+    Assert.assertEquals("Should return all orphan files", Sets.newHashSet(orphanFiles), Sets.newHashSet(result));
+
+    Assert.assertEquals("Should delete the orphan files in one bulk delete without retries",
+        ImmutableList.of(Sets.newHashSet(orphanFiles)), io.deleteCalls());
+
+    Path dataPath = new Path(tableLocation + "/data");
+    FileSystem fs = dataPath.getFileSystem(spark.sessionState().newHadoopConf());
+    Assert.assertTrue("Failed orphan file should be present", fs.exists(new Path(orphanFiles.get(0))));
+    Assert.assertFalse("Deleted orphan file should not be present", fs.exists(new Path(orphanFiles.get(1))));
+  }
 }
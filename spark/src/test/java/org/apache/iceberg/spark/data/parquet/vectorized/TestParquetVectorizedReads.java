@@ -23,7 +23,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Iterator;
 import org.apache.avro.generic.GenericData;
-import org.apache.iceberg.AssertHelpers;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.io.CloseableIterable;
@@ -39,13 +38,9 @@ import org.apache.iceberg.spark.data.TestHelpers;
 import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
-import org.apache.parquet.schema.GroupType;
-import org.apache.parquet.schema.MessageType;
-import org.apache.parquet.schema.Type;
 import org.apache.spark.sql.vectorized.ColumnarBatch;
 import org.junit.Assert;
 import org.junit.Assume;
-import org.junit.Ignore;
 import org.junit.Test;
 
 import static org.apache.iceberg.types.Types.NestedField.optional;
@@ -138,57 +133,6 @@ public class TestParquetVectorizedReads extends AvroDataTest {
     }
   }
 
-  @Test
-  @Ignore
-  public void testArray() {
-  }
-
-  @Test
-  @Ignore
-  public void testArrayOfStructs() {
-  }
-
-  @Test
-  @Ignore
-  public void testMap() {
-  }
-
-  @Test
-  @Ignore
-  public void testNumericMapKey() {
-  }
-
-  @Test
-  @Ignore
-  public void testComplexMapKey() {
-  }
-
-  @Test
-  @Ignore
-  public void testMapOfStructs() {
-  }
-
-  @Test
-  @Ignore
-  public void testMixedTypes() {
-  }
-
-  @Test
-  @Override
-  public void testNestedStruct() {
-    AssertHelpers.assertThrows(
-        "Vectorized reads are not supported yet for struct fields",
-        UnsupportedOperationException.class,
-        "Vectorized reads are not supported yet for struct fields",
-        () -> VectorizedSparkParquetReaders.buildReader(
-            TypeUtil.assignIncreasingFreshIds(new Schema(required(
-                1,
-                "struct",
-                SUPPORTED_PRIMITIVES))),
-            new MessageType("struct", new GroupType(Type.Repetition.OPTIONAL, "struct").withId(1)),
-            false));
-  }
-
   @Test
   public void testMostlyNullsForOptionalFields() throws IOException {
     writeAndValidate(
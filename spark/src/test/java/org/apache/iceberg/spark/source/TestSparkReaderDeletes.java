@@ -19,13 +19,17 @@
 
 package org.apache.iceberg.spark.source;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
@@ -38,17 +42,23 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.data.DeleteReadTests;
 import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.IcebergGenerics;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.hive.HiveCatalog;
 import org.apache.iceberg.hive.TestHiveMetastore;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriter;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.spark.SparkStructLike;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.TableScanUtil;
 import org.apache.spark.sql.Dataset;
@@ -218,4 +228,89 @@ public abstract class TestSparkReaderDeletes extends DeleteReadTests {
     Assert.assertEquals("should include 4 deleted row", 4, actualRowSet.size());
     Assert.assertEquals("deleted row should be matched", expectedRowSet, actualRowSet);
   }
+
+  @Test
+  public void testVectorizedReadWithDeletes() throws IOException {
+    table.updateProperties()
+        .set(TableProperties.PARQUET_VECTORIZATION_ENABLED, "true")
+        .set(TableProperties.PARQUET_BATCH_SIZE, "4")
+        .commit();
+
+    DataFile dataFile = Iterables.getOnlyElement(table.currentSnapshot().addedFiles());
+    checkVectorizedReadWithDeletes(dataFile);
+  }
+
+  @Test
+  public void testVectorizedOrcReadWithDeletes() throws IOException {
+    table.updateProperties()
+        .set(TableProperties.ORC_VECTORIZATION_ENABLED, "true")
+        .set(TableProperties.PARQUET_BATCH_SIZE, "4")
+        .commit();
+
+    // replace the Parquet data file with an ORC file that has the same rows in the same order
+    DataFile parquetFile = Iterables.getOnlyElement(table.currentSnapshot().addedFiles());
+    List<Record> records;
+    try (CloseableIterable<Record> reader = IcebergGenerics.read(table).build()) {
+      records = Lists.newArrayList(reader);
+    }
+
+    File orcFile = temp.newFile();
+    Assert.assertTrue("Delete should succeed", orcFile.delete());
+    DataWriter<Record> writer = new GenericAppenderFactory(table.schema(), table.spec()).newDataWriter(
+        EncryptedFiles.plainAsEncryptedOutput(Files.localOutput(orcFile)), FileFormat.ORC, TestHelpers.Row.of(0));
+    try (DataWriter<Record> closeableWriter = writer) {
+      records.forEach(closeableWriter::add);
+    }
+
+    DataFile dataFile = writer.toDataFile();
+    table.newOverwrite()
+        .deleteFile(parquetFile)
+        .addFile(dataFile)
+        .commit();
+
+    checkVectorizedReadWithDeletes(dataFile);
+  }
+
+  private void checkVectorizedReadWithDeletes(DataFile dataFile) throws IOException {
+    String tableName = table.name().substring(table.name().lastIndexOf(".") + 1);
+
+    Schema dataSchema = table.schema().select("data");
+    Record dataDelete = GenericRecord.create(dataSchema);
+    DeleteFile eqDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), TestHelpers.Row.of(0),
+        Lists.newArrayList(dataDelete.copy("data", "a"), dataDelete.copy("data", "g")), // id = 29, 122
+        dataSchema);
+
+    List<Pair<CharSequence, Long>> deletes = Lists.newArrayList(
+        Pair.of(dataFile.path(), 3L), // id = 89
+        Pair.of(dataFile.path(), 4L) // id = 100
+    );
+
+    Pair<DeleteFile, Set<CharSequence>> posDeletes = FileHelpers.writeDeleteFile(
+        table, Files.localOutput(temp.newFile()), TestHelpers.Row.of(0), deletes);
+
+    table.newRowDelta()
+        .addDeletes(eqDeletes)
+        .addDeletes(posDeletes.first())
+        .commit();
+
+    // project only id so that the columns used to apply deletes are removed from batches
+    Assert.assertTrue("Should read batches from files with deletes", readsBatches(table, "id"));
+
+    List<Integer> ids = Lists.newArrayList();
+    spark.read()
+        .format("iceberg")
+        .load(TableIdentifier.of("default", tableName).toString())
+        .selectExpr("id")
+        .collectAsList()
+        .forEach(row -> ids.add(row.getInt(0)));
+
+    ids.sort(Integer::compare);
+    Assert.assertEquals("Should apply deletes to batches", Lists.newArrayList(43, 61, 121), ids);
+  }
+
+  /**
+   * Plans a scan of the given columns with the Spark reader and returns whether it reads columnar batches.
+   */
+  protected abstract boolean readsBatches(Table testTable, String... columns);
 }
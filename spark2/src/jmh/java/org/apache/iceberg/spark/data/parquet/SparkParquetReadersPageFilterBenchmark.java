@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.spark.data.parquet;
+
+import java.io.File;
+import java.io.IOException;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.spark.data.SparkParquetReaders;
+import org.apache.iceberg.spark.data.SparkParquetWriters;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.apache.spark.unsafe.types.UTF8String;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+/**
+ * A benchmark that evaluates the performance of selective reads that use Parquet page indexes to skip pages.
+ * <p>
+ * The data file has a single row group with records sorted by the filter column, so row group filters cannot skip any
+ * data and a point lookup only needs to read one page of each column. The full read benchmarks show the cost of
+ * reading the row group without page filtering.
+ *
+ * To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-spark2:jmh
+ *       -PjmhIncludeRegex=SparkParquetReadersPageFilterBenchmark
+ *       -PjmhOutputPath=benchmark/spark-parquet-readers-page-filter-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+public class SparkParquetReadersPageFilterBenchmark {
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "longCol", Types.LongType.get()),
+      required(2, "intCol", Types.IntegerType.get()),
+      optional(3, "doubleCol", Types.DoubleType.get()),
+      optional(4, "stringCol", Types.StringType.get()));
+  private static final int NUM_RECORDS = 5000000;
+  private static final Expression POINT_LOOKUP = Expressions.equal("longCol", NUM_RECORDS / 2L);
+  private static final int BATCH_SIZE = 5000;
+  private File dataFile;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    dataFile = File.createTempFile("parquet-page-filter-benchmark", ".parquet");
+    dataFile.delete();
+    try (FileAppender<InternalRow> writer = Parquet.write(Files.localOutput(dataFile))
+        .schema(SCHEMA)
+        .createWriterFunc(msgType -> SparkParquetWriters.buildWriter(SparkSchemaUtil.convert(SCHEMA), msgType))
+        .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, Long.toString(1024L * 1024 * 1024))
+        .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, Integer.toString(64 * 1024))
+        .named("benchmark")
+        .build()) {
+      GenericInternalRow row = new GenericInternalRow(4);
+      for (long id = 0; id < NUM_RECORDS; id += 1) {
+        row.update(0, id);
+        row.update(1, (int) (id % 1000));
+        row.update(2, id / 7.0D);
+        row.update(3, UTF8String.fromString("value-" + id));
+        writer.add(row);
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    if (dataFile != null) {
+      dataFile.delete();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readUsingIcebergReader(Blackhole blackhole) throws IOException {
+    try (CloseableIterable<InternalRow> rows = Parquet.read(Files.localInput(dataFile))
+        .project(SCHEMA)
+        .createReaderFunc(type -> SparkParquetReaders.buildReader(SCHEMA, type))
+        .build()) {
+
+      for (InternalRow row : rows) {
+        blackhole.consume(row);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readWithPageFilterUsingIcebergReader(Blackhole blackhole) throws IOException {
+    try (CloseableIterable<InternalRow> rows = Parquet.read(Files.localInput(dataFile))
+        .project(SCHEMA)
+        .filter(POINT_LOOKUP)
+        .filterPages(true)
+        .createReaderFunc(type -> SparkParquetReaders.buildReader(SCHEMA, type))
+        .build()) {
+
+      for (InternalRow row : rows) {
+        blackhole.consume(row);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readUsingIcebergVectorizedReader(Blackhole blackhole) throws IOException {
+    try (CloseableIterable<ColumnarBatch> batches = Parquet.read(Files.localInput(dataFile))
+        .project(SCHEMA)
+        .createBatchedReaderFunc(type -> VectorizedSparkParquetReaders.buildReader(SCHEMA, type, false))
+        .recordsPerBatch(BATCH_SIZE)
+        .build()) {
+
+      for (ColumnarBatch batch : batches) {
+        blackhole.consume(batch);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readWithPageFilterUsingIcebergVectorizedReader(Blackhole blackhole) throws IOException {
+    try (CloseableIterable<ColumnarBatch> batches = Parquet.read(Files.localInput(dataFile))
+        .project(SCHEMA)
+        .filter(POINT_LOOKUP)
+        .filterPages(true)
+        .createBatchedReaderFunc(type -> VectorizedSparkParquetReaders.buildReader(SCHEMA, type, false))
+        .recordsPerBatch(BATCH_SIZE)
+        .build()) {
+
+      for (ColumnarBatch batch : batches) {
+        blackhole.consume(batch);
+      }
+    }
+  }
+}
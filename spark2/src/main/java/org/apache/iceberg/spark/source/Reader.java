@@ -38,7 +38,6 @@ import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.exceptions.RuntimeIOException;
-import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopFileIO;
@@ -98,6 +97,7 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
   private Filter[] pushedFilters = NO_FILTERS;
   private final boolean localityPreferred;
   private final int batchSize;
+  private final boolean filterPages;
 
   // lazy variables
   private Schema schema = null;
@@ -162,6 +162,8 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
     this.batchSize = options.get(SparkReadOptions.VECTORIZATION_BATCH_SIZE).map(Integer::parseInt).orElseGet(() ->
         PropertyUtil.propertyAsInt(table.properties(),
           TableProperties.PARQUET_BATCH_SIZE, TableProperties.PARQUET_BATCH_SIZE_DEFAULT));
+    this.filterPages = PropertyUtil.propertyAsBoolean(table.properties(),
+        TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED, TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED_DEFAULT);
   }
 
   private Schema lazySchema() {
@@ -206,14 +208,11 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
     String expectedSchemaString = SchemaParser.toJson(lazySchema());
     String nameMappingString = table.properties().get(DEFAULT_NAME_MAPPING);
 
-    ValidationException.check(tasks().stream().noneMatch(TableScanUtil::hasDeletes),
-        "Cannot scan table %s: cannot apply required delete files", table);
-
     List<InputPartition<ColumnarBatch>> readTasks = Lists.newArrayList();
     for (CombinedScanTask task : tasks()) {
       readTasks.add(new ReadTask<>(
           task, tableSchemaString, expectedSchemaString, nameMappingString, io, encryptionManager, caseSensitive,
-          localityPreferred, new BatchReaderFactory(batchSize)));
+          localityPreferred, new BatchReaderFactory(batchSize, filterPages)));
     }
     LOG.info("Batching input partitions with {} tasks.", readTasks.size());
 
@@ -233,7 +232,7 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
     for (CombinedScanTask task : tasks()) {
       readTasks.add(new ReadTask<>(
           task, tableSchemaString, expectedSchemaString, nameMappingString, io, encryptionManager, caseSensitive,
-          localityPreferred, InternalRowReaderFactory.INSTANCE));
+          localityPreferred, new InternalRowReaderFactory(filterPages)));
     }
 
     return readTasks;
@@ -328,12 +327,13 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
 
       boolean onlyPrimitives = lazySchema().columns().stream().allMatch(c -> c.type().isPrimitiveType());
 
-      boolean hasNoDeleteFiles = tasks().stream().noneMatch(TableScanUtil::hasDeletes);
+      // deletes are applied to batches by filtering rows, which is only supported for primitive columns
+      boolean canApplyDeletes = onlyPrimitives || tasks().stream().noneMatch(TableScanUtil::hasDeletes);
 
       boolean batchReadsEnabled = batchReadsEnabled(allParquetFileScanTasks, allOrcFileScanTasks);
 
-      this.readUsingBatch = batchReadsEnabled && hasNoDeleteFiles && (allOrcFileScanTasks ||
-          (allParquetFileScanTasks && atLeastOneColumn && onlyPrimitives));
+      this.readUsingBatch = batchReadsEnabled && canApplyDeletes && (allOrcFileScanTasks ||
+          (allParquetFileScanTasks && atLeastOneColumn));
     }
     return readUsingBatch;
   }
@@ -514,45 +514,50 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
   }
 
   private static class InternalRowReaderFactory implements ReaderFactory<InternalRow> {
-    private static final InternalRowReaderFactory INSTANCE = new InternalRowReaderFactory();
+    private final boolean filterPages;
 
-    private InternalRowReaderFactory() {
+    InternalRowReaderFactory(boolean filterPages) {
+      this.filterPages = filterPages;
     }
 
     @Override
     public InputPartitionReader<InternalRow> create(CombinedScanTask task, Schema tableSchema, Schema expectedSchema,
                                                     String nameMapping, FileIO io,
                                                     EncryptionManager encryptionManager, boolean caseSensitive) {
-      return new RowReader(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive);
+      return new RowReader(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive,
+          filterPages);
     }
   }
 
   private static class BatchReaderFactory implements ReaderFactory<ColumnarBatch> {
     private final int batchSize;
+    private final boolean filterPages;
 
-    BatchReaderFactory(int batchSize) {
+    BatchReaderFactory(int batchSize, boolean filterPages) {
       this.batchSize = batchSize;
+      this.filterPages = filterPages;
     }
 
     @Override
     public InputPartitionReader<ColumnarBatch> create(CombinedScanTask task, Schema tableSchema, Schema expectedSchema,
                                                       String nameMapping, FileIO io,
                                                       EncryptionManager encryptionManager, boolean caseSensitive) {
-      return new BatchReader(task, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, batchSize);
+      return new BatchReader(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive,
+          filterPages, batchSize);
     }
   }
 
   private static class RowReader extends RowDataReader implements InputPartitionReader<InternalRow> {
     RowReader(CombinedScanTask task, Schema tableSchema, Schema expectedSchema, String nameMapping, FileIO io,
-              EncryptionManager encryptionManager, boolean caseSensitive) {
-      super(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive);
+              EncryptionManager encryptionManager, boolean caseSensitive, boolean filterPages) {
+      super(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, filterPages);
     }
   }
 
   private static class BatchReader extends BatchDataReader implements InputPartitionReader<ColumnarBatch> {
-    BatchReader(CombinedScanTask task, Schema expectedSchema, String nameMapping, FileIO io,
-                       EncryptionManager encryptionManager, boolean caseSensitive, int size) {
-      super(task, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, size);
+    BatchReader(CombinedScanTask task, Schema tableSchema, Schema expectedSchema, String nameMapping, FileIO io,
+                EncryptionManager encryptionManager, boolean caseSensitive, boolean filterPages, int size) {
+      super(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, filterPages, size);
     }
   }
 }
@@ -68,6 +68,8 @@ import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT;
 import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT_DEFAULT;
 import static org.apache.iceberg.TableProperties.SPARK_WRITE_PARTITIONED_FANOUT_ENABLED;
 import static org.apache.iceberg.TableProperties.SPARK_WRITE_PARTITIONED_FANOUT_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.WRITE_FANOUT_MAX_BUFFERED_BYTES;
+import static org.apache.iceberg.TableProperties.WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT;
 
@@ -281,8 +283,10 @@ class Writer implements DataSourceWriter {
       if (spec.isUnpartitioned()) {
         return new Unpartitioned24Writer(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize);
       } else if (partitionedFanoutEnabled) {
+        long maxBufferedBytes = PropertyUtil.propertyAsLong(
+            properties, WRITE_FANOUT_MAX_BUFFERED_BYTES, WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT);
         return new PartitionedFanout24Writer(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize,
-            writeSchema, dsSchema);
+            maxBufferedBytes, writeSchema, dsSchema);
       } else {
         return new Partitioned24Writer(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize,
             writeSchema, dsSchema);
@@ -327,8 +331,8 @@ class Writer implements DataSourceWriter {
     PartitionedFanout24Writer(PartitionSpec spec, FileFormat format,
                               SparkAppenderFactory appenderFactory,
                               OutputFileFactory fileFactory, FileIO fileIo, long targetFileSize,
-                              Schema schema, StructType sparkSchema) {
-      super(spec, format, appenderFactory, fileFactory, fileIo, targetFileSize, schema,
+                              long maxBufferedBytes, Schema schema, StructType sparkSchema) {
+      super(spec, format, appenderFactory, fileFactory, fileIo, targetFileSize, maxBufferedBytes, schema,
           sparkSchema);
     }
 
@@ -19,5 +19,21 @@
 
 package org.apache.iceberg.spark.source;
 
+import org.apache.iceberg.Table;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.sql.sources.v2.DataSourceOptions;
+
 public class TestSparkReaderDeletes24 extends TestSparkReaderDeletes {
+
+  @Override
+  protected boolean readsBatches(Table testTable, String... columns) {
+    JavaSparkContext sparkContext = JavaSparkContext.fromSparkContext(spark.sparkContext());
+    Reader reader = new Reader(testTable, sparkContext.broadcast(testTable.io()),
+        sparkContext.broadcast(testTable.encryption()), false, new DataSourceOptions(ImmutableMap.of()));
+    reader.pruneColumns(SparkSchemaUtil.convert(testTable.schema().select(columns)));
+
+    return reader.enableBatchRead();
+  }
 }
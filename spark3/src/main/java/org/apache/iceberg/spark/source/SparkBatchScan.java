@@ -70,6 +70,7 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
   private final Broadcast<FileIO> io;
   private final Broadcast<EncryptionManager> encryptionManager;
   private final int batchSize;
+  private final boolean filterPages;
   private final CaseInsensitiveStringMap options;
 
   // lazy variables
@@ -86,6 +87,8 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
     this.filterExpressions = filters != null ? filters : Collections.emptyList();
     this.localityPreferred = Spark3Util.isLocalityEnabled(io.value(), table.location(), options);
     this.batchSize = Spark3Util.batchSize(table.properties(), options);
+    this.filterPages = PropertyUtil.propertyAsBoolean(table.properties(),
+        TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED, TableProperties.PARQUET_PAGE_INDEX_FILTER_ENABLED_DEFAULT);
     this.options = options;
   }
 
@@ -157,14 +160,15 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
 
     boolean onlyPrimitives = expectedSchema.columns().stream().allMatch(c -> c.type().isPrimitiveType());
 
-    boolean hasNoDeleteFiles = tasks().stream().noneMatch(TableScanUtil::hasDeletes);
+    // deletes are applied to batches by filtering rows, which is only supported for primitive columns
+    boolean canApplyDeletes = onlyPrimitives || tasks().stream().noneMatch(TableScanUtil::hasDeletes);
 
     boolean batchReadsEnabled = batchReadsEnabled(allParquetFileScanTasks, allOrcFileScanTasks);
 
-    boolean readUsingBatch = batchReadsEnabled && hasNoDeleteFiles && (allOrcFileScanTasks ||
-        (allParquetFileScanTasks && atLeastOneColumn && onlyPrimitives));
+    boolean readUsingBatch = batchReadsEnabled && canApplyDeletes && (allOrcFileScanTasks ||
+        (allParquetFileScanTasks && atLeastOneColumn));
 
-    return new ReaderFactory(readUsingBatch ? batchSize : 0);
+    return new ReaderFactory(readUsingBatch ? batchSize : 0, filterPages);
   }
 
   private boolean batchReadsEnabled(boolean isParquetOnly, boolean isOrcOnly) {
@@ -218,15 +222,17 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
 
   private static class ReaderFactory implements PartitionReaderFactory {
     private final int batchSize;
+    private final boolean filterPages;
 
-    private ReaderFactory(int batchSize) {
+    private ReaderFactory(int batchSize, boolean filterPages) {
       this.batchSize = batchSize;
+      this.filterPages = filterPages;
     }
 
     @Override
     public PartitionReader<InternalRow> createReader(InputPartition partition) {
       if (partition instanceof ReadTask) {
-        return new RowReader((ReadTask) partition);
+        return new RowReader((ReadTask) partition, filterPages);
       } else {
         throw new UnsupportedOperationException("Incorrect input partition type: " + partition);
       }
@@ -235,7 +241,7 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
     @Override
     public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
       if (partition instanceof ReadTask) {
-        return new BatchReader((ReadTask) partition, batchSize);
+        return new BatchReader((ReadTask) partition, filterPages, batchSize);
       } else {
         throw new UnsupportedOperationException("Incorrect input partition type: " + partition);
       }
@@ -248,16 +254,16 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
   }
 
   private static class RowReader extends RowDataReader implements PartitionReader<InternalRow> {
-    RowReader(ReadTask task) {
+    RowReader(ReadTask task, boolean filterPages) {
       super(task.task, task.tableSchema(), task.expectedSchema(), task.nameMappingString, task.io(), task.encryption(),
-          task.isCaseSensitive());
+          task.isCaseSensitive(), filterPages);
     }
   }
 
   private static class BatchReader extends BatchDataReader implements PartitionReader<ColumnarBatch> {
-    BatchReader(ReadTask task, int batchSize) {
-      super(task.task, task.expectedSchema(), task.nameMappingString, task.io(), task.encryption(),
-          task.isCaseSensitive(), batchSize);
+    BatchReader(ReadTask task, boolean filterPages, int batchSize) {
+      super(task.task, task.tableSchema(), task.expectedSchema(), task.nameMappingString, task.io(),
+          task.encryption(), task.isCaseSensitive(), filterPages, batchSize);
     }
   }
 
@@ -81,6 +81,8 @@ import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT;
 import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT_DEFAULT;
 import static org.apache.iceberg.TableProperties.SPARK_WRITE_PARTITIONED_FANOUT_ENABLED;
 import static org.apache.iceberg.TableProperties.SPARK_WRITE_PARTITIONED_FANOUT_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.WRITE_FANOUT_MAX_BUFFERED_BYTES;
+import static org.apache.iceberg.TableProperties.WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT;
 
@@ -519,8 +521,10 @@ class SparkWrite {
       if (spec.isUnpartitioned()) {
         return new Unpartitioned3Writer(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize);
       } else if (partitionedFanoutEnabled) {
-        return new PartitionedFanout3Writer(
-            spec, format, appenderFactory, fileFactory, io.value(), targetFileSize, writeSchema, dsSchema);
+        long maxBufferedBytes = PropertyUtil.propertyAsLong(
+            properties, WRITE_FANOUT_MAX_BUFFERED_BYTES, WRITE_FANOUT_MAX_BUFFERED_BYTES_DEFAULT);
+        return new PartitionedFanout3Writer(spec, format, appenderFactory, fileFactory, io.value(), targetFileSize,
+            maxBufferedBytes, writeSchema, dsSchema);
       } else {
         return new Partitioned3Writer(
             spec, format, appenderFactory, fileFactory, io.value(), targetFileSize, writeSchema, dsSchema);
@@ -561,9 +565,9 @@ class SparkWrite {
   private static class PartitionedFanout3Writer extends SparkPartitionedFanoutWriter
       implements DataWriter<InternalRow> {
     PartitionedFanout3Writer(PartitionSpec spec, FileFormat format, SparkAppenderFactory appenderFactory,
-                             OutputFileFactory fileFactory, FileIO io, long targetFileSize,
+                             OutputFileFactory fileFactory, FileIO io, long targetFileSize, long maxBufferedBytes,
                              Schema schema, StructType sparkSchema) {
-      super(spec, format, appenderFactory, fileFactory, io, targetFileSize, schema, sparkSchema);
+      super(spec, format, appenderFactory, fileFactory, io, targetFileSize, maxBufferedBytes, schema, sparkSchema);
     }
 
     @Override
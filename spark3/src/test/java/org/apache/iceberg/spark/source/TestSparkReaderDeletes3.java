@@ -19,5 +19,24 @@
 
 package org.apache.iceberg.spark.source;
 
+import org.apache.iceberg.Table;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.spark.sql.connector.read.Batch;
+import org.apache.spark.sql.connector.read.InputPartition;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.junit.Assert;
+
 public class TestSparkReaderDeletes3 extends TestSparkReaderDeletes {
+
+  @Override
+  protected boolean readsBatches(Table testTable, String... columns) {
+    SparkScanBuilder builder = new SparkScanBuilder(spark, testTable, CaseInsensitiveStringMap.empty());
+    builder.pruneColumns(SparkSchemaUtil.convert(testTable.schema().select(columns)));
+    Batch batch = builder.build().toBatch();
+
+    InputPartition[] partitions = batch.planInputPartitions();
+    Assert.assertEquals("Should plan one task for the data file", 1, partitions.length);
+
+    return batch.createReaderFactory().supportColumnarReads(partitions[0]);
+  }
 }